@@ -0,0 +1,60 @@
+package io.github.tickatch.common.error;
+
+import ch.qos.logback.classic.Logger;
+import io.github.tickatch.common.api.ApiResponse;
+import io.github.tickatch.common.message.DefaultMessageResolver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.support.StaticMessageSource;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link GlobalExceptionHandler}의 에러 응답 생성 비용 벤치마크.
+ *
+ * <p>예외 생성(스택 트레이스 포함)과 메시지 조회, {@link ApiResponse} 생성을 함께 측정한다.
+ * 핸들러의 WARN 로그 메시지 생성 비용은 포함하되, Appender를 제거하여 I/O 비용은 제외한다.
+ *
+ * @author Tickatch
+ * @since 0.0.6
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GlobalExceptionHandlerBenchmark {
+
+    private GlobalExceptionHandler handler;
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setUp() {
+        Logger logger = (Logger) LoggerFactory.getLogger(GlobalExceptionHandler.class);
+        logger.detachAndStopAllAppenders();
+        logger.setAdditive(false);
+
+        StaticMessageSource messageSource = new StaticMessageSource();
+        messageSource.addMessage(GlobalErrorCode.NOT_FOUND.getCode(), Locale.getDefault(), "리소스를 찾을 수 없습니다: {0}");
+
+        handler = new GlobalExceptionHandler(new DefaultMessageResolver(messageSource));
+        request = new MockHttpServletRequest("GET", "/api/tickets/123");
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiResponse<Void>> businessException() {
+        return handler.handleBusinessException(request, new BusinessException(GlobalErrorCode.NOT_FOUND, 123L));
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiResponse<Void>> illegalArgument() {
+        return handler.handleIllegalArgument(request, new IllegalArgumentException("잘못된 요청입니다."));
+    }
+}
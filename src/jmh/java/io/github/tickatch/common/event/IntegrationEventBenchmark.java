@@ -0,0 +1,110 @@
+package io.github.tickatch.common.event;
+
+import io.github.tickatch.common.logging.MdcUtils;
+import io.github.tickatch.common.util.JsonUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link IntegrationEvent} 봉투(envelope) 생성 비용 벤치마크.
+ *
+ * <p>DomainEvent 변환({@code from}), 직접 생성({@code create}), 수신 측 역직렬화를 측정한다.
+ * traceId는 MDC에서 추출되도록 벤치마크 스레드에 미리 설정한다.
+ *
+ * @author Tickatch
+ * @since 0.0.6
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class IntegrationEventBenchmark {
+
+    private TicketReservedEvent domainEvent;
+    private TicketPayload payload;
+    private String serialized;
+
+    @Setup
+    public void setUp() {
+        MdcUtils.setRequestId("0af7651916cd43dd8448eb211c80319c");
+        domainEvent = new TicketReservedEvent(123L, "A-15", 2);
+        payload = new TicketPayload(123L, "A-15", 2);
+        serialized = JsonUtils.toJson(IntegrationEvent.from(domainEvent, "ticket-service"));
+    }
+
+    @TearDown
+    public void tearDown() {
+        MdcUtils.clear();
+    }
+
+    @Benchmark
+    public IntegrationEvent fromDomainEvent() {
+        return IntegrationEvent.from(domainEvent, "ticket-service");
+    }
+
+    @Benchmark
+    public IntegrationEvent create() {
+        return IntegrationEvent.create("TicketReserved", "ticket-service", payload, "ticket.reserved");
+    }
+
+    @Benchmark
+    public String serializeEnvelope() {
+        return JsonUtils.toJson(IntegrationEvent.from(domainEvent, "ticket-service"));
+    }
+
+    @Benchmark
+    public TicketPayload deserializePayload() {
+        return JsonUtils.fromJson(serialized, IntegrationEvent.class).getPayloadAs(TicketPayload.class);
+    }
+
+    /**
+     * 벤치마크용 도메인 이벤트.
+     */
+    public static class TicketReservedEvent extends DomainEvent {
+
+        private final Long ticketId;
+        private final String seat;
+        private final int quantity;
+
+        public TicketReservedEvent(Long ticketId, String seat, int quantity) {
+            this.ticketId = ticketId;
+            this.seat = seat;
+            this.quantity = quantity;
+        }
+
+        public Long getTicketId() {
+            return ticketId;
+        }
+
+        public String getSeat() {
+            return seat;
+        }
+
+        public int getQuantity() {
+            return quantity;
+        }
+
+        @Override
+        public String getAggregateId() {
+            return String.valueOf(ticketId);
+        }
+
+        @Override
+        public String getAggregateType() {
+            return "Ticket";
+        }
+    }
+
+    /**
+     * 벤치마크용 페이로드.
+     */
+    public record TicketPayload(Long ticketId, String seat, int quantity) {
+    }
+}
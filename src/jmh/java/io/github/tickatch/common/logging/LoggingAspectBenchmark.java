@@ -0,0 +1,94 @@
+package io.github.tickatch.common.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link LoggingAspect}의 컨트롤러 호출당 오버헤드 벤치마크.
+ *
+ * <p>{@link LogManager} 로거 레벨별로 Aspect가 적용된 호출과 Aspect 없이 직접 호출한 경우를 비교한다.
+ * <ul>
+ *   <li>{@code OFF} - 비활성화된 로거에서는 두 결과의 차이가 프록시 호출 비용 수준이어야 한다.</li>
+ *   <li>{@code INFO} - 진입/종료 메시지 생성과 반환값 직렬화 비용을 포함한다.
+ *       Appender를 제거하여 I/O 비용은 제외한다.</li>
+ * </ul>
+ *
+ * @author Tickatch
+ * @since 0.0.6
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LoggingAspectBenchmark {
+
+    @Param({"OFF", "INFO"})
+    private String logLevel;
+
+    private SampleController direct;
+    private SampleController advised;
+
+    @Setup
+    public void setUp() {
+        Logger logger = (Logger) LoggerFactory.getLogger(LogManager.class);
+        logger.detachAndStopAllAppenders();
+        logger.setAdditive(false);
+        logger.setLevel(Level.toLevel(logLevel));
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tickets/123");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        direct = new SampleController();
+        advised = proxy(new LoggingAspect(new LogManager()));
+    }
+
+    @TearDown
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Benchmark
+    public Object directCall() {
+        return direct.getTicket(123L, "concert");
+    }
+
+    @Benchmark
+    public Object aspectCall() {
+        return advised.getTicket(123L, "concert");
+    }
+
+    private static SampleController proxy(LoggingAspect aspect) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(new SampleController());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        return factory.getProxy();
+    }
+
+    /**
+     * 벤치마크용 컨트롤러.
+     */
+    @RestController
+    public static class SampleController {
+
+        public Map<String, Object> getTicket(Long id, String name) {
+            return Map.of("id", id, "name", name);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package io.github.tickatch.common.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link MdcFilter}의 요청당 오버헤드 벤치마크.
+ *
+ * <p>상위 서비스에서 traceId를 전달받은 경우와 새로 생성하는 경우를 비교한다.
+ * 다음 필터는 아무 일도 하지 않으므로 결과는 필터 자체의 MDC 설정/정리 비용이다.
+ *
+ * @author Tickatch
+ * @since 0.0.6
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MdcFilterBenchmark {
+
+    private final MdcFilter filter = new MdcFilter();
+    private final FilterChain chain = (request, response) -> { };
+
+    private MockHttpServletRequest propagatedRequest;
+    private MockHttpServletRequest newTraceRequest;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        propagatedRequest = new MockHttpServletRequest("GET", "/api/tickets/123");
+        propagatedRequest.addHeader(MdcFilter.HEADER_TRACE_ID, "0af7651916cd43dd8448eb211c80319c");
+        propagatedRequest.addHeader(MdcFilter.HEADER_USER_ID, "5f0c2a4e-8d7b-4c1e-9a3f-2b6d8e1f7c90");
+
+        newTraceRequest = new MockHttpServletRequest("GET", "/api/tickets/123");
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public void propagatedTraceId(Blackhole bh) throws ServletException, IOException {
+        filter.doFilter(propagatedRequest, response, chain);
+        bh.consume(response);
+    }
+
+    @Benchmark
+    public void generatedTraceId(Blackhole bh) throws ServletException, IOException {
+        filter.doFilter(newTraceRequest, response, chain);
+        bh.consume(response);
+    }
+}
@@ -0,0 +1,57 @@
+package io.github.tickatch.common.logging;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link TraceIdGenerator} 구현별 traceId 생성 비용 벤치마크.
+ *
+ * <p>기존 방식인 {@link UUID#randomUUID()}와 스레드별 난수 기반 생성기를 비교한다.
+ * {@code Contended} 벤치마크는 여러 스레드가 동시에 생성하는 부하 상황을 측정한다.
+ *
+ * @author Tickatch
+ * @since 0.0.6
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TraceIdGeneratorBenchmark {
+
+    private final TraceIdGenerator random = TraceIdGenerator.random();
+    private final TraceIdGenerator w3c = TraceIdGenerator.w3c();
+
+    @Benchmark
+    public String uuidRandomUuid() {
+        return UUID.randomUUID().toString();
+    }
+
+    @Benchmark
+    public String random() {
+        return random.generate();
+    }
+
+    @Benchmark
+    public String w3c() {
+        return w3c.generate();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String uuidRandomUuidContended() {
+        return UUID.randomUUID().toString();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String randomContended() {
+        return random.generate();
+    }
+}
@@ -0,0 +1,107 @@
+package io.github.tickatch.common.logging;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.slf4j.MDC;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비동기 작업 하나당 추적 컨텍스트 캡처/복원 비용 벤치마크.
+ *
+ * <p>{@code Executor}에 제출되는 작업마다 추가되는 비용({@link TraceSnapshot#capture()},
+ * {@link TraceSnapshot#restore()}, {@link MdcTaskDecorator} 적용)을 원본 작업 실행과 비교한다.
+ * {@code populated=false}는 추적 정보가 없는 스케줄러/배치 스레드에서 제출하는 경우다.
+ *
+ * <p>{@code restoreAndClose}는 캡처한 스레드(같은 값이 이미 MDC에 있음)에서 복원하므로 제출 스레드 쪽 비용에 가깝다.
+ * 작업 스레드처럼 비어 있는 MDC에 복원하는 비용은 {@code restoreIntoClearedMdc}로 측정한다.
+ * 이 벤치마크는 호출마다 MDC를 비우는 {@link ClearedMdc} 상태를 사용하므로, 호출 단위 {@code Setup} 오버헤드를
+ * 감안하여 두 결과를 함께 비교한다.
+ *
+ * @author Tickatch
+ * @since 0.0.6
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TraceSnapshotBenchmark {
+
+    @Param({"true", "false"})
+    private boolean populated;
+
+    private final MdcTaskDecorator decorator = new MdcTaskDecorator();
+    private TraceSnapshot snapshot;
+    private Runnable task;
+
+    @Setup(Level.Trial)
+    public void setUp(Blackhole blackhole) {
+        MDC.clear();
+        if (populated) {
+            MdcUtils.setRequestId(MdcUtils.generateTraceId());
+            MdcUtils.setUserId("user-1");
+            TraceContext.startSpan(null, true);
+        }
+        snapshot = TraceSnapshot.capture();
+        task = () -> blackhole.consume(MDC.get(MdcUtils.REQUEST_ID));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        MDC.clear();
+    }
+
+    @Benchmark
+    public void rawRun() {
+        task.run();
+    }
+
+    @Benchmark
+    public TraceSnapshot capture() {
+        return snapshot = TraceSnapshot.capture();
+    }
+
+    @Benchmark
+    public void restoreAndClose() {
+        try (MdcScope ignored = snapshot.restore()) {
+            // 복원/되돌리기 비용만 측정
+        }
+    }
+
+    @Benchmark
+    public void restoreIntoClearedMdc(ClearedMdc worker) {
+        try (MdcScope ignored = snapshot.restore()) {
+            // 비어 있는 작업 스레드 MDC에 복원/되돌리기 비용만 측정
+        }
+    }
+
+    @Benchmark
+    public void wrapAndRun() {
+        TraceSnapshot.capture().wrap(task).run();
+    }
+
+    @Benchmark
+    public void decorateAndRun() {
+        decorator.decorate(task).run();
+    }
+
+    /**
+     * 작업 스레드처럼 호출마다 MDC가 비어 있는 상태.
+     */
+    @State(Scope.Thread)
+    public static class ClearedMdc {
+
+        @Setup(Level.Invocation)
+        public void clear() {
+            MDC.clear();
+        }
+    }
+}
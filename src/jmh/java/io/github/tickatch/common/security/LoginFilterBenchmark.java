@@ -0,0 +1,69 @@
+package io.github.tickatch.common.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link LoginFilter}의 요청당 오버헤드 벤치마크.
+ *
+ * <p>Gateway가 사용자 헤더를 전달한 요청(인증 객체 생성)과 헤더가 없는 익명 요청을 비교한다.
+ * 실제 필터 체인에서처럼 매 요청 후 SecurityContext를 비운다.
+ *
+ * @author Tickatch
+ * @since 0.0.6
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LoginFilterBenchmark {
+
+    private final LoginFilter filter = new LoginFilter();
+    private final FilterChain chain = (request, response) -> { };
+
+    private MockHttpServletRequest authenticatedRequest;
+    private MockHttpServletRequest anonymousRequest;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        authenticatedRequest = new MockHttpServletRequest("GET", "/api/tickets/123");
+        authenticatedRequest.addHeader("X-User-Id", "5f0c2a4e-8d7b-4c1e-9a3f-2b6d8e1f7c90");
+        authenticatedRequest.addHeader("X-User-Type", "CUSTOMER");
+
+        anonymousRequest = new MockHttpServletRequest("GET", "/api/tickets/123");
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public Authentication authenticated() throws ServletException, IOException {
+        return filterAndReset(authenticatedRequest);
+    }
+
+    @Benchmark
+    public Authentication anonymous() throws ServletException, IOException {
+        return filterAndReset(anonymousRequest);
+    }
+
+    private Authentication filterAndReset(MockHttpServletRequest request) throws ServletException, IOException {
+        try {
+            filter.doFilter(request, response, chain);
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package io.github.tickatch.common.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 좌석/티켓 ID를 대량으로 만들 때의 호출 방식별 비용 벤치마크.
+ *
+ * <p>결과는 ID 하나당 평균 시간이다. {@code perCall*}은 기존처럼 ID마다 {@link UuidUtils#generateSeatId()}를 호출하고,
+ * {@code bulk*}는 블록 단위로 랜덤 소스/Snowflake 시퀀스를 한 번에 확보하며, {@code pool*}은 {@link PrefetchingIdPool}을 사용한다.
+ * {@code Contended} 변형은 8개 스레드가 동시에 생성하는 이벤트 팬아웃 상황이다.
+ *
+ * @author Tickatch
+ * @since 0.0.6
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BulkIdBenchmark {
+
+    private static final int BATCH_SIZE = 4_096;
+
+    private final PrefetchingIdPool pool = new PrefetchingIdPool();
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public String[] perCallSeatIds() {
+        String[] ids = new String[BATCH_SIZE];
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            ids[i] = UuidUtils.generateSeatId();
+        }
+        return ids;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public String[] bulkSeatIds() {
+        return UuidUtils.generateSeatIds(BATCH_SIZE);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public long[] perCallSnowflakeIds() {
+        long[] ids = new long[BATCH_SIZE];
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            ids[i] = UuidUtils.generateSnowflakeId();
+        }
+        return ids;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public long[] bulkSnowflakeIds() {
+        return UuidUtils.generateSnowflakeIds(BATCH_SIZE).toArray();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String perCallSeatIdContended() {
+        return UuidUtils.generateSeatId();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String poolSeatIdContended() {
+        return pool.nextDomainId(UuidUtils.PREFIX_SEAT);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long perCallSnowflakeIdContended() {
+        return UuidUtils.generateSnowflakeId();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long poolSnowflakeIdContended() {
+        return pool.nextSnowflakeId();
+    }
+}
@@ -0,0 +1,66 @@
+package io.github.tickatch.common.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link JsonUtils}의 직렬화/역직렬화 비용 벤치마크.
+ *
+ * <p>JavaTimeModule이 적용되는 날짜 필드와 컬렉션을 포함한 일반적인 응답 DTO 크기를 기준으로 한다.
+ *
+ * @author Tickatch
+ * @since 0.0.6
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JsonUtilsBenchmark {
+
+    private TicketResponse response;
+    private String json;
+
+    @Setup
+    public void setUp() {
+        response = new TicketResponse(
+                123L,
+                "콘서트",
+                LocalDateTime.of(2025, 1, 15, 19, 30),
+                List.of("A-15", "A-16", "A-17"));
+        json = JsonUtils.toJson(response);
+    }
+
+    @Benchmark
+    public String toJson() {
+        return JsonUtils.toJson(response);
+    }
+
+    @Benchmark
+    public byte[] toBytes() {
+        return JsonUtils.toBytes(response);
+    }
+
+    @Benchmark
+    public TicketResponse fromJson() {
+        return JsonUtils.fromJson(json, TicketResponse.class);
+    }
+
+    @Benchmark
+    public boolean isValidJson() {
+        return JsonUtils.isValidJson(json);
+    }
+
+    /**
+     * 벤치마크용 응답 DTO.
+     */
+    public record TicketResponse(Long id, String name, LocalDateTime startAt, List<String> seats) {
+    }
+}
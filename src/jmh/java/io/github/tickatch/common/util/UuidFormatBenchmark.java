@@ -0,0 +1,136 @@
+package io.github.tickatch.common.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * {@link UuidUtils}의 검증/형식 변환을 기존 정규식·{@code String.format}·{@link DateTimeFormatter} 구현과 비교하는 벤치마크.
+ *
+ * <p>{@code legacy*} 메서드는 문자 테이블 구현과 초 단위 타임스탬프 캐시로 바꾸기 전의 코드를 그대로 옮긴 것이다.
+ * {@code -prof gc}로 실행하면 호출당 할당량도 비교할 수 있다.
+ *
+ * @author Tickatch
+ * @since 0.0.6
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UuidFormatBenchmark {
+
+    private static final Pattern LEGACY_UUID_PATTERN = Pattern.compile(
+            "^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$");
+    private static final DateTimeFormatter LEGACY_TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    private String uuid;
+    private String compactUuid;
+    private String timestampId;
+
+    @Setup
+    public void setUp() {
+        uuid = UuidUtils.generate();
+        compactUuid = UuidUtils.toCompactFormat(uuid);
+        timestampId = UuidUtils.generateTimestampId(UuidUtils.PREFIX_ORDER);
+    }
+
+    @Benchmark
+    public boolean isValid() {
+        return UuidUtils.isValid(uuid);
+    }
+
+    @Benchmark
+    public boolean legacyIsValid() {
+        return !uuid.isBlank() && LEGACY_UUID_PATTERN.matcher(uuid).matches();
+    }
+
+    @Benchmark
+    public boolean isValidAnyFormat() {
+        return UuidUtils.isValidAnyFormat(compactUuid);
+    }
+
+    @Benchmark
+    public boolean legacyIsValidAnyFormat() {
+        return !compactUuid.isBlank() && (LEGACY_UUID_PATTERN.matcher(compactUuid).matches()
+                || compactUuid.length() == 32 && compactUuid.matches("^[0-9a-fA-F]{32}$"));
+    }
+
+    @Benchmark
+    public UUID parse() {
+        return UuidUtils.parse(uuid);
+    }
+
+    @Benchmark
+    public UUID legacyParse() {
+        return LEGACY_UUID_PATTERN.matcher(uuid).matches() ? UUID.fromString(uuid) : null;
+    }
+
+    @Benchmark
+    public String toStandardFormat() {
+        return UuidUtils.toStandardFormat(compactUuid);
+    }
+
+    @Benchmark
+    public String legacyToStandardFormat() {
+        return String.format("%s-%s-%s-%s-%s",
+                compactUuid.substring(0, 8),
+                compactUuid.substring(8, 12),
+                compactUuid.substring(12, 16),
+                compactUuid.substring(16, 20),
+                compactUuid.substring(20, 32));
+    }
+
+    @Benchmark
+    public String toCompactFormat() {
+        return UuidUtils.toCompactFormat(uuid);
+    }
+
+    @Benchmark
+    public String legacyToCompactFormat() {
+        return LEGACY_UUID_PATTERN.matcher(uuid).matches() ? uuid.replace("-", "") : null;
+    }
+
+    @Benchmark
+    public String generateCompact() {
+        return UuidUtils.generateCompact();
+    }
+
+    @Benchmark
+    public String legacyGenerateCompact() {
+        return UUID.randomUUID().toString().replace("-", "");
+    }
+
+    @Benchmark
+    public boolean isValidDomainId() {
+        return UuidUtils.isValidDomainId(timestampId, UuidUtils.PREFIX_ORDER);
+    }
+
+    @Benchmark
+    public boolean legacyIsValidDomainId() {
+        String[] parts = timestampId.split("-", 2);
+        return parts[0].equalsIgnoreCase(UuidUtils.PREFIX_ORDER)
+                && parts[0].matches("^[A-Z]+$")
+                && (parts[1].matches("^[0-9a-fA-F]+$") || parts[1].matches("^\\d{14}-[0-9a-fA-F]+$"));
+    }
+
+    @Benchmark
+    public String generateTimestampId() {
+        return UuidUtils.generateTimestampId(UuidUtils.PREFIX_ORDER);
+    }
+
+    @Benchmark
+    public String legacyGenerateTimestampId() {
+        String timestamp = LocalDateTime.now().format(LEGACY_TIMESTAMP_FORMAT);
+        String uuid = UUID.randomUUID().toString().replace("-", "").substring(0, 6);
+        return UuidUtils.PREFIX_ORDER + "-" + timestamp + "-" + uuid;
+    }
+}
@@ -0,0 +1,84 @@
+package io.github.tickatch.common.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 기본 키 형식별 인덱스 삽입 지역성 벤치마크.
+ *
+ * <p>B-tree 리프 페이지를 정렬된 배열로 단순화하여, 새 키를 이진 탐색 위치에 삽입할 때 뒤쪽 값을 밀어내는
+ * 비용을 측정한다. 랜덤 UUIDv4는 평균적으로 인덱스 중간에 삽입되어 매번 절반을 이동시키고(페이지 분할/쓰기 증폭),
+ * 시간 순서 UUIDv7/ULID는 오른쪽 끝에 추가되어 이동이 거의 없다.
+ *
+ * <p>결과는 키 하나를 생성하여 삽입하는 평균 시간이다. 생성 비용만 비교하려면 {@link UuidUtilsBenchmark}를 참고한다.
+ *
+ * @author Tickatch
+ * @since 0.0.6
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UuidIndexLocalityBenchmark {
+
+    private static final int INDEX_SIZE = 16_384;
+
+    @Param({"v4", "v7", "ulid"})
+    private String format;
+
+    @Benchmark
+    @OperationsPerInvocation(INDEX_SIZE)
+    public int insertIntoIndex() {
+        Supplier<UUID> generator = generator();
+        long[] high = new long[INDEX_SIZE];
+        long[] low = new long[INDEX_SIZE];
+        for (int size = 0; size < INDEX_SIZE; size++) {
+            UUID key = generator.get();
+            int position = insertionPoint(high, low, size, key.getMostSignificantBits(), key.getLeastSignificantBits());
+            System.arraycopy(high, position, high, position + 1, size - position);
+            System.arraycopy(low, position, low, position + 1, size - position);
+            high[position] = key.getMostSignificantBits();
+            low[position] = key.getLeastSignificantBits();
+        }
+        return Arrays.hashCode(high);
+    }
+
+    private Supplier<UUID> generator() {
+        return switch (format) {
+            case "v7" -> UuidUtils::generateV7Uuid;
+            case "ulid" -> UuidUtils::generateUlidUuid;
+            default -> UUID::randomUUID;
+        };
+    }
+
+    /**
+     * 부호 없는 128비트 비교로 삽입 위치를 찾는다 (인덱스의 바이트 순서와 같음).
+     */
+    private static int insertionPoint(long[] high, long[] low, int size, long keyHigh, long keyLow) {
+        int from = 0;
+        int to = size;
+        while (from < to) {
+            int mid = (from + to) >>> 1;
+            int compare = Long.compareUnsigned(high[mid], keyHigh);
+            if (compare == 0) {
+                compare = Long.compareUnsigned(low[mid], keyLow);
+            }
+            if (compare < 0) {
+                from = mid + 1;
+            } else {
+                to = mid;
+            }
+        }
+        return from;
+    }
+}
@@ -0,0 +1,99 @@
+package io.github.tickatch.common.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link UuidUtils}의 ID 생성 및 검증 비용 벤치마크.
+ *
+ * @author Tickatch
+ * @since 0.0.6
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UuidUtilsBenchmark {
+
+    private String uuid;
+    private String compactUuid;
+    private String domainId;
+
+    @Setup
+    public void setUp() {
+        uuid = UuidUtils.generate();
+        compactUuid = UuidUtils.toCompactFormat(uuid);
+        domainId = UuidUtils.generateDomainId(UuidUtils.PREFIX_TICKET);
+    }
+
+    @Benchmark
+    public String generate() {
+        return UuidUtils.generate();
+    }
+
+    @Benchmark
+    public String generateCompact() {
+        return UuidUtils.generateCompact();
+    }
+
+    @Benchmark
+    public String generateV7() {
+        return UuidUtils.generateV7();
+    }
+
+    @Benchmark
+    public String generateUlid() {
+        return UuidUtils.generateUlid();
+    }
+
+    @Benchmark
+    public long generateSnowflakeId() {
+        return UuidUtils.generateSnowflakeId();
+    }
+
+    /**
+     * 8개 스레드가 하나의 생성기를 공유할 때의 CAS 경합 비용.
+     */
+    @Benchmark
+    @Threads(8)
+    public long generateSnowflakeIdContended() {
+        return UuidUtils.generateSnowflakeId();
+    }
+
+    @Benchmark
+    public String generateSnowflakeDomainId() {
+        return UuidUtils.generateSnowflakeDomainId(UuidUtils.PREFIX_TICKET);
+    }
+
+    @Benchmark
+    public String generateDomainId() {
+        return UuidUtils.generateDomainId(UuidUtils.PREFIX_TICKET);
+    }
+
+    @Benchmark
+    public String generateTimestampId() {
+        return UuidUtils.generateTimestampId(UuidUtils.PREFIX_EVENT);
+    }
+
+    @Benchmark
+    public boolean isValid() {
+        return UuidUtils.isValid(uuid);
+    }
+
+    @Benchmark
+    public boolean isValidAnyFormat() {
+        return UuidUtils.isValidAnyFormat(compactUuid);
+    }
+
+    @Benchmark
+    public boolean isValidDomainId() {
+        return UuidUtils.isValidDomainId(domainId, UuidUtils.PREFIX_TICKET);
+    }
+}
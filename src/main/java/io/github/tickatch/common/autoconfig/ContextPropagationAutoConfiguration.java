@@ -0,0 +1,140 @@
+package io.github.tickatch.common.autoconfig;
+
+import io.github.tickatch.common.logging.MdcTaskDecorator;
+import io.github.tickatch.common.logging.TraceSnapshot;
+import io.github.tickatch.common.logging.TracingForkJoinPool;
+import org.springframework.beans.DirectFieldAccessor;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 비동기 작업으로 추적 컨텍스트를 전달하는 AutoConfiguration.
+ *
+ * <p>{@link MdcTaskDecorator}를 {@link TaskDecorator} 빈으로 등록한다. Spring Boot가 자동 구성하는
+ * {@code applicationTaskExecutor}(플랫폼 스레드 풀 또는 가상 스레드)에 적용되므로
+ * {@code @Async} 메서드에서도 traceId와 userId가 유지된다.
+ *
+ * <p>직접 정의한 {@link ThreadPoolTaskExecutor}, {@link SimpleAsyncTaskExecutor} 빈에도
+ * 초기화 전에 {@link MdcTaskDecorator}를 적용한다. 빈에 이미 다른 {@link TaskDecorator}가 설정되어 있으면
+ * 추적 컨텍스트 복원 안쪽에서 기존 데코레이터가 실행되도록 합성한다.
+ * 따라서 {@code @Async("notificationExecutor")}처럼 별도 Executor를 지정해도 traceId가 유지된다.
+ *
+ * <p>활성화 조건:
+ * <ul>
+ *   <li>{@code tickatch.trace.propagation.enabled=true}이거나 설정이 없을 것 (기본 활성화)</li>
+ *   <li>{@link TaskDecorator} 빈은 사용자가 직접 정의하지 않았을 때만 등록</li>
+ *   <li>{@link TracingForkJoinPool} 빈은 {@code tickatch.trace.propagation.fork-join-pool.enabled=true}일 때만 등록 (opt-in)</li>
+ * </ul>
+ *
+ * <p>직접 만든 Executor에는 {@link TraceSnapshot#decorate(java.util.concurrent.Executor)}를 사용한다.
+ * Spring 빈이 아닌 Executor(예: {@code AsyncConfigurer}에서 생성해 반환하는 Executor)에는 자동 적용되지 않는다.
+ *
+ * @author Tickatch
+ * @since 0.0.6
+ * @see TraceSnapshot
+ * @see TracingForkJoinPool
+ */
+@AutoConfiguration(before = TaskExecutionAutoConfiguration.class)
+@ConditionalOnProperty(
+    prefix = "tickatch.trace.propagation",
+    name = "enabled",
+    havingValue = "true",
+    matchIfMissing = true
+)
+public class ContextPropagationAutoConfiguration {
+
+  /**
+   * 추적 컨텍스트를 전달하는 {@link TaskDecorator}를 등록한다.
+   *
+   * @return {@link MdcTaskDecorator} 인스턴스
+   */
+  @Bean
+  @ConditionalOnMissingBean(TaskDecorator.class)
+  public MdcTaskDecorator mdcTaskDecorator() {
+    return new MdcTaskDecorator();
+  }
+
+  /**
+   * 직접 정의한 Spring TaskExecutor 빈에 {@link MdcTaskDecorator}를 적용하는 BeanPostProcessor를 등록한다.
+   *
+   * @return {@link BeanPostProcessor} 인스턴스
+   */
+  @Bean
+  public static BeanPostProcessor traceTaskExecutorPostProcessor() {
+    return new TraceTaskExecutorPostProcessor();
+  }
+
+  /**
+   * 추적 컨텍스트를 전달하는 {@link TracingForkJoinPool}을 등록한다 (opt-in).
+   *
+   * <p>병렬성은 {@code tickatch.trace.propagation.fork-join-pool.parallelism}으로 지정하며,
+   * 설정이 없으면 사용 가능한 프로세서 수를 사용한다.
+   *
+   * @param environment 설정 값 조회용 Environment
+   * @return {@link TracingForkJoinPool} 인스턴스
+   */
+  @Bean(destroyMethod = "shutdown")
+  @ConditionalOnMissingBean(TracingForkJoinPool.class)
+  @ConditionalOnProperty(prefix = "tickatch.trace.propagation.fork-join-pool", name = "enabled", havingValue = "true")
+  public TracingForkJoinPool traceForkJoinPool(Environment environment) {
+    int parallelism = environment.getProperty(
+        "tickatch.trace.propagation.fork-join-pool.parallelism",
+        Integer.class,
+        Runtime.getRuntime().availableProcessors());
+    return new TracingForkJoinPool(parallelism);
+  }
+
+  /**
+   * {@link ThreadPoolTaskExecutor}, {@link SimpleAsyncTaskExecutor} 빈의 초기화 전에
+   * {@link MdcTaskDecorator}를 설정하는 BeanPostProcessor.
+   *
+   * <p>두 Executor 모두 설정된 데코레이터를 조회하는 getter가 없으므로
+   * {@link DirectFieldAccessor}로 기존 값을 읽어 합성한다.
+   */
+  static class TraceTaskExecutorPostProcessor implements BeanPostProcessor {
+
+    private static final String TASK_DECORATOR_FIELD = "taskDecorator";
+
+    private final MdcTaskDecorator mdcTaskDecorator = new MdcTaskDecorator();
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+      if (bean instanceof ThreadPoolTaskExecutor executor) {
+        executor.setTaskDecorator(compose(currentDecorator(executor)));
+      } else if (bean instanceof SimpleAsyncTaskExecutor executor) {
+        executor.setTaskDecorator(compose(currentDecorator(executor)));
+      }
+      return bean;
+    }
+
+    private TaskDecorator currentDecorator(Object executor) {
+      DirectFieldAccessor accessor = new DirectFieldAccessor(executor);
+      if (!accessor.isReadableProperty(TASK_DECORATOR_FIELD)) {
+        return null;
+      }
+      return accessor.getPropertyValue(TASK_DECORATOR_FIELD) instanceof TaskDecorator decorator ? decorator : null;
+    }
+
+    /**
+     * 기존 데코레이터가 없으면 {@link MdcTaskDecorator}를, 이미 추적 컨텍스트를 전달하면 그대로,
+     * 그 외에는 추적 컨텍스트 복원 후 기존 데코레이터가 실행되도록 합성하여 반환한다.
+     */
+    TaskDecorator compose(TaskDecorator existing) {
+      if (existing == null) {
+        return mdcTaskDecorator;
+      }
+      if (existing instanceof MdcTaskDecorator) {
+        return existing;
+      }
+      return runnable -> mdcTaskDecorator.decorate(existing.decorate(runnable));
+    }
+  }
+}
@@ -4,11 +4,21 @@ import feign.RequestInterceptor;
 import feign.RequestTemplate;
 import io.github.tickatch.common.logging.MdcFilter;
 import io.github.tickatch.common.logging.MdcUtils;
+import io.github.tickatch.common.logging.TraceContext;
+import io.github.tickatch.common.logging.TraceSnapshot;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
 import org.springframework.util.StringUtils;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
 /**
  * Feign Client를 통한 서비스 간 통신 시 추적 정보를 자동 전파하는 AutoConfiguration.
  *
@@ -21,6 +31,8 @@ import org.springframework.util.StringUtils;
  * <ul>
  *   <li>{@code X-Trace-Id} — 분산 추적 ID (MDC의 requestId)</li>
  *   <li>{@code X-User-Id} — 사용자 ID (MDC의 userId)</li>
+ *   <li>{@code traceparent} — W3C Trace Context (traceId가 W3C 형식으로 표현 가능할 때, 현재 span을 상위 span으로 전달)</li>
+ *   <li>{@code baggage} — W3C Baggage (요청에서 수신한 원문)</li>
  * </ul>
  *
  * <p>분산 추적 흐름:
@@ -44,6 +56,23 @@ import org.springframework.util.StringUtils;
  * <p>이 AutoConfiguration을 사용하면 별도 설정 없이 Feign 호출 시
  * 자동으로 traceId와 userId가 전파된다.
  *
+ * <p>추적 ID 헤더 형식과 추가로 전파할 MDC 키는 설정으로 지정한다:
+ * <pre>{@code
+ * # application.yml
+ * tickatch:
+ *   trace:
+ *     feign:
+ *       format: both          # both(기본) | tickatch(X-Trace-Id만) | w3c(traceparent 우선)
+ *       extra-headers:
+ *         "[tenantId]": X-Tenant-Id   # MDC 키: 헤더 이름 (대소문자 유지를 위해 대괄호 사용)
+ * }</pre>
+ *
+ * <p>{@code traceparent}의 trace-id는 하이픈 없는 32자리 소문자 hex이므로, 기본 {@code uuid} 형식처럼
+ * traceId가 그와 다르면 수신 측 {@link MdcFilter}는 하이픈이 빠진 다른 문자열을 traceId로 쓰게 된다.
+ * 따라서 {@code w3c} 형식이라도 traceId가 W3C trace-id와 정확히 같지 않으면 ({@link TraceContext#isTraceId(String)})
+ * {@code X-Trace-Id}를 함께 보낸다. 수신 측은 {@code X-Trace-Id}를 우선하므로 모든 hop의 traceId가 같게 유지된다.
+ * {@code traceparent}만 보내려면 {@code tickatch.trace.id-format=w3c}로 traceId를 생성한다.
+ *
  * @author Tickatch
  * @since 0.0.1
  * @see MdcFilter
@@ -56,42 +85,94 @@ public class FeignTraceAutoConfiguration {
   /**
    * MDC 컨텍스트를 Feign 요청 헤더로 전파하는 인터셉터.
    *
-   * <p>모든 Feign 요청에 X-Trace-Id와 X-User-Id 헤더를 자동으로 추가한다.
+   * <p>모든 Feign 요청에 X-Trace-Id, X-User-Id, traceparent, baggage 헤더를 자동으로 추가한다.
    * MDC에 해당 값이 없으면 헤더를 추가하지 않는다.
    *
+   * @param environment 설정 값 조회용 Environment
    * @return {@link RequestInterceptor} 인스턴스
    */
   @Bean
-  public RequestInterceptor mdcPropagationInterceptor() {
-    return new MdcPropagationInterceptor();
+  public RequestInterceptor mdcPropagationInterceptor(Environment environment) {
+    Binder binder = Binder.get(environment);
+    return new MdcPropagationInterceptor(
+        binder.bind("tickatch.trace.feign.format", HeaderFormat.class).orElse(HeaderFormat.BOTH),
+        binder.bind("tickatch.trace.feign.extra-headers", Bindable.mapOf(String.class, String.class))
+            .orElse(Map.of()));
+  }
+
+  /**
+   * Feign 요청에 추가할 추적 ID 헤더 형식.
+   */
+  public enum HeaderFormat {
+    /** {@code X-Trace-Id}와 {@code traceparent}를 모두 추가한다. */
+    BOTH,
+    /** {@code X-Trace-Id}만 추가한다. */
+    TICKATCH,
+    /**
+     * {@code traceparent}를 추가한다. traceId가 W3C trace-id와 다르면 traceId를 보존하도록
+     * {@code X-Trace-Id}도 추가한다.
+     */
+    W3C
   }
 
   /**
    * MDC 컨텍스트를 Feign 요청 헤더로 전파하는 RequestInterceptor 구현.
+   *
+   * <p>추가할 헤더와 값 추출 방법을 생성 시점에 배열로 만들어 두고, 요청마다 {@link TraceSnapshot}으로
+   * 추적용 MDC 값을 한 번에 캡처한 뒤 배열 순서대로 헤더를 추가한다.
+   * 추가 MDC 키({@code extra-headers})만 요청마다 개별 조회한다.
    */
   static class MdcPropagationInterceptor implements RequestInterceptor {
 
+    private final HeaderBinding[] plan;
+
+    MdcPropagationInterceptor() {
+      this(HeaderFormat.BOTH, Map.of());
+    }
+
+    MdcPropagationInterceptor(HeaderFormat format, Map<String, String> extraHeaders) {
+      List<HeaderBinding> bindings = new ArrayList<>();
+      if (format != HeaderFormat.W3C) {
+        bindings.add(new HeaderBinding(MdcFilter.HEADER_TRACE_ID, TraceSnapshot::getRequestId));
+      } else {
+        bindings.add(new HeaderBinding(MdcFilter.HEADER_TRACE_ID, MdcPropagationInterceptor::nonW3cTraceId));
+      }
+      bindings.add(new HeaderBinding(MdcFilter.HEADER_USER_ID, TraceSnapshot::getUserId));
+      if (format != HeaderFormat.TICKATCH) {
+        bindings.add(new HeaderBinding(TraceContext.HEADER_TRACEPARENT, TraceSnapshot::traceparent));
+      }
+      bindings.add(new HeaderBinding(TraceContext.HEADER_BAGGAGE, TraceSnapshot::getBaggage));
+      extraHeaders.forEach((mdcKey, headerName) ->
+          bindings.add(new HeaderBinding(headerName, snapshot -> MdcUtils.get(mdcKey))));
+      this.plan = bindings.toArray(HeaderBinding[]::new);
+    }
+
     @Override
     public void apply(RequestTemplate template) {
-      // Trace ID 전파
-      propagateIfPresent(template, MdcUtils.REQUEST_ID, MdcFilter.HEADER_TRACE_ID);
-
-      // User ID 전파
-      propagateIfPresent(template, MdcUtils.USER_ID, MdcFilter.HEADER_USER_ID);
+      TraceSnapshot snapshot = TraceSnapshot.capture();
+      for (HeaderBinding binding : plan) {
+        String value = binding.value().apply(snapshot);
+        if (StringUtils.hasText(value)) {
+          template.header(binding.header(), value);
+        }
+      }
     }
 
     /**
-     * MDC에 값이 있으면 요청 헤더에 추가한다.
+     * {@code traceparent}만으로는 그대로 전달되지 않는 traceId를 반환한다.
      *
-     * @param template Feign 요청 템플릿
-     * @param mdcKey MDC 키
-     * @param headerName HTTP 헤더 이름
+     * @param snapshot 추적 컨텍스트 스냅샷
+     * @return W3C trace-id와 다른 traceId, 같거나 없으면 null
      */
-    private void propagateIfPresent(RequestTemplate template, String mdcKey, String headerName) {
-      String value = MdcUtils.get(mdcKey);
-      if (StringUtils.hasText(value)) {
-        template.header(headerName, value);
-      }
+    private static String nonW3cTraceId(TraceSnapshot snapshot) {
+      String traceId = snapshot.getRequestId();
+      return TraceContext.isTraceId(traceId) ? null : traceId;
+    }
+
+    /**
+     * 추가할 헤더 이름과 값 추출 방법.
+     */
+    private record HeaderBinding(String header, Function<TraceSnapshot, String> value) {
     }
   }
-}
\ No newline at end of file
+}
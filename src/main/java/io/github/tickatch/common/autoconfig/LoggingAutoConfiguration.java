@@ -1,15 +1,35 @@
 package io.github.tickatch.common.autoconfig;
 
+import io.github.tickatch.common.logging.AsyncLogDispatcher;
+import io.github.tickatch.common.logging.LatencyMeterBinder;
+import io.github.tickatch.common.logging.LatencyRegistry;
 import io.github.tickatch.common.logging.LogManager;
+import io.github.tickatch.common.logging.LogMasker;
+import io.github.tickatch.common.logging.LogPayloadSerializer;
+import io.github.tickatch.common.logging.LogSampler;
 import io.github.tickatch.common.logging.LoggingAspect;
 import io.github.tickatch.common.logging.MdcFilter;
+import io.github.tickatch.common.logging.MdcUtils;
+import io.github.tickatch.common.logging.TraceIdGenerator;
+import io.github.tickatch.common.util.JsonUtils;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionOutcome;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.SpringBootCondition;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
 import org.springframework.core.Ordered;
+import org.springframework.core.type.AnnotatedTypeMetadata;
 
 /**
  * AOP 기반 로깅 및 MDC 필터를 자동으로 구성하는 AutoConfiguration.
@@ -25,8 +45,45 @@ import org.springframework.core.Ordered;
  *   <li>{@link MdcFilter} - 요청별 requestId, userId를 MDC에 설정</li>
  *   <li>{@link LoggingAspect} - RestController 및 @LogExecution 메서드 자동 로깅</li>
  *   <li>{@link LogManager} - 일관된 로그 포맷 제공</li>
+ *   <li>{@link LogPayloadSerializer} - 반환값 로그를 최대 길이까지만 직렬화</li>
+ *   <li>{@link LogMasker} - {@code @Masked} 및 설정된 필드의 값을 로그에서 마스킹</li>
+ *   <li>{@link LogSampler} - {@code tickatch.logging.sampling.enabled=true}일 때 컨트롤러 로그 샘플링</li>
+ *   <li>{@link AsyncLogDispatcher} - {@code tickatch.logging.mode=async}일 때 백그라운드 배치 기록</li>
+ *   <li>{@link LatencyRegistry} - 메서드별 실행 시간 히스토그램 및 지연 호출 WARN 승격</li>
+ *   <li>{@link LatencyMeterBinder} - Micrometer가 있을 때 실행 시간/비동기 버퍼 메트릭 노출</li>
  * </ul>
  *
+ * <h2>비동기 모드</h2>
+ * <pre>{@code
+ * # application.yml
+ * tickatch:
+ *   logging:
+ *     mode: async
+ *     async:
+ *       buffer-size: 8192      # 버퍼 용량
+ *       batch-size: 256        # 배치 크기
+ *       overflow-policy: drop  # 버퍼 초과 시 drop | block
+ * }</pre>
+ *
+ * <h2>구조화 로그</h2>
+ * <pre>{@code
+ * # application.yml
+ * tickatch:
+ *   logging:
+ *     format: json       # text(기본) | key-value(SLF4J key-value) | json(한 줄 JSON 메시지)
+ * }</pre>
+ *
+ * <h2>민감 정보 마스킹</h2>
+ * <pre>{@code
+ * # application.yml
+ * tickatch:
+ *   logging:
+ *     masking:
+ *       fields:
+ *         - password                     # 모든 타입의 password
+ *         - PaymentRequest.cardNumber    # 특정 타입의 필드
+ * }</pre>
+ *
  * <h2>비활성화 방법</h2>
  * <pre>{@code
  * # application.yml
@@ -35,10 +92,37 @@ import org.springframework.core.Ordered;
  *     enabled: false
  * }</pre>
  *
+ * <h2>샘플링</h2>
+ * <pre>{@code
+ * # application.yml
+ * tickatch:
+ *   logging:
+ *     slow-threshold: 1s               # 샘플링 제외 요청이라도 이 시간 이상 걸리면 기록
+ *     sampling:
+ *       enabled: true
+ *       default-rate: 1.0
+ *       rates:
+ *         "[/api/seats/**]": 0.05      # traceId 기준 5%만 기록
+ *       rate-limits:
+ *         "[/api/**]": 200             # 초당 최대 200건
+ *       always-log-errors: true        # 예외 발생 요청은 항상 기록
+ * }</pre>
+ *
+ * <h2>실행 시간 측정</h2>
+ * <pre>{@code
+ * # application.yml
+ * tickatch:
+ *   logging:
+ *     slow-threshold: 1s               # 이 시간 이상 걸린 호출의 종료 로그는 WARN
+ *     latency:
+ *       enabled: true                  # 메서드별 히스토그램 기록 (기본 활성화)
+ * }</pre>
+ *
  * <h2>로그 출력 예시</h2>
  * <pre>
  * INFO  GET /api/tickets/123 - Request ID: abc-123, User ID: 42, Method: TicketController.getTicket, Params: {id: 123}
  * INFO  GET /api/tickets/123 - Request ID: abc-123, User ID: 42, Method: TicketController.getTicket, Return: {"id":123}
+ * WARN  GET /api/tickets/123 - Request ID: abc-123, User ID: 42, Method: TicketController.getTicket, Return: {"id":123}, Elapsed: 1523ms
  * </pre>
  *
  * @author Tickatch
@@ -46,6 +130,7 @@ import org.springframework.core.Ordered;
  * @see LoggingAspect
  * @see MdcFilter
  * @see LogManager
+ * @see LoggingProperties
  */
 @AutoConfiguration
 @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
@@ -55,19 +140,123 @@ import org.springframework.core.Ordered;
         havingValue = "true",
         matchIfMissing = true
 )
+@EnableConfigurationProperties(LoggingProperties.class)
 public class LoggingAutoConfiguration {
 
     /**
      * {@link LogManager} 빈을 등록한다.
      *
      * <p>로그 메시지 포맷팅을 담당하며, {@link LoggingAspect}에서 사용된다.
+     * 출력 형식은 {@code tickatch.logging.format}(text | key-value | json)으로 지정한다.
      *
+     * @param properties 로깅 설정
      * @return {@link LogManager} 인스턴스
      */
     @Bean
     @ConditionalOnMissingBean
-    public LogManager logManager() {
-        return new LogManager();
+    public LogManager logManager(LoggingProperties properties) {
+        return new LogManager(properties.getFormat());
+    }
+
+    /**
+     * {@link LogMasker} 빈을 등록한다.
+     *
+     * <p>{@code @Masked} 애노테이션과 {@code tickatch.logging.masking.fields}에 지정된 필드를
+     * 로그 파라미터와 반환값에서 마스킹한다.
+     *
+     * @param properties 로깅 설정
+     * @return {@link LogMasker} 인스턴스
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public LogMasker logMasker(LoggingProperties properties) {
+        return new LogMasker(properties.getMasking().getFields());
+    }
+
+    /**
+     * {@link LogPayloadSerializer} 빈을 등록한다.
+     *
+     * <p>반환값 로그를 {@code tickatch.logging.max-payload-length}까지만 직렬화하고,
+     * 초과분은 잘림 표시로 대체한다. 마스킹 대상 필드는 직렬화 도중에 마스킹된다.
+     *
+     * @param properties 로깅 설정
+     * @param logMasker 민감 정보 마스킹 정책
+     * @return {@link LogPayloadSerializer} 인스턴스
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public LogPayloadSerializer logPayloadSerializer(LoggingProperties properties, LogMasker logMasker) {
+        return new LogPayloadSerializer(JsonUtils.getObjectMapper(), properties.getMaxPayloadLength(), logMasker);
+    }
+
+    /**
+     * {@link LogSampler} 빈을 등록한다.
+     *
+     * <p>{@code tickatch.logging.sampling.enabled=true}일 때만 등록되며,
+     * 등록되지 않으면 모든 컨트롤러 요청이 기록된다.
+     *
+     * @param properties 로깅 설정
+     * @return {@link LogSampler} 인스턴스
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "tickatch.logging.sampling", name = "enabled", havingValue = "true")
+    public LogSampler logSampler(LoggingProperties properties) {
+        LoggingProperties.Sampling sampling = properties.getSampling();
+        return new LogSampler(
+                sampling.getDefaultRate(),
+                sampling.getRates(),
+                sampling.getRateLimits(),
+                sampling.isAlwaysLogErrors(),
+                properties.getSlowThreshold());
+    }
+
+    /**
+     * {@link LatencyRegistry} 빈을 등록한다.
+     *
+     * <p>{@code tickatch.logging.latency.enabled=false}이면 등록되지 않으며,
+     * 이 경우 실행 시간 측정과 지연 호출 WARN 승격이 모두 비활성화된다.
+     *
+     * @param properties 로깅 설정
+     * @return {@link LatencyRegistry} 인스턴스
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(
+            prefix = "tickatch.logging.latency",
+            name = "enabled",
+            havingValue = "true",
+            matchIfMissing = true
+    )
+    public LatencyRegistry latencyRegistry(LoggingProperties properties) {
+        return new LatencyRegistry(properties.getSlowThreshold());
+    }
+
+    /**
+     * {@link AsyncLogDispatcher} 빈을 등록한다.
+     *
+     * <p>{@link LoggingProperties#getMode()}가 {@link LoggingProperties.Mode#ASYNC}일 때만 등록되며,
+     * 컨텍스트 종료 시 버퍼에 남은 로그를 모두 기록한 뒤 드레이너 스레드를 종료한다.
+     *
+     * @param logManager 로그 포맷팅을 위한 LogManager
+     * @param logPayloadSerializer 반환값 Serializer
+     * @param properties 로깅 설정
+     * @return {@link AsyncLogDispatcher} 인스턴스
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnMissingBean
+    @Conditional(AsyncModeCondition.class)
+    public AsyncLogDispatcher asyncLogDispatcher(
+            LogManager logManager,
+            LogPayloadSerializer logPayloadSerializer,
+            LoggingProperties properties) {
+        LoggingProperties.Async async = properties.getAsync();
+        return new AsyncLogDispatcher(
+                logManager,
+                logPayloadSerializer,
+                async.getBufferSize(),
+                async.getBatchSize(),
+                async.getOverflowPolicy());
     }
 
     /**
@@ -75,14 +264,29 @@ public class LoggingAutoConfiguration {
      *
      * <p>RestController 및 {@code @LogExecution} 어노테이션이 적용된 메서드를
      * AOP로 감싸 진입/종료 로그를 자동으로 기록한다.
+     * {@link AsyncLogDispatcher} 빈이 있으면 비동기 모드로 동작한다.
      *
      * @param logManager 로그 포맷팅을 위한 LogManager
+     * @param asyncLogDispatcher 비동기 모드 디스패처 (동기 모드에서는 없음)
+     * @param logPayloadSerializer 반환값 Serializer
+     * @param logSampler 컨트롤러 로그 샘플링 정책 (샘플링 비활성화 시 없음)
+     * @param latencyRegistry 메서드별 실행 시간 레지스트리 (측정 비활성화 시 없음)
      * @return {@link LoggingAspect} 인스턴스
      */
     @Bean
     @ConditionalOnMissingBean
-    public LoggingAspect loggingAspect(LogManager logManager) {
-        return new LoggingAspect(logManager);
+    public LoggingAspect loggingAspect(
+            LogManager logManager,
+            ObjectProvider<AsyncLogDispatcher> asyncLogDispatcher,
+            LogPayloadSerializer logPayloadSerializer,
+            ObjectProvider<LogSampler> logSampler,
+            ObjectProvider<LatencyRegistry> latencyRegistry) {
+        return new LoggingAspect(
+                logManager,
+                asyncLogDispatcher.getIfAvailable(),
+                logPayloadSerializer,
+                logSampler.getIfAvailable(),
+                latencyRegistry.getIfAvailable());
     }
 
     /**
@@ -91,12 +295,13 @@ public class LoggingAutoConfiguration {
      * <p>각 HTTP 요청에 대해 고유한 requestId를 생성하고,
      * 헤더에서 userId를 추출하여 MDC에 저장한다.
      *
+     * @param traceIdGenerator traceId 생성기 (없으면 {@link MdcUtils}에 설정된 생성기 사용)
      * @return {@link MdcFilter} 인스턴스
      */
     @Bean
     @ConditionalOnMissingBean
-    public MdcFilter mdcFilter() {
-        return new MdcFilter();
+    public MdcFilter mdcFilter(ObjectProvider<TraceIdGenerator> traceIdGenerator) {
+        return new MdcFilter(traceIdGenerator.getIfAvailable(() -> MdcUtils::generateTraceId));
     }
 
     /**
@@ -115,4 +320,52 @@ public class LoggingAutoConfiguration {
         registration.addUrlPatterns("/*");
         return registration;
     }
-}
\ No newline at end of file
+
+    /**
+     * {@code tickatch.logging.mode}를 {@link LoggingProperties.Mode}로 바인딩하여 비동기 모드인지 판단하는 조건.
+     *
+     * <p>{@link LoggingProperties}와 같은 규칙으로 바인딩하므로 설정 값과 모드 판단이 어긋나지 않는다.
+     */
+    static class AsyncModeCondition extends SpringBootCondition {
+
+        /** 로그 기록 모드 설정 키 */
+        static final String MODE_PROPERTY = "tickatch.logging.mode";
+
+        @Override
+        public ConditionOutcome getMatchOutcome(ConditionContext context, AnnotatedTypeMetadata metadata) {
+            LoggingProperties.Mode mode = Binder.get(context.getEnvironment())
+                    .bind(MODE_PROPERTY, LoggingProperties.Mode.class)
+                    .orElse(LoggingProperties.Mode.SYNC);
+            return mode == LoggingProperties.Mode.ASYNC
+                    ? ConditionOutcome.match(MODE_PROPERTY + " is " + mode)
+                    : ConditionOutcome.noMatch(MODE_PROPERTY + " is " + mode);
+        }
+    }
+
+    /**
+     * Micrometer가 클래스패스에 있을 때 실행 시간 메트릭을 등록하는 설정.
+     *
+     * <p>{@link LatencyMeterBinder}는 MeterBinder 빈이므로 Actuator가 있으면
+     * 애플리케이션의 MeterRegistry에 자동으로 바인딩된다.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+    static class LatencyMetricsConfiguration {
+
+        /**
+         * {@link LatencyMeterBinder} 빈을 등록한다.
+         *
+         * @param latencyRegistry 메서드별 실행 시간 레지스트리
+         * @param asyncLogDispatcher 비동기 모드 디스패처 (동기 모드에서는 없음)
+         * @return {@link LatencyMeterBinder} 인스턴스
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        @ConditionalOnBean(LatencyRegistry.class)
+        public LatencyMeterBinder latencyMeterBinder(
+                LatencyRegistry latencyRegistry,
+                ObjectProvider<AsyncLogDispatcher> asyncLogDispatcher) {
+            return new LatencyMeterBinder(latencyRegistry, asyncLogDispatcher.getIfAvailable());
+        }
+    }
+}
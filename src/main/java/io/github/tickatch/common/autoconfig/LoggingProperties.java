@@ -0,0 +1,164 @@
+package io.github.tickatch.common.autoconfig;
+
+import io.github.tickatch.common.logging.AsyncLogDispatcher;
+import io.github.tickatch.common.logging.LogManager;
+import io.github.tickatch.common.logging.LogPayloadSerializer;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code tickatch.logging.*} 설정을 바인딩하는 프로퍼티 클래스.
+ *
+ * <p>설정 예시:
+ * <pre>{@code
+ * # application.yml
+ * tickatch:
+ *   logging:
+ *     enabled: true
+ *     mode: async            # sync(기본) | async
+ *     format: json           # text(기본) | key-value | json
+ *     max-payload-length: 4096  # 반환값 로그 최대 길이 (0이면 제한 없음)
+ *     async:
+ *       buffer-size: 8192
+ *       batch-size: 256
+ *       overflow-policy: drop  # drop(기본) | block
+ *     slow-threshold: 1s       # 지연 호출 임계값 (종료 로그 WARN 승격)
+ *     latency:
+ *       enabled: true          # 메서드별 실행 시간 히스토그램
+ *     masking:
+ *       fields:                # 로그에서 마스킹할 필드/파라미터 이름
+ *         - password
+ *         - PaymentRequest.cardNumber
+ *     sampling:
+ *       enabled: true
+ *       default-rate: 1.0
+ *       rates:
+ *         "[/api/seats/**]": 0.05      # 패턴별 샘플링 비율
+ *       rate-limits:
+ *         "[/api/**]": 200             # 패턴별 초당 최대 로그 건수
+ *       always-log-errors: true
+ * }</pre>
+ *
+ * <p>URI 패턴처럼 {@code /}, {@code *}가 포함된 맵 키는 대괄호로 감싸야 그대로 바인딩된다.
+ *
+ * @author Tickatch
+ * @since 0.0.6
+ * @see LoggingAutoConfiguration
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "tickatch.logging")
+public class LoggingProperties {
+
+    /** 로깅 AutoConfiguration 활성화 여부 */
+    private boolean enabled = true;
+
+    /** 로그 기록 모드. {@link Mode#ASYNC}이면 {@link AsyncLogDispatcher}가 등록된다 */
+    private Mode mode = Mode.SYNC;
+
+    /** 로그 출력 형식 */
+    private LogManager.OutputFormat format = LogManager.OutputFormat.TEXT;
+
+    /** 반환값 로그의 최대 기록 길이(문자 수). 0이면 제한 없음 */
+    private int maxPayloadLength = LogPayloadSerializer.DEFAULT_MAX_LENGTH;
+
+    /** 지연 호출로 간주하는 실행 시간 임계값 */
+    private Duration slowThreshold = Duration.ofSeconds(1);
+
+    /** 비동기 모드 설정 */
+    private final Async async = new Async();
+
+    /** 샘플링 설정 */
+    private final Sampling sampling = new Sampling();
+
+    /** 실행 시간 측정 설정 */
+    private final Latency latency = new Latency();
+
+    /** 민감 정보 마스킹 설정 */
+    private final Masking masking = new Masking();
+
+    /**
+     * 로그 기록 모드.
+     */
+    public enum Mode {
+        /** 요청 스레드에서 직접 포맷팅하고 기록한다. */
+        SYNC,
+        /** 요청 스레드는 참조만 캡처하고, 백그라운드 스레드에서 배치로 기록한다. */
+        ASYNC
+    }
+
+    /**
+     * 비동기 모드 설정.
+     */
+    @Getter
+    @Setter
+    public static class Async {
+
+        /** 로그 이벤트 버퍼 용량 */
+        private int bufferSize = 8192;
+
+        /** 한 번에 드레인할 최대 이벤트 수 */
+        private int batchSize = 256;
+
+        /** 버퍼가 가득 찼을 때의 처리 정책 */
+        private AsyncLogDispatcher.OverflowPolicy overflowPolicy = AsyncLogDispatcher.OverflowPolicy.DROP;
+    }
+
+    /**
+     * 컨트롤러 로그 샘플링 설정.
+     */
+    @Getter
+    @Setter
+    public static class Sampling {
+
+        /** 샘플링 활성화 여부 (기본: 비활성화 - 모든 요청 기록) */
+        private boolean enabled = false;
+
+        /** 매칭되는 패턴이 없을 때의 샘플링 비율 (0.0 ~ 1.0) */
+        private double defaultRate = 1.0;
+
+        /** URI 패턴별 샘플링 비율. 설정 순서대로 처음 매칭되는 패턴이 적용된다. */
+        private Map<String, Double> rates = new LinkedHashMap<>();
+
+        /** URI 패턴별 초당 최대 로그 건수. 설정 순서대로 처음 매칭되는 패턴이 적용된다. */
+        private Map<String, Integer> rateLimits = new LinkedHashMap<>();
+
+        /** 샘플링에서 제외된 요청이라도 예외 발생 시 기록할지 여부 */
+        private boolean alwaysLogErrors = true;
+    }
+
+    /**
+     * 메서드별 실행 시간 측정 설정.
+     */
+    @Getter
+    @Setter
+    public static class Latency {
+
+        /** 실행 시간 히스토그램 기록 및 지연 호출 WARN 승격 활성화 여부 */
+        private boolean enabled = true;
+    }
+
+    /**
+     * 민감 정보 마스킹 설정.
+     *
+     * <p>{@code @Masked} 애노테이션은 이 설정과 무관하게 항상 적용된다.
+     */
+    @Getter
+    @Setter
+    public static class Masking {
+
+        /**
+         * 마스킹할 필드 경로 목록.
+         * {@code password}처럼 이름만 지정하면 모든 타입에 (대소문자 무시),
+         * {@code PaymentRequest.cardNumber}처럼 단순 클래스명을 붙이면 해당 타입에만 적용된다.
+         */
+        private List<String> fields = new ArrayList<>();
+    }
+}
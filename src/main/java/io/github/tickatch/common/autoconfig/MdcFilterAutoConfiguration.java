@@ -1,6 +1,10 @@
 package io.github.tickatch.common.autoconfig;
 
 import io.github.tickatch.common.logging.MdcFilter;
+import io.github.tickatch.common.logging.MdcUtils;
+import io.github.tickatch.common.logging.TraceIdGenerator;
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
@@ -56,15 +60,19 @@ public class MdcFilterAutoConfiguration {
    *
    * <p>모든 URL 패턴(/**)에 대해 적용되며,
    * {@link Ordered#HIGHEST_PRECEDENCE}로 설정하여 다른 필터보다 먼저 실행된다.
+   * 비동기/에러 디스패치에서도 추적 컨텍스트를 복원하도록 REQUEST, ASYNC, ERROR 디스패치에 등록한다.
    *
+   * @param traceIdGenerator traceId 생성기 (없으면 {@link MdcUtils}에 설정된 생성기 사용)
    * @return {@link FilterRegistrationBean} 인스턴스
    */
   @Bean
   @ConditionalOnMissingBean(MdcFilter.class)
-  public FilterRegistrationBean<MdcFilter> mdcFilterRegistration() {
+  public FilterRegistrationBean<MdcFilter> mdcFilterRegistration(
+      ObjectProvider<TraceIdGenerator> traceIdGenerator) {
     FilterRegistrationBean<MdcFilter> registration = new FilterRegistrationBean<>();
-    registration.setFilter(new MdcFilter());
+    registration.setFilter(new MdcFilter(traceIdGenerator.getIfAvailable(() -> MdcUtils::generateTraceId)));
     registration.addUrlPatterns("/*");
+    registration.setDispatcherTypes(DispatcherType.REQUEST, DispatcherType.ASYNC, DispatcherType.ERROR);
     registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
     registration.setName("mdcFilter");
     return registration;
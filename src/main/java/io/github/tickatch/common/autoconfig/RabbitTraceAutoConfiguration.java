@@ -0,0 +1,147 @@
+package io.github.tickatch.common.autoconfig;
+
+import io.github.tickatch.common.event.TraceListenerAdvice;
+import io.github.tickatch.common.event.TraceMessagePostProcessor;
+import org.aopalliance.aop.Advice;
+import org.springframework.amqp.rabbit.config.AbstractRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+/**
+ * RabbitMQ 발행/수신 시 추적 정보를 자동 전파하는 AutoConfiguration.
+ *
+ * <p>이 설정은 다음 조건을 충족할 때 자동으로 활성화된다:
+ * <ul>
+ *   <li>{@link RabbitTemplate} 클래스가 클래스패스에 존재할 것 (spring-boot-starter-amqp 의존성)</li>
+ *   <li>{@code tickatch.trace.amqp.enabled=true}이거나 설정이 없을 것 (기본 활성화)</li>
+ * </ul>
+ *
+ * <p>등록 대상:
+ * <ul>
+ *   <li>모든 {@link RabbitTemplate} 빈 — {@link TraceMessagePostProcessor}를 before-publish 후처리기로 추가</li>
+ *   <li>모든 {@link AbstractRabbitListenerContainerFactory} 빈 — {@link TraceListenerAdvice}를 advice chain 맨 앞에 추가</li>
+ * </ul>
+ *
+ * <p>advice chain 맨 앞에 추가되므로 재시도 인터셉터 등 다른 advice의 로그에도 traceId가 남는다.
+ * 발행 서비스명은 {@code spring.application.name}을 사용한다.
+ *
+ * <p>분산 추적 흐름:
+ * <pre>
+ * [Service A]                                  [Service B]
+ *     │ MDC: traceId = "abc-123"                   │
+ *     └── rabbitTemplate.convertAndSend() ──▶ @RabbitListener
+ *          headers:                                │
+ *            X-Trace-Id: abc-123                   ▼
+ *            traceparent: 00-...-01          TraceListenerAdvice
+ *                                            → MDC 복원
+ * </pre>
+ *
+ * @author Tickatch
+ * @since 0.0.6
+ * @see TraceMessagePostProcessor
+ * @see TraceListenerAdvice
+ */
+@AutoConfiguration
+@ConditionalOnClass(RabbitTemplate.class)
+@ConditionalOnProperty(
+    prefix = "tickatch.trace.amqp",
+    name = "enabled",
+    havingValue = "true",
+    matchIfMissing = true
+)
+public class RabbitTraceAutoConfiguration {
+
+  /**
+   * MDC의 추적 정보를 메시지 헤더로 전파하는 후처리기를 등록한다.
+   *
+   * @param environment 발행 서비스명({@code spring.application.name}) 조회용
+   * @return {@link TraceMessagePostProcessor} 인스턴스
+   */
+  @Bean
+  @ConditionalOnMissingBean
+  public TraceMessagePostProcessor traceMessagePostProcessor(Environment environment) {
+    return new TraceMessagePostProcessor(environment.getProperty("spring.application.name"));
+  }
+
+  /**
+   * 메시지 헤더로 MDC를 복원하는 리스너 advice를 등록한다.
+   *
+   * @return {@link TraceListenerAdvice} 인스턴스
+   */
+  @Bean
+  @ConditionalOnMissingBean
+  public TraceListenerAdvice traceListenerAdvice() {
+    return new TraceListenerAdvice();
+  }
+
+  /**
+   * RabbitTemplate과 리스너 컨테이너 팩토리에 추적 전파를 적용하는 BeanPostProcessor를 등록한다.
+   *
+   * @param messagePostProcessor 발행용 후처리기
+   * @param listenerAdvice 수신용 advice
+   * @return {@link BeanPostProcessor} 인스턴스
+   */
+  @Bean
+  public static BeanPostProcessor rabbitTraceBeanPostProcessor(
+      ObjectProvider<TraceMessagePostProcessor> messagePostProcessor,
+      ObjectProvider<TraceListenerAdvice> listenerAdvice) {
+    return new RabbitTraceBeanPostProcessor(messagePostProcessor, listenerAdvice);
+  }
+
+  /**
+   * RabbitTemplate에는 후처리기를, 리스너 컨테이너 팩토리에는 advice를 추가하는 BeanPostProcessor.
+   */
+  static class RabbitTraceBeanPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<TraceMessagePostProcessor> messagePostProcessor;
+    private final ObjectProvider<TraceListenerAdvice> listenerAdvice;
+
+    RabbitTraceBeanPostProcessor(
+        ObjectProvider<TraceMessagePostProcessor> messagePostProcessor,
+        ObjectProvider<TraceListenerAdvice> listenerAdvice) {
+      this.messagePostProcessor = messagePostProcessor;
+      this.listenerAdvice = listenerAdvice;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+      if (bean instanceof RabbitTemplate template) {
+        TraceMessagePostProcessor processor = messagePostProcessor.getIfAvailable();
+        if (processor != null) {
+          template.addBeforePublishPostProcessors(processor);
+        }
+      } else if (bean instanceof AbstractRabbitListenerContainerFactory<?> factory) {
+        TraceListenerAdvice advice = listenerAdvice.getIfAvailable();
+        if (advice != null) {
+          factory.setAdviceChain(prepend(advice, factory.getAdviceChain()));
+        }
+      }
+      return bean;
+    }
+
+    /**
+     * 기존 advice chain 맨 앞에 추적 advice를 추가한다. 이미 있으면 그대로 반환한다.
+     */
+    private static Advice[] prepend(TraceListenerAdvice advice, Advice[] existing) {
+      if (existing == null || existing.length == 0) {
+        return new Advice[] {advice};
+      }
+      for (Advice candidate : existing) {
+        if (candidate instanceof TraceListenerAdvice) {
+          return existing;
+        }
+      }
+      Advice[] chain = new Advice[existing.length + 1];
+      chain[0] = advice;
+      System.arraycopy(existing, 0, chain, 1, existing.length);
+      return chain;
+    }
+  }
+}
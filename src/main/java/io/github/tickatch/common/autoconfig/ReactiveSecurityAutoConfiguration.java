@@ -0,0 +1,85 @@
+package io.github.tickatch.common.autoconfig;
+
+import io.github.tickatch.common.security.LoginFilter;
+import io.github.tickatch.common.security.ReactiveLoginFilter;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.config.annotation.method.configuration.EnableReactiveMethodSecurity;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authentication.HttpStatusServerEntryPoint;
+import org.springframework.security.web.server.authorization.HttpStatusServerAccessDeniedHandler;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+
+/**
+ * WebFlux 애플리케이션의 기본 보안 설정을 제공하는 AutoConfiguration.
+ *
+ * <p>{@link SecurityAutoConfiguration}의 리액티브 버전이다.
+ * 이 설정은 다음 조건을 충족할 때 자동으로 활성화된다:
+ * <ul>
+ *   <li>Reactive 웹 애플리케이션이며 {@link SecurityWebFilterChain} 클래스가 클래스패스에 존재할 것</li>
+ *   <li>사용자가 직접 {@link SecurityWebFilterChain} 빈을 정의하지 않았을 것</li>
+ * </ul>
+ *
+ * <p>기본 구성:
+ * <ul>
+ *   <li>CSRF, HTTP Basic, 폼 로그인 비활성화</li>
+ *   <li>{@link ReactiveLoginFilter}를 인증 위치({@link SecurityWebFiltersOrder#AUTHENTICATION})에 등록</li>
+ *   <li>보안 컨텍스트를 저장하지 않음 (Stateless)</li>
+ *   <li>Swagger, 헬스 체크 경로는 허용하고 그 외 요청은 인증 필요 (401/403 상태 코드 응답)</li>
+ * </ul>
+ *
+ * @author Tickatch
+ * @since 0.0.6
+ * @see ReactiveLoginFilter
+ * @see LoginFilter
+ */
+@AutoConfiguration
+@EnableWebFluxSecurity
+@EnableReactiveMethodSecurity
+@ConditionalOnClass(SecurityWebFilterChain.class)
+@ConditionalOnMissingBean(SecurityWebFilterChain.class)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveSecurityAutoConfiguration {
+
+  /** 인증 없이 허용할 기본 경로. */
+  private static final String[] PERMIT_ALL_PATHS = {
+      // Swagger UI
+      "/v3/api-docs/**",
+      "/swagger-ui/**",
+      "/swagger-ui.html",
+      "/swagger-resources/**",
+      // Actuator 헬스 체크
+      "/actuator/health",
+      "/actuator/info"
+  };
+
+  /**
+   * 기본 리액티브 Security 필터 체인을 구성한다.
+   *
+   * @param http {@link ServerHttpSecurity} 보안 구성 객체
+   * @return 기본 {@link SecurityWebFilterChain}
+   */
+  @Bean
+  public SecurityWebFilterChain defaultSecurityWebFilterChain(ServerHttpSecurity http) {
+    return http
+        .csrf(ServerHttpSecurity.CsrfSpec::disable)
+        .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+        .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+        .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+        .addFilterAt(new ReactiveLoginFilter(), SecurityWebFiltersOrder.AUTHENTICATION)
+        .authorizeExchange(exchanges -> exchanges
+            .pathMatchers(PERMIT_ALL_PATHS).permitAll()
+            .anyExchange().authenticated())
+        .exceptionHandling(handler -> handler
+            .authenticationEntryPoint(new HttpStatusServerEntryPoint(HttpStatus.UNAUTHORIZED))
+            .accessDeniedHandler(new HttpStatusServerAccessDeniedHandler(HttpStatus.FORBIDDEN)))
+        .build();
+  }
+}
@@ -0,0 +1,98 @@
+package io.github.tickatch.common.autoconfig;
+
+import io.github.tickatch.common.logging.MdcFilter;
+import io.github.tickatch.common.logging.MdcUtils;
+import io.github.tickatch.common.logging.ReactiveMdcFilter;
+import io.github.tickatch.common.logging.TraceIdGenerator;
+import io.github.tickatch.common.logging.TraceSnapshotAccessor;
+import io.micrometer.context.ContextRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.server.WebFilter;
+import reactor.core.publisher.Hooks;
+
+/**
+ * WebFlux 애플리케이션에서 요청 추적 컨텍스트를 관리하는 AutoConfiguration.
+ *
+ * <p>{@link MdcFilterAutoConfiguration}의 리액티브 버전이다.
+ * 이 설정은 다음 조건을 충족할 때 자동으로 활성화된다:
+ * <ul>
+ *   <li>Reactive 웹 애플리케이션일 것 (spring-webflux)</li>
+ *   <li>{@code tickatch.trace.reactive.enabled=true}이거나 설정이 없을 것 (기본 활성화)</li>
+ * </ul>
+ *
+ * <p>등록 대상:
+ * <ul>
+ *   <li>{@link ReactiveMdcFilter} — 요청의 추적 컨텍스트를 Reactor {@code Context}에 저장</li>
+ *   <li>{@link TraceSnapshotAccessor} — Micrometer Context Propagation이 있으면 {@link ContextRegistry}에 등록</li>
+ * </ul>
+ *
+ * <p>로그 출력 스레드의 MDC에 추적 정보를 연결하려면 Reactor 자동 컨텍스트 전파가 켜져 있어야 한다.
+ * {@link Hooks#enableAutomaticContextPropagation()}은 모든 Reactor 연산자에 적용되는 전역 설정이므로
+ * 이 라이브러리가 켜지 않는다. Spring Boot의 설정으로 켠다:
+ * <pre>{@code
+ * # application.yml
+ * spring:
+ *   reactor:
+ *     context-propagation: auto
+ * }</pre>
+ *
+ * @author Tickatch
+ * @since 0.0.6
+ * @see ReactiveMdcFilter
+ * @see TraceSnapshotAccessor
+ * @see MdcFilter
+ */
+@AutoConfiguration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@ConditionalOnClass({WebFilter.class, Hooks.class})
+@ConditionalOnProperty(
+    prefix = "tickatch.trace.reactive",
+    name = "enabled",
+    havingValue = "true",
+    matchIfMissing = true
+)
+public class ReactiveTraceAutoConfiguration {
+
+  /**
+   * 리액티브 MDC 필터를 등록한다.
+   *
+   * @param traceIdGenerator traceId 생성기 (없으면 {@link MdcUtils}에 설정된 생성기 사용)
+   * @return {@link ReactiveMdcFilter} 인스턴스
+   */
+  @Bean
+  @ConditionalOnMissingBean
+  public ReactiveMdcFilter reactiveMdcFilter(ObjectProvider<TraceIdGenerator> traceIdGenerator) {
+    return new ReactiveMdcFilter(traceIdGenerator.getIfAvailable(() -> MdcUtils::generateTraceId));
+  }
+
+  /**
+   * Reactor {@code Context}와 MDC를 연결하는 설정.
+   *
+   * <p>Micrometer Context Propagation 라이브러리가 있을 때만 활성화된다.
+   */
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnClass(ContextRegistry.class)
+  static class MdcBridgeConfiguration {
+
+    /**
+     * 모든 싱글톤 빈이 생성된 후 {@link TraceSnapshotAccessor}를 등록한다.
+     *
+     * <p>자동 컨텍스트 전파 활성화는 {@code spring.reactor.context-propagation=auto}에 맡긴다.
+     * 수동 전파({@code contextCapture()}, {@code handle()} 등)에서도 같은 접근자를 사용하므로 등록은 항상 한다.
+     *
+     * @return 설정을 수행하는 초기화 콜백
+     */
+    @Bean
+    public SmartInitializingSingleton traceSnapshotAccessorInstaller() {
+      return () -> ContextRegistry.getInstance().registerThreadLocalAccessor(new TraceSnapshotAccessor());
+    }
+  }
+}
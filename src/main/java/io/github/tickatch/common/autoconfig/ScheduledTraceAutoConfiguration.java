@@ -1,19 +1,38 @@
 package io.github.tickatch.common.autoconfig;
 
 import io.github.tickatch.common.logging.MdcUtils;
+import io.github.tickatch.common.logging.ScheduledJobMeterBinder;
+import io.github.tickatch.common.logging.ScheduledJobRegistry;
+import io.github.tickatch.common.logging.ScheduledJobStats;
+import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.slf4j.MDC;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.EmbeddedValueResolverAware;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.util.StringUtils;
+import org.springframework.util.StringValueResolver;
 
-import java.util.UUID;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * @Scheduled 메서드 실행 시 자동으로 traceId를 생성하는 AutoConfiguration.
+ * @Scheduled 메서드 실행 시 자동으로 traceId를 생성하고 실행 통계를 기록하는 AutoConfiguration.
  *
  * <p>스케줄러나 배치 작업에서 Feign 호출 시에도 분산 추적이 가능하도록 한다.
  *
@@ -22,6 +41,10 @@ import java.util.UUID;
  *   <li>{@link Aspect} 클래스가 클래스패스에 존재할 것 (spring-boot-starter-aop 의존성)</li>
  * </ul>
  *
+ * <p>{@code tickatch.trace.scheduled.metrics.enabled=true}이거나 설정이 없으면 (기본 활성화)
+ * {@link ScheduledJobRegistry}에 작업별 실행 시간, 성공/실패, 중복 실행, 건너뛴 실행(cron), 늦은 실행(fixedRate),
+ * 마지막 성공 시각이 기록되며, Micrometer가 있으면 {@link ScheduledJobMeterBinder}로 노출된다.
+ *
  * @author Tickatch
  * @since 0.0.1
  */
@@ -29,19 +52,80 @@ import java.util.UUID;
 @ConditionalOnClass(Aspect.class)
 public class ScheduledTraceAutoConfiguration {
 
+  /**
+   * @Scheduled 작업별 실행 통계 레지스트리를 등록한다.
+   *
+   * @return {@link ScheduledJobRegistry} 인스턴스
+   */
+  @Bean
+  @ConditionalOnMissingBean
+  @ConditionalOnProperty(
+      prefix = "tickatch.trace.scheduled.metrics",
+      name = "enabled",
+      havingValue = "true",
+      matchIfMissing = true
+  )
+  public ScheduledJobRegistry scheduledJobRegistry() {
+    return new ScheduledJobRegistry();
+  }
+
+  /**
+   * @Scheduled 메서드의 traceId 관리 및 실행 통계 기록 Aspect를 등록한다.
+   *
+   * @param scheduledJobRegistry 작업별 실행 통계 레지스트리 (통계 비활성화 시 없음)
+   * @return {@link ScheduledTraceAspect} 인스턴스
+   */
   @Bean
-  public ScheduledTraceAspect scheduledTraceAspect() {
-    return new ScheduledTraceAspect();
+  public ScheduledTraceAspect scheduledTraceAspect(ObjectProvider<ScheduledJobRegistry> scheduledJobRegistry) {
+    return new ScheduledTraceAspect(scheduledJobRegistry.getIfAvailable());
+  }
+
+  /**
+   * Micrometer가 클래스패스에 있을 때 스케줄 작업 메트릭을 등록하는 설정.
+   */
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+  static class ScheduledJobMetricsConfiguration {
+
+    /**
+     * {@link ScheduledJobMeterBinder} 빈을 등록한다.
+     *
+     * @param scheduledJobRegistry 작업별 실행 통계 레지스트리
+     * @return {@link ScheduledJobMeterBinder} 인스턴스
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnBean(ScheduledJobRegistry.class)
+    public ScheduledJobMeterBinder scheduledJobMeterBinder(ScheduledJobRegistry scheduledJobRegistry) {
+      return new ScheduledJobMeterBinder(scheduledJobRegistry);
+    }
   }
 
   /**
-   * @Scheduled 메서드 실행 전후로 MDC traceId를 관리하는 Aspect.
+   * @Scheduled 메서드 실행 전후로 MDC traceId를 관리하고 실행 통계를 기록하는 Aspect.
+   *
+   * <p>작업 통계는 {@link Method}별로 한 번만 조회하여 캐시하므로, 실행마다 추가되는 비용은
+   * 캐시 조회 한 번과 원자적 카운터 갱신 몇 번이다.
    */
+  @Slf4j
   @Aspect
-  static class ScheduledTraceAspect {
+  static class ScheduledTraceAspect implements EmbeddedValueResolverAware {
+
+    private final ScheduledJobRegistry scheduledJobRegistry;
+    private final Map<Method, ScheduledJobStats> statsCache = new ConcurrentHashMap<>();
+    private StringValueResolver valueResolver;
+
+    ScheduledTraceAspect(ScheduledJobRegistry scheduledJobRegistry) {
+      this.scheduledJobRegistry = scheduledJobRegistry;
+    }
+
+    @Override
+    public void setEmbeddedValueResolver(StringValueResolver resolver) {
+      this.valueResolver = resolver;
+    }
 
     /**
-     * @Scheduled 메서드 실행 시 traceId를 자동 생성한다.
+     * @Scheduled 메서드 실행 시 traceId를 자동 생성하고 실행 통계를 기록한다.
      *
      * <p>이미 MDC에 traceId가 있으면 (이벤트 컨텍스트 등) 그대로 유지한다.
      */
@@ -52,9 +136,12 @@ public class ScheduledTraceAutoConfiguration {
       try {
         // MDC에 traceId가 없으면 새로 생성
         if (mdcWasEmpty) {
-          MdcUtils.setRequestId(UUID.randomUUID().toString());
+          MdcUtils.setRequestId(MdcUtils.generateTraceId());
+        }
+        if (scheduledJobRegistry == null) {
+          return joinPoint.proceed();
         }
-        return joinPoint.proceed();
+        return proceedWithStats(joinPoint, scheduled);
       } finally {
         // 이 메서드에서 생성한 경우에만 클리어
         if (mdcWasEmpty) {
@@ -62,5 +149,74 @@ public class ScheduledTraceAutoConfiguration {
         }
       }
     }
+
+    private Object proceedWithStats(ProceedingJoinPoint joinPoint, Scheduled scheduled) throws Throwable {
+      MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+      ScheduledJobStats stats = statsCache.computeIfAbsent(signature.getMethod(), method ->
+          scheduledJobRegistry.register(jobName(method), fireSchedule(scheduled)));
+
+      long skipped = stats.onStart(System.currentTimeMillis());
+      if (skipped < 0) {
+        log.warn("[Scheduled] 이전 실행이 끝나기 전에 시작됨: {}", signature.toShortString());
+      } else if (skipped > 0) {
+        log.warn("[Scheduled] 예정된 실행 {}회를 건너뜀: {}", skipped, signature.toShortString());
+      }
+
+      long startNanos = System.nanoTime();
+      boolean success = false;
+      try {
+        Object result = joinPoint.proceed();
+        success = true;
+        return result;
+      } finally {
+        stats.onFinish(System.currentTimeMillis(), System.nanoTime() - startNanos, success);
+      }
+    }
+
+    /**
+     * 작업 이름을 만든다. 다른 패키지의 같은 이름 클래스와 섞이지 않도록 전체 클래스 이름을 사용한다.
+     */
+    static String jobName(Method method) {
+      return method.getDeclaringClass().getName() + "." + method.getName();
+    }
+
+    /**
+     * {@code fixedRate}, {@code cron} 설정으로 예정 실행 시각 계산기를 만든다.
+     * {@code fixedDelay}는 실행 종료 시점이 기준이므로 밀린 실행을 판별하지 않는다.
+     */
+    ScheduledJobStats.FireSchedule fireSchedule(Scheduled scheduled) {
+      try {
+        String cron = resolve(scheduled.cron());
+        if (StringUtils.hasText(cron)) {
+          if (ScheduledTaskRegistrar.CRON_DISABLED.equals(cron)) {
+            return null;
+          }
+          String zone = resolve(scheduled.zone());
+          return ScheduledJobStats.FireSchedule.cron(
+              CronExpression.parse(cron),
+              StringUtils.hasText(zone) ? ZoneId.of(zone) : ZoneId.systemDefault());
+        }
+        if (scheduled.fixedRate() > 0) {
+          return ScheduledJobStats.FireSchedule.fixedRate(
+              Duration.of(scheduled.fixedRate(), scheduled.timeUnit().toChronoUnit()));
+        }
+        String fixedRate = resolve(scheduled.fixedRateString());
+        if (StringUtils.hasText(fixedRate)) {
+          return ScheduledJobStats.FireSchedule.fixedRate(fixedRate.startsWith("P")
+              ? Duration.parse(fixedRate)
+              : Duration.of(Long.parseLong(fixedRate.trim()), scheduled.timeUnit().toChronoUnit()));
+        }
+      } catch (RuntimeException e) {
+        log.debug("[Scheduled] 스케줄 해석 실패, 건너뛴 실행을 판별하지 않음: {}", e.getMessage());
+      }
+      return null;
+    }
+
+    private String resolve(String value) {
+      if (!StringUtils.hasText(value) || valueResolver == null) {
+        return value;
+      }
+      return valueResolver.resolveStringValue(value);
+    }
   }
 }
@@ -0,0 +1,73 @@
+package io.github.tickatch.common.autoconfig;
+
+import io.github.tickatch.common.util.SnowflakeIdGenerator;
+import io.github.tickatch.common.util.UuidUtils;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Snowflake ID 생성기를 등록하는 AutoConfiguration.
+ *
+ * <p>{@link SnowflakeIdGenerator} 빈을 등록하고, 애플리케이션 시작 시 {@link UuidUtils}에 설정하여
+ * {@link UuidUtils#generateSnowflakeId()}가 같은 워커 ID를 사용하도록 한다.
+ *
+ * <p>워커 ID 설정:
+ * <pre>{@code
+ * # application.yml
+ * tickatch:
+ *   id:
+ *     snowflake:
+ *       worker-id: 3             # 노드별 고유 값 (0-1023), 없으면 호스트 이름에서 결정
+ *       max-clock-drift: 5s      # 시계 역행 허용 오차 (기본: 5s)
+ * }</pre>
+ *
+ * <p>{@code worker-id}가 없으면 {@link SnowflakeIdGenerator#resolveWorkerId()}로
+ * 호스트 이름(StatefulSet 순번 또는 해시)에서 결정한다. 직접 {@link SnowflakeIdGenerator} 빈을 정의하면 해당 빈이 사용된다.
+ *
+ * @author Tickatch
+ * @since 0.0.6
+ * @see SnowflakeIdGenerator
+ */
+@AutoConfiguration
+public class SnowflakeIdAutoConfiguration {
+
+  /** 설정 키 prefix. */
+  static final String PROPERTY_PREFIX = "tickatch.id.snowflake";
+
+  /**
+   * 설정된 워커 ID의 {@link SnowflakeIdGenerator}를 등록한다.
+   *
+   * @param environment 설정 값 조회용 Environment
+   * @return {@link SnowflakeIdGenerator} 인스턴스
+   */
+  @Bean
+  @ConditionalOnMissingBean
+  public SnowflakeIdGenerator snowflakeIdGenerator(Environment environment) {
+    Binder binder = Binder.get(environment);
+    Duration maxClockDrift = binder.bind(PROPERTY_PREFIX + ".max-clock-drift", Duration.class)
+        .orElse(SnowflakeIdGenerator.DEFAULT_MAX_CLOCK_DRIFT);
+    Long workerId = binder.bind(PROPERTY_PREFIX + ".worker-id", Long.class).orElse(null);
+    if (workerId == null) {
+      workerId = SnowflakeIdGenerator.resolveWorkerId();
+    }
+    return new SnowflakeIdGenerator(workerId, Clock.systemUTC(), maxClockDrift);
+  }
+
+  /**
+   * 모든 싱글톤 빈이 생성된 후 {@link SnowflakeIdGenerator}를 {@link UuidUtils}에 설정한다.
+   *
+   * @param snowflakeIdGenerator Snowflake ID 생성기
+   * @return 설정을 수행하는 초기화 콜백
+   */
+  @Bean
+  public SmartInitializingSingleton snowflakeIdGeneratorInstaller(SnowflakeIdGenerator snowflakeIdGenerator) {
+    return () -> UuidUtils.setSnowflakeIdGenerator(snowflakeIdGenerator);
+  }
+}
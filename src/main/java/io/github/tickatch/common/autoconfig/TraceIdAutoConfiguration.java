@@ -0,0 +1,69 @@
+package io.github.tickatch.common.autoconfig;
+
+import io.github.tickatch.common.logging.MdcUtils;
+import io.github.tickatch.common.logging.TraceIdGenerator;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+/**
+ * traceId 생성 전략을 등록하는 AutoConfiguration.
+ *
+ * <p>{@link TraceIdGenerator} 빈을 등록하고, 애플리케이션 시작 시 {@link MdcUtils}에 설정하여
+ * {@code MdcFilter}, {@code EventContext}, {@code @Scheduled} 메서드 등 traceId를 새로 만드는
+ * 모든 곳이 같은 전략을 사용하도록 한다. 웹 애플리케이션이 아니어도 활성화된다.
+ *
+ * <p>형식 설정:
+ * <pre>{@code
+ * # application.yml
+ * tickatch:
+ *   trace:
+ *     id-format: uuid    # uuid(기본) | w3c | secure-uuid
+ * }</pre>
+ *
+ * <p>직접 {@link TraceIdGenerator} 빈을 정의하면 해당 빈이 사용된다.
+ *
+ * @author Tickatch
+ * @since 0.0.6
+ * @see TraceIdGenerator
+ */
+@AutoConfiguration(before = {
+    LoggingAutoConfiguration.class,
+    MdcFilterAutoConfiguration.class,
+    ReactiveTraceAutoConfiguration.class,
+    ScheduledTraceAutoConfiguration.class
+})
+public class TraceIdAutoConfiguration {
+
+  /** traceId 형식 설정 키. */
+  static final String ID_FORMAT_PROPERTY = "tickatch.trace.id-format";
+
+  /**
+   * 설정된 형식의 {@link TraceIdGenerator}를 등록한다.
+   *
+   * @param environment 설정 값 조회용 Environment
+   * @return {@link TraceIdGenerator} 인스턴스
+   */
+  @Bean
+  @ConditionalOnMissingBean
+  public TraceIdGenerator traceIdGenerator(Environment environment) {
+    return Binder.get(environment)
+        .bind(ID_FORMAT_PROPERTY, TraceIdGenerator.Format.class)
+        .orElse(TraceIdGenerator.Format.UUID)
+        .generator();
+  }
+
+  /**
+   * 모든 싱글톤 빈이 생성된 후 {@link TraceIdGenerator}를 {@link MdcUtils}에 설정한다.
+   *
+   * @param traceIdGenerator traceId 생성기
+   * @return 설정을 수행하는 초기화 콜백
+   */
+  @Bean
+  public SmartInitializingSingleton traceIdGeneratorInstaller(TraceIdGenerator traceIdGenerator) {
+    return () -> MdcUtils.setTraceIdGenerator(traceIdGenerator);
+  }
+}
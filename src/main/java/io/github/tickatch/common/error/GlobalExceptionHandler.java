@@ -1,6 +1,8 @@
 package io.github.tickatch.common.error;
 
 import io.github.tickatch.common.api.ApiResponse;
+import io.github.tickatch.common.logging.LogEvent;
+import io.github.tickatch.common.logging.LoggingAspect;
 import io.github.tickatch.common.message.MessageResolver;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
@@ -39,6 +41,10 @@ import java.util.List;
  *   <li><b>기타 예외</b> - 미처리 예외는 500 에러로 처리</li>
  * </ul>
  *
+ * <p>컨트롤러에서 발생한 비즈니스 예외, {@link IllegalArgumentException}, {@link IllegalStateException}이
+ * {@link LoggingAspect}에 의해 이미 실패 로그(예외 유형, 실행 시간 포함)로 기록된 경우에는
+ * 같은 예외를 다시 기록하지 않는다 ({@link LogEvent#isFailureLogged}).
+ *
  * <p>각 서비스에서 이 핸들러를 상속하여 도메인별 예외 처리 추가 가능:
  * <pre>{@code
  * @RestControllerAdvice
@@ -87,7 +93,9 @@ public class GlobalExceptionHandler {
         String code = e.getCode();
         String message = messageResolver.resolve(code, e.getErrorArgs());
 
-        log.warn("비즈니스 예외: {} - {} (path: {})", code, message, request.getRequestURI());
+        if (!LogEvent.isFailureLogged(request, e)) {
+            log.warn("비즈니스 예외: {} - {} (path: {})", code, message, request.getRequestURI());
+        }
 
         ApiResponse<Void> response = ApiResponse.error(
                 code,
@@ -476,7 +484,9 @@ public class GlobalExceptionHandler {
 
         String code = GlobalErrorCode.BAD_REQUEST.getCode();
 
-        log.warn("잘못된 인자: {} (path: {})", e.getMessage(), request.getRequestURI());
+        if (!LogEvent.isFailureLogged(request, e)) {
+            log.warn("잘못된 인자: {} (path: {})", e.getMessage(), request.getRequestURI());
+        }
 
         ApiResponse<Void> response = ApiResponse.error(
                 code,
@@ -504,7 +514,9 @@ public class GlobalExceptionHandler {
 
         String code = GlobalErrorCode.INVALID_STATE.getCode();
 
-        log.warn("잘못된 상태: {} (path: {})", e.getMessage(), request.getRequestURI());
+        if (!LogEvent.isFailureLogged(request, e)) {
+            log.warn("잘못된 상태: {} (path: {})", e.getMessage(), request.getRequestURI());
+        }
 
         ApiResponse<Void> response = ApiResponse.error(
                 code,
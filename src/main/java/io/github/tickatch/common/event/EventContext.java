@@ -1,10 +1,13 @@
 package io.github.tickatch.common.event;
 
+import io.github.tickatch.common.logging.MdcScope;
 import io.github.tickatch.common.logging.MdcUtils;
+import io.github.tickatch.common.logging.TraceContext;
 import org.slf4j.MDC;
 import org.springframework.util.StringUtils;
 
-import java.util.UUID;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -73,16 +76,15 @@ public final class EventContext {
    * 이벤트의 traceId를 MDC에 설정하고 작업을 실행한 후 MDC를 정리한다.
    *
    * <p>이 메서드 내에서 발행되는 이벤트는 동일한 traceId를 가진다.
+   * 실행 후에는 호출 전의 MDC로 되돌리므로, {@link TraceListenerAdvice}가 설정한 컨텍스트 안에서 호출해도
+   * 리스너의 나머지 로그에서 MDC가 사라지지 않는다.
    *
    * @param event 수신한 IntegrationEvent
    * @param action 실행할 작업
    */
   public static void run(IntegrationEvent event, Consumer<IntegrationEvent> action) {
-    try {
-      setupMdc(event);
+    try (MdcScope ignored = MdcUtils.setContext(buildContext(event))) {
       action.accept(event);
-    } finally {
-      clearMdc();
     }
   }
 
@@ -95,7 +97,7 @@ public final class EventContext {
    */
   public static void runWithNewTrace(Runnable action) {
     try {
-      MdcUtils.setRequestId(UUID.randomUUID().toString());
+      MdcUtils.setRequestId(MdcUtils.generateTraceId());
       action.run();
     } finally {
       clearMdc();
@@ -115,11 +117,8 @@ public final class EventContext {
    * @return 작업 결과
    */
   public static <R> R execute(IntegrationEvent event, Function<IntegrationEvent, R> action) {
-    try {
-      setupMdc(event);
+    try (MdcScope ignored = MdcUtils.setContext(buildContext(event))) {
       return action.apply(event);
-    } finally {
-      clearMdc();
     }
   }
 
@@ -132,7 +131,7 @@ public final class EventContext {
    */
   public static <R> R executeWithNewTrace(Supplier<R> action) {
     try {
-      MdcUtils.setRequestId(UUID.randomUUID().toString());
+      MdcUtils.setRequestId(MdcUtils.generateTraceId());
       return action.get();
     } finally {
       clearMdc();
@@ -147,31 +146,50 @@ public final class EventContext {
    * 이벤트의 traceId를 MDC에 설정한다.
    *
    * <p>이벤트에 traceId가 없으면 새로 생성한다.
+   * 새 span을 시작하여 이벤트의 spanId를 상위 span으로 기록하고, 메타데이터의 baggage를 복원한다.
    * 추가로 sourceService와 eventType도 MDC에 설정한다.
    *
    * @param event IntegrationEvent (null 가능)
    */
   public static void setupMdc(IntegrationEvent event) {
+    buildContext(event).forEach(MdcUtils::put);
+  }
+
+  /**
+   * 이벤트에서 MDC에 설정할 추적 컨텍스트를 만든다.
+   *
+   * @param event IntegrationEvent (null 가능)
+   * @return MDC 키-값
+   */
+  private static Map<String, String> buildContext(IntegrationEvent event) {
+    Map<String, String> context = new HashMap<>(16);
     if (event == null) {
-      MdcUtils.setRequestId(UUID.randomUUID().toString());
-      return;
+      context.put(MdcUtils.REQUEST_ID, MdcUtils.generateTraceId());
+      return context;
     }
 
     // traceId 설정 (있으면 사용, 없으면 새로 생성)
     String traceId = StringUtils.hasText(event.getTraceId())
         ? event.getTraceId()
-        : UUID.randomUUID().toString();
-    MdcUtils.setRequestId(traceId);
+        : MdcUtils.generateTraceId();
+    context.put(MdcUtils.REQUEST_ID, traceId);
+
+    // span 시작 (발행한 span을 상위 span으로) 및 baggage 복원
+    TraceContext.startSpan(context, event.getSpanId(), true);
+    if (event.getMetadata() != null) {
+      TraceContext.putBaggage(context, event.getMetadata().get(TraceContext.BAGGAGE));
+    }
 
     // sourceService 설정 (디버깅 용도)
     if (StringUtils.hasText(event.getSourceService())) {
-      MdcUtils.put(SOURCE_SERVICE, event.getSourceService());
+      context.put(SOURCE_SERVICE, event.getSourceService());
     }
 
     // eventType 설정 (디버깅 용도)
     if (StringUtils.hasText(event.getEventType())) {
-      MdcUtils.put(EVENT_TYPE, event.getEventType());
+      context.put(EVENT_TYPE, event.getEventType());
     }
+    return context;
   }
 
   /**
@@ -2,6 +2,7 @@ package io.github.tickatch.common.event;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import io.github.tickatch.common.logging.MdcUtils;
+import io.github.tickatch.common.logging.TraceContext;
 import io.github.tickatch.common.util.JsonUtils;
 import lombok.Builder;
 import lombok.Getter;
@@ -22,6 +23,8 @@ import java.util.UUID;
  *
  * <p>traceId는 MDC에서 자동으로 추출되므로 별도로 지정하지 않아도 된다.
  * 이벤트 체이닝 시에도 {@link EventContext}를 사용하면 traceId가 자동으로 유지된다.
+ * 발행 시점의 span ID와 W3C baggage도 함께 담기므로, 수신 측에서는 발행한 span이
+ * 상위 span으로 기록된다 ({@link TraceContext}).
  *
  * <p>사용 예시:
  * <pre>{@code
@@ -197,6 +200,16 @@ public class IntegrationEvent implements Serializable {
     return MdcUtils.getRequestId();
   }
 
+  /**
+   * MDC에 W3C baggage가 있으면 메타데이터로 전달한다.
+   *
+   * @return baggage를 담은 메타데이터, 없으면 null
+   */
+  private static Map<String, String> resolveTraceMetadata() {
+    String baggage = MdcUtils.get(TraceContext.BAGGAGE);
+    return StringUtils.hasText(baggage) ? Map.of(TraceContext.BAGGAGE, baggage) : null;
+  }
+
   // ========================================
   // DomainEvent → IntegrationEvent 변환
   // ========================================
@@ -217,6 +230,8 @@ public class IntegrationEvent implements Serializable {
         .occurredAt(domainEvent.getOccurredAt())
         .sourceService(sourceService)
         .traceId(resolveTraceId(null))
+        .spanId(MdcUtils.get(TraceContext.SPAN_ID))
+        .metadata(resolveTraceMetadata())
         .version(domainEvent.getVersion())
         .payload(JsonUtils.toJson(domainEvent))
         .aggregateId(domainEvent.getAggregateId())
@@ -242,6 +257,8 @@ public class IntegrationEvent implements Serializable {
         .occurredAt(domainEvent.getOccurredAt())
         .sourceService(sourceService)
         .traceId(resolveTraceId(traceId))
+        .spanId(MdcUtils.get(TraceContext.SPAN_ID))
+        .metadata(resolveTraceMetadata())
         .version(domainEvent.getVersion())
         .payload(JsonUtils.toJson(domainEvent))
         .aggregateId(domainEvent.getAggregateId())
@@ -268,6 +285,8 @@ public class IntegrationEvent implements Serializable {
         .occurredAt(domainEvent.getOccurredAt())
         .sourceService(sourceService)
         .traceId(resolveTraceId(traceId))
+        .spanId(MdcUtils.get(TraceContext.SPAN_ID))
+        .metadata(resolveTraceMetadata())
         .version(domainEvent.getVersion())
         .payload(JsonUtils.toJson(domainEvent))
         .aggregateId(domainEvent.getAggregateId())
@@ -298,6 +317,8 @@ public class IntegrationEvent implements Serializable {
         .occurredAt(Instant.now())
         .sourceService(sourceService)
         .traceId(resolveTraceId(null))
+        .spanId(MdcUtils.get(TraceContext.SPAN_ID))
+        .metadata(resolveTraceMetadata())
         .version(1)
         .payload(JsonUtils.toJson(payload))
         .routingKey(routingKey)
@@ -321,6 +342,8 @@ public class IntegrationEvent implements Serializable {
         .occurredAt(Instant.now())
         .sourceService(sourceService)
         .traceId(resolveTraceId(null))
+        .spanId(MdcUtils.get(TraceContext.SPAN_ID))
+        .metadata(resolveTraceMetadata())
         .version(1)
         .payload(JsonUtils.toJson(payload))
         .routingKey(routingKey)
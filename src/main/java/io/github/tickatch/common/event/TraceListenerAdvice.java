@@ -0,0 +1,154 @@
+package io.github.tickatch.common.event;
+
+import io.github.tickatch.common.logging.MdcFilter;
+import io.github.tickatch.common.logging.MdcScope;
+import io.github.tickatch.common.logging.MdcUtils;
+import io.github.tickatch.common.logging.TraceContext;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.util.StringUtils;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@code @RabbitListener} 컨테이너에서 메시지 헤더의 추적 정보로 MDC를 복원하는 advice.
+ *
+ * <p>리스너 컨테이너의 advice chain에 등록되어 메시지마다 리스너 호출을 감싼다.
+ * {@link TraceMessagePostProcessor}가 추가한 헤더만 읽고 페이로드는 해석하지 않으므로,
+ * 컨슈머 동시성을 높여도 메시지당 비용은 헤더 조회 몇 번과 MDC 게시 한 번이다.
+ *
+ * <p>MDC에 설정하는 값:
+ * <ul>
+ *   <li>{@code requestId} — {@code X-Trace-Id} 헤더, 없으면 {@code traceparent}의 trace-id, 둘 다 없으면 새로 생성</li>
+ *   <li>{@code userId} — {@code X-User-Id} 헤더</li>
+ *   <li>{@code spanId}, {@code parentSpanId}, {@code traceFlags} — 새 span (발행한 span을 상위 span으로,
+ *       {@code traceparent}의 trace-id가 requestId와 다르면 상위 span 없이 샘플링)</li>
+ *   <li>{@code baggage} — {@code baggage} 헤더</li>
+ *   <li>{@code sourceService} — {@code X-Source-Service} 헤더</li>
+ *   <li>{@code eventType} — 메시지 속성의 type</li>
+ * </ul>
+ *
+ * <p>리스너 실행이 끝나면 advice 진입 전의 MDC로 되돌리므로 컨슈머 스레드에 값이 남지 않는다.
+ * 리스너 안에서 {@link EventContext#run(IntegrationEvent, java.util.function.Consumer)}를 함께 사용해도 된다.
+ *
+ * <p>배치 리스너({@code List<Message>} 인자)는 메시지마다 trace가 다르므로 advice가 MDC를 설정하지 않는다.
+ * 메시지별로 {@link #restore(Message)}를 사용한다:
+ * <pre>{@code
+ * @RabbitListener(queues = "ticket.events", batch = "true")
+ * public void onEvents(List<Message> messages) {
+ *   for (Message message : messages) {
+ *     try (MdcScope ignored = TraceListenerAdvice.restore(message)) {
+ *       handle(message);
+ *     }
+ *   }
+ * }
+ * }</pre>
+ *
+ * <p>사용 예시 ({@code RabbitTraceAutoConfiguration}이 자동 등록하지 않는 컨테이너 팩토리에 직접 적용):
+ * <pre>{@code
+ * factory.setAdviceChain(new TraceListenerAdvice());
+ * }</pre>
+ *
+ * @author Tickatch
+ * @since 0.0.6
+ * @see TraceMessagePostProcessor
+ * @see EventContext
+ */
+public class TraceListenerAdvice implements MethodInterceptor {
+
+  /**
+   * 메시지 헤더로 MDC를 설정한 상태에서 리스너를 호출한다.
+   *
+   * @param invocation 리스너 호출
+   * @return 리스너 호출 결과
+   * @throws Throwable 리스너에서 발생한 예외
+   */
+  @Override
+  public Object invoke(MethodInvocation invocation) throws Throwable {
+    Message message = findMessage(invocation.getArguments());
+    if (message == null) {
+      return invocation.proceed();
+    }
+
+    try (MdcScope ignored = restore(message)) {
+      return invocation.proceed();
+    }
+  }
+
+  /**
+   * 메시지 헤더의 추적 정보로 MDC를 설정한다. 배치 리스너에서 메시지별로 사용한다.
+   *
+   * <p>반환된 {@link MdcScope}를 닫으면 설정 전의 MDC로 되돌린다.
+   *
+   * @param message 수신한 메시지
+   * @return 복원 범위
+   */
+  public static MdcScope restore(Message message) {
+    return MdcUtils.setContext(buildContext(message.getMessageProperties()));
+  }
+
+  /**
+   * 메시지 속성에서 MDC에 설정할 추적 컨텍스트를 만든다.
+   *
+   * @param properties 메시지 속성
+   * @return MDC 키-값
+   */
+  static Map<String, String> buildContext(MessageProperties properties) {
+    Map<String, String> context = new HashMap<>(16);
+    TraceContext parent = TraceContext.parse(header(properties, TraceContext.HEADER_TRACEPARENT));
+
+    // Trace ID: X-Trace-Id → traceparent → 새로 생성
+    String traceId = header(properties, MdcFilter.HEADER_TRACE_ID);
+    if (!StringUtils.hasText(traceId)) {
+      traceId = parent != null ? parent.getTraceId() : MdcUtils.generateTraceId();
+    }
+    context.put(MdcUtils.REQUEST_ID, traceId);
+
+    // traceparent가 다른 trace를 가리키면 상위 span과 샘플링 플래그를 사용하지 않음
+    if (parent != null && !parent.belongsTo(traceId)) {
+      parent = null;
+    }
+
+    // Span 시작 (발행한 span을 상위 span으로) 및 baggage 복원
+    TraceContext.startSpan(
+        context,
+        parent != null ? parent.getParentSpanId() : null,
+        parent == null || parent.isSampled());
+    TraceContext.putBaggage(context, header(properties, TraceContext.HEADER_BAGGAGE));
+
+    putIfPresent(context, MdcUtils.USER_ID, header(properties, MdcFilter.HEADER_USER_ID));
+    putIfPresent(context, EventContext.SOURCE_SERVICE,
+        header(properties, TraceMessagePostProcessor.HEADER_SOURCE_SERVICE));
+    putIfPresent(context, EventContext.EVENT_TYPE, properties.getType());
+    return context;
+  }
+
+  /**
+   * 리스너 호출 인자에서 메시지를 찾는다.
+   *
+   * <p>배치 리스너의 메시지 목록은 찾지 않는다. 첫 번째 메시지의 trace로 배치 전체를 기록하면
+   * 나머지 메시지의 로그가 다른 traceId로 남기 때문이다.
+   */
+  private static Message findMessage(Object[] arguments) {
+    for (Object argument : arguments) {
+      if (argument instanceof Message message) {
+        return message;
+      }
+    }
+    return null;
+  }
+
+  private static String header(MessageProperties properties, String name) {
+    Object value = properties.getHeader(name);
+    return value != null ? value.toString() : null;
+  }
+
+  private static void putIfPresent(Map<String, String> context, String key, String value) {
+    if (StringUtils.hasText(value)) {
+      context.put(key, value);
+    }
+  }
+}
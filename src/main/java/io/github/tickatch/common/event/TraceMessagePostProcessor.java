@@ -0,0 +1,103 @@
+package io.github.tickatch.common.event;
+
+import io.github.tickatch.common.logging.MdcFilter;
+import io.github.tickatch.common.logging.MdcUtils;
+import io.github.tickatch.common.logging.TraceContext;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessagePostProcessor;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.util.StringUtils;
+
+/**
+ * RabbitMQ 메시지 발행 시 MDC의 추적 정보를 메시지 헤더로 전파하는 {@link MessagePostProcessor}.
+ *
+ * <p>{@code RabbitTemplate}의 before-publish 후처리기로 등록되어, 페이로드를 다시 직렬화하지 않고
+ * AMQP 메시지 속성(headers)에만 값을 추가한다. 수신 측에서는 {@link TraceListenerAdvice}가
+ * 같은 헤더로 MDC를 복원한다.
+ *
+ * <p>전파하는 헤더:
+ * <ul>
+ *   <li>{@code X-Trace-Id} — 분산 추적 ID (MDC의 requestId)</li>
+ *   <li>{@code X-User-Id} — 사용자 ID (MDC의 userId)</li>
+ *   <li>{@code traceparent} — W3C Trace Context (현재 span을 상위 span으로 전달)</li>
+ *   <li>{@code baggage} — W3C Baggage</li>
+ *   <li>{@code X-Source-Service} — 발행 서비스명 (지정한 경우)</li>
+ * </ul>
+ *
+ * <p>메시지에 이미 같은 헤더가 있으면 덮어쓰지 않으며, MDC에 값이 없으면 헤더를 추가하지 않는다.
+ *
+ * <p>사용 예시 ({@code RabbitTraceAutoConfiguration}이 자동 등록하지 않는 템플릿에 직접 적용):
+ * <pre>{@code
+ * rabbitTemplate.addBeforePublishPostProcessors(new TraceMessagePostProcessor("ticket-service"));
+ * }</pre>
+ *
+ * @author Tickatch
+ * @since 0.0.6
+ * @see TraceListenerAdvice
+ * @see IntegrationEvent
+ */
+public class TraceMessagePostProcessor implements MessagePostProcessor {
+
+  /** 발행 서비스명을 전달하는 메시지 헤더 이름. */
+  public static final String HEADER_SOURCE_SERVICE = "X-Source-Service";
+
+  private final String sourceService;
+
+  /**
+   * 발행 서비스명 없이 후처리기를 생성한다.
+   */
+  public TraceMessagePostProcessor() {
+    this(null);
+  }
+
+  /**
+   * 발행 서비스명을 지정하여 후처리기를 생성한다.
+   *
+   * @param sourceService 발행 서비스명 (null이면 전파하지 않음)
+   */
+  public TraceMessagePostProcessor(String sourceService) {
+    this.sourceService = StringUtils.hasText(sourceService) ? sourceService : null;
+  }
+
+  /**
+   * 메시지 헤더에 현재 MDC의 추적 정보를 추가한다.
+   *
+   * @param message 발행할 메시지
+   * @return 헤더가 추가된 같은 메시지
+   * @throws AmqpException 발생하지 않음
+   */
+  @Override
+  public Message postProcessMessage(Message message) throws AmqpException {
+    MessageProperties properties = message.getMessageProperties();
+
+    // Trace ID / User ID 전파
+    putIfAbsent(properties, MdcFilter.HEADER_TRACE_ID, MdcUtils.getRequestId());
+    putIfAbsent(properties, MdcFilter.HEADER_USER_ID, MdcUtils.getUserId());
+
+    // W3C Trace Context 전파
+    if (properties.getHeader(TraceContext.HEADER_TRACEPARENT) == null) {
+      putIfAbsent(properties, TraceContext.HEADER_TRACEPARENT, TraceContext.currentTraceparent());
+    }
+    putIfAbsent(properties, TraceContext.HEADER_BAGGAGE, MdcUtils.get(TraceContext.BAGGAGE));
+
+    // 발행 서비스 전파
+    putIfAbsent(properties, HEADER_SOURCE_SERVICE, sourceService);
+    return message;
+  }
+
+  /**
+   * 발행 서비스명을 반환한다.
+   *
+   * @return 발행 서비스명, 지정하지 않았으면 null
+   */
+  public String getSourceService() {
+    return sourceService;
+  }
+
+  private static void putIfAbsent(MessageProperties properties, String header, String value) {
+    if (StringUtils.hasText(value) && properties.getHeader(header) == null) {
+      properties.setHeader(header, value);
+    }
+  }
+}
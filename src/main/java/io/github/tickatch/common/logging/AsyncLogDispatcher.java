@@ -0,0 +1,348 @@
+package io.github.tickatch.common.logging;
+
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link LogEvent}를 고정 크기 버퍼에 적재하고 백그라운드 스레드에서 배치로 기록하는 디스패처.
+ *
+ * <p>요청 스레드는 {@link #dispatch(LogEvent)}로 이벤트 참조만 버퍼에 넣고 즉시 반환한다.
+ * 파라미터 문자열 생성과 JSON 직렬화는 드레이너 스레드에서 배치 단위로 수행되며,
+ * 이벤트에 캡처된 추적 컨텍스트(requestId, userId, span 정보, baggage)를 MDC에 복원한 뒤 {@link LogManager}로 출력한다.
+ *
+ * <p>버퍼가 가득 찬 경우의 동작은 {@link OverflowPolicy}로 지정한다:
+ * <ul>
+ *   <li>{@link OverflowPolicy#DROP} - 이벤트를 버리고 드롭 카운트를 증가 (기본값)</li>
+ *   <li>{@link OverflowPolicy#BLOCK} - 버퍼에 공간이 생길 때까지 요청 스레드를 대기 (디스패처가 종료되면 대기를 멈추고 드롭)</li>
+ * </ul>
+ *
+ * <p>모니터링용으로 {@link #getQueueDepth()}, {@link #getDroppedCount()}를 제공한다.
+ *
+ * <p>사용 예시:
+ * <pre>{@code
+ * AsyncLogDispatcher dispatcher = new AsyncLogDispatcher(
+ *         logManager, 8192, 256, AsyncLogDispatcher.OverflowPolicy.DROP);
+ * LoggingAspect aspect = new LoggingAspect(logManager, dispatcher);
+ * }</pre>
+ *
+ * @author Tickatch
+ * @since 0.0.6
+ * @see LogEvent
+ * @see LoggingAspect
+ */
+@Slf4j
+public class AsyncLogDispatcher implements AutoCloseable {
+
+    /** 드레이너 스레드 이름 */
+    public static final String THREAD_NAME = "tickatch-log-drainer";
+
+    /** 요청 스레드에서 이벤트를 캡처한 시각(epoch millis)을 저장하는 MDC 키 */
+    public static final String EVENT_TIME = "eventTime";
+
+    private static final long POLL_TIMEOUT_MILLIS = 100L;
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 5_000L;
+
+    /**
+     * 버퍼가 가득 찼을 때의 처리 정책.
+     */
+    public enum OverflowPolicy {
+        /** 이벤트를 버리고 드롭 카운트를 증가시킨다. */
+        DROP,
+        /** 버퍼에 공간이 생길 때까지 요청 스레드를 대기시킨다. 대기 중 디스패처가 종료되면 이벤트를 버린다. */
+        BLOCK
+    }
+
+    private final LogManager logManager;
+    private final LogPayloadSerializer payloadSerializer;
+    private final BlockingQueue<LogEvent> queue;
+    private final int batchSize;
+    private final OverflowPolicy overflowPolicy;
+    private final LongAdder droppedCount = new LongAdder();
+    private final Thread drainer;
+
+    private volatile boolean running = true;
+
+    /**
+     * 기본 {@link LogPayloadSerializer}로 디스패처를 생성하고 드레이너 스레드를 시작한다.
+     *
+     * @param logManager 실제 로그 출력을 담당하는 LogManager
+     * @param bufferSize 버퍼 용량 (1 이상)
+     * @param batchSize 한 번에 드레인할 최대 이벤트 수 (1 이상)
+     * @param overflowPolicy 버퍼 초과 시 처리 정책
+     */
+    public AsyncLogDispatcher(
+            LogManager logManager,
+            int bufferSize,
+            int batchSize,
+            OverflowPolicy overflowPolicy) {
+        this(logManager, new LogPayloadSerializer(), bufferSize, batchSize, overflowPolicy);
+    }
+
+    /**
+     * 디스패처를 생성하고 드레이너 스레드를 시작한다.
+     *
+     * @param logManager 실제 로그 출력을 담당하는 LogManager
+     * @param payloadSerializer 반환값 직렬화에 사용할 Serializer
+     * @param bufferSize 버퍼 용량 (1 이상)
+     * @param batchSize 한 번에 드레인할 최대 이벤트 수 (1 이상)
+     * @param overflowPolicy 버퍼 초과 시 처리 정책
+     */
+    public AsyncLogDispatcher(
+            LogManager logManager,
+            LogPayloadSerializer payloadSerializer,
+            int bufferSize,
+            int batchSize,
+            OverflowPolicy overflowPolicy) {
+
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("bufferSize는 1 이상이어야 합니다.");
+        }
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize는 1 이상이어야 합니다.");
+        }
+        this.logManager = logManager;
+        this.payloadSerializer = payloadSerializer;
+        this.queue = new ArrayBlockingQueue<>(bufferSize);
+        this.batchSize = batchSize;
+        this.overflowPolicy = overflowPolicy != null ? overflowPolicy : OverflowPolicy.DROP;
+        this.drainer = new Thread(this::drainLoop, THREAD_NAME);
+        this.drainer.setDaemon(true);
+        this.drainer.start();
+    }
+
+    /**
+     * 로그 이벤트를 버퍼에 적재한다.
+     *
+     * <p>디스패처가 종료된 이후의 이벤트는 드롭으로 집계된다. {@link OverflowPolicy#BLOCK}에서 대기 중인
+     * 요청 스레드는 주기적으로 종료 여부를 확인하므로, 드레이너가 종료된 뒤에도 무한히 대기하지 않는다.
+     *
+     * @param event 로그 이벤트
+     * @return 버퍼에 적재되었으면 true, 버퍼 초과나 종료로 버려졌으면 false
+     */
+    public boolean dispatch(LogEvent event) {
+        if (event == null) {
+            return false;
+        }
+        if (!running) {
+            droppedCount.increment();
+            return false;
+        }
+
+        if (overflowPolicy == OverflowPolicy.BLOCK) {
+            try {
+                // close() 이후 드레이너가 버퍼를 비우지 않으므로 종료 여부를 다시 확인하며 대기
+                while (running) {
+                    if (queue.offer(event, POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                        return true;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            droppedCount.increment();
+            return false;
+        }
+
+        if (!queue.offer(event)) {
+            droppedCount.increment();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 현재 버퍼에 대기 중인 이벤트 수를 반환한다.
+     *
+     * @return 대기 중인 이벤트 수
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * 버퍼 전체 용량을 반환한다.
+     *
+     * @return 버퍼 용량
+     */
+    public int getCapacity() {
+        return queue.size() + queue.remainingCapacity();
+    }
+
+    /**
+     * 버퍼 초과 또는 종료로 인해 버려진 이벤트 수를 반환한다.
+     *
+     * @return 드롭된 이벤트 수
+     */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    /**
+     * 디스패처를 종료한다.
+     *
+     * <p>신규 이벤트 수신을 중단하고, 버퍼에 남은 이벤트를 모두 기록한 뒤 드레이너 스레드를 종료한다.
+     */
+    @Override
+    public void close() {
+        running = false;
+        try {
+            drainer.join(SHUTDOWN_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 버퍼에서 이벤트를 배치 단위로 꺼내 기록한다.
+     */
+    private void drainLoop() {
+        List<LogEvent> batch = new ArrayList<>(batchSize);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                LogEvent first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+
+                for (LogEvent event : batch) {
+                    write(event);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 단일 이벤트를 포맷팅하여 기록한다.
+     *
+     * <p>이벤트에 캡처된 {@link TraceSnapshot}을 MDC에 복원하여 로그 패턴의
+     * {@code %X{requestId}}, {@code %X{userId}}, {@code %X{spanId}} 등이 요청 스레드와 동일하게 출력되도록 한다.
+     *
+     * @param event 로그 이벤트
+     */
+    private void write(LogEvent event) {
+        try {
+            event.getTraceSnapshot().applyToMdc();
+            MdcUtils.put(EVENT_TIME, Long.toString(event.getTimestamp()));
+
+            if (logManager.isStructured()) {
+                writeStructured(event);
+                return;
+            }
+            switch (event.getType()) {
+                case CONTROLLER_ENTRY -> logManager.logControllerEntry(
+                        event.getHttpMethod(),
+                        event.getRequestUri(),
+                        event.getMethodInfo(),
+                        LogPayloads.params(event.getParameterNames(), event.getArgs(), payloadSerializer));
+                case CONTROLLER_EXIT -> logManager.logControllerExit(
+                        event.getHttpMethod(),
+                        event.getRequestUri(),
+                        event.getMethodInfo(),
+                        payloadSerializer.serialize(event.getResult(), event.getMaxPayloadLength()));
+                case METHOD_ENTRY -> logManager.logMethodEntry(
+                        event.getMethodInfo(),
+                        LogPayloads.params(event.getParameterNames(), event.getArgs(), payloadSerializer));
+                case METHOD_EXIT -> logManager.logMethodExit(
+                        event.getMethodInfo(),
+                        payloadSerializer.serialize(event.getResult(), event.getMaxPayloadLength()));
+                case CONTROLLER_SLOW_EXIT -> logManager.logControllerSlowExit(
+                        event.getHttpMethod(),
+                        event.getRequestUri(),
+                        event.getMethodInfo(),
+                        payloadSerializer.serialize(event.getResult(), event.getMaxPayloadLength()),
+                        event.getElapsedMillis());
+                case METHOD_SLOW_EXIT -> logManager.logMethodSlowExit(
+                        event.getMethodInfo(),
+                        payloadSerializer.serialize(event.getResult(), event.getMaxPayloadLength()),
+                        event.getElapsedMillis());
+                case CONTROLLER_FAILURE -> logManager.logControllerFailure(
+                        event.getHttpMethod(),
+                        event.getRequestUri(),
+                        event.getMethodInfo(),
+                        event.getFailure(),
+                        event.getElapsedMillis());
+                case METHOD_FAILURE -> logManager.logMethodFailure(
+                        event.getMethodInfo(),
+                        event.getFailure(),
+                        event.getElapsedMillis());
+            }
+        } catch (Exception e) {
+            log.warn("비동기 로그 기록 실패: {}", event.getMethodInfo(), e);
+        } finally {
+            MDC.clear();
+        }
+    }
+
+    /**
+     * 구조화 형식(KEY_VALUE, JSON)의 {@link LogManager}에 원본 인자와 반환값을 전달한다.
+     *
+     * @param event 로그 이벤트
+     */
+    private void writeStructured(LogEvent event) {
+        switch (event.getType()) {
+            case CONTROLLER_ENTRY -> logManager.logControllerEntry(
+                    event.getHttpMethod(),
+                    event.getRequestUri(),
+                    event.getMethodInfo(),
+                    event.getParameterNames(),
+                    event.getArgs(),
+                    payloadSerializer);
+            case CONTROLLER_EXIT -> logManager.logControllerExit(
+                    event.getHttpMethod(),
+                    event.getRequestUri(),
+                    event.getMethodInfo(),
+                    event.getResult(),
+                    event.getMaxPayloadLength(),
+                    payloadSerializer);
+            case METHOD_ENTRY -> logManager.logMethodEntry(
+                    event.getMethodInfo(),
+                    event.getParameterNames(),
+                    event.getArgs(),
+                    payloadSerializer);
+            case METHOD_EXIT -> logManager.logMethodExit(
+                    event.getMethodInfo(),
+                    event.getResult(),
+                    event.getMaxPayloadLength(),
+                    payloadSerializer);
+            case CONTROLLER_SLOW_EXIT -> logManager.logControllerSlowExit(
+                    event.getHttpMethod(),
+                    event.getRequestUri(),
+                    event.getMethodInfo(),
+                    event.getResult(),
+                    event.getMaxPayloadLength(),
+                    event.getElapsedMillis(),
+                    payloadSerializer);
+            case METHOD_SLOW_EXIT -> logManager.logMethodSlowExit(
+                    event.getMethodInfo(),
+                    event.getResult(),
+                    event.getMaxPayloadLength(),
+                    event.getElapsedMillis(),
+                    payloadSerializer);
+            case CONTROLLER_FAILURE -> logManager.logControllerFailure(
+                    event.getHttpMethod(),
+                    event.getRequestUri(),
+                    event.getMethodInfo(),
+                    event.getFailure(),
+                    event.getElapsedMillis());
+            case METHOD_FAILURE -> logManager.logMethodFailure(
+                    event.getMethodInfo(),
+                    event.getFailure(),
+                    event.getElapsedMillis());
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package io.github.tickatch.common.logging;
+
+/**
+ * 구조화 로그(JSON 모드)의 한 줄을 스레드별로 재사용되는 버퍼에 직접 기록하는 내부 인코더.
+ *
+ * <p>필드 값은 중간 문자열 없이 버퍼에 이스케이프되어 기록되며, 최종 결과만 한 번 String으로 변환된다.
+ * null 값 필드는 생략한다.
+ *
+ * <p>사용 예시:
+ * <pre>{@code
+ * String line = JsonLogLine.begin()
+ *         .field("event", "controller_exit")
+ *         .field("method", "TicketController.getTicket")
+ *         .field("elapsedMs", 12)
+ *         .end();
+ * // {"event":"controller_exit","method":"TicketController.getTicket","elapsedMs":12}
+ * }</pre>
+ *
+ * @author Tickatch
+ * @since 0.0.6
+ * @see LogManager
+ */
+final class JsonLogLine {
+
+    /** 스레드별 버퍼가 유지할 최대 용량 */
+    private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private static final ThreadLocal<JsonLogLine> LOCAL = ThreadLocal.withInitial(JsonLogLine::new);
+
+    private final StringBuilder buffer = new StringBuilder(512);
+    private boolean first;
+
+    private JsonLogLine() {
+    }
+
+    /**
+     * 현재 스레드의 버퍼를 초기화하고 JSON 객체 기록을 시작한다.
+     *
+     * @return 현재 스레드의 인코더
+     */
+    static JsonLogLine begin() {
+        JsonLogLine line = LOCAL.get();
+        if (line.buffer.capacity() > MAX_RETAINED_CAPACITY) {
+            line.buffer.setLength(0);
+            line.buffer.trimToSize();
+        }
+        line.buffer.setLength(0);
+        line.buffer.append('{');
+        line.first = true;
+        return line;
+    }
+
+    /**
+     * 문자열 필드를 기록한다.
+     *
+     * @param name 필드 이름
+     * @param value 필드 값 (null이면 생략)
+     * @return this
+     */
+    JsonLogLine field(String name, String value) {
+        if (value == null) {
+            return this;
+        }
+        appendName(name);
+        appendQuoted(value);
+        return this;
+    }
+
+    /**
+     * 숫자 필드를 기록한다.
+     *
+     * @param name 필드 이름
+     * @param value 필드 값
+     * @return this
+     */
+    JsonLogLine field(String name, long value) {
+        appendName(name);
+        buffer.append(value);
+        return this;
+    }
+
+    /**
+     * 이미 인코딩된 JSON 값을 그대로 기록한다.
+     *
+     * <p>호출 측은 값이 완전한 JSON(객체, 배열, 문자열, 숫자 등)임을 보장해야 한다.
+     *
+     * @param name 필드 이름
+     * @param json 인코딩된 JSON 값 (null이면 생략)
+     * @return this
+     */
+    JsonLogLine rawField(String name, String json) {
+        if (json == null) {
+            return this;
+        }
+        appendName(name);
+        buffer.append(json);
+        return this;
+    }
+
+    /**
+     * 중첩 객체 필드를 시작한다. {@link #endObject()}로 닫는다.
+     *
+     * @param name 필드 이름
+     * @return this
+     */
+    JsonLogLine beginObject(String name) {
+        appendName(name);
+        buffer.append('{');
+        first = true;
+        return this;
+    }
+
+    /**
+     * {@link #beginObject(String)}로 시작한 중첩 객체를 닫는다.
+     *
+     * @return this
+     */
+    JsonLogLine endObject() {
+        buffer.append('}');
+        first = false;
+        return this;
+    }
+
+    /**
+     * JSON 객체를 닫고 결과를 반환한다.
+     *
+     * @return 한 줄 JSON 문자열
+     */
+    String end() {
+        buffer.append('}');
+        return buffer.toString();
+    }
+
+    private void appendName(String name) {
+        if (!first) {
+            buffer.append(',');
+        }
+        first = false;
+        appendQuoted(name);
+        buffer.append(':');
+    }
+
+    private void appendQuoted(String value) {
+        buffer.append('"');
+        int start = 0;
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= 0x20 && c != '"' && c != '\\') {
+                continue;
+            }
+            buffer.append(value, start, i);
+            switch (c) {
+                case '"' -> buffer.append("\\\"");
+                case '\\' -> buffer.append("\\\\");
+                case '\n' -> buffer.append("\\n");
+                case '\r' -> buffer.append("\\r");
+                case '\t' -> buffer.append("\\t");
+                default -> buffer.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+            }
+            start = i + 1;
+        }
+        buffer.append(value, start, length);
+        buffer.append('"');
+    }
+}
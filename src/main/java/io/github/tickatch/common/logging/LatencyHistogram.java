@@ -0,0 +1,270 @@
+package io.github.tickatch.common.logging;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 락 없이 동작하는 로그-선형(HDR 방식) 지연 시간 히스토그램.
+ *
+ * <p>마이크로초 단위 값을 32개({@code 2^SUB_BUCKET_BITS})의 하위 버킷 단위로 기록한다. 0~31은 1 단위로 기록하고,
+ * 그 이상은 HDR 방식대로 하위 버킷의 아래 절반이 이전 범위와 겹치므로 2의 거듭제곱 범위마다 16개의 버킷으로 나뉜다.
+ * 따라서 값의 크기와 무관하게 상대 오차는 약 6% 이내이며, 기록 시에는 버킷 인덱스 계산과
+ * 원자적 증가 연산만 수행하므로 할당이 발생하지 않는다.
+ *
+ * <p>기록 가능한 최대값은 2^37 - 1 마이크로초(약 38시간)이며, 그 이상은 최대 버킷에 기록된다.
+ *
+ * <p>백분위, 평균, 최대값은 누적값이 아니라 최근 구간의 값이다. 버킷을 현재/이전 두 구간으로 나누어 기록하고,
+ * 구간 길이({@link #DEFAULT_WINDOW}, 기본 1분)마다 이전 구간을 비워 현재 구간과 교체한다.
+ * 통계는 두 구간을 합쳐 계산하므로 최근 1~2 구간의 분포를 나타내며, 부하가 바뀌면 게이지도 따라 움직인다.
+ * 교체는 기록 또는 조회 시점에 한 스레드만 수행하며, 교체 직전에 시작된 기록 몇 건은 다음 구간에 섞일 수 있다.
+ * {@link #getCount()}만 누적 건수이므로 카운터 메트릭에 사용한다.
+ *
+ * @author Tickatch
+ * @since 0.0.6
+ * @see LatencyRegistry
+ */
+public final class LatencyHistogram {
+
+    /** 기본 구간 길이 */
+    public static final Duration DEFAULT_WINDOW = Duration.ofMinutes(1);
+
+    /** 2의 거듭제곱 구간당 하위 버킷 수를 결정하는 비트 수 (2^SUB_BUCKET_BITS = 32) */
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_HALF = SUB_BUCKET_COUNT >> 1;
+    private static final int MAX_EXPONENT = 32;
+    private static final long MAX_TRACKABLE_MICROS = (1L << (MAX_EXPONENT + SUB_BUCKET_BITS)) - 1;
+    private static final int BUCKET_COUNT = indexOf(MAX_TRACKABLE_MICROS) + 1;
+
+    private final Window[] windows = {new Window(), new Window()};
+    private final LongAdder count = new LongAdder();
+    private final long windowNanos;
+    private final LongSupplier nanoClock;
+    private final AtomicLong nextRotationNanos;
+
+    /** 현재 구간의 {@link #windows} 인덱스 */
+    private volatile int current;
+
+    /**
+     * 기본 구간 길이({@link #DEFAULT_WINDOW})로 히스토그램을 생성한다.
+     */
+    public LatencyHistogram() {
+        this(DEFAULT_WINDOW);
+    }
+
+    /**
+     * 구간 길이를 지정하여 히스토그램을 생성한다.
+     *
+     * @param window 구간 길이 (통계는 최근 1~2 구간을 나타냄)
+     * @throws IllegalArgumentException 구간 길이가 0 이하인 경우
+     */
+    public LatencyHistogram(Duration window) {
+        this(window, System::nanoTime);
+    }
+
+    LatencyHistogram(Duration window, LongSupplier nanoClock) {
+        if (window == null || window.isZero() || window.isNegative()) {
+            throw new IllegalArgumentException("window는 0보다 커야 합니다: " + window);
+        }
+        this.windowNanos = window.toNanos();
+        this.nanoClock = nanoClock;
+        this.nextRotationNanos = new AtomicLong(nanoClock.getAsLong() + windowNanos);
+    }
+
+    /**
+     * 지연 시간을 기록한다.
+     *
+     * @param elapsedNanos 경과 시간 (나노초)
+     */
+    public void record(long elapsedNanos) {
+        rotateIfNeeded();
+        long micros = Math.max(elapsedNanos / 1_000L, 0L);
+        windows[current].record(micros);
+        count.increment();
+    }
+
+    /**
+     * 기록된 값의 누적 수를 반환한다. 구간 교체와 무관하게 계속 증가한다.
+     *
+     * @return 누적 기록 건수
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * 최근 구간의 최대값을 반환한다.
+     *
+     * @return 최대 실행 시간 (밀리초)
+     */
+    public double getMaxMillis() {
+        rotateIfNeeded();
+        return maxMicros() / 1_000.0;
+    }
+
+    /**
+     * 최근 구간의 통계를 스냅샷으로 반환한다.
+     *
+     * <p>기록과 동시에 호출될 수 있으므로 각 값은 근사치이다. {@link LatencySnapshot#count()}는
+     * 최근 구간의 건수이며 누적 건수는 {@link #getCount()}로 조회한다.
+     *
+     * @return 지연 시간 스냅샷
+     */
+    public LatencySnapshot snapshot() {
+        rotateIfNeeded();
+        long[] counts = copyCounts();
+        long total = sum(counts);
+        long max = maxMicros();
+
+        long recorded = windows[0].count.sum() + windows[1].count.sum();
+        long totalMicros = windows[0].totalMicros.sum() + windows[1].totalMicros.sum();
+        double mean = recorded == 0 ? 0.0 : (double) totalMicros / recorded;
+        return new LatencySnapshot(
+                total,
+                mean / 1_000.0,
+                percentile(counts, total, max, 0.50) / 1_000.0,
+                percentile(counts, total, max, 0.90) / 1_000.0,
+                percentile(counts, total, max, 0.99) / 1_000.0,
+                max / 1_000.0);
+    }
+
+    /**
+     * 최근 구간에서 지정한 백분위에 해당하는 값을 반환한다.
+     *
+     * @param percentile 백분위 (0.0 ~ 1.0)
+     * @return 백분위 값 (밀리초)
+     */
+    public double getPercentileMillis(double percentile) {
+        rotateIfNeeded();
+        long[] counts = copyCounts();
+        return percentile(counts, sum(counts), maxMicros(), percentile) / 1_000.0;
+    }
+
+    /**
+     * 교체 시각이 지났으면 구간을 교체한다. 두 구간 이상 지났으면 두 구간을 모두 비운다.
+     */
+    private void rotateIfNeeded() {
+        long now = nanoClock.getAsLong();
+        long rotateAt = nextRotationNanos.get();
+        if (now - rotateAt < 0) {
+            return;
+        }
+        long elapsedWindows = (now - rotateAt) / windowNanos + 1;
+        if (!nextRotationNanos.compareAndSet(rotateAt, rotateAt + elapsedWindows * windowNanos)) {
+            return;
+        }
+        int next = current ^ 1;
+        windows[next].reset();
+        if (elapsedWindows > 1) {
+            windows[current].reset();
+        }
+        current = next;
+    }
+
+    private long maxMicros() {
+        return Math.max(windows[0].maxMicros.get(), windows[1].maxMicros.get());
+    }
+
+    private long[] copyCounts() {
+        long[] counts = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = windows[0].buckets.get(i) + windows[1].buckets.get(i);
+        }
+        return counts;
+    }
+
+    private static long sum(long[] counts) {
+        long total = 0;
+        for (long c : counts) {
+            total += c;
+        }
+        return total;
+    }
+
+    /**
+     * 누적 건수가 백분위에 도달하는 버킷의 상한값을 계산한다. 실제 최대값을 넘지 않도록 보정한다.
+     */
+    private static long percentile(long[] counts, long total, long max, double percentile) {
+        if (total == 0) {
+            return 0L;
+        }
+        long target = Math.max((long) Math.ceil(percentile * total), 1L);
+        long cumulative = 0;
+        for (int i = 0; i < counts.length; i++) {
+            cumulative += counts[i];
+            if (cumulative >= target) {
+                return Math.min(highestEquivalentValue(i), max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * 값이 속하는 버킷 인덱스를 계산한다.
+     *
+     * <p>{@code 0 ~ 31}은 그대로 인덱스가 되고, 그 이상은 최상위 비트 위치로 구간을 정한 뒤
+     * 상위 5비트로 구간 내 위치를 정한다.
+     */
+    static int indexOf(long micros) {
+        if (micros < SUB_BUCKET_COUNT) {
+            return (int) micros;
+        }
+        int exponent = (63 - Long.numberOfLeadingZeros(micros)) - SUB_BUCKET_BITS + 1;
+        int subBucket = (int) (micros >>> exponent);
+        return exponent * SUB_BUCKET_HALF + subBucket;
+    }
+
+    /**
+     * 버킷에 속하는 가장 작은 값을 계산한다.
+     */
+    static long lowestEquivalentValue(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKET_HALF - 1;
+        long subBucket = index - (long) exponent * SUB_BUCKET_HALF;
+        return subBucket << exponent;
+    }
+
+    /**
+     * 버킷에 속하는 가장 큰 값을 계산한다.
+     */
+    static long highestEquivalentValue(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKET_HALF - 1;
+        return lowestEquivalentValue(index) + (1L << exponent) - 1;
+    }
+
+    /**
+     * 한 구간의 버킷과 통계.
+     */
+    private static final class Window {
+
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalMicros = new LongAdder();
+        private final LongAccumulator maxMicros = new LongAccumulator(Math::max, 0L);
+
+        void record(long micros) {
+            buckets.incrementAndGet(indexOf(Math.min(micros, MAX_TRACKABLE_MICROS)));
+            count.increment();
+            totalMicros.add(micros);
+            maxMicros.accumulate(micros);
+        }
+
+        void reset() {
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                buckets.set(i, 0L);
+            }
+            count.reset();
+            totalMicros.reset();
+            maxMicros.reset();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package io.github.tickatch.common.logging;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * {@link LatencyRegistry}의 메서드별 실행 시간과 {@link AsyncLogDispatcher} 상태를 Micrometer 메트릭으로 노출하는 바인더.
+ *
+ * <p>Micrometer가 클래스패스에 있을 때만 {@code LoggingAutoConfiguration}에 의해 등록된다.
+ * 메서드 히스토그램은 최초 호출 시 생성되므로, 미터도 해당 시점에 등록된다.
+ * 백분위/최대값 게이지는 누적값이 아니라 {@link LatencyHistogram}의 최근 구간(기본 1~2분) 값이다.
+ *
+ * <p>노출 메트릭:
+ * <ul>
+ *   <li>{@code tickatch.logging.latency} (gauge, ms) - 태그 {@code method}, {@code quantile} (0.5, 0.9, 0.99, max)</li>
+ *   <li>{@code tickatch.logging.latency.count} (counter) - 태그 {@code method}</li>
+ *   <li>{@code tickatch.logging.async.queue.depth} (gauge) - 비동기 모드 버퍼 적재량</li>
+ *   <li>{@code tickatch.logging.async.dropped} (counter) - 비동기 모드에서 유실된 이벤트 수</li>
+ * </ul>
+ *
+ * @author Tickatch
+ * @since 0.0.6
+ * @see LatencyRegistry
+ */
+public class LatencyMeterBinder implements MeterBinder {
+
+    /** 실행 시간 메트릭 이름 */
+    public static final String LATENCY_METRIC = "tickatch.logging.latency";
+
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99};
+
+    private final LatencyRegistry latencyRegistry;
+
+    /** 비동기 모드 디스패처. null이면 디스패처 메트릭을 등록하지 않는다. */
+    private final AsyncLogDispatcher asyncLogDispatcher;
+
+    /**
+     * 바인더를 생성한다.
+     *
+     * @param latencyRegistry 메서드별 실행 시간 레지스트리
+     * @param asyncLogDispatcher 비동기 모드 디스패처 (동기 모드이면 null)
+     */
+    public LatencyMeterBinder(LatencyRegistry latencyRegistry, AsyncLogDispatcher asyncLogDispatcher) {
+        this.latencyRegistry = latencyRegistry;
+        this.asyncLogDispatcher = asyncLogDispatcher;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        latencyRegistry.addListener((name, histogram) -> bindHistogram(registry, name, histogram));
+
+        if (asyncLogDispatcher != null) {
+            Gauge.builder("tickatch.logging.async.queue.depth", asyncLogDispatcher, AsyncLogDispatcher::getQueueDepth)
+                    .description("비동기 로그 버퍼에 적재된 이벤트 수")
+                    .register(registry);
+            FunctionCounter.builder("tickatch.logging.async.dropped", asyncLogDispatcher,
+                            AsyncLogDispatcher::getDroppedCount)
+                    .description("버퍼 초과 또는 종료로 유실된 로그 이벤트 수")
+                    .register(registry);
+        }
+    }
+
+    private void bindHistogram(MeterRegistry registry, String name, LatencyHistogram histogram) {
+        for (double quantile : QUANTILES) {
+            Gauge.builder(LATENCY_METRIC, histogram, h -> h.getPercentileMillis(quantile))
+                    .tag("method", name)
+                    .tag("quantile", Double.toString(quantile))
+                    .baseUnit("milliseconds")
+                    .register(registry);
+        }
+        Gauge.builder(LATENCY_METRIC, histogram, LatencyHistogram::getMaxMillis)
+                .tag("method", name)
+                .tag("quantile", "max")
+                .baseUnit("milliseconds")
+                .register(registry);
+        FunctionCounter.builder(LATENCY_METRIC + ".count", histogram, LatencyHistogram::getCount)
+                .tag("method", name)
+                .register(registry);
+    }
+}
@@ -0,0 +1,112 @@
+package io.github.tickatch.common.logging;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+
+/**
+ * 메서드별 지연 시간 히스토그램 레지스트리.
+ *
+ * <p>{@link LoggingAspect}가 로깅 대상 메서드의 실행 시간을 {@code "SimpleClass.method"} 키로 기록한다.
+ * 히스토그램은 최초 기록 시 한 번만 생성되며, 이후 기록은 락 없이 수행된다.
+ *
+ * <p>지연 임계값을 넘은 호출은 {@link #isSlow(long)}로 판별되어 종료 로그가 WARN 레벨로 기록된다.
+ *
+ * <p>조회 예시:
+ * <pre>{@code
+ * LatencySnapshot snapshot = latencyRegistry.snapshot().get("TicketController.getTicket");
+ * log.info("p99: {}ms", snapshot.p99Millis());
+ * }</pre>
+ *
+ * <p>Micrometer가 클래스패스에 있으면 {@code LatencyMeterBinder}를 통해
+ * {@code tickatch.logging.latency} 메트릭으로도 노출된다.
+ *
+ * @author Tickatch
+ * @since 0.0.6
+ * @see LatencyHistogram
+ * @see LoggingAspect
+ */
+public class LatencyRegistry {
+
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private final CopyOnWriteArrayList<BiConsumer<String, LatencyHistogram>> listeners = new CopyOnWriteArrayList<>();
+    private final long slowThresholdNanos;
+
+    /**
+     * 지연 임계값을 지정하여 레지스트리를 생성한다.
+     *
+     * @param slowThreshold 지연 호출 임계값 (null 또는 0 이하이면 지연 호출 판별 안 함)
+     */
+    public LatencyRegistry(Duration slowThreshold) {
+        this.slowThresholdNanos = slowThreshold != null && !slowThreshold.isZero() && !slowThreshold.isNegative()
+                ? slowThreshold.toNanos()
+                : Long.MAX_VALUE;
+    }
+
+    /**
+     * 실행 시간을 기록한다.
+     *
+     * @param name 메서드 이름 ({@code "SimpleClass.method"})
+     * @param elapsedNanos 경과 시간 (나노초)
+     */
+    public void record(String name, long elapsedNanos) {
+        LatencyHistogram histogram = histograms.get(name);
+        if (histogram == null) {
+            histogram = histograms.computeIfAbsent(name, this::register);
+        }
+        histogram.record(elapsedNanos);
+    }
+
+    /**
+     * 경과 시간이 지연 임계값 이상인지 확인한다.
+     *
+     * @param elapsedNanos 경과 시간 (나노초)
+     * @return 임계값 이상이면 true, 임계값이 설정되지 않았으면 false
+     */
+    public boolean isSlow(long elapsedNanos) {
+        return elapsedNanos >= slowThresholdNanos;
+    }
+
+    /**
+     * 메서드의 히스토그램을 반환한다.
+     *
+     * @param name 메서드 이름
+     * @return 히스토그램, 기록된 적이 없으면 null
+     */
+    public LatencyHistogram get(String name) {
+        return histograms.get(name);
+    }
+
+    /**
+     * 모든 메서드의 현재 통계를 반환한다.
+     *
+     * @return 메서드 이름별 스냅샷 (수정 불가)
+     */
+    public Map<String, LatencySnapshot> snapshot() {
+        Map<String, LatencySnapshot> result = new LinkedHashMap<>();
+        histograms.forEach((name, histogram) -> result.put(name, histogram.snapshot()));
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * 히스토그램이 새로 생성될 때 호출될 리스너를 등록한다.
+     *
+     * <p>이미 생성된 히스토그램에 대해서도 즉시 호출된다. 메트릭 바인더가 메서드별 미터를 등록할 때 사용한다.
+     *
+     * @param listener 메서드 이름과 히스토그램을 받는 리스너
+     */
+    public void addListener(BiConsumer<String, LatencyHistogram> listener) {
+        listeners.add(listener);
+        histograms.forEach(listener);
+    }
+
+    private LatencyHistogram register(String name) {
+        LatencyHistogram histogram = new LatencyHistogram();
+        listeners.forEach(listener -> listener.accept(name, histogram));
+        return histogram;
+    }
+}
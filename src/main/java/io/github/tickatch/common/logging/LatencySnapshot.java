@@ -0,0 +1,26 @@
+package io.github.tickatch.common.logging;
+
+/**
+ * 지연 시간 히스토그램의 특정 시점 통계.
+ *
+ * <p>모든 시간 값은 밀리초 단위이며, 백분위 값은 히스토그램 버킷 정밀도(약 6%) 내의 근사치이다.
+ * 누적값이 아니라 히스토그램의 최근 구간(현재 + 이전 구간) 통계이다.
+ *
+ * @param count 최근 구간의 기록 건수
+ * @param meanMillis 평균
+ * @param p50Millis 50 백분위
+ * @param p90Millis 90 백분위
+ * @param p99Millis 99 백분위
+ * @param maxMillis 최대값
+ * @author Tickatch
+ * @since 0.0.6
+ * @see LatencyHistogram#snapshot()
+ */
+public record LatencySnapshot(
+        long count,
+        double meanMillis,
+        double p50Millis,
+        double p90Millis,
+        double p99Millis,
+        double maxMillis) {
+}
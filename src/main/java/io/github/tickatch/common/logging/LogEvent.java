@@ -0,0 +1,287 @@
+package io.github.tickatch.common.logging;
+
+import jakarta.servlet.ServletRequest;
+import lombok.Getter;
+
+/**
+ * 비동기 로깅 모드에서 요청 스레드가 캡처하는 로그 이벤트.
+ *
+ * <p>요청 스레드에서는 문자열 변환이나 JSON 직렬화를 하지 않고, 인자/반환값의 참조와
+ * 캡처 시각, MDC의 추적 컨텍스트({@link TraceSnapshot})만 보관한다. 실제 포맷팅은
+ * {@link AsyncLogDispatcher}의 백그라운드 스레드에서 수행된다.
+ *
+ * <p>기록되었거나 버퍼에 적재된 컨트롤러 실패 이벤트는 요청 속성({@link #FAILURE_ATTRIBUTE})으로도 공유된다.
+ * {@code GlobalExceptionHandler}는 {@link #isFailureLogged(ServletRequest, Throwable)}로
+ * 같은 예외가 이미 기록되었는지 확인하고, 중복 로그를 남기지 않는다.
+ *
+ * <p>주의: 참조만 보관하므로 메서드 반환 이후 인자/반환 객체가 변경되면
+ * 변경된 상태가 로그에 기록될 수 있다.
+ *
+ * @author Tickatch
+ * @since 0.0.6
+ * @see AsyncLogDispatcher
+ */
+@Getter
+public final class LogEvent {
+
+    /** 컨트롤러 실패 이벤트가 저장되는 요청 속성 이름 */
+    public static final String FAILURE_ATTRIBUTE = LogEvent.class.getName() + ".FAILURE";
+
+    /**
+     * 로그 이벤트 유형.
+     */
+    public enum Type {
+        /** 컨트롤러 진입 */
+        CONTROLLER_ENTRY,
+        /** 컨트롤러 종료 */
+        CONTROLLER_EXIT,
+        /** {@code @LogExecution} 메서드 진입 */
+        METHOD_ENTRY,
+        /** {@code @LogExecution} 메서드 종료 */
+        METHOD_EXIT,
+        /** 지연 임계값을 넘은 컨트롤러 종료 (WARN) */
+        CONTROLLER_SLOW_EXIT,
+        /** 지연 임계값을 넘은 {@code @LogExecution} 메서드 종료 (WARN) */
+        METHOD_SLOW_EXIT,
+        /** 예외로 종료된 컨트롤러 (WARN) */
+        CONTROLLER_FAILURE,
+        /** 예외로 종료된 {@code @LogExecution} 메서드 (WARN) */
+        METHOD_FAILURE
+    }
+
+    private final Type type;
+    private final long timestamp;
+    private final TraceSnapshot traceSnapshot;
+    private final String httpMethod;
+    private final String requestUri;
+    private final String methodInfo;
+    private final String[] parameterNames;
+    private final Object[] args;
+    private final Object result;
+    private final int maxPayloadLength;
+    private final long elapsedMillis;
+    private final Throwable failure;
+
+    private LogEvent(
+            Type type,
+            String httpMethod,
+            String requestUri,
+            String methodInfo,
+            String[] parameterNames,
+            Object[] args,
+            Object result,
+            int maxPayloadLength,
+            long elapsedMillis,
+            Throwable failure) {
+
+        this.type = type;
+        this.timestamp = System.currentTimeMillis();
+        this.traceSnapshot = TraceSnapshot.capture();
+        this.httpMethod = httpMethod;
+        this.requestUri = requestUri;
+        this.methodInfo = methodInfo;
+        this.parameterNames = parameterNames;
+        this.args = args;
+        this.result = result;
+        this.maxPayloadLength = maxPayloadLength;
+        this.elapsedMillis = elapsedMillis;
+        this.failure = failure;
+    }
+
+    /**
+     * 컨트롤러 진입 이벤트를 생성한다.
+     *
+     * @param httpMethod HTTP 메서드
+     * @param requestUri 요청 URI
+     * @param methodInfo 메서드 정보 (ClassName.methodName)
+     * @param parameterNames 파라미터 이름 배열
+     * @param args 메서드 호출 인자 배열
+     * @return 로그 이벤트
+     */
+    public static LogEvent controllerEntry(
+            String httpMethod,
+            String requestUri,
+            String methodInfo,
+            String[] parameterNames,
+            Object[] args) {
+
+        return new LogEvent(Type.CONTROLLER_ENTRY, httpMethod, requestUri, methodInfo, parameterNames, args, null, -1, -1, null);
+    }
+
+    /**
+     * 컨트롤러 종료 이벤트를 생성한다.
+     *
+     * @param httpMethod HTTP 메서드
+     * @param requestUri 요청 URI
+     * @param methodInfo 메서드 정보 (ClassName.methodName)
+     * @param result 반환 결과
+     * @return 로그 이벤트
+     */
+    public static LogEvent controllerExit(
+            String httpMethod,
+            String requestUri,
+            String methodInfo,
+            Object result) {
+
+        return controllerExit(httpMethod, requestUri, methodInfo, result, -1);
+    }
+
+    /**
+     * 반환값 최대 기록 길이를 지정하여 컨트롤러 종료 이벤트를 생성한다.
+     *
+     * @param httpMethod HTTP 메서드
+     * @param requestUri 요청 URI
+     * @param methodInfo 메서드 정보 (ClassName.methodName)
+     * @param result 반환 결과
+     * @param maxPayloadLength 반환값 최대 기록 길이 (음수이면 기본값)
+     * @return 로그 이벤트
+     */
+    public static LogEvent controllerExit(
+            String httpMethod,
+            String requestUri,
+            String methodInfo,
+            Object result,
+            int maxPayloadLength) {
+
+        return new LogEvent(
+                Type.CONTROLLER_EXIT, httpMethod, requestUri, methodInfo, null, null, result, maxPayloadLength, -1, null);
+    }
+
+    /**
+     * 지연 임계값을 넘은 컨트롤러 종료 이벤트를 생성한다.
+     *
+     * @param httpMethod HTTP 메서드
+     * @param requestUri 요청 URI
+     * @param methodInfo 메서드 정보 (ClassName.methodName)
+     * @param result 반환 결과
+     * @param maxPayloadLength 반환값 최대 기록 길이 (음수이면 기본값)
+     * @param elapsedMillis 실행 시간 (밀리초)
+     * @return 로그 이벤트
+     */
+    public static LogEvent controllerSlowExit(
+            String httpMethod,
+            String requestUri,
+            String methodInfo,
+            Object result,
+            int maxPayloadLength,
+            long elapsedMillis) {
+
+        return new LogEvent(
+                Type.CONTROLLER_SLOW_EXIT, httpMethod, requestUri, methodInfo,
+                null, null, result, maxPayloadLength, elapsedMillis, null);
+    }
+
+    /**
+     * {@code @LogExecution} 메서드 진입 이벤트를 생성한다.
+     *
+     * @param methodInfo 메서드 정보 (ClassName.methodName)
+     * @param parameterNames 파라미터 이름 배열
+     * @param args 메서드 호출 인자 배열
+     * @return 로그 이벤트
+     */
+    public static LogEvent methodEntry(String methodInfo, String[] parameterNames, Object[] args) {
+        return new LogEvent(Type.METHOD_ENTRY, null, null, methodInfo, parameterNames, args, null, -1, -1, null);
+    }
+
+    /**
+     * {@code @LogExecution} 메서드 종료 이벤트를 생성한다.
+     *
+     * @param methodInfo 메서드 정보 (ClassName.methodName)
+     * @param result 반환 결과
+     * @return 로그 이벤트
+     */
+    public static LogEvent methodExit(String methodInfo, Object result) {
+        return methodExit(methodInfo, result, -1);
+    }
+
+    /**
+     * 반환값 최대 기록 길이를 지정하여 {@code @LogExecution} 메서드 종료 이벤트를 생성한다.
+     *
+     * @param methodInfo 메서드 정보 (ClassName.methodName)
+     * @param result 반환 결과
+     * @param maxPayloadLength 반환값 최대 기록 길이 (음수이면 기본값)
+     * @return 로그 이벤트
+     */
+    public static LogEvent methodExit(String methodInfo, Object result, int maxPayloadLength) {
+        return new LogEvent(Type.METHOD_EXIT, null, null, methodInfo, null, null, result, maxPayloadLength, -1, null);
+    }
+
+    /**
+     * 지연 임계값을 넘은 {@code @LogExecution} 메서드 종료 이벤트를 생성한다.
+     *
+     * @param methodInfo 메서드 정보 (ClassName.methodName)
+     * @param result 반환 결과
+     * @param maxPayloadLength 반환값 최대 기록 길이 (음수이면 기본값)
+     * @param elapsedMillis 실행 시간 (밀리초)
+     * @return 로그 이벤트
+     */
+    public static LogEvent methodSlowExit(String methodInfo, Object result, int maxPayloadLength, long elapsedMillis) {
+        return new LogEvent(
+                Type.METHOD_SLOW_EXIT, null, null, methodInfo, null, null, result, maxPayloadLength, elapsedMillis, null);
+    }
+
+    /**
+     * 예외로 종료된 컨트롤러 이벤트를 생성한다.
+     *
+     * @param httpMethod HTTP 메서드
+     * @param requestUri 요청 URI
+     * @param methodInfo 메서드 정보 (ClassName.methodName)
+     * @param failure 발생한 예외
+     * @param elapsedMillis 실행 시간 (밀리초)
+     * @return 로그 이벤트
+     */
+    public static LogEvent controllerFailure(
+            String httpMethod,
+            String requestUri,
+            String methodInfo,
+            Throwable failure,
+            long elapsedMillis) {
+
+        return new LogEvent(
+                Type.CONTROLLER_FAILURE, httpMethod, requestUri, methodInfo,
+                null, null, null, -1, elapsedMillis, failure);
+    }
+
+    /**
+     * 예외로 종료된 {@code @LogExecution} 메서드 이벤트를 생성한다.
+     *
+     * @param methodInfo 메서드 정보 (ClassName.methodName)
+     * @param failure 발생한 예외
+     * @param elapsedMillis 실행 시간 (밀리초)
+     * @return 로그 이벤트
+     */
+    public static LogEvent methodFailure(String methodInfo, Throwable failure, long elapsedMillis) {
+        return new LogEvent(Type.METHOD_FAILURE, null, null, methodInfo, null, null, null, -1, elapsedMillis, failure);
+    }
+
+    /**
+     * 캡처 시점의 requestId(traceId)를 반환한다.
+     *
+     * @return requestId, 없으면 null
+     */
+    public String getRequestId() {
+        return traceSnapshot.getRequestId();
+    }
+
+    /**
+     * 캡처 시점의 userId를 반환한다.
+     *
+     * @return userId, 없으면 null
+     */
+    public String getUserId() {
+        return traceSnapshot.getUserId();
+    }
+
+    /**
+     * 요청에서 발생한 예외가 {@link LoggingAspect}에 의해 이미 기록되었는지 확인한다.
+     *
+     * @param request 현재 요청
+     * @param exception 확인할 예외
+     * @return 같은 예외 인스턴스의 실패 이벤트가 요청 속성에 있으면 true
+     */
+    public static boolean isFailureLogged(ServletRequest request, Throwable exception) {
+        return request != null
+                && request.getAttribute(FAILURE_ATTRIBUTE) instanceof LogEvent event
+                && event.getFailure() == exception;
+    }
+}
@@ -36,9 +36,17 @@ import java.lang.annotation.Target;
  * INFO  Request ID: abc-123, User ID: 42, Method: PaymentService.processPayment, Return: {"status":"SUCCESS",...}
  * </pre>
  *
+ * <p>반환값 로그는 {@link LogPayloadSerializer}로 직렬화되며 기본 제한 길이
+ * ({@code tickatch.logging.max-payload-length})를 넘으면 잘린다. 메서드별로 다르게 지정하려면
+ * {@link #maxPayloadLength()}를 사용한다:
+ * <pre>{@code
+ * @LogExecution(maxPayloadLength = 512)
+ * public List<SeatResponse> getSeats(Long eventId) { ... }
+ * }</pre>
+ *
  * <p>주의사항:
  * <ul>
- *   <li>민감한 정보(비밀번호, 카드번호 등)를 포함하는 파라미터나 반환값이 있는 메서드에는 사용 주의</li>
+ *   <li>민감한 정보(비밀번호, 카드번호 등)를 포함하는 파라미터나 필드에는 {@link Masked}를 선언할 것</li>
  *   <li>빈번하게 호출되는 메서드에 적용하면 로그 양이 증가하여 성능에 영향을 줄 수 있음</li>
  * </ul>
  *
@@ -49,4 +57,13 @@ import java.lang.annotation.Target;
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
 public @interface LogExecution {
+
+    /**
+     * 반환값 로그의 최대 기록 길이(문자 수).
+     *
+     * <p>음수이면 전역 설정을 따르고, 0이면 제한 없이 전체를 기록한다.
+     *
+     * @return 최대 기록 길이
+     */
+    int maxPayloadLength() default -1;
 }
\ No newline at end of file
@@ -1,6 +1,8 @@
 package io.github.tickatch.common.logging;
 
 import lombok.extern.slf4j.Slf4j;
+import org.slf4j.event.Level;
+import org.slf4j.spi.LoggingEventBuilder;
 
 /**
  * 로깅 기능을 중앙에서 관리하는 클래스.
@@ -14,8 +16,35 @@ import lombok.extern.slf4j.Slf4j;
  *   <li>컨트롤러 종료: {@code GET /api/tickets - Request ID: xxx, User ID: xxx, Method: xxx, Return: {...}}</li>
  *   <li>메서드 진입: {@code Request ID: xxx, User ID: xxx, Method: xxx, Params: {...}}</li>
  *   <li>메서드 종료: {@code Request ID: xxx, User ID: xxx, Method: xxx, Return: {...}}</li>
+ *   <li>지연 호출 종료 (WARN): 종료 로그 형식 뒤에 {@code , Elapsed: 1523ms}</li>
+ *   <li>예외 종료 (WARN): {@code ... Method: xxx, Failed: BusinessException (TICKET_SOLD_OUT), Elapsed: 3ms}</li>
  * </ul>
  *
+ * <p>출력 형식({@link OutputFormat}):
+ * <ul>
+ *   <li>{@link OutputFormat#TEXT} - 위의 사람이 읽기 쉬운 문자열 (기본값)</li>
+ *   <li>{@link OutputFormat#KEY_VALUE} - SLF4J Fluent API의 key-value로 필드를 전달.
+ *       메시지는 이벤트 이름({@code controller_exit} 등)만 남고, 필드는 인코더가 별도로 출력한다.</li>
+ *   <li>{@link OutputFormat#JSON} - 스레드별 재사용 버퍼에 직접 인코딩한 한 줄 JSON을 메시지로 기록</li>
+ * </ul>
+ *
+ * <p>구조화 모드에서 사용하는 필드: {@code event}, {@code traceId}, {@code userId}, {@code httpMethod},
+ * {@code uri}, {@code method}, {@code params}, {@code result}, {@code elapsedMs}, {@code exception}, {@code error}.
+ * 로그 수집기는 정규식 없이 필드를 그대로 색인할 수 있다.
+ * <pre>
+ * {"event":"controller_entry",...,"method":"TicketController.getTicket","params":{"id":1,"request":{"seatId":7}}}
+ * {"event":"controller_exit",...,"method":"TicketController.getTicket","result":{"id":1}}
+ * </pre>
+ *
+ * <p>{@link LoggingAspect}와 {@link AsyncLogDispatcher}는 구조화 모드에서 파라미터 문자열 대신 원본 인자와
+ * 반환값을 전달한다. JSON 모드의 {@code params}는 파라미터 이름별 필드를 가진 객체이고, 각 값과 {@code result}는
+ * 마스킹 직렬화 결과가 중첩 JSON으로 그대로 기록된다. 잘리거나 직렬화에 실패한 값만 문자열로 기록된다.
+ * KEY_VALUE 모드는 파라미터를 {@code params.이름} 키로 전달한다.
+ * 문자열 메시지를 받는 공개 메서드로 기록하면 전달된 문자열이 그대로 {@code params}/{@code result} 문자열 값이 된다.
+ *
+ * <p>진입/종료 기록 메서드는 INFO 레벨이 비활성화된 경우 메시지 포맷팅 없이 즉시 반환한다.
+ * 호출 측에서 파라미터 문자열/JSON 생성 비용까지 피하려면 {@link #isEnabled()}로 먼저 확인한다.
+ *
  * <p>사용 예시:
  * <pre>{@code
  * @Aspect
@@ -43,6 +72,82 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class LogManager {
 
+    /**
+     * 로그 출력 형식.
+     */
+    public enum OutputFormat {
+        /** 사람이 읽기 쉬운 문자열 */
+        TEXT,
+        /** SLF4J key-value 인자 */
+        KEY_VALUE,
+        /** 한 줄 JSON 메시지 */
+        JSON
+    }
+
+    /** KEY_VALUE 모드에서 파라미터 키 앞에 붙는 접두사 */
+    private static final String PARAMS_KEY_PREFIX = "params.";
+
+    private final OutputFormat format;
+
+    /**
+     * TEXT 형식으로 기록하는 LogManager를 생성한다.
+     */
+    public LogManager() {
+        this(OutputFormat.TEXT);
+    }
+
+    /**
+     * 출력 형식을 지정하여 LogManager를 생성한다.
+     *
+     * @param format 출력 형식 (null이면 TEXT)
+     */
+    public LogManager(OutputFormat format) {
+        this.format = format != null ? format : OutputFormat.TEXT;
+    }
+
+    /**
+     * 출력 형식을 반환한다.
+     *
+     * @return 출력 형식
+     */
+    public OutputFormat getFormat() {
+        return format;
+    }
+
+    /**
+     * 구조화 형식(KEY_VALUE, JSON)으로 기록하는지 확인한다.
+     *
+     * <p>true이면 호출 측은 파라미터 문자열과 결과 JSON 문자열 대신 원본 인자와 반환값을 전달한다.
+     *
+     * @return TEXT 형식이 아니면 true
+     */
+    public boolean isStructured() {
+        return format != OutputFormat.TEXT;
+    }
+
+    /**
+     * 진입/종료 로그가 기록되는 레벨(INFO)이 활성화되어 있는지 확인한다.
+     *
+     * <p>비활성화된 경우 호출 측은 파라미터 문자열 생성이나 결과 JSON 직렬화를 생략할 수 있다.
+     *
+     * @return INFO 레벨이 활성화되어 있으면 true
+     */
+    public boolean isEnabled() {
+        return log.isInfoEnabled();
+    }
+
+    /**
+     * 지연 호출 종료 로그와 실패 로그가 기록되는 레벨(WARN)이 활성화되어 있는지 확인한다.
+     *
+     * <p>{@link #isEnabled()}가 false여도 이 값이 true이면 호출 측은 실행 시간을 측정하여
+     * 지연 호출과 예외만 기록해야 한다.
+     *
+     * @return WARN 레벨이 활성화되어 있으면 true
+     */
+    public boolean isWarnEnabled() {
+        return log.isWarnEnabled();
+    }
+
     /**
      * 컨트롤러 진입 시점에 로그를 기록한다.
      *
@@ -57,6 +162,14 @@ public class LogManager {
             String methodInfo,
             String logMessage) {
 
+        if (!log.isInfoEnabled()) {
+            return;
+        }
+        if (format != OutputFormat.TEXT) {
+            writeStructured(Level.INFO, "controller_entry", httpMethod, requestUri, methodInfo,
+                    textPayload("params", logMessage), -1, null);
+            return;
+        }
         log.info("{} {} - {}{}", httpMethod, requestUri, formatCoreMessage(methodInfo), logMessage);
     }
 
@@ -74,6 +187,14 @@ public class LogManager {
             String methodInfo,
             String resultJson) {
 
+        if (!log.isInfoEnabled()) {
+            return;
+        }
+        if (format != OutputFormat.TEXT) {
+            writeStructured(Level.INFO, "controller_exit", httpMethod, requestUri, methodInfo,
+                    textPayload("result", resultJson), -1, null);
+            return;
+        }
         log.info("{} {} - {}, Return: {}", httpMethod, requestUri, formatCoreMessage(methodInfo), resultJson);
     }
 
@@ -84,6 +205,14 @@ public class LogManager {
      * @param logMessage 추가 로그 메시지 (파라미터 정보 등)
      */
     public void logMethodEntry(String methodInfo, String logMessage) {
+        if (!log.isInfoEnabled()) {
+            return;
+        }
+        if (format != OutputFormat.TEXT) {
+            writeStructured(Level.INFO, "method_entry", null, null, methodInfo,
+                    textPayload("params", logMessage), -1, null);
+            return;
+        }
         log.info("{}{}", formatCoreMessage(methodInfo), logMessage);
     }
 
@@ -94,9 +223,270 @@ public class LogManager {
      * @param resultJson 반환된 결과 (JSON 또는 클래스명)
      */
     public void logMethodExit(String methodInfo, String resultJson) {
+        if (!log.isInfoEnabled()) {
+            return;
+        }
+        if (format != OutputFormat.TEXT) {
+            writeStructured(Level.INFO, "method_exit", null, null, methodInfo,
+                    textPayload("result", resultJson), -1, null);
+            return;
+        }
         log.info("{}, Return: {}", formatCoreMessage(methodInfo), resultJson);
     }
 
+    /**
+     * 지연 임계값을 넘은 컨트롤러 종료 로그를 실행 시간과 함께 WARN 레벨로 기록한다.
+     *
+     * @param httpMethod HTTP 메서드 (GET, POST 등)
+     * @param requestUri 요청 URI
+     * @param methodInfo 호출된 메서드 정보 (ClassName.methodName)
+     * @param resultJson 반환된 결과 (JSON 또는 클래스명)
+     * @param elapsedMillis 실행 시간 (밀리초)
+     */
+    public void logControllerSlowExit(
+            String httpMethod,
+            String requestUri,
+            String methodInfo,
+            String resultJson,
+            long elapsedMillis) {
+
+        if (!log.isWarnEnabled()) {
+            return;
+        }
+        if (format != OutputFormat.TEXT) {
+            writeStructured(Level.WARN, "controller_slow_exit", httpMethod, requestUri, methodInfo,
+                    textPayload("result", resultJson), elapsedMillis, null);
+            return;
+        }
+        log.warn("{} {} - {}, Return: {}, Elapsed: {}ms",
+                httpMethod, requestUri, formatCoreMessage(methodInfo), resultJson, elapsedMillis);
+    }
+
+    /**
+     * 지연 임계값을 넘은 {@code @LogExecution} 메서드 종료 로그를 실행 시간과 함께 WARN 레벨로 기록한다.
+     *
+     * @param methodInfo 호출된 메서드 정보 (ClassName.methodName)
+     * @param resultJson 반환된 결과 (JSON 또는 클래스명)
+     * @param elapsedMillis 실행 시간 (밀리초)
+     */
+    public void logMethodSlowExit(String methodInfo, String resultJson, long elapsedMillis) {
+        if (!log.isWarnEnabled()) {
+            return;
+        }
+        if (format != OutputFormat.TEXT) {
+            writeStructured(Level.WARN, "method_slow_exit", null, null, methodInfo,
+                    textPayload("result", resultJson), elapsedMillis, null);
+            return;
+        }
+        log.warn("{}, Return: {}, Elapsed: {}ms", formatCoreMessage(methodInfo), resultJson, elapsedMillis);
+    }
+
+    /**
+     * 예외로 종료된 컨트롤러의 로그를 예외 유형과 실행 시간과 함께 WARN 레벨로 기록한다.
+     *
+     * <p>대량의 비즈니스 예외가 동시에 발생하는 경우를 고려하여 스택 트레이스는 기록하지 않는다.
+     * 예상하지 못한 예외의 스택 트레이스는 {@code GlobalExceptionHandler}가 기록한다.
+     *
+     * @param httpMethod HTTP 메서드 (GET, POST 등)
+     * @param requestUri 요청 URI
+     * @param methodInfo 호출된 메서드 정보 (ClassName.methodName)
+     * @param failure 발생한 예외
+     * @param elapsedMillis 실행 시간 (밀리초)
+     */
+    public void logControllerFailure(
+            String httpMethod,
+            String requestUri,
+            String methodInfo,
+            Throwable failure,
+            long elapsedMillis) {
+
+        if (!log.isWarnEnabled()) {
+            return;
+        }
+        if (format != OutputFormat.TEXT) {
+            writeStructured(Level.WARN, "controller_failure", httpMethod, requestUri, methodInfo,
+                    null, elapsedMillis, failure);
+            return;
+        }
+        log.warn("{} {} - {}, Failed: {} ({}), Elapsed: {}ms",
+                httpMethod, requestUri, formatCoreMessage(methodInfo),
+                failure.getClass().getSimpleName(), failure.getMessage(), elapsedMillis);
+    }
+
+    /**
+     * 예외로 종료된 {@code @LogExecution} 메서드의 로그를 예외 유형과 실행 시간과 함께 WARN 레벨로 기록한다.
+     *
+     * @param methodInfo 호출된 메서드 정보 (ClassName.methodName)
+     * @param failure 발생한 예외
+     * @param elapsedMillis 실행 시간 (밀리초)
+     */
+    public void logMethodFailure(String methodInfo, Throwable failure, long elapsedMillis) {
+        if (!log.isWarnEnabled()) {
+            return;
+        }
+        if (format != OutputFormat.TEXT) {
+            writeStructured(Level.WARN, "method_failure", null, null, methodInfo, null, elapsedMillis, failure);
+            return;
+        }
+        log.warn("{}, Failed: {} ({}), Elapsed: {}ms",
+                formatCoreMessage(methodInfo), failure.getClass().getSimpleName(), failure.getMessage(), elapsedMillis);
+    }
+
+    /**
+     * 원본 인자로 컨트롤러 진입 로그를 기록한다.
+     *
+     * <p>구조화 모드에서는 파라미터를 이름별 필드로 기록하고, TEXT 모드에서는
+     * {@link #logControllerEntry(String, String, String, String)}와 같은 문자열로 기록한다.
+     *
+     * @param httpMethod HTTP 메서드 (GET, POST 등)
+     * @param requestUri 요청 URI
+     * @param methodInfo 호출된 메서드 정보 (ClassName.methodName)
+     * @param parameterNames 파라미터 이름 배열
+     * @param args 메서드 호출 인자 배열 (마스킹 대상 파라미터는 이미 대체된 값)
+     * @param serializer 인자 직렬화에 사용할 Serializer
+     */
+    void logControllerEntry(
+            String httpMethod,
+            String requestUri,
+            String methodInfo,
+            String[] parameterNames,
+            Object[] args,
+            LogPayloadSerializer serializer) {
+
+        if (format == OutputFormat.TEXT) {
+            logControllerEntry(httpMethod, requestUri, methodInfo,
+                    LogPayloads.params(parameterNames, args, serializer));
+            return;
+        }
+        if (log.isInfoEnabled()) {
+            writeStructured(Level.INFO, "controller_entry", httpMethod, requestUri, methodInfo,
+                    new ParamsPayload(parameterNames, args, serializer), -1, null);
+        }
+    }
+
+    /**
+     * 원본 반환값으로 컨트롤러 종료 로그를 기록한다.
+     *
+     * @param httpMethod HTTP 메서드 (GET, POST 등)
+     * @param requestUri 요청 URI
+     * @param methodInfo 호출된 메서드 정보 (ClassName.methodName)
+     * @param result 반환 결과
+     * @param maxPayloadLength 반환값 최대 기록 길이 (음수이면 Serializer 기본값)
+     * @param serializer 반환값 직렬화에 사용할 Serializer
+     */
+    void logControllerExit(
+            String httpMethod,
+            String requestUri,
+            String methodInfo,
+            Object result,
+            int maxPayloadLength,
+            LogPayloadSerializer serializer) {
+
+        if (format == OutputFormat.TEXT) {
+            logControllerExit(httpMethod, requestUri, methodInfo, serializer.serialize(result, maxPayloadLength));
+            return;
+        }
+        if (log.isInfoEnabled()) {
+            writeStructured(Level.INFO, "controller_exit", httpMethod, requestUri, methodInfo,
+                    new ResultPayload(result, maxPayloadLength, serializer), -1, null);
+        }
+    }
+
+    /**
+     * 원본 반환값으로 지연 임계값을 넘은 컨트롤러 종료 로그를 기록한다.
+     *
+     * @param httpMethod HTTP 메서드 (GET, POST 등)
+     * @param requestUri 요청 URI
+     * @param methodInfo 호출된 메서드 정보 (ClassName.methodName)
+     * @param result 반환 결과
+     * @param maxPayloadLength 반환값 최대 기록 길이 (음수이면 Serializer 기본값)
+     * @param elapsedMillis 실행 시간 (밀리초)
+     * @param serializer 반환값 직렬화에 사용할 Serializer
+     */
+    void logControllerSlowExit(
+            String httpMethod,
+            String requestUri,
+            String methodInfo,
+            Object result,
+            int maxPayloadLength,
+            long elapsedMillis,
+            LogPayloadSerializer serializer) {
+
+        if (format == OutputFormat.TEXT) {
+            logControllerSlowExit(httpMethod, requestUri, methodInfo,
+                    serializer.serialize(result, maxPayloadLength), elapsedMillis);
+            return;
+        }
+        if (log.isWarnEnabled()) {
+            writeStructured(Level.WARN, "controller_slow_exit", httpMethod, requestUri, methodInfo,
+                    new ResultPayload(result, maxPayloadLength, serializer), elapsedMillis, null);
+        }
+    }
+
+    /**
+     * 원본 인자로 {@code @LogExecution} 메서드 진입 로그를 기록한다.
+     *
+     * @param methodInfo 호출된 메서드 정보 (ClassName.methodName)
+     * @param parameterNames 파라미터 이름 배열
+     * @param args 메서드 호출 인자 배열 (마스킹 대상 파라미터는 이미 대체된 값)
+     * @param serializer 인자 직렬화에 사용할 Serializer
+     */
+    void logMethodEntry(String methodInfo, String[] parameterNames, Object[] args, LogPayloadSerializer serializer) {
+        if (format == OutputFormat.TEXT) {
+            logMethodEntry(methodInfo, LogPayloads.params(parameterNames, args, serializer));
+            return;
+        }
+        if (log.isInfoEnabled()) {
+            writeStructured(Level.INFO, "method_entry", null, null, methodInfo,
+                    new ParamsPayload(parameterNames, args, serializer), -1, null);
+        }
+    }
+
+    /**
+     * 원본 반환값으로 {@code @LogExecution} 메서드 종료 로그를 기록한다.
+     *
+     * @param methodInfo 호출된 메서드 정보 (ClassName.methodName)
+     * @param result 반환 결과
+     * @param maxPayloadLength 반환값 최대 기록 길이 (음수이면 Serializer 기본값)
+     * @param serializer 반환값 직렬화에 사용할 Serializer
+     */
+    void logMethodExit(String methodInfo, Object result, int maxPayloadLength, LogPayloadSerializer serializer) {
+        if (format == OutputFormat.TEXT) {
+            logMethodExit(methodInfo, serializer.serialize(result, maxPayloadLength));
+            return;
+        }
+        if (log.isInfoEnabled()) {
+            writeStructured(Level.INFO, "method_exit", null, null, methodInfo,
+                    new ResultPayload(result, maxPayloadLength, serializer), -1, null);
+        }
+    }
+
+    /**
+     * 원본 반환값으로 지연 임계값을 넘은 {@code @LogExecution} 메서드 종료 로그를 기록한다.
+     *
+     * @param methodInfo 호출된 메서드 정보 (ClassName.methodName)
+     * @param result 반환 결과
+     * @param maxPayloadLength 반환값 최대 기록 길이 (음수이면 Serializer 기본값)
+     * @param elapsedMillis 실행 시간 (밀리초)
+     * @param serializer 반환값 직렬화에 사용할 Serializer
+     */
+    void logMethodSlowExit(
+            String methodInfo,
+            Object result,
+            int maxPayloadLength,
+            long elapsedMillis,
+            LogPayloadSerializer serializer) {
+
+        if (format == OutputFormat.TEXT) {
+            logMethodSlowExit(methodInfo, serializer.serialize(result, maxPayloadLength), elapsedMillis);
+            return;
+        }
+        if (log.isWarnEnabled()) {
+            writeStructured(Level.WARN, "method_slow_exit", null, null, methodInfo,
+                    new ResultPayload(result, maxPayloadLength, serializer), elapsedMillis, null);
+        }
+    }
+
     /**
      * 예외 발생 시 MDC에 저장된 요청 정보와 함께 ERROR 레벨로 로그를 기록한다.
      *
@@ -130,9 +520,170 @@ public class LogManager {
      * @return 포맷팅된 메시지
      */
     private String formatCoreMessage(String methodInfo) {
-        return String.format("Request ID: %s, User ID: %s, Method: %s",
-                MdcUtils.getRequestId(),
-                MdcUtils.getUserId(),
-                methodInfo);
+        return "Request ID: " + MdcUtils.getRequestId()
+                + ", User ID: " + MdcUtils.getUserId()
+                + ", Method: " + methodInfo;
+    }
+
+    /**
+     * 구조화 형식(KEY_VALUE, JSON)으로 로그를 기록한다.
+     *
+     * <p>traceId와 userId는 MDC에서 읽으며, null인 필드는 출력하지 않는다.
+     *
+     * @param level 로그 레벨
+     * @param event 이벤트 이름
+     * @param httpMethod HTTP 메서드 (없으면 null)
+     * @param requestUri 요청 URI (없으면 null)
+     * @param methodInfo 메서드 정보
+     * @param payload 파라미터 또는 반환값 (없으면 null)
+     * @param elapsedMillis 실행 시간 (음수이면 생략)
+     * @param failure 발생한 예외 (없으면 null)
+     */
+    private void writeStructured(
+            Level level,
+            String event,
+            String httpMethod,
+            String requestUri,
+            String methodInfo,
+            StructuredPayload payload,
+            long elapsedMillis,
+            Throwable failure) {
+
+        String exception = failure != null ? failure.getClass().getSimpleName() : null;
+        String error = failure != null ? failure.getMessage() : null;
+
+        if (format == OutputFormat.KEY_VALUE) {
+            LoggingEventBuilder builder = log.atLevel(level)
+                    .setMessage(event)
+                    .addKeyValue("event", event)
+                    .addKeyValue("traceId", MdcUtils.getRequestId())
+                    .addKeyValue("userId", MdcUtils.getUserId());
+            if (httpMethod != null) {
+                builder.addKeyValue("httpMethod", httpMethod).addKeyValue("uri", requestUri);
+            }
+            builder.addKeyValue("method", methodInfo);
+            if (payload != null) {
+                payload.addTo(builder);
+            }
+            if (elapsedMillis >= 0) {
+                builder.addKeyValue("elapsedMs", elapsedMillis);
+            }
+            if (failure != null) {
+                builder.addKeyValue("exception", exception).addKeyValue("error", error);
+            }
+            builder.log();
+            return;
+        }
+
+        JsonLogLine line = JsonLogLine.begin()
+                .field("event", event)
+                .field("traceId", MdcUtils.getRequestId())
+                .field("userId", MdcUtils.getUserId())
+                .field("httpMethod", httpMethod)
+                .field("uri", requestUri)
+                .field("method", methodInfo);
+        if (payload != null) {
+            payload.writeTo(line);
+        }
+        if (elapsedMillis >= 0) {
+            line.field("elapsedMs", elapsedMillis);
+        }
+        log.atLevel(level).log(line
+                .field("exception", exception)
+                .field("error", error)
+                .end());
+    }
+
+    /**
+     * 호출 측이 만든 문자열 메시지를 문자열 필드로 기록하는 페이로드를 생성한다.
+     *
+     * @param key 필드 이름
+     * @param text 메시지 (비어 있으면 생략)
+     * @return 페이로드, 메시지가 비어 있으면 null
+     */
+    private static StructuredPayload textPayload(String key, String text) {
+        return text == null || text.isEmpty() ? null : new TextPayload(key, text);
+    }
+
+    /**
+     * 구조화 로그의 {@code params} 또는 {@code result} 필드.
+     */
+    private interface StructuredPayload {
+
+        void addTo(LoggingEventBuilder builder);
+
+        void writeTo(JsonLogLine line);
+    }
+
+    /**
+     * 호출 측이 만든 문자열을 그대로 문자열 값으로 기록한다.
+     */
+    private record TextPayload(String key, String text) implements StructuredPayload {
+
+        @Override
+        public void addTo(LoggingEventBuilder builder) {
+            builder.addKeyValue(key, text);
+        }
+
+        @Override
+        public void writeTo(JsonLogLine line) {
+            line.field(key, text);
+        }
+    }
+
+    /**
+     * 파라미터를 이름별 필드로 기록한다. 각 값은 마스킹 직렬화 결과이며,
+     * 서블릿/프레임워크 타입은 {@link LogPayloadSerializer#serializeParameter(Object)}에 따라 {@code toString()} 결과이다.
+     */
+    private record ParamsPayload(String[] parameterNames, Object[] args, LogPayloadSerializer serializer)
+            implements StructuredPayload {
+
+        @Override
+        public void addTo(LoggingEventBuilder builder) {
+            for (int i = 0; i < parameterNames.length; i++) {
+                builder.addKeyValue(
+                        PARAMS_KEY_PREFIX + parameterNames[i], serializer.serializeParameter(args[i]).text());
+            }
+        }
+
+        @Override
+        public void writeTo(JsonLogLine line) {
+            if (parameterNames.length == 0) {
+                return;
+            }
+            line.beginObject("params");
+            for (int i = 0; i < parameterNames.length; i++) {
+                writeValue(line, parameterNames[i], serializer.serializeParameter(args[i]));
+            }
+            line.endObject();
+        }
+    }
+
+    /**
+     * 반환값을 최대 기록 길이까지 직렬화하여 기록한다.
+     */
+    private record ResultPayload(Object result, int maxPayloadLength, LogPayloadSerializer serializer)
+            implements StructuredPayload {
+
+        @Override
+        public void addTo(LoggingEventBuilder builder) {
+            builder.addKeyValue("result", serializer.serialize(result, maxPayloadLength));
+        }
+
+        @Override
+        public void writeTo(JsonLogLine line) {
+            writeValue(line, "result", serializer.serializePayload(result, maxPayloadLength));
+        }
+    }
+
+    /**
+     * 완전한 JSON은 중첩 값으로, 잘렸거나 직렬화에 실패한 결과는 문자열 값으로 기록한다.
+     */
+    private static void writeValue(JsonLogLine line, String name, LogPayloadSerializer.SerializedPayload value) {
+        if (value.json()) {
+            line.rawField(name, value.text());
+        } else {
+            line.field(name, value.text());
+        }
     }
-}
\ No newline at end of file
+}
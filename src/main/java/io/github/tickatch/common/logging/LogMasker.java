@@ -0,0 +1,326 @@
+package io.github.tickatch.common.logging;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 로그에 기록되는 파라미터와 반환값의 민감 정보를 직렬화 단계에서 마스킹하는 엔진.
+ *
+ * <p>마스킹 대상:
+ * <ul>
+ *   <li>{@link Masked}가 선언된 필드, 레코드 컴포넌트, getter, 메서드 파라미터</li>
+ *   <li>설정된 필드 경로와 이름이 일치하는 프로퍼티/파라미터
+ *       <ul>
+ *         <li>{@code password} - 모든 타입의 {@code password} (대소문자 무시)</li>
+ *         <li>{@code PaymentRequest.cardNumber} - 특정 타입(단순 클래스명)의 프로퍼티</li>
+ *       </ul>
+ *   </li>
+ * </ul>
+ *
+ * <p>마스킹은 출력 문자열을 다시 검사하는 방식이 아니다. Jackson {@link BeanSerializerModifier}가
+ * 타입별 직렬화기를 처음 만들 때 마스킹 대상 프로퍼티의 직렬화기를 교체하고, 이후에는 Jackson이
+ * 타입별로 캐싱한 직렬화기(= 마스킹 계획)를 그대로 재사용한다. 따라서 마스킹으로 인한 추가 순회가 없다.
+ *
+ * <p>로그 전용 {@link ObjectMapper} 사본에만 적용되므로 API 응답 직렬화에는 영향을 주지 않는다.
+ *
+ * @author Tickatch
+ * @since 0.0.6
+ * @see Masked
+ * @see LogPayloadSerializer
+ */
+public class LogMasker {
+
+    /** 마스킹된 값 대신 기록되는 문자열 */
+    public static final String MASK = "****";
+
+    /** {@link #requiresMasking(Object)}가 중첩 컨테이너를 따라가는 최대 깊이 */
+    private static final int MAX_CONTAINER_DEPTH = 8;
+
+    /** {@link #requiresMasking(Object)}가 값 하나에 대해 검사하는 최대 컨테이너 요소 수 */
+    static final int MAX_SCANNED_ELEMENTS = 256;
+
+    /** 모든 타입에 적용되는 필드 이름 (소문자) */
+    private final Set<String> fieldNames = new HashSet<>();
+
+    /** 특정 타입에만 적용되는 경로 ({@code SimpleClassName.field}) */
+    private final Set<String> typedPaths = new HashSet<>();
+
+    /** 타입별 마스킹 대상 프로퍼티 존재 여부 캐시 */
+    private final ClassValue<Boolean> maskedTypes = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return scanMaskedProperties(type, new HashSet<>());
+        }
+    };
+
+    /**
+     * {@link Masked} 애노테이션만 사용하는 마스커를 생성한다.
+     */
+    public LogMasker() {
+        this(List.of());
+    }
+
+    /**
+     * 설정된 필드 경로를 함께 사용하는 마스커를 생성한다.
+     *
+     * @param paths 필드 이름({@code password}) 또는 타입 경로({@code PaymentRequest.cardNumber}) 목록
+     */
+    public LogMasker(Collection<String> paths) {
+        if (paths == null) {
+            return;
+        }
+        for (String path : paths) {
+            if (path == null || path.isBlank()) {
+                continue;
+            }
+            String trimmed = path.trim();
+            if (trimmed.indexOf('.') > 0) {
+                typedPaths.add(trimmed);
+            } else {
+                fieldNames.add(trimmed.toLowerCase(Locale.ROOT));
+            }
+        }
+    }
+
+    /**
+     * 마스킹 직렬화기를 등록한 ObjectMapper 사본을 반환한다. 원본은 변경하지 않는다.
+     *
+     * @param objectMapper 원본 ObjectMapper
+     * @return 마스킹이 적용된 ObjectMapper 사본
+     */
+    public ObjectMapper apply(ObjectMapper objectMapper) {
+        SimpleModule module = new SimpleModule("tickatch-log-masking");
+        module.setSerializerModifier(new MaskingSerializerModifier());
+        return objectMapper.copy().registerModule(module);
+    }
+
+    /**
+     * 타입에 마스킹 대상 프로퍼티가 있는지 확인한다. 결과는 타입별로 캐싱된다.
+     *
+     * <p>중첩된 필드 타입과 함께 컨테이너 필드의 요소 타입({@code List<CardDto>}, {@code Map<String, CardDto>},
+     * {@code CardDto[]} 등 제네릭 타입 인자와 배열 요소 타입)까지 검사한다.
+     * 선언 타입만으로 요소를 알 수 없는 필드({@code Object}, 타입 변수 {@code T}, {@code List<?>} 등)가 있으면
+     * 런타임 값에 마스킹 대상이 있을 수 있으므로 true로 판단한다.
+     *
+     * @param type 확인할 타입
+     * @return 마스킹 대상 필드가 있거나 있을 수 있으면 true
+     */
+    public boolean hasMaskedProperties(Class<?> type) {
+        return maskedTypes.get(type);
+    }
+
+    /**
+     * 값을 {@code toString()} 대신 마스킹 직렬화로 기록해야 하는지 확인한다.
+     *
+     * <p>파라미터 로그에서 사용한다. 컬렉션, Map, 배열, {@link Optional}은 선언 타입이 지워지므로
+     * 실제 요소(Map은 키와 값)의 타입을 따라가며 검사하고, 그 외 값은 {@link #hasMaskedProperties(Class)}의
+     * 캐시된 결과를 사용한다.
+     *
+     * <p>컨테이너 요소는 직전 요소와 클래스가 같으면 타입 판단을 건너뛰므로 같은 타입으로 채워진 컨테이너는
+     * 요소 클래스마다 캐시 조회 한 번으로 판단된다. 다만 요소 순회 자체는 값 하나당
+     * {@value #MAX_SCANNED_ELEMENTS}개까지만 하고, 이를 넘는 컨테이너는 남은 요소를 검사하지 않고
+     * 마스킹 직렬화가 필요하다고 본다. 마스킹 직렬화는 최대 기록 길이에서 중단되므로 큰 컨테이너라도 비용이 제한된다.
+     *
+     * @param value 확인할 값
+     * @return 마스킹 직렬화가 필요하면 true
+     */
+    public boolean requiresMasking(Object value) {
+        return requiresMasking(value, 0, new ScanBudget());
+    }
+
+    /**
+     * 이름이 설정된 필드 이름과 일치하는지 확인한다.
+     *
+     * @param name 프로퍼티 또는 파라미터 이름
+     * @return 마스킹 대상이면 true
+     */
+    public boolean isMaskedName(String name) {
+        return name != null && !fieldNames.isEmpty() && fieldNames.contains(name.toLowerCase(Locale.ROOT));
+    }
+
+    private boolean isMaskedProperty(Class<?> declaringType, String name) {
+        return isMaskedName(name)
+                || (!typedPaths.isEmpty() && typedPaths.contains(declaringType.getSimpleName() + "." + name));
+    }
+
+    private boolean requiresMasking(Object value, int depth, ScanBudget budget) {
+        if (value == null || depth > MAX_CONTAINER_DEPTH) {
+            return false;
+        }
+        if (value instanceof Collection<?> collection) {
+            return anyRequiresMasking(collection, depth, budget);
+        }
+        if (value instanceof Map<?, ?> map) {
+            return anyRequiresMasking(map.keySet(), depth, budget) || anyRequiresMasking(map.values(), depth, budget);
+        }
+        if (value instanceof Object[] array) {
+            return anyRequiresMasking(Arrays.asList(array), depth, budget);
+        }
+        if (value instanceof Optional<?> optional) {
+            return requiresMasking(optional.orElse(null), depth + 1, budget);
+        }
+        return hasMaskedProperties(value.getClass());
+    }
+
+    /**
+     * 컨테이너 요소를 검사한다. 컨테이너가 아닌 요소는 직전 요소와 클래스가 같으면 건너뛴다.
+     * 검사 한도를 넘으면 남은 요소를 알 수 없으므로 마스킹이 필요하다고 본다.
+     */
+    private boolean anyRequiresMasking(Iterable<?> elements, int depth, ScanBudget budget) {
+        Class<?> previousType = null;
+        for (Object element : elements) {
+            if (--budget.remaining < 0) {
+                return true;
+            }
+            if (element == null) {
+                continue;
+            }
+            Class<?> type = element.getClass();
+            boolean container = element instanceof Collection<?> || element instanceof Map<?, ?>
+                    || element instanceof Object[] || element instanceof Optional<?>;
+            if (!container && type == previousType) {
+                continue;
+            }
+            if (requiresMasking(element, depth + 1, budget)) {
+                return true;
+            }
+            previousType = container ? null : type;
+        }
+        return false;
+    }
+
+    private boolean scanMaskedProperties(Class<?> type, Set<Class<?>> visited) {
+        visited.add(type);
+        if (type.isArray()) {
+            return scanType(type.getComponentType(), visited);
+        }
+        for (Class<?> current = type; current != null && !isJdkType(current); current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers())) {
+                    continue;
+                }
+                if (field.isAnnotationPresent(Masked.class) || isMaskedProperty(type, field.getName())) {
+                    return true;
+                }
+                if (scanType(field.getGenericType(), visited)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 필드 타입과 컨테이너 요소 타입(제네릭 타입 인자, 배열 요소 타입)을 검사한다.
+     * 선언 타입만으로 요소를 알 수 없으면({@code Object}, 타입 변수) 마스킹 대상이 있을 수 있다고 본다.
+     */
+    private boolean scanType(Type type, Set<Class<?>> visited) {
+        if (type instanceof Class<?> clazz) {
+            if (clazz.isArray()) {
+                return scanType(clazz.getComponentType(), visited);
+            }
+            if (clazz == Object.class) {
+                return true;
+            }
+            return !isJdkType(clazz) && !visited.contains(clazz) && scanMaskedProperties(clazz, visited);
+        }
+        if (type instanceof ParameterizedType parameterized) {
+            if (scanType(parameterized.getRawType(), visited)) {
+                return true;
+            }
+            for (Type argument : parameterized.getActualTypeArguments()) {
+                if (scanType(argument, visited)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        if (type instanceof GenericArrayType arrayType) {
+            return scanType(arrayType.getGenericComponentType(), visited);
+        }
+        if (type instanceof WildcardType wildcard) {
+            for (Type bound : wildcard.getUpperBounds()) {
+                if (scanType(bound, visited)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return type instanceof TypeVariable<?>;
+    }
+
+    /**
+     * 값 하나를 검사하는 동안 남은 컨테이너 요소 검사 횟수. 중첩 컨테이너가 함께 사용한다.
+     */
+    private static final class ScanBudget {
+
+        private int remaining = MAX_SCANNED_ELEMENTS;
+    }
+
+    private static boolean isJdkType(Class<?> type) {
+        String name = type.getName();
+        return type.isPrimitive() || type.isArray() || name.startsWith("java.") || name.startsWith("javax.");
+    }
+
+    /**
+     * 타입별 직렬화기 생성 시 마스킹 대상 프로퍼티의 직렬화기를 교체한다.
+     */
+    private final class MaskingSerializerModifier extends BeanSerializerModifier {
+
+        @Override
+        public List<BeanPropertyWriter> changeProperties(
+                SerializationConfig config,
+                BeanDescription beanDesc,
+                List<BeanPropertyWriter> beanProperties) {
+
+            Class<?> beanClass = beanDesc.getBeanClass();
+            for (BeanPropertyWriter writer : beanProperties) {
+                if (writer.getAnnotation(Masked.class) != null || isMaskedProperty(beanClass, writer.getName())) {
+                    writer.assignSerializer(MaskSerializer.INSTANCE);
+                }
+            }
+            return beanProperties;
+        }
+    }
+
+    /**
+     * 값과 무관하게 {@link #MASK}를 기록하는 직렬화기.
+     */
+    private static final class MaskSerializer extends StdSerializer<Object> {
+
+        private static final MaskSerializer INSTANCE = new MaskSerializer();
+
+        private MaskSerializer() {
+            super(Object.class);
+        }
+
+        @Override
+        public void serialize(Object value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeString(MASK);
+        }
+    }
+}
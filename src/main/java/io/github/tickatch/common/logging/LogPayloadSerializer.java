@@ -0,0 +1,359 @@
+package io.github.tickatch.common.logging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.github.tickatch.common.util.JsonUtils;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Set;
+
+/**
+ * 로그에 기록할 반환값을 길이 제한이 있는 버퍼로 직접 직렬화하는 Serializer.
+ *
+ * <p>{@link JsonUtils#getObjectMapper()}의 설정을 그대로 사용하되, 결과 전체를 String으로 만든 뒤
+ * 자르는 대신 스레드별로 재사용되는 버퍼에 스트리밍으로 기록하고, 제한 길이에 도달하면 직렬화를 중단한다.
+ * 잘린 결과 끝에는 {@link #TRUNCATED_MARKER}가 붙는다.
+ *
+ * <p>따라서 수천 건의 {@code PageResponse}처럼 큰 응답이라도 로그용 할당량은
+ * 제한 길이 + Jackson 내부 버퍼 크기 이내로 유지된다.
+ *
+ * <p>{@link LogMasker}가 적용된 ObjectMapper 사본을 사용하므로 {@link Masked} 필드와 설정된 필드 경로는
+ * 직렬화 도중에 마스킹된다. 파라미터 로그용 {@link #toLogString(Object)}도 마스킹 대상 필드가 있는 값은
+ * (컬렉션, Map, 배열의 요소 포함) {@code toString()} 대신 마스킹 직렬화를 사용한다.
+ *
+ * <p>서블릿 요청/응답, 스트림, {@code MultipartFile}, {@code BindingResult}, {@code Principal} 같은
+ * 서블릿/프레임워크 타입의 파라미터는 직렬화하지 않고 {@code toString()} 결과를 기록한다
+ * ({@link #serializeParameter(Object)}). Jackson이 getter를 호출하면 세션이 생성되거나 요청 본문이 소비되고,
+ * 응답 스트림이 선점되어 컨트롤러가 응답을 쓰지 못할 수 있기 때문이다.
+ *
+ * <p>제한 길이 규칙:
+ * <ul>
+ *   <li>{@code maxLength > 0} - 해당 길이(문자 수)까지만 기록</li>
+ *   <li>{@code maxLength == 0} - 제한 없음</li>
+ *   <li>{@code maxLength < 0} - 생성 시 지정한 기본 제한 사용 ({@link LogExecution#maxPayloadLength()} 기본값)</li>
+ * </ul>
+ *
+ * <p>사용 예시:
+ * <pre>{@code
+ * LogPayloadSerializer serializer = new LogPayloadSerializer(4096);
+ * String json = serializer.serialize(pageResponse);        // 최대 4096자 + 잘림 표시
+ * String full = serializer.serialize(pageResponse, 0);     // 제한 없음
+ * }</pre>
+ *
+ * @author Tickatch
+ * @since 0.0.6
+ * @see LoggingAspect
+ * @see LogExecution#maxPayloadLength()
+ */
+public class LogPayloadSerializer {
+
+    /** 기본 최대 기록 길이 (문자 수) */
+    public static final int DEFAULT_MAX_LENGTH = 4096;
+
+    /** 잘린 결과 끝에 붙는 표시 */
+    public static final String TRUNCATED_MARKER = "...(truncated)";
+
+    /** 스레드별 버퍼가 유지할 최대 용량. 제한 없음으로 직렬화한 뒤에도 이보다 크게 남지 않도록 한다. */
+    private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+
+    private static final ThreadLocal<BoundedWriter> BUFFER = ThreadLocal.withInitial(BoundedWriter::new);
+
+    /**
+     * 직렬화하지 않는 파라미터 타입. 선택 의존성이 없어도 동작하도록 이름으로 비교한다.
+     */
+    private static final Set<String> OPAQUE_TYPES = Set.of(
+            "java.io.InputStream",
+            "java.io.OutputStream",
+            "java.io.Reader",
+            "java.io.Writer",
+            "java.nio.channels.Channel",
+            "java.security.Principal",
+            "jakarta.servlet.ServletRequest",
+            "jakarta.servlet.ServletResponse",
+            "jakarta.servlet.http.HttpSession",
+            "jakarta.servlet.http.Part",
+            "org.springframework.core.io.InputStreamSource",
+            "org.springframework.validation.Errors",
+            "org.springframework.ui.Model",
+            "org.springframework.web.context.request.WebRequest",
+            "org.springframework.web.server.ServerWebExchange",
+            "org.springframework.http.HttpMessage");
+
+    /** 타입별 직렬화 제외 여부 캐시 */
+    private static final ClassValue<Boolean> OPAQUE = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return isOpaqueType(type);
+        }
+    };
+
+    private final ObjectWriter objectWriter;
+    private final int defaultMaxLength;
+    private final LogMasker masker;
+
+    /**
+     * 기본 제한 길이({@value #DEFAULT_MAX_LENGTH})로 Serializer를 생성한다.
+     */
+    public LogPayloadSerializer() {
+        this(DEFAULT_MAX_LENGTH);
+    }
+
+    /**
+     * 기본 제한 길이를 지정하여 Serializer를 생성한다.
+     *
+     * @param defaultMaxLength 기본 최대 기록 길이 (0 이하이면 제한 없음)
+     */
+    public LogPayloadSerializer(int defaultMaxLength) {
+        this(JsonUtils.getObjectMapper(), defaultMaxLength);
+    }
+
+    /**
+     * ObjectMapper와 기본 제한 길이를 지정하여 Serializer를 생성한다.
+     *
+     * @param objectMapper 직렬화에 사용할 ObjectMapper
+     * @param defaultMaxLength 기본 최대 기록 길이 (0 이하이면 제한 없음)
+     */
+    public LogPayloadSerializer(ObjectMapper objectMapper, int defaultMaxLength) {
+        this(objectMapper, defaultMaxLength, new LogMasker());
+    }
+
+    /**
+     * ObjectMapper, 기본 제한 길이, 마스킹 정책을 지정하여 Serializer를 생성한다.
+     *
+     * @param objectMapper 직렬화에 사용할 ObjectMapper (사본에 마스킹이 적용되며 원본은 변경되지 않음)
+     * @param defaultMaxLength 기본 최대 기록 길이 (0 이하이면 제한 없음)
+     * @param masker 민감 정보 마스킹 정책
+     */
+    public LogPayloadSerializer(ObjectMapper objectMapper, int defaultMaxLength, LogMasker masker) {
+        this.masker = masker;
+        this.objectWriter = masker.apply(objectMapper).writer();
+        this.defaultMaxLength = Math.max(defaultMaxLength, 0);
+    }
+
+    /**
+     * 기본 제한 길이로 객체를 직렬화한다.
+     *
+     * @param value 직렬화할 객체
+     * @return JSON 문자열 (필요 시 잘림 표시 포함), 실패 시 클래스명
+     */
+    public String serialize(Object value) {
+        return serialize(value, -1);
+    }
+
+    /**
+     * 지정한 제한 길이로 객체를 직렬화한다.
+     *
+     * @param value 직렬화할 객체
+     * @param maxLength 최대 기록 길이 (음수이면 기본값, 0이면 제한 없음)
+     * @return JSON 문자열 (필요 시 잘림 표시 포함), 실패 시 클래스명
+     */
+    public String serialize(Object value, int maxLength) {
+        return serializePayload(value, maxLength).text();
+    }
+
+    /**
+     * 지정한 제한 길이로 객체를 직렬화하고, 결과가 완전한 JSON인지 함께 반환한다.
+     *
+     * <p>구조화 로그({@link LogManager.OutputFormat#JSON})는 완전한 JSON이면 중첩 값으로 그대로 기록하고,
+     * 잘렸거나 직렬화에 실패한 결과(클래스명)는 문자열 값으로 기록한다.
+     *
+     * @param value 직렬화할 객체
+     * @param maxLength 최대 기록 길이 (음수이면 기본값, 0이면 제한 없음)
+     * @return 직렬화 결과
+     */
+    SerializedPayload serializePayload(Object value, int maxLength) {
+        if (value == null) {
+            return SerializedPayload.NULL;
+        }
+
+        int limit = maxLength < 0 ? defaultMaxLength : maxLength;
+        BoundedWriter writer = BUFFER.get();
+        writer.reset(limit);
+
+        try {
+            objectWriter.writeValue(writer, value);
+        } catch (Exception e) {
+            if (!writer.isTruncated()) {
+                return new SerializedPayload(value.getClass().getName(), false);
+            }
+        }
+
+        return writer.isTruncated()
+                ? new SerializedPayload(writer.contents() + TRUNCATED_MARKER, false)
+                : new SerializedPayload(writer.contents(), true);
+    }
+
+    /**
+     * 구조화 로그의 파라미터 값으로 직렬화한다.
+     *
+     * <p>서블릿/프레임워크 타입은 직렬화하지 않고 {@code toString()} 결과를 문자열 값으로 반환하며,
+     * 그 외 값은 기본 제한 길이로 {@link #serializePayload(Object, int)}를 사용한다.
+     *
+     * @param value 파라미터 값
+     * @return 직렬화 결과
+     */
+    SerializedPayload serializeParameter(Object value) {
+        if (value != null && OPAQUE.get(value.getClass())) {
+            return new SerializedPayload(String.valueOf(value), false);
+        }
+        return serializePayload(value, -1);
+    }
+
+    /**
+     * 파라미터 로그에 사용할 문자열로 변환한다.
+     *
+     * <p>서블릿/프레임워크 타입은 마스킹 검사 없이 {@code toString()} 결과를 반환한다.
+     * 마스킹 대상 필드가 있는 값은 마스킹 직렬화 결과를, 그 외에는 {@code toString()} 결과를 반환한다.
+     * {@code List<PaymentRequest>}, {@code Map<String, CardDto>}, 배열처럼 요소 타입이 지워지는 컨테이너는
+     * 실제 요소를 따라가며 판단한다 ({@link LogMasker#requiresMasking(Object)}).
+     * 타입별 판단 결과는 캐싱되므로 컨테이너가 아닌 인자의 추가 비용은 캐시 조회 한 번이다.
+     * 컨테이너는 요소를 최대 {@value LogMasker#MAX_SCANNED_ELEMENTS}개까지 순회하며 요소 클래스가 바뀔 때마다
+     * 캐시를 조회하고, 이보다 큰 컨테이너는 검사를 중단하고 마스킹 직렬화(최대 기록 길이까지)를 사용한다.
+     *
+     * @param value 변환할 인자
+     * @return 로그용 문자열
+     */
+    public String toLogString(Object value) {
+        if (value == null) {
+            return "null";
+        }
+        if (OPAQUE.get(value.getClass())) {
+            return String.valueOf(value);
+        }
+        if (masker.requiresMasking(value)) {
+            return serialize(value);
+        }
+        return String.valueOf(value);
+    }
+
+    /**
+     * 마스킹 정책을 반환한다.
+     *
+     * @return 마스킹 정책
+     */
+    public LogMasker getMasker() {
+        return masker;
+    }
+
+    /**
+     * 기본 최대 기록 길이를 반환한다.
+     *
+     * @return 기본 최대 기록 길이 (0이면 제한 없음)
+     */
+    public int getDefaultMaxLength() {
+        return defaultMaxLength;
+    }
+
+    /**
+     * 타입 또는 상위 타입(클래스, 인터페이스)이 직렬화하지 않는 타입인지 확인한다.
+     */
+    private static boolean isOpaqueType(Class<?> type) {
+        if (type == null) {
+            return false;
+        }
+        if (OPAQUE_TYPES.contains(type.getName())) {
+            return true;
+        }
+        for (Class<?> contract : type.getInterfaces()) {
+            if (isOpaqueType(contract)) {
+                return true;
+            }
+        }
+        return isOpaqueType(type.getSuperclass());
+    }
+
+    /**
+     * 직렬화 결과.
+     *
+     * @param text 기록할 문자열 (잘린 경우 잘림 표시 포함, 실패 시 클래스명)
+     * @param json 잘리지 않고 직렬화에 성공하여 완전한 JSON이면 true
+     */
+    record SerializedPayload(String text, boolean json) {
+
+        static final SerializedPayload NULL = new SerializedPayload("null", true);
+    }
+
+    /**
+     * 제한 길이에 도달하면 기록을 중단하는 재사용 가능한 Writer.
+     *
+     * <p>제한에 처음 도달할 때 {@link LimitReachedException}을 던져 직렬화를 중단시키고,
+     * 이후 Jackson이 종료 처리 중에 남은 버퍼를 flush하더라도 무시한다.
+     * {@link #close()}는 Jackson이 직렬화 종료 시 호출하므로 버퍼를 비우지 않는다.
+     */
+    private static final class BoundedWriter extends Writer {
+
+        private final StringBuilder buffer = new StringBuilder(256);
+        private int limit;
+        private boolean truncated;
+
+        void reset(int limit) {
+            if (buffer.capacity() > MAX_RETAINED_CAPACITY) {
+                buffer.setLength(0);
+                buffer.trimToSize();
+            }
+            buffer.setLength(0);
+            this.limit = limit;
+            this.truncated = false;
+        }
+
+        boolean isTruncated() {
+            return truncated;
+        }
+
+        String contents() {
+            return buffer.toString();
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            if (truncated) {
+                return;
+            }
+            if (limit > 0 && buffer.length() + len > limit) {
+                buffer.append(cbuf, off, limit - buffer.length());
+                truncated = true;
+                throw new LimitReachedException();
+            }
+            buffer.append(cbuf, off, len);
+        }
+
+        @Override
+        public void write(String str, int off, int len) throws IOException {
+            if (truncated) {
+                return;
+            }
+            if (limit > 0 && buffer.length() + len > limit) {
+                buffer.append(str, off, off + (limit - buffer.length()));
+                truncated = true;
+                throw new LimitReachedException();
+            }
+            buffer.append(str, off, off + len);
+        }
+
+        @Override
+        public void flush() {
+            // 메모리 버퍼이므로 flush할 대상이 없음
+        }
+
+        @Override
+        public void close() {
+            // 버퍼 재사용을 위해 아무것도 하지 않음
+        }
+    }
+
+    /**
+     * 제한 길이 도달 시 직렬화를 중단시키는 예외. 스택 트레이스를 생성하지 않는다.
+     */
+    private static final class LimitReachedException extends IOException {
+
+        LimitReachedException() {
+            super("log payload limit reached");
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package io.github.tickatch.common.logging;
+
+/**
+ * 로그 메시지에 포함되는 파라미터 문자열을 생성하는 내부 유틸리티.
+ *
+ * <p>{@link LoggingAspect}(동기 모드)와 {@link AsyncLogDispatcher}(비동기 모드), 원본 인자를 받은
+ * {@link LogManager}(TEXT 형식)가 동일한 출력 형식을 사용하도록 포맷팅 로직을 한 곳에 모아둔다.
+ *
+ * @author Tickatch
+ * @since 0.0.6
+ * @see LoggingAspect
+ * @see AsyncLogDispatcher
+ * @see LogPayloadSerializer
+ */
+final class LogPayloads {
+
+    private LogPayloads() {
+        throw new AssertionError("유틸리티 클래스는 인스턴스화할 수 없습니다.");
+    }
+
+    /**
+     * 파라미터 이름과 인자를 기반으로 파라미터 로깅용 문자열을 생성한다.
+     *
+     * <p>각 인자는 {@link LogPayloadSerializer#toLogString(Object)}로 변환되어
+     * 마스킹 대상 필드가 있는 타입은 마스킹된 JSON으로 기록된다.
+     *
+     * @param parameterNames 파라미터 이름 배열
+     * @param args 메서드 호출 인자 배열
+     * @param serializer 인자 변환에 사용할 Serializer
+     * @return ", Params: {name1: value1, ...}" 형식의 파라미터 정보 (인자가 없으면 빈 문자열)
+     */
+    static String params(String[] parameterNames, Object[] args, LogPayloadSerializer serializer) {
+        if (parameterNames == null || parameterNames.length == 0) {
+            return "";
+        }
+
+        StringBuilder logMessage = new StringBuilder(", Params: {");
+        for (int i = 0; i < parameterNames.length; i++) {
+            logMessage.append(parameterNames[i]).append(": ").append(serializer.toLogString(args[i]));
+            if (i < parameterNames.length - 1) {
+                logMessage.append(", ");
+            }
+        }
+        logMessage.append("}");
+
+        return logMessage.toString();
+    }
+}
@@ -0,0 +1,207 @@
+package io.github.tickatch.common.logging;
+
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 컨트롤러 진입/종료 로그의 샘플링 및 속도 제한 정책.
+ *
+ * <p>핫 엔드포인트에서 모든 요청을 로깅하지 않고도 로그를 유지할 수 있도록 다음 정책을 제공한다:
+ * <ul>
+ *   <li><b>확률 샘플링</b> - URI 패턴별 샘플링 비율 (매칭되는 패턴이 없으면 기본 비율)</li>
+ *   <li><b>속도 제한</b> - URI 패턴별 초당 최대 로그 건수 (토큰 버킷)</li>
+ *   <li><b>예외/지연 호출</b> - 샘플링에서 제외된 요청이라도 예외 발생 또는 지연 임계값 초과 시 기록</li>
+ * </ul>
+ *
+ * <p>샘플링 여부는 traceId의 해시로 결정된다. 같은 traceId는 어느 서비스에서든
+ * 같은 결과를 얻으므로, 동일한 비율을 쓰는 서비스 간에 한 요청의 로그가 일관되게 남거나 빠진다.
+ * traceId가 없는 경우에만 난수를 사용한다.
+ *
+ * <p>패턴은 {@link AntPathMatcher} 형식이며, 설정 순서대로 처음 매칭되는 패턴이 적용된다.
+ *
+ * <p>사용 예시:
+ * <pre>{@code
+ * LogSampler sampler = new LogSampler(
+ *         1.0,
+ *         Map.of("/api/seats/**", 0.05),      // 좌석 조회는 5%만
+ *         Map.of("/api/**", 200),             // API 전체 초당 200건까지
+ *         true,                               // 예외는 항상 기록
+ *         Duration.ofSeconds(1));             // 1초 이상 걸린 호출은 항상 기록
+ * }</pre>
+ *
+ * @author Tickatch
+ * @since 0.0.6
+ * @see LoggingAspect
+ */
+public class LogSampler {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final double UNIT = 0x1.0p-53;
+
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+    private final double defaultRate;
+    private final List<RateRule> rateRules;
+    private final List<RateLimitRule> rateLimitRules;
+    private final boolean alwaysLogErrors;
+    private final long slowThresholdNanos;
+
+    /**
+     * 샘플링 정책을 생성한다.
+     *
+     * @param defaultRate 매칭되는 패턴이 없을 때의 샘플링 비율 (0.0 ~ 1.0)
+     * @param rates URI 패턴별 샘플링 비율 (null 가능)
+     * @param rateLimits URI 패턴별 초당 최대 로그 건수 (null 가능)
+     * @param alwaysLogErrors 샘플링 제외 요청이라도 예외 발생 시 기록할지 여부
+     * @param slowThreshold 샘플링 제외 요청이라도 기록할 지연 임계값 (null이면 사용 안 함)
+     */
+    public LogSampler(
+            double defaultRate,
+            Map<String, Double> rates,
+            Map<String, Integer> rateLimits,
+            boolean alwaysLogErrors,
+            Duration slowThreshold) {
+
+        this.defaultRate = defaultRate;
+        this.rateRules = new ArrayList<>();
+        if (rates != null) {
+            rates.forEach((pattern, rate) -> rateRules.add(new RateRule(pattern, rate)));
+        }
+        this.rateLimitRules = new ArrayList<>();
+        if (rateLimits != null) {
+            rateLimits.forEach((pattern, permits) ->
+                    rateLimitRules.add(new RateLimitRule(pattern, new TokenBucket(permits))));
+        }
+        this.alwaysLogErrors = alwaysLogErrors;
+        this.slowThresholdNanos = slowThreshold != null && !slowThreshold.isZero() && !slowThreshold.isNegative()
+                ? slowThreshold.toNanos()
+                : Long.MAX_VALUE;
+    }
+
+    /**
+     * 현재 요청의 로그를 기록할지 결정한다.
+     *
+     * <p>traceId 기반 확률 샘플링을 먼저 적용하고, 통과한 경우에만 속도 제한 토큰을 소비한다.
+     *
+     * @param requestUri 요청 URI
+     * @return 기록 대상이면 true
+     */
+    public boolean isSampled(String requestUri) {
+        if (!isSampledByTrace(MdcUtils.getRequestId(), resolveRate(requestUri))) {
+            return false;
+        }
+        TokenBucket bucket = resolveBucket(requestUri);
+        return bucket == null || bucket.tryAcquire();
+    }
+
+    /**
+     * 샘플링 제외 요청이라도 예외 발생 시 기록하는지 여부.
+     *
+     * @return 예외를 항상 기록하면 true
+     */
+    public boolean isAlwaysLogErrors() {
+        return alwaysLogErrors;
+    }
+
+    /**
+     * 경과 시간이 지연 임계값 이상인지 확인한다.
+     *
+     * @param elapsedNanos 경과 시간 (나노초)
+     * @return 임계값 이상이면 true, 임계값이 설정되지 않았으면 false
+     */
+    public boolean isSlow(long elapsedNanos) {
+        return elapsedNanos >= slowThresholdNanos;
+    }
+
+    /**
+     * traceId의 해시를 기반으로 샘플링 여부를 결정한다.
+     *
+     * <p>같은 traceId와 같은 비율이면 항상 같은 결과를 반환한다.
+     *
+     * @param traceId 추적 ID (null이면 난수 사용)
+     * @param rate 샘플링 비율 (0.0 ~ 1.0)
+     * @return 샘플링 대상이면 true
+     */
+    static boolean isSampledByTrace(String traceId, double rate) {
+        if (rate >= 1.0) {
+            return true;
+        }
+        if (rate <= 0.0) {
+            return false;
+        }
+        if (traceId == null || traceId.isEmpty()) {
+            return ThreadLocalRandom.current().nextDouble() < rate;
+        }
+
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < traceId.length(); i++) {
+            hash ^= traceId.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return (hash >>> 11) * UNIT < rate;
+    }
+
+    private double resolveRate(String requestUri) {
+        for (RateRule rule : rateRules) {
+            if (pathMatcher.match(rule.pattern(), requestUri)) {
+                return rule.rate();
+            }
+        }
+        return defaultRate;
+    }
+
+    private TokenBucket resolveBucket(String requestUri) {
+        for (RateLimitRule rule : rateLimitRules) {
+            if (pathMatcher.match(rule.pattern(), requestUri)) {
+                return rule.bucket();
+            }
+        }
+        return null;
+    }
+
+    private record RateRule(String pattern, double rate) {
+    }
+
+    private record RateLimitRule(String pattern, TokenBucket bucket) {
+    }
+
+    /**
+     * 락 없이 동작하는 초당 토큰 버킷.
+     *
+     * <p>다음 토큰이 생성되는 이론적 도착 시각(TAT)만 원자적으로 관리하는 GCRA 방식으로,
+     * 최대 1초 분량의 버스트를 허용한다.
+     */
+    static final class TokenBucket {
+
+        private static final long ONE_SECOND_NANOS = 1_000_000_000L;
+
+        private final long nanosPerToken;
+        private final AtomicLong theoreticalArrival;
+
+        TokenBucket(int permitsPerSecond) {
+            this.nanosPerToken = ONE_SECOND_NANOS / Math.max(permitsPerSecond, 1);
+            this.theoreticalArrival = new AtomicLong(System.nanoTime() - ONE_SECOND_NANOS);
+        }
+
+        boolean tryAcquire() {
+            long now = System.nanoTime();
+            while (true) {
+                long current = theoreticalArrival.get();
+                long next = Math.max(current, now - ONE_SECOND_NANOS) + nanosPerToken;
+                if (next - now > 0) {
+                    return false;
+                }
+                if (theoreticalArrival.compareAndSet(current, next)) {
+                    return true;
+                }
+            }
+        }
+    }
+}
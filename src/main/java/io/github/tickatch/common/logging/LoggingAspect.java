@@ -1,8 +1,6 @@
 package io.github.tickatch.common.logging;
 
-import io.github.tickatch.common.util.JsonUtils;
 import jakarta.servlet.http.HttpServletRequest;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.ProceedingJoinPoint;
@@ -12,7 +10,11 @@ import org.aspectj.lang.reflect.MethodSignature;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
+import java.lang.reflect.Method;
 import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 애플리케이션 전반의 컨트롤러 및 메서드 실행을 AOP로 로깅하는 Aspect 클래스.
@@ -40,15 +42,44 @@ import java.net.URI;
  * }
  * }</pre>
  *
+ * <p>메서드 라벨({@code ClassName.methodName})과 파라미터 이름은 {@link Method}별로 한 번만
+ * 계산되어 캐싱되므로, 호출당 메타데이터 처리 비용은 맵 조회 한 번이다.
+ *
+ * <p>반환값은 {@link LogPayloadSerializer}로 길이 제한 버퍼에 직렬화되므로,
+ * 응답 크기와 무관하게 로그용 할당량이 일정 수준 이내로 유지된다.
+ *
+ * <p>{@link Masked} 파라미터와 설정된 필드 이름의 인자는 {@link LogMasker#MASK}로 대체되고,
+ * 마스킹 대상 필드가 있는 인자와 반환값은 직렬화 도중에 해당 필드만 마스킹된다.
+ *
+ * <p>{@link LogManager#isEnabled()}가 false이면 진입/종료 로그의 파라미터 문자열 생성, JSON 직렬화,
+ * 요청 정보 조회를 모두 생략한다. 이때 {@link LogManager#isWarnEnabled()}가 true이면 실행 시간만 측정하여
+ * 지연 호출 종료 로그와 실패 로그(WARN)는 계속 기록하고, 요청 정보는 해당 로그를 남길 때만 조회한다.
+ *
+ * <p>{@link AsyncLogDispatcher}와 함께 생성하면 비동기 모드로 동작한다. 이 경우 요청 스레드는
+ * 인자/반환값 참조만 {@link LogEvent}로 캡처하고, 문자열 변환과 JSON 직렬화는
+ * 디스패처의 백그라운드 스레드에서 배치로 처리된다.
+ *
+ * <p>{@link LogSampler}를 지정하면 컨트롤러 로그에 traceId 기반 샘플링과 URI 패턴별 속도 제한이 적용된다.
+ *
+ * <p>{@link LatencyRegistry}를 지정하면 로그 레벨이나 샘플링 여부와 무관하게 모든 호출의 실행 시간이
+ * 메서드별 히스토그램에 기록되고, 지연 임계값을 넘은 호출의 종료 로그는 실행 시간과 함께 WARN 레벨로 기록된다.
+ *
+ * <p>대상 메서드가 예외를 던지면 예외 유형과 실행 시간을 담은 실패 로그를 WARN 레벨로 기록한다.
+ * 컨트롤러 실패 이벤트는 요청 속성({@link LogEvent#FAILURE_ATTRIBUTE})에 저장되어
+ * {@code GlobalExceptionHandler}가 같은 예외를 다시 포맷팅하여 기록하지 않도록 한다.
+ *
  * <p>로그 출력 예시:
  * <pre>
  * INFO  GET /api/tickets/123 - Request ID: abc-123, User ID: 42, Method: TicketController.getTicket, Params: {id: 123}
  * INFO  GET /api/tickets/123 - Request ID: abc-123, User ID: 42, Method: TicketController.getTicket, Return: {"id":123,"name":"콘서트"}
  * </pre>
  *
+ * <p>{@link LogManager#isStructured()}가 true이면 파라미터 문자열과 결과 JSON 문자열을 만들지 않고
+ * 원본 인자와 반환값을 그대로 전달하여, LogManager가 파라미터 이름별 필드와 중첩 JSON으로 기록한다.
+ *
  * <p>주의사항:
  * <ul>
- *   <li>민감한 정보가 포함된 응답은 로그에 노출될 수 있으므로 주의</li>
+ *   <li>민감한 정보는 {@link Masked} 또는 {@code tickatch.logging.masking.fields}로 마스킹 대상에 등록해야 함</li>
  *   <li>빈번한 요청이 있는 엔드포인트에서는 로그 양이 증가할 수 있음</li>
  *   <li>각 서비스에서 필요에 따라 로깅 범위를 조절할 수 있음</li>
  * </ul>
@@ -57,40 +88,149 @@ import java.net.URI;
  * @since 0.0.1
  * @see LogExecution
  * @see LogManager
+ * @see AsyncLogDispatcher
+ * @see LogSampler
+ * @see LatencyRegistry
  */
 @Aspect
 @Slf4j
-@RequiredArgsConstructor
 public class LoggingAspect {
 
     private static final String NOT_APPLICABLE = "N/A";
 
     private final LogManager logManager;
 
+    /** 비동기 모드에서 사용하는 디스패처. null이면 동기 모드로 동작한다. */
+    private final AsyncLogDispatcher asyncLogDispatcher;
+
+    /** 반환값을 길이 제한 버퍼로 직렬화하는 Serializer */
+    private final LogPayloadSerializer payloadSerializer;
+
+    /** 컨트롤러 로그 샘플링 정책. null이면 모든 요청을 기록한다. */
+    private final LogSampler logSampler;
+
+    /** 메서드별 실행 시간 레지스트리. null이면 실행 시간을 측정하지 않는다. */
+    private final LatencyRegistry latencyRegistry;
+
+    /** 메서드별 로깅 메타데이터 캐시 */
+    private final Map<Method, MethodLogMetadata> metadataCache = new ConcurrentHashMap<>();
+
+    /**
+     * 요청 스레드에서 직접 로그를 기록하는 동기 모드 Aspect를 생성한다.
+     *
+     * @param logManager 로그 포맷팅을 위한 LogManager
+     */
+    public LoggingAspect(LogManager logManager) {
+        this(logManager, null);
+    }
+
+    /**
+     * 비동기 모드 Aspect를 생성한다.
+     *
+     * @param logManager 로그 포맷팅을 위한 LogManager
+     * @param asyncLogDispatcher 로그 이벤트 디스패처 (null이면 동기 모드)
+     */
+    public LoggingAspect(LogManager logManager, AsyncLogDispatcher asyncLogDispatcher) {
+        this(logManager, asyncLogDispatcher, new LogPayloadSerializer());
+    }
+
+    /**
+     * 반환값 Serializer를 지정하여 Aspect를 생성한다.
+     *
+     * @param logManager 로그 포맷팅을 위한 LogManager
+     * @param asyncLogDispatcher 로그 이벤트 디스패처 (null이면 동기 모드)
+     * @param payloadSerializer 반환값 직렬화에 사용할 Serializer
+     */
+    public LoggingAspect(
+            LogManager logManager,
+            AsyncLogDispatcher asyncLogDispatcher,
+            LogPayloadSerializer payloadSerializer) {
+        this(logManager, asyncLogDispatcher, payloadSerializer, null);
+    }
+
+    /**
+     * 샘플링 정책을 지정하여 Aspect를 생성한다.
+     *
+     * @param logManager 로그 포맷팅을 위한 LogManager
+     * @param asyncLogDispatcher 로그 이벤트 디스패처 (null이면 동기 모드)
+     * @param payloadSerializer 반환값 직렬화에 사용할 Serializer
+     * @param logSampler 컨트롤러 로그 샘플링 정책 (null이면 모든 요청 기록)
+     */
+    public LoggingAspect(
+            LogManager logManager,
+            AsyncLogDispatcher asyncLogDispatcher,
+            LogPayloadSerializer payloadSerializer,
+            LogSampler logSampler) {
+        this(logManager, asyncLogDispatcher, payloadSerializer, logSampler, null);
+    }
+
+    /**
+     * 실행 시간 레지스트리를 지정하여 Aspect를 생성한다.
+     *
+     * @param logManager 로그 포맷팅을 위한 LogManager
+     * @param asyncLogDispatcher 로그 이벤트 디스패처 (null이면 동기 모드)
+     * @param payloadSerializer 반환값 직렬화에 사용할 Serializer
+     * @param logSampler 컨트롤러 로그 샘플링 정책 (null이면 모든 요청 기록)
+     * @param latencyRegistry 메서드별 실행 시간 레지스트리 (null이면 측정 안 함)
+     */
+    public LoggingAspect(
+            LogManager logManager,
+            AsyncLogDispatcher asyncLogDispatcher,
+            LogPayloadSerializer payloadSerializer,
+            LogSampler logSampler,
+            LatencyRegistry latencyRegistry) {
+        this.logManager = logManager;
+        this.asyncLogDispatcher = asyncLogDispatcher;
+        this.payloadSerializer = payloadSerializer;
+        this.logSampler = logSampler;
+        this.latencyRegistry = latencyRegistry;
+    }
+
     /**
      * RestController 범위 내의 모든 메서드 실행 시점에 대해 진입과 종료를 로깅한다.
      *
+     * <p>{@link LogSampler}가 설정된 경우 샘플링에서 제외된 요청은 로그를 남기지 않으며,
+     * 예외 발생 또는 지연 임계값 초과 시에만 기록한다.
+     *
      * @param pjp 호출 대상 JoinPoint
      * @return 실제 메서드 실행 결과
      * @throws Throwable 내부 메서드 예외 발생 시 전달
      */
     @Around("within(@org.springframework.web.bind.annotation.RestController *)")
     public Object logController(ProceedingJoinPoint pjp) throws Throwable {
+        // INFO가 비활성화되어 있으면 요청 정보 조회와 메시지 생성 없이 실행하고, 지연/실패만 WARN으로 기록
+        if (!logManager.isEnabled()) {
+            return logManager.isWarnEnabled() ? proceedControllerWarnOnly(pjp) : proceedMeasured(pjp);
+        }
+
         HttpServletRequest request = getCurrentHttpRequest();
 
-        String httpMethod = request != null ? request.getMethod() : NOT_APPLICABLE;
-        String requestUri = request != null ? extractPath(request.getRequestURL().toString()) : NOT_APPLICABLE;
-        String methodInfo = extractMethodInfo(pjp);
-        String logMessage = buildLogMessage((MethodSignature) pjp.getSignature(), pjp.getArgs());
+        String httpMethod = getHttpMethod(request);
+        String requestUri = getRequestUri(request);
+        MethodLogMetadata metadata = getMetadata(pjp);
+
+        if (logSampler != null && !logSampler.isSampled(requestUri)) {
+            return proceedUnsampled(pjp, request, httpMethod, requestUri, metadata);
+        }
 
         // 메서드 진입 로그
-        logManager.logControllerEntry(httpMethod, requestUri, methodInfo, logMessage);
+        logControllerEntry(httpMethod, requestUri, metadata, pjp.getArgs());
 
-        Object result = pjp.proceed();
+        long startNanos = System.nanoTime();
+        Object result;
+        try {
+            result = pjp.proceed();
+        } catch (Throwable t) {
+            long elapsedNanos = System.nanoTime() - startNanos;
+            recordLatency(metadata, elapsedNanos);
+            logControllerFailure(request, httpMethod, requestUri, metadata, t, elapsedNanos);
+            throw t;
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+        recordLatency(metadata, elapsedNanos);
 
         // 메서드 종료 로그
-        String resultJson = toJsonSafe(result);
-        logManager.logControllerExit(httpMethod, requestUri, methodInfo, resultJson);
+        logControllerExit(httpMethod, requestUri, metadata, result, elapsedNanos);
 
         return result;
     }
@@ -104,21 +244,366 @@ public class LoggingAspect {
      */
     @Around("@annotation(io.github.tickatch.common.logging.LogExecution)")
     public Object logExecution(ProceedingJoinPoint pjp) throws Throwable {
-        String methodInfo = extractMethodInfo(pjp);
-        String logMessage = buildLogMessage((MethodSignature) pjp.getSignature(), pjp.getArgs());
+        if (!logManager.isEnabled()) {
+            return logManager.isWarnEnabled() ? proceedMethodWarnOnly(pjp) : proceedMeasured(pjp);
+        }
+
+        MethodLogMetadata metadata = getMetadata(pjp);
 
         // 메서드 진입 로그
-        logManager.logMethodEntry(methodInfo, logMessage);
+        logMethodEntry(metadata, pjp.getArgs());
 
-        Object result = pjp.proceed();
+        long startNanos = System.nanoTime();
+        Object result;
+        try {
+            result = pjp.proceed();
+        } catch (Throwable t) {
+            long elapsedNanos = System.nanoTime() - startNanos;
+            recordLatency(metadata, elapsedNanos);
+            logMethodFailure(metadata, t, elapsedNanos);
+            throw t;
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+        recordLatency(metadata, elapsedNanos);
 
         // 메서드 종료 로그
-        String resultJson = toJsonSafe(result);
-        logManager.logMethodExit(methodInfo, resultJson);
+        logMethodExit(metadata, result, elapsedNanos);
+
+        return result;
+    }
+
+    /**
+     * 샘플링에서 제외된 컨트롤러 요청을 실행한다.
+     *
+     * <p>예외가 발생하면 ({@link LogSampler#isAlwaysLogErrors()}) 진입/실패 로그를,
+     * 지연 임계값을 넘으면 진입/종료 로그를 사후에 기록한다.
+     *
+     * @param pjp 호출 대상 JoinPoint
+     * @param request 현재 요청 (없으면 null)
+     * @param httpMethod HTTP 메서드
+     * @param requestUri 요청 URI
+     * @param metadata 메서드 로깅 메타데이터
+     * @return 실제 메서드 실행 결과
+     * @throws Throwable 내부 메서드 예외 발생 시 전달
+     */
+    private Object proceedUnsampled(
+            ProceedingJoinPoint pjp,
+            HttpServletRequest request,
+            String httpMethod,
+            String requestUri,
+            MethodLogMetadata metadata) throws Throwable {
+
+        long startNanos = System.nanoTime();
+        Object result;
+        try {
+            result = pjp.proceed();
+        } catch (Throwable t) {
+            long elapsedNanos = System.nanoTime() - startNanos;
+            recordLatency(metadata, elapsedNanos);
+            if (logSampler.isAlwaysLogErrors()) {
+                logControllerEntry(httpMethod, requestUri, metadata, pjp.getArgs());
+                logControllerFailure(request, httpMethod, requestUri, metadata, t, elapsedNanos);
+            }
+            throw t;
+        }
+
+        long elapsedNanos = System.nanoTime() - startNanos;
+        recordLatency(metadata, elapsedNanos);
+        if (logSampler.isSlow(elapsedNanos)) {
+            logControllerEntry(httpMethod, requestUri, metadata, pjp.getArgs());
+            logControllerExit(httpMethod, requestUri, metadata, result, elapsedNanos);
+        }
+        return result;
+    }
+
+    /**
+     * INFO 레벨이 비활성화된 상태에서 컨트롤러를 실행한다.
+     *
+     * <p>진입/종료 로그는 남기지 않고, 예외가 발생하거나 지연 임계값을 넘은 경우에만 WARN 로그를 기록한다.
+     * 요청 정보는 로그를 남길 때만 조회한다.
+     *
+     * @param pjp 호출 대상 JoinPoint
+     * @return 실제 메서드 실행 결과
+     * @throws Throwable 내부 메서드 예외 발생 시 전달
+     */
+    private Object proceedControllerWarnOnly(ProceedingJoinPoint pjp) throws Throwable {
+        MethodLogMetadata metadata = getMetadata(pjp);
+
+        long startNanos = System.nanoTime();
+        Object result;
+        try {
+            result = pjp.proceed();
+        } catch (Throwable t) {
+            long elapsedNanos = System.nanoTime() - startNanos;
+            recordLatency(metadata, elapsedNanos);
+            HttpServletRequest request = getCurrentHttpRequest();
+            logControllerFailure(request, getHttpMethod(request), getRequestUri(request), metadata, t, elapsedNanos);
+            throw t;
+        }
+
+        long elapsedNanos = System.nanoTime() - startNanos;
+        recordLatency(metadata, elapsedNanos);
+        if (isSlow(elapsedNanos)) {
+            HttpServletRequest request = getCurrentHttpRequest();
+            logControllerExit(getHttpMethod(request), getRequestUri(request), metadata, result, elapsedNanos);
+        }
+        return result;
+    }
 
+    /**
+     * INFO 레벨이 비활성화된 상태에서 {@code @LogExecution} 메서드를 실행한다.
+     *
+     * <p>진입/종료 로그는 남기지 않고, 예외가 발생하거나 지연 임계값을 넘은 경우에만 WARN 로그를 기록한다.
+     *
+     * @param pjp 호출 대상 JoinPoint
+     * @return 실제 메서드 실행 결과
+     * @throws Throwable 내부 메서드 예외 발생 시 전달
+     */
+    private Object proceedMethodWarnOnly(ProceedingJoinPoint pjp) throws Throwable {
+        MethodLogMetadata metadata = getMetadata(pjp);
+
+        long startNanos = System.nanoTime();
+        Object result;
+        try {
+            result = pjp.proceed();
+        } catch (Throwable t) {
+            long elapsedNanos = System.nanoTime() - startNanos;
+            recordLatency(metadata, elapsedNanos);
+            logMethodFailure(metadata, t, elapsedNanos);
+            throw t;
+        }
+
+        long elapsedNanos = System.nanoTime() - startNanos;
+        recordLatency(metadata, elapsedNanos);
+        if (isSlow(elapsedNanos)) {
+            logMethodExit(metadata, result, elapsedNanos);
+        }
         return result;
     }
 
+    /**
+     * 로그를 남기지 않고 대상 메서드를 실행하되, 실행 시간 레지스트리가 있으면 실행 시간만 기록한다.
+     *
+     * @param pjp 호출 대상 JoinPoint
+     * @return 실제 메서드 실행 결과
+     * @throws Throwable 내부 메서드 예외 발생 시 전달
+     */
+    private Object proceedMeasured(ProceedingJoinPoint pjp) throws Throwable {
+        if (latencyRegistry == null) {
+            return pjp.proceed();
+        }
+
+        long startNanos = System.nanoTime();
+        try {
+            return pjp.proceed();
+        } finally {
+            recordLatency(getMetadata(pjp), System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * 실행 시간을 메서드별 히스토그램에 기록한다.
+     *
+     * @param metadata 메서드 로깅 메타데이터
+     * @param elapsedNanos 경과 시간 (나노초)
+     */
+    private void recordLatency(MethodLogMetadata metadata, long elapsedNanos) {
+        if (latencyRegistry != null) {
+            latencyRegistry.record(metadata.getLabel(), elapsedNanos);
+        }
+    }
+
+    /**
+     * 경과 시간이 지연 임계값 이상인지 확인한다.
+     *
+     * @param elapsedNanos 경과 시간 (나노초)
+     * @return 실행 시간 레지스트리가 있고 임계값 이상이면 true
+     */
+    private boolean isSlow(long elapsedNanos) {
+        return latencyRegistry != null && latencyRegistry.isSlow(elapsedNanos);
+    }
+
+    /**
+     * 컨트롤러 진입 로그를 기록한다. 비동기 모드에서는 이벤트만 적재한다.
+     *
+     * @param httpMethod HTTP 메서드
+     * @param requestUri 요청 URI
+     * @param metadata 메서드 로깅 메타데이터
+     * @param args 메서드 호출 인자 배열
+     */
+    private void logControllerEntry(String httpMethod, String requestUri, MethodLogMetadata metadata, Object[] args) {
+        Object[] loggedArgs = metadata.maskArguments(args);
+        if (asyncLogDispatcher != null) {
+            asyncLogDispatcher.dispatch(LogEvent.controllerEntry(
+                    httpMethod, requestUri, metadata.getLabel(), metadata.getParameterNames(), loggedArgs));
+            return;
+        }
+        if (logManager.isStructured()) {
+            logManager.logControllerEntry(httpMethod, requestUri, metadata.getLabel(),
+                    metadata.getParameterNames(), loggedArgs, payloadSerializer);
+            return;
+        }
+        logManager.logControllerEntry(
+                httpMethod, requestUri, metadata.getLabel(), buildLogMessage(metadata, loggedArgs));
+    }
+
+    /**
+     * 컨트롤러 종료 로그를 기록한다. 비동기 모드에서는 이벤트만 적재한다.
+     *
+     * <p>지연 임계값을 넘은 호출은 실행 시간과 함께 WARN 레벨로 기록한다.
+     *
+     * @param httpMethod HTTP 메서드
+     * @param requestUri 요청 URI
+     * @param metadata 메서드 로깅 메타데이터
+     * @param result 반환 결과
+     * @param elapsedNanos 경과 시간 (나노초)
+     */
+    private void logControllerExit(
+            String httpMethod,
+            String requestUri,
+            MethodLogMetadata metadata,
+            Object result,
+            long elapsedNanos) {
+
+        boolean slow = isSlow(elapsedNanos);
+        if (asyncLogDispatcher != null) {
+            asyncLogDispatcher.dispatch(slow
+                    ? LogEvent.controllerSlowExit(httpMethod, requestUri, metadata.getLabel(), result,
+                            metadata.getMaxPayloadLength(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos))
+                    : LogEvent.controllerExit(httpMethod, requestUri, metadata.getLabel(), result,
+                            metadata.getMaxPayloadLength()));
+            return;
+        }
+        if (logManager.isStructured()) {
+            if (slow) {
+                logManager.logControllerSlowExit(httpMethod, requestUri, metadata.getLabel(), result,
+                        metadata.getMaxPayloadLength(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos), payloadSerializer);
+            } else {
+                logManager.logControllerExit(httpMethod, requestUri, metadata.getLabel(), result,
+                        metadata.getMaxPayloadLength(), payloadSerializer);
+            }
+            return;
+        }
+        if (slow) {
+            logManager.logControllerSlowExit(httpMethod, requestUri, metadata.getLabel(),
+                    toJsonSafe(result, metadata), TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+            return;
+        }
+        logManager.logControllerExit(httpMethod, requestUri, metadata.getLabel(), toJsonSafe(result, metadata));
+    }
+
+    /**
+     * 예외로 종료된 컨트롤러의 실패 로그를 기록한다. 비동기 모드에서는 이벤트만 적재한다.
+     *
+     * <p>실패 로그가 기록되었거나(동기 모드) 버퍼에 적재된 경우(비동기 모드)에만 이벤트를 요청 속성에 저장하여,
+     * 예외 핸들러가 같은 예외를 중복 기록하지 않도록 한다. 버퍼 초과로 버려진 이벤트는 저장하지 않으므로
+     * 이 경우 예외 핸들러가 직접 기록한다.
+     *
+     * @param request 현재 요청 (없으면 null)
+     * @param httpMethod HTTP 메서드
+     * @param requestUri 요청 URI
+     * @param metadata 메서드 로깅 메타데이터
+     * @param failure 발생한 예외
+     * @param elapsedNanos 경과 시간 (나노초)
+     */
+    private void logControllerFailure(
+            HttpServletRequest request,
+            String httpMethod,
+            String requestUri,
+            MethodLogMetadata metadata,
+            Throwable failure,
+            long elapsedNanos) {
+
+        LogEvent event = LogEvent.controllerFailure(
+                httpMethod, requestUri, metadata.getLabel(), failure, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+
+        boolean logged;
+        if (asyncLogDispatcher != null) {
+            logged = asyncLogDispatcher.dispatch(event);
+        } else {
+            logManager.logControllerFailure(
+                    httpMethod, requestUri, metadata.getLabel(), failure, event.getElapsedMillis());
+            logged = logManager.isWarnEnabled();
+        }
+
+        if (logged && request != null) {
+            request.setAttribute(LogEvent.FAILURE_ATTRIBUTE, event);
+        }
+    }
+
+    /**
+     * {@code @LogExecution} 메서드 진입 로그를 기록한다. 비동기 모드에서는 이벤트만 적재한다.
+     *
+     * @param metadata 메서드 로깅 메타데이터
+     * @param args 메서드 호출 인자 배열
+     */
+    private void logMethodEntry(MethodLogMetadata metadata, Object[] args) {
+        Object[] loggedArgs = metadata.maskArguments(args);
+        if (asyncLogDispatcher != null) {
+            asyncLogDispatcher.dispatch(
+                    LogEvent.methodEntry(metadata.getLabel(), metadata.getParameterNames(), loggedArgs));
+            return;
+        }
+        if (logManager.isStructured()) {
+            logManager.logMethodEntry(
+                    metadata.getLabel(), metadata.getParameterNames(), loggedArgs, payloadSerializer);
+            return;
+        }
+        logManager.logMethodEntry(metadata.getLabel(), buildLogMessage(metadata, loggedArgs));
+    }
+
+    /**
+     * {@code @LogExecution} 메서드 종료 로그를 기록한다. 비동기 모드에서는 이벤트만 적재한다.
+     *
+     * <p>지연 임계값을 넘은 호출은 실행 시간과 함께 WARN 레벨로 기록한다.
+     *
+     * @param metadata 메서드 로깅 메타데이터
+     * @param result 반환 결과
+     * @param elapsedNanos 경과 시간 (나노초)
+     */
+    private void logMethodExit(MethodLogMetadata metadata, Object result, long elapsedNanos) {
+        boolean slow = isSlow(elapsedNanos);
+        if (asyncLogDispatcher != null) {
+            asyncLogDispatcher.dispatch(slow
+                    ? LogEvent.methodSlowExit(metadata.getLabel(), result, metadata.getMaxPayloadLength(),
+                            TimeUnit.NANOSECONDS.toMillis(elapsedNanos))
+                    : LogEvent.methodExit(metadata.getLabel(), result, metadata.getMaxPayloadLength()));
+            return;
+        }
+        if (logManager.isStructured()) {
+            if (slow) {
+                logManager.logMethodSlowExit(metadata.getLabel(), result, metadata.getMaxPayloadLength(),
+                        TimeUnit.NANOSECONDS.toMillis(elapsedNanos), payloadSerializer);
+            } else {
+                logManager.logMethodExit(
+                        metadata.getLabel(), result, metadata.getMaxPayloadLength(), payloadSerializer);
+            }
+            return;
+        }
+        if (slow) {
+            logManager.logMethodSlowExit(metadata.getLabel(), toJsonSafe(result, metadata),
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+            return;
+        }
+        logManager.logMethodExit(metadata.getLabel(), toJsonSafe(result, metadata));
+    }
+
+    /**
+     * 예외로 종료된 {@code @LogExecution} 메서드의 실패 로그를 기록한다. 비동기 모드에서는 이벤트만 적재한다.
+     *
+     * @param metadata 메서드 로깅 메타데이터
+     * @param failure 발생한 예외
+     * @param elapsedNanos 경과 시간 (나노초)
+     */
+    private void logMethodFailure(MethodLogMetadata metadata, Throwable failure, long elapsedNanos) {
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        if (asyncLogDispatcher != null) {
+            asyncLogDispatcher.dispatch(LogEvent.methodFailure(metadata.getLabel(), failure, elapsedMillis));
+            return;
+        }
+        logManager.logMethodFailure(metadata.getLabel(), failure, elapsedMillis);
+    }
+
     /**
      * 현재 HTTP 요청 객체를 조회한다.
      *
@@ -131,14 +616,23 @@ public class LoggingAspect {
     }
 
     /**
-     * 전체 클래스명에서 단순 클래스명만 추출한다.
+     * 요청의 HTTP 메서드를 조회한다.
+     *
+     * @param request 현재 요청 (없으면 null)
+     * @return HTTP 메서드, 요청이 없으면 {@value #NOT_APPLICABLE}
+     */
+    private String getHttpMethod(HttpServletRequest request) {
+        return request != null ? request.getMethod() : NOT_APPLICABLE;
+    }
+
+    /**
+     * 요청의 URI 경로를 조회한다.
      *
-     * @param fullClassName 전체 클래스명 (패키지 포함)
-     * @return 단순 클래스명
+     * @param request 현재 요청 (없으면 null)
+     * @return URI 경로, 요청이 없으면 {@value #NOT_APPLICABLE}
      */
-    private String extractSimpleClassName(String fullClassName) {
-        int lastDotIndex = fullClassName.lastIndexOf(".");
-        return lastDotIndex != -1 ? fullClassName.substring(lastDotIndex + 1) : fullClassName;
+    private String getRequestUri(HttpServletRequest request) {
+        return request != null ? extractPath(request.getRequestURL().toString()) : NOT_APPLICABLE;
     }
 
     /**
@@ -158,59 +652,45 @@ public class LoggingAspect {
     }
 
     /**
-     * ProceedingJoinPoint로부터 클래스명과 메서드명을 결합한 식별 문자열을 생성한다.
+     * JoinPoint에 해당하는 메서드의 로깅 메타데이터를 조회한다.
+     *
+     * <p>최초 호출 시 메타데이터를 생성하여 캐싱하고, 이후에는 캐시된 값을 반환한다.
+     * 시그니처에서 {@link Method}를 얻을 수 없는 경우 캐싱하지 않고 매번 생성한다.
      *
      * @param joinPoint 호출 대상 JoinPoint
-     * @return ClassName.methodName 형식의 메서드 정보
+     * @return 메서드 로깅 메타데이터
      */
-    private String extractMethodInfo(JoinPoint joinPoint) {
+    private MethodLogMetadata getMetadata(JoinPoint joinPoint) {
         MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-        return extractSimpleClassName(signature.getDeclaringTypeName()) + "." + signature.getName();
+        Method method = signature.getMethod();
+        if (method == null) {
+            return MethodLogMetadata.from(signature, payloadSerializer.getMasker());
+        }
+        return metadataCache.computeIfAbsent(
+                method, key -> MethodLogMetadata.from(signature, payloadSerializer.getMasker()));
     }
 
     /**
-     * 메서드 시그니처와 인자를 기반으로 파라미터 로깅용 문자열을 생성한다.
+     * 캐싱된 파라미터 이름과 인자를 기반으로 파라미터 로깅용 문자열을 생성한다.
      *
-     * @param signature 메서드 시그니처
+     * @param metadata 메서드 로깅 메타데이터
      * @param args 메서드 호출 인자 배열
      * @return ", Params: {name1: value1, ...}" 형식의 파라미터 정보 (인자가 없으면 빈 문자열)
      */
-    private String buildLogMessage(MethodSignature signature, Object[] args) {
-        String[] parameterNames = signature.getParameterNames();
-
-        if (parameterNames == null || parameterNames.length == 0) {
-            return "";
-        }
-
-        StringBuilder logMessage = new StringBuilder(", Params: {");
-        for (int i = 0; i < parameterNames.length; i++) {
-            logMessage.append(parameterNames[i]).append(": ").append(args[i]);
-            if (i < parameterNames.length - 1) {
-                logMessage.append(", ");
-            }
-        }
-        logMessage.append("}");
-
-        return logMessage.toString();
+    private String buildLogMessage(MethodLogMetadata metadata, Object[] args) {
+        return LogPayloads.params(metadata.getParameterNames(), args, payloadSerializer);
     }
 
     /**
-     * 객체를 JSON 문자열로 안전하게 변환한다.
+     * 객체를 길이 제한이 적용된 JSON 문자열로 안전하게 변환한다.
      *
-     * <p>변환 실패 시 클래스명을 반환한다.
+     * <p>제한 길이를 넘으면 잘림 표시가 붙고, 변환 실패 시 클래스명을 반환한다.
      *
      * @param object 변환할 객체
+     * @param metadata 메서드 로깅 메타데이터 (메서드별 제한 길이)
      * @return JSON 문자열 또는 클래스명
      */
-    private String toJsonSafe(Object object) {
-        if (object == null) {
-            return "null";
-        }
-
-        try {
-            return JsonUtils.toJson(object);
-        } catch (Exception e) {
-            return object.getClass().getName();
-        }
+    private String toJsonSafe(Object object, MethodLogMetadata metadata) {
+        return payloadSerializer.serialize(object, metadata.getMaxPayloadLength());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,43 @@
+package io.github.tickatch.common.logging;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 로그에 기록될 때 값을 마스킹할 필드 또는 파라미터를 지정하는 애노테이션.
+ *
+ * <p>{@link LoggingAspect}가 기록하는 파라미터와 반환값에 적용된다.
+ * 필드/레코드 컴포넌트에 선언하면 JSON 직렬화 시 값이 {@link LogMasker#MASK}로 대체되고,
+ * 메서드 파라미터에 선언하면 파라미터 로그에서 인자 전체가 대체된다.
+ * API 응답 등 로그 이외의 직렬화에는 영향을 주지 않는다.
+ *
+ * <p>사용 예시:
+ * <pre>{@code
+ * public record PaymentRequest(
+ *         Long reservationId,
+ *         @Masked String cardNumber,
+ *         @Masked String cvc) {
+ * }
+ *
+ * @LogExecution
+ * public void changePassword(Long userId, @Masked String newPassword) { ... }
+ * }</pre>
+ *
+ * <p>출력 예시:
+ * <pre>
+ * INFO  ... Method: PaymentService.pay, Params: {request: {"reservationId":1,"cardNumber":"****","cvc":"****"}}
+ * INFO  ... Method: UserService.changePassword, Params: {userId: 42, newPassword: ****}
+ * </pre>
+ *
+ * <p>애노테이션을 붙일 수 없는 타입은 {@code tickatch.logging.masking.fields}로 필드 이름을 지정한다.
+ *
+ * @author Tickatch
+ * @since 0.0.6
+ * @see LogMasker
+ */
+@Target({ElementType.FIELD, ElementType.METHOD, ElementType.PARAMETER, ElementType.RECORD_COMPONENT})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Masked {
+}
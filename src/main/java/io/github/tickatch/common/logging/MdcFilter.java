@@ -4,12 +4,12 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.slf4j.MDC;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.UUID;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * 요청 단위로 MDC(Mapped Diagnostic Context)를 초기화하고 관리하는 필터.
@@ -20,18 +20,32 @@ import java.util.UUID;
  * <p>traceId 결정 로직:
  * <ol>
  *   <li>{@code X-Trace-Id} 헤더가 있으면 해당 값 사용 (Feign 통신 등에서 전달됨)</li>
- *   <li>헤더가 없으면 새로운 UUID 생성</li>
+ *   <li>유효한 W3C {@code traceparent} 헤더가 있으면 그 trace-id 사용 (게이트웨이/사이드카에서 전달됨)</li>
+ *   <li>헤더가 없으면 {@link TraceIdGenerator}로 새로 생성 (기본값은 {@link MdcUtils#generateTraceId()})</li>
  * </ol>
  *
  * <p>{@link OncePerRequestFilter}를 상속하여 요청당 한 번만 실행되며,
- * 요청 처리가 완료된 후에는 MDC를 반드시 초기화하여 메모리 누수 및 정보 오염을 방지한다.
+ * 요청 처리가 완료된 후에는 MDC를 필터 진입 전 상태로 되돌려 메모리 누수 및 정보 오염을 방지한다.
+ * 진입 전 MDC가 비어 있는 일반적인 경우에는 MDC 전체가 클리어되고, 상위에서 설정한 MDC가 있는
+ * 중첩 디스패치에서는 상위 값이 그대로 복원된다.
+ *
+ * <p>비동기 디스패치({@code DeferredResult}, {@code StreamingResponseBody}, SSE)와 에러 디스패치에서도 실행되며,
+ * 최초 요청에서 요청 속성({@link #TRACE_CONTEXT_ATTRIBUTE})에 저장한 추적 컨텍스트를 복원한다.
+ * 따라서 롱 폴링이나 스트리밍 응답을 완료하는 스레드의 로그에도 같은 traceId가 남는다.
  *
  * <p>처리하는 헤더:
  * <ul>
  *   <li>{@code X-Trace-Id} — 분산 추적 ID (상위 서비스에서 전달, 없으면 새로 생성)</li>
  *   <li>{@code X-User-Id} — 사용자 ID (API Gateway에서 전달, UUID 문자열)</li>
+ *   <li>{@code traceparent} — W3C Trace Context (trace-id, 상위 span ID, 샘플링 플래그)</li>
+ *   <li>{@code baggage} — W3C Baggage (원문 그대로 MDC에 저장하여 다음 hop으로 전파)</li>
  * </ul>
  *
+ * <p>요청마다 새로운 span ID를 생성하여 MDC에 저장하며, {@code traceparent}로 받은 span ID는
+ * 상위 span ID로 저장한다. 단, {@code X-Trace-Id}와 {@code traceparent}의 trace-id가 다르면
+ * ({@link TraceContext#belongsTo(String)}) 다른 trace의 span이므로 상위 span ID와 샘플링 플래그를 사용하지 않는다.
+ * 자세한 MDC 키는 {@link TraceContext}를 참고한다.
+ *
  * <p>응답 헤더:
  * <ul>
  *   <li>{@code X-Trace-Id} — 현재 요청의 traceId (프론트엔드/디버깅용)</li>
@@ -64,11 +78,63 @@ public class MdcFilter extends OncePerRequestFilter {
   /** 사용자 ID를 전달하는 HTTP 헤더 이름. */
   public static final String HEADER_USER_ID = "X-User-Id";
 
+  /** 비동기/에러 디스패치에서 복원할 추적 컨텍스트({@link TraceSnapshot})를 저장하는 요청 속성 이름. */
+  public static final String TRACE_CONTEXT_ATTRIBUTE = MdcFilter.class.getName() + ".TRACE_CONTEXT";
+
+  private final TraceIdGenerator traceIdGenerator;
+
+  /**
+   * {@link MdcUtils}에 설정된 생성 전략으로 traceId를 생성하는 필터를 생성한다.
+   */
+  public MdcFilter() {
+    this(MdcUtils::generateTraceId);
+  }
+
+  /**
+   * 지정한 생성 전략으로 traceId를 생성하는 필터를 생성한다.
+   *
+   * @param traceIdGenerator 헤더가 없을 때 사용할 traceId 생성기
+   */
+  public MdcFilter(TraceIdGenerator traceIdGenerator) {
+    this.traceIdGenerator = traceIdGenerator;
+  }
+
+  /**
+   * 비동기 디스패치({@code DeferredResult}, {@code StreamingResponseBody}, SSE 등)에서도 필터를 실행한다.
+   *
+   * <p>최초 요청에서 저장한 추적 컨텍스트를 복원하기 위해 필요하다.
+   *
+   * @return 항상 false
+   */
+  @Override
+  protected boolean shouldNotFilterAsyncDispatch() {
+    return false;
+  }
+
+  /**
+   * 에러 디스패치에서도 필터를 실행한다.
+   *
+   * <p>에러 페이지/에러 컨트롤러의 로그에도 최초 요청의 traceId가 남도록 하기 위해 필요하다.
+   *
+   * @return 항상 false
+   */
+  @Override
+  protected boolean shouldNotFilterErrorDispatch() {
+    return false;
+  }
+
   /**
    * 요청마다 traceId와 userId를 MDC에 저장하고, 요청 처리가 끝나면 MDC를 초기화한다.
    *
+   * <p>추적 컨텍스트는 맵으로 모은 뒤 {@link MdcUtils#setContext(Map)}로 한 번에 게시한다.
+   * 요청 처리가 끝나면 필터 진입 전의 MDC로 되돌리며, 진입 전 MDC가 비어 있었으면 모두 클리어한다.
+   *
    * <p>응답 헤더에도 traceId를 포함시켜 클라이언트에서 추적할 수 있도록 한다.
    *
+   * <p>설정한 추적 컨텍스트는 {@link #TRACE_CONTEXT_ATTRIBUTE} 요청 속성에 {@link TraceSnapshot}으로 저장한다.
+   * 같은 요청의 비동기/에러 디스패치에서는 헤더를 다시 해석하거나 span을 새로 만들지 않고
+   * 저장된 스냅샷을 복원만 한다.
+   *
    * @param request HTTP 요청
    * @param response HTTP 응답
    * @param filterChain 필터 체인
@@ -81,45 +147,73 @@ public class MdcFilter extends OncePerRequestFilter {
       HttpServletResponse response,
       FilterChain filterChain) throws ServletException, IOException {
 
-    try {
-      // 1. Trace ID: 헤더에 있으면 사용, 없으면 새로 생성
-      String traceId = extractTraceId(request);
-      MdcUtils.setRequestId(traceId);
-
-      // 2. User ID: 헤더에서 추출
-      String userId = extractUserId(request);
-      if (userId != null) {
-        MdcUtils.setUserId(userId);
+    // 비동기/에러 디스패치: 최초 요청의 추적 컨텍스트를 그대로 복원
+    if (request.getAttribute(TRACE_CONTEXT_ATTRIBUTE) instanceof TraceSnapshot snapshot) {
+      try (MdcScope ignored = snapshot.restore()) {
+        filterChain.doFilter(request, response);
       }
+      return;
+    }
+
+    // 1. Trace ID: 헤더에 있으면 사용, 없으면 새로 생성
+    TraceContext parent = TraceContext.parse(request.getHeader(TraceContext.HEADER_TRACEPARENT));
+    String traceId = extractTraceId(request, parent);
+
+    // traceparent가 다른 trace를 가리키면 상위 span과 샘플링 플래그를 사용하지 않음
+    if (parent != null && !parent.belongsTo(traceId)) {
+      parent = null;
+    }
+
+    Map<String, String> context = new HashMap<>(16);
+    context.put(MdcUtils.REQUEST_ID, traceId);
 
-      // 3. 응답 헤더에 traceId 포함 (프론트엔드/디버깅용)
-      response.setHeader(HEADER_TRACE_ID, traceId);
+    // 2. Span: 이 서비스의 span 시작, 상위 span과 샘플링 플래그는 traceparent를 따름
+    TraceContext.startSpan(
+        context,
+        parent != null ? parent.getParentSpanId() : null,
+        parent == null || parent.isSampled());
+    TraceContext.putBaggage(context, request.getHeader(TraceContext.HEADER_BAGGAGE));
 
+    // 3. User ID: 헤더에서 추출
+    String userId = extractUserId(request);
+    if (userId != null) {
+      context.put(MdcUtils.USER_ID, userId);
+    }
+
+    // 4. 응답 헤더에 traceId 포함 (프론트엔드/디버깅용)
+    response.setHeader(HEADER_TRACE_ID, traceId);
+
+    // 5. MDC에 한 번에 게시하고, 요청 처리 후 이전 MDC로 복원 (이전 MDC가 없으면 클리어)
+    try (MdcScope ignored = MdcUtils.setContext(context)) {
+      // 비동기/에러 디스패치에서 복원할 수 있도록 요청 속성에 저장
+      request.setAttribute(TRACE_CONTEXT_ATTRIBUTE, TraceSnapshot.capture());
       filterChain.doFilter(request, response);
-    } finally {
-      // 메모리 누수 방지를 위해 MDC 클리어
-      MDC.clear();
     }
   }
 
   /**
    * HTTP 헤더에서 Trace ID를 추출한다.
    *
-   * <p>X-Trace-Id 헤더가 있으면 해당 값을 사용하고,
-   * 없으면 새로운 UUID를 생성한다.
+   * <p>X-Trace-Id 헤더가 있으면 해당 값을, 없으면 traceparent의 trace-id를 사용하고,
+   * 둘 다 없으면 {@link TraceIdGenerator}로 새로 생성한다.
    *
    * @param request HTTP 요청
+   * @param parent 해석된 traceparent (없거나 유효하지 않으면 null)
    * @return Trace ID 문자열
    */
-  private String extractTraceId(HttpServletRequest request) {
+  private String extractTraceId(HttpServletRequest request, TraceContext parent) {
     String traceIdHeader = request.getHeader(HEADER_TRACE_ID);
 
     if (StringUtils.hasText(traceIdHeader)) {
       return traceIdHeader;
     }
 
+    if (parent != null) {
+      return parent.getTraceId();
+    }
+
     // 헤더가 없으면 새로 생성
-    return UUID.randomUUID().toString();
+    return traceIdGenerator.generate();
   }
 
   /**
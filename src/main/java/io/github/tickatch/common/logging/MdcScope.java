@@ -0,0 +1,30 @@
+package io.github.tickatch.common.logging;
+
+/**
+ * MDC 값을 설정한 범위. 닫으면 설정 전의 MDC로 되돌린다.
+ *
+ * <p>try-with-resources와 함께 사용하며, {@link #close()}는 예외를 던지지 않는다.
+ *
+ * <pre>{@code
+ * try (MdcScope ignored = MdcUtils.setContext(Map.of(MdcUtils.REQUEST_ID, traceId))) {
+ *     log.info("traceId 적용");
+ * }
+ * }</pre>
+ *
+ * @author Tickatch
+ * @since 0.0.6
+ * @see MdcUtils#setContext(java.util.Map)
+ * @see TraceSnapshot#restore()
+ */
+@FunctionalInterface
+public interface MdcScope extends AutoCloseable {
+
+    /** 아무 것도 하지 않는 범위. */
+    MdcScope NOOP = () -> { };
+
+    /**
+     * 범위 시작 전의 MDC로 되돌린다.
+     */
+    @Override
+    void close();
+}
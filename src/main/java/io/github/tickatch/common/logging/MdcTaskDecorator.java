@@ -0,0 +1,28 @@
+package io.github.tickatch.common.logging;
+
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * 작업 제출 시점의 추적 컨텍스트를 실행 스레드로 전달하는 {@link TaskDecorator}.
+ *
+ * <p>Spring Boot는 {@link TaskDecorator} 빈을 자동 구성된 {@code ThreadPoolTaskExecutor}와
+ * 가상 스레드용 {@code SimpleAsyncTaskExecutor}에 적용하므로, {@code @Async} 메서드와
+ * {@code applicationTaskExecutor}로 실행되는 작업에 traceId와 userId가 유지된다.
+ *
+ * <p>직접 생성한 Executor에 적용하는 예시:
+ * <pre>{@code
+ * ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+ * executor.setTaskDecorator(new MdcTaskDecorator());
+ * }</pre>
+ *
+ * @author Tickatch
+ * @since 0.0.6
+ * @see TraceSnapshot
+ */
+public class MdcTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        return TraceSnapshot.capture().wrap(runnable);
+    }
+}
@@ -3,6 +3,8 @@ package io.github.tickatch.common.logging;
 import org.slf4j.MDC;
 import org.springframework.util.StringUtils;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -16,6 +18,7 @@ import java.util.UUID;
  *   <li>요청 ID(requestId/traceId) 관리 - 분산 시스템에서 요청 추적용</li>
  *   <li>사용자 ID(userId) 관리 - 로그에서 사용자 식별용</li>
  *   <li>범용 키-값 저장/조회/삭제</li>
+ *   <li>여러 값의 일괄 설정과 범위 복원 ({@link #setContext(Map)})</li>
  * </ul>
  *
  * <p>logback.xml 설정 예시:
@@ -26,7 +29,7 @@ import java.util.UUID;
  * <p>사용 예시:
  * <pre>{@code
  * // 요청 시작 시 (MdcFilter에서 자동 설정됨)
- * MdcUtils.setRequestId(UUID.randomUUID().toString());
+ * MdcUtils.setRequestId(MdcUtils.generateTraceId());
  * MdcUtils.setUserId("550e8400-e29b-41d4-a716-446655440000");
  *
  * // 로그 출력 시 자동으로 requestId, userId 포함됨
@@ -60,6 +63,9 @@ public final class MdcUtils {
   /** 사용자 ID를 저장하는 MDC 키. */
   public static final String USER_ID = "userId";
 
+  /** 새로운 traceId 생성 전략. */
+  private static volatile TraceIdGenerator traceIdGenerator = TraceIdGenerator.random();
+
   /**
    * 인스턴스 생성 방지를 위한 private 생성자.
    */
@@ -116,6 +122,49 @@ public final class MdcUtils {
     MDC.clear();
   }
 
+  /**
+   * 여러 MDC 값을 한 번에 설정하고, 설정 전의 MDC로 되돌리는 범위를 반환한다.
+   *
+   * <p>현재 MDC에 {@code context}를 합친 맵을 {@link MDC#setContextMap(Map)}으로 한 번에 게시하므로,
+   * 키마다 {@link MDC#put(String, String)}을 호출하는 것보다 MDC 맵 복사가 적다.
+   * 값이 null인 키는 제거한다.
+   *
+   * <p>반환된 {@link MdcScope}를 닫으면 설정 전의 MDC 전체를 다시 게시한다. 설정 전 MDC가 비어 있었으면
+   * 범위 안에서 추가된 값까지 모두 클리어하고, 상위 범위가 있었으면 상위 범위의 값(관련 없는 키 포함)을
+   * 그대로 되돌리므로 중첩 호출에서도 다른 키를 지우지 않는다.
+   *
+   * <pre>{@code
+   * try (MdcScope ignored = MdcUtils.setContext(Map.of(REQUEST_ID, traceId, USER_ID, userId))) {
+   *   chain.doFilter(request, response);
+   * }
+   * }</pre>
+   *
+   * @param context 설정할 키-값 (null 값은 해당 키 제거)
+   * @return 복원 범위
+   */
+  public static MdcScope setContext(Map<String, String> context) {
+    Map<String, String> previous = MDC.getCopyOfContextMap();
+    Map<String, String> next = previous != null
+        ? new HashMap<>(previous)
+        : new HashMap<>(Math.max(context.size() * 2, 16));
+    context.forEach((key, value) -> {
+      if (key == null) {
+        return;
+      }
+      if (value != null) {
+        next.put(key, value);
+      } else {
+        next.remove(key);
+      }
+    });
+    MDC.setContextMap(next);
+
+    if (previous == null || previous.isEmpty()) {
+      return MDC::clear;
+    }
+    return () -> MDC.setContextMap(previous);
+  }
+
   // ========================================
   // 요청 ID / Trace ID 관련
   // ========================================
@@ -141,6 +190,8 @@ public final class MdcUtils {
   /**
    * MDC에서 요청 ID를 UUID 형식으로 조회한다.
    *
+   * <p>하이픈이 없는 32자리 hex 형식(W3C trace-id)도 UUID로 변환한다.
+   *
    * @return 요청 ID UUID, 없거나 형식이 올바르지 않으면 null
    */
   public static UUID getRequestUuid() {
@@ -149,6 +200,11 @@ public final class MdcUtils {
       return null;
     }
     try {
+      if (requestId.length() == 32) {
+        return new UUID(
+            Long.parseUnsignedLong(requestId, 0, 16, 16),
+            Long.parseUnsignedLong(requestId, 16, 32, 16));
+      }
       return UUID.fromString(requestId);
     } catch (IllegalArgumentException e) {
       return null;
@@ -172,12 +228,59 @@ public final class MdcUtils {
   public static String getOrCreateRequestId() {
     String requestId = get(REQUEST_ID);
     if (!StringUtils.hasText(requestId)) {
-      requestId = UUID.randomUUID().toString();
+      requestId = generateTraceId();
       setRequestId(requestId);
     }
     return requestId;
   }
 
+  /**
+   * 설정된 {@link TraceIdGenerator}로 새로운 traceId를 생성한다.
+   *
+   * <p>MDC에는 저장하지 않는다. 새로운 추적 흐름을 시작하는 곳에서 사용한다.
+   *
+   * @return 새로 생성된 traceId
+   */
+  public static String generateTraceId() {
+    return traceIdGenerator.generate();
+  }
+
+  /**
+   * 새로운 traceId 생성 전략을 변경한다.
+   *
+   * <p>일반적으로 {@code TraceIdAutoConfiguration}이 애플리케이션 시작 시 설정한다.
+   *
+   * @param generator traceId 생성기 (null이면 기본 생성기 사용)
+   */
+  public static void setTraceIdGenerator(TraceIdGenerator generator) {
+    traceIdGenerator = generator != null ? generator : TraceIdGenerator.random();
+  }
+
+  /**
+   * 현재 traceId 생성 전략을 반환한다.
+   *
+   * @return traceId 생성기
+   */
+  public static TraceIdGenerator getTraceIdGenerator() {
+    return traceIdGenerator;
+  }
+
+  // ========================================
+  // 컨텍스트 전파
+  // ========================================
+
+  /**
+   * 다른 스레드로 전달할 현재 추적 컨텍스트의 스냅샷을 생성한다.
+   *
+   * <p>MDC 전체가 아닌 추적용 키(requestId, userId, span 정보, baggage)만 캡처한다.
+   *
+   * @return 불변 스냅샷
+   * @see TraceSnapshot
+   */
+  public static TraceSnapshot snapshot() {
+    return TraceSnapshot.capture();
+  }
+
   // ========================================
   // 사용자 ID (User ID) 관련
   // ========================================
@@ -0,0 +1,135 @@
+package io.github.tickatch.common.logging;
+
+import lombok.Getter;
+import org.aspectj.lang.reflect.MethodSignature;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+
+/**
+ * {@link LoggingAspect}가 메서드별로 한 번만 계산하여 캐싱하는 로깅 메타데이터.
+ *
+ * <p>매 호출마다 반복되던 클래스명 추출, 문자열 결합, 파라미터 이름 조회를
+ * 최초 호출 시 한 번만 수행하고 이후에는 캐시된 값을 재사용한다.
+ *
+ * <p>보관하는 정보:
+ * <ul>
+ *   <li>{@code ClassName.methodName} 형식의 메서드 라벨</li>
+ *   <li>파라미터 이름 배열</li>
+ *   <li>메서드에 선언된 {@link LogExecution} 정책 (없으면 null)</li>
+ *   <li>반환값 최대 기록 길이 ({@link LogExecution#maxPayloadLength()}, 없으면 -1)</li>
+ *   <li>마스킹할 파라미터 위치 ({@link Masked} 또는 설정된 필드 이름, 없으면 null)</li>
+ * </ul>
+ *
+ * @author Tickatch
+ * @since 0.0.6
+ * @see LoggingAspect
+ */
+@Getter
+final class MethodLogMetadata {
+
+    private static final String[] NO_PARAMETERS = new String[0];
+
+    /** ClassName.methodName 형식의 메서드 라벨 */
+    private final String label;
+
+    /** 파라미터 이름 배열 (파라미터가 없으면 빈 배열) */
+    private final String[] parameterNames;
+
+    /** 메서드에 선언된 로깅 정책 (없으면 null) */
+    private final LogExecution logExecution;
+
+    /** 반환값 최대 기록 길이 (음수이면 전역 설정 사용) */
+    private final int maxPayloadLength;
+
+    /** 파라미터별 마스킹 여부 (마스킹할 파라미터가 없으면 null) */
+    private final boolean[] maskedParameters;
+
+    private MethodLogMetadata(
+            String label,
+            String[] parameterNames,
+            LogExecution logExecution,
+            boolean[] maskedParameters) {
+        this.label = label;
+        this.parameterNames = parameterNames;
+        this.logExecution = logExecution;
+        this.maxPayloadLength = logExecution != null ? logExecution.maxPayloadLength() : -1;
+        this.maskedParameters = maskedParameters;
+    }
+
+    /**
+     * 마스킹 대상 파라미터의 인자를 {@link LogMasker#MASK}로 대체한 배열을 반환한다.
+     *
+     * <p>마스킹할 파라미터가 없으면 원본 배열을 그대로 반환하여 복사 비용이 없다.
+     *
+     * @param args 메서드 호출 인자 배열
+     * @return 로그에 기록할 인자 배열
+     */
+    Object[] maskArguments(Object[] args) {
+        if (maskedParameters == null || args == null) {
+            return args;
+        }
+        Object[] masked = args.clone();
+        for (int i = 0; i < masked.length && i < maskedParameters.length; i++) {
+            if (maskedParameters[i]) {
+                masked[i] = LogMasker.MASK;
+            }
+        }
+        return masked;
+    }
+
+    /**
+     * 메서드 시그니처로부터 메타데이터를 생성한다.
+     *
+     * @param signature 메서드 시그니처
+     * @param masker 파라미터 이름 기반 마스킹 정책
+     * @return 메타데이터
+     */
+    static MethodLogMetadata from(MethodSignature signature, LogMasker masker) {
+        String label = extractSimpleClassName(signature.getDeclaringTypeName()) + "." + signature.getName();
+
+        String[] parameterNames = signature.getParameterNames();
+        if (parameterNames == null) {
+            parameterNames = NO_PARAMETERS;
+        }
+
+        Method method = signature.getMethod();
+        LogExecution logExecution = method != null ? method.getAnnotation(LogExecution.class) : null;
+
+        return new MethodLogMetadata(
+                label, parameterNames, logExecution, resolveMaskedParameters(method, parameterNames, masker));
+    }
+
+    /**
+     * 파라미터별 마스킹 여부를 계산한다.
+     *
+     * @param method 대상 메서드 (없으면 이름만으로 판단)
+     * @param parameterNames 파라미터 이름 배열
+     * @param masker 파라미터 이름 기반 마스킹 정책
+     * @return 파라미터별 마스킹 여부, 마스킹할 파라미터가 없으면 null
+     */
+    private static boolean[] resolveMaskedParameters(Method method, String[] parameterNames, LogMasker masker) {
+        Parameter[] parameters = method != null ? method.getParameters() : null;
+        boolean[] masked = new boolean[parameterNames.length];
+        boolean any = false;
+        for (int i = 0; i < parameterNames.length; i++) {
+            boolean annotated = parameters != null
+                    && i < parameters.length
+                    && parameters[i].isAnnotationPresent(Masked.class);
+            masked[i] = annotated || masker.isMaskedName(parameterNames[i]);
+            any |= masked[i];
+        }
+        return any ? masked : null;
+    }
+
+    /**
+     * 전체 클래스명에서 단순 클래스명만 추출한다.
+     *
+     * @param fullClassName 전체 클래스명 (패키지 포함)
+     * @return 단순 클래스명
+     */
+    private static String extractSimpleClassName(String fullClassName) {
+        int lastDotIndex = fullClassName.lastIndexOf(".");
+        return lastDotIndex != -1 ? fullClassName.substring(lastDotIndex + 1) : fullClassName;
+    }
+}
@@ -0,0 +1,103 @@
+package io.github.tickatch.common.logging;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * {@link ThreadLocalRandom} 기반 128비트 traceId 생성기.
+ *
+ * <p>스레드별 난수 생성기에서 두 개의 long을 얻어 hex 문자 배열에 직접 기록한 뒤
+ * 한 번만 String으로 만든다. {@code SecureRandom} 잠금, {@link java.util.UUID} 객체,
+ * 중간 문자열이 모두 발생하지 않는다.
+ *
+ * <p>W3C Trace Context는 모든 비트가 0인 trace-id/span ID를 허용하지 않으므로 그런 값은 다시 생성한다.
+ * UUID 형식은 버전(4)과 variant 비트를 설정하므로 {@link java.util.UUID#fromString(String)}으로 파싱할 수 있다.
+ *
+ * @author Tickatch
+ * @since 0.0.6
+ * @see TraceIdGenerator#random()
+ * @see TraceIdGenerator#w3c()
+ */
+final class RandomTraceIdGenerator implements TraceIdGenerator {
+
+    static final RandomTraceIdGenerator UUID_FORMAT = new RandomTraceIdGenerator(true);
+    static final RandomTraceIdGenerator W3C_FORMAT = new RandomTraceIdGenerator(false);
+
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private final boolean uuidFormat;
+
+    private RandomTraceIdGenerator(boolean uuidFormat) {
+        this.uuidFormat = uuidFormat;
+    }
+
+    @Override
+    public String generate() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long high = random.nextLong();
+        long low = random.nextLong();
+
+        if (uuidFormat) {
+            high = (high & 0xffffffffffff0fffL) | 0x0000000000004000L;
+            low = (low & 0x3fffffffffffffffL) | 0x8000000000000000L;
+            return toUuidString(high, low);
+        }
+
+        while (high == 0L && low == 0L) {
+            high = random.nextLong();
+            low = random.nextLong();
+        }
+        return toHexString(high, low);
+    }
+
+    /**
+     * 0이 아닌 64비트 난수를 16자리 소문자 hex span ID로 생성한다.
+     */
+    static String newSpanId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long value = random.nextLong();
+        while (value == 0L) {
+            value = random.nextLong();
+        }
+        byte[] buffer = new byte[16];
+        writeHex(buffer, 0, value, 16);
+        return new String(buffer, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * 128비트 값을 32자리 소문자 hex 문자열로 변환한다.
+     */
+    static String toHexString(long high, long low) {
+        byte[] buffer = new byte[32];
+        writeHex(buffer, 0, high, 16);
+        writeHex(buffer, 16, low, 16);
+        return new String(buffer, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * 128비트 값을 UUID 형식(8-4-4-4-12) 소문자 문자열로 변환한다.
+     */
+    static String toUuidString(long high, long low) {
+        byte[] buffer = new byte[36];
+        writeHex(buffer, 0, high >>> 32, 8);
+        buffer[8] = '-';
+        writeHex(buffer, 9, high >>> 16, 4);
+        buffer[13] = '-';
+        writeHex(buffer, 14, high, 4);
+        buffer[18] = '-';
+        writeHex(buffer, 19, low >>> 48, 4);
+        buffer[23] = '-';
+        writeHex(buffer, 24, low, 12);
+        return new String(buffer, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * 값의 하위 {@code digits}개 니블을 상위 자리부터 기록한다.
+     */
+    private static void writeHex(byte[] buffer, int offset, long value, int digits) {
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            buffer[i] = HEX[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package io.github.tickatch.common.logging;
+
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * WebFlux 요청 단위로 추적 컨텍스트를 Reactor {@code Context}에 저장하는 {@link WebFilter}.
+ *
+ * <p>{@link MdcFilter}의 리액티브 버전이다. 리액티브 파이프라인은 여러 스레드에서 나뉘어 실행되므로
+ * 요청 스레드의 MDC 대신 Reactor {@code Context}에 불변 {@link TraceSnapshot}을
+ * {@link TraceSnapshotAccessor#KEY}로 저장한다. 로그 출력 시점의 MDC 연결은
+ * {@link TraceSnapshotAccessor}와 Reactor 자동 컨텍스트 전파가 담당한다.
+ *
+ * <p>traceId 결정 로직과 처리하는 헤더는 {@link MdcFilter}와 같다:
+ * <ol>
+ *   <li>{@code X-Trace-Id} 헤더가 있으면 해당 값 사용</li>
+ *   <li>유효한 W3C {@code traceparent} 헤더가 있으면 그 trace-id 사용</li>
+ *   <li>헤더가 없으면 {@link TraceIdGenerator}로 새로 생성</li>
+ * </ol>
+ *
+ * <p>요청마다 새 span을 시작하고 {@code X-User-Id}, {@code baggage} 헤더를 함께 저장하며,
+ * 응답 헤더 {@code X-Trace-Id}에 traceId를 포함한다.
+ *
+ * <p>컨트롤러에서 현재 traceId 조회:
+ * <pre>{@code
+ * return Mono.deferContextual(ctx -> {
+ *     TraceSnapshot trace = ctx.get(TraceSnapshotAccessor.KEY);
+ *     return seatService.load(eventId, trace.getRequestId());
+ * });
+ * }</pre>
+ *
+ * @author Tickatch
+ * @since 0.0.6
+ * @see MdcFilter
+ * @see TraceSnapshotAccessor
+ */
+public class ReactiveMdcFilter implements WebFilter, Ordered {
+
+  private final TraceIdGenerator traceIdGenerator;
+
+  /**
+   * {@link MdcUtils}에 설정된 생성 전략으로 traceId를 생성하는 필터를 생성한다.
+   */
+  public ReactiveMdcFilter() {
+    this(MdcUtils::generateTraceId);
+  }
+
+  /**
+   * 지정한 생성 전략으로 traceId를 생성하는 필터를 생성한다.
+   *
+   * @param traceIdGenerator 헤더가 없을 때 사용할 traceId 생성기
+   */
+  public ReactiveMdcFilter(TraceIdGenerator traceIdGenerator) {
+    this.traceIdGenerator = traceIdGenerator;
+  }
+
+  /**
+   * 요청 헤더로 추적 컨텍스트를 만들어 하위 체인의 Reactor {@code Context}에 저장한다.
+   *
+   * @param exchange 현재 요청/응답
+   * @param chain 필터 체인
+   * @return 필터 체인 실행 결과
+   */
+  @Override
+  public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+    HttpHeaders headers = exchange.getRequest().getHeaders();
+
+    // 1. Trace ID: 헤더에 있으면 사용, 없으면 새로 생성
+    TraceContext parent = TraceContext.parse(headers.getFirst(TraceContext.HEADER_TRACEPARENT));
+    String traceId = extractTraceId(headers, parent);
+
+    // traceparent가 다른 trace를 가리키면 상위 span과 샘플링 플래그를 사용하지 않음
+    if (parent != null && !parent.belongsTo(traceId)) {
+      parent = null;
+    }
+
+    Map<String, String> context = new HashMap<>(16);
+    context.put(MdcUtils.REQUEST_ID, traceId);
+
+    // 2. Span: 이 서비스의 span 시작, 상위 span과 샘플링 플래그는 traceparent를 따름
+    TraceContext.startSpan(
+        context,
+        parent != null ? parent.getParentSpanId() : null,
+        parent == null || parent.isSampled());
+    TraceContext.putBaggage(context, headers.getFirst(TraceContext.HEADER_BAGGAGE));
+
+    // 3. User ID: 헤더에서 추출
+    String userId = headers.getFirst(MdcFilter.HEADER_USER_ID);
+    if (StringUtils.hasText(userId)) {
+      context.put(MdcUtils.USER_ID, userId);
+    }
+
+    // 4. 응답 헤더에 traceId 포함 (프론트엔드/디버깅용)
+    exchange.getResponse().getHeaders().set(MdcFilter.HEADER_TRACE_ID, traceId);
+
+    // 5. Reactor Context에 불변 스냅샷 하나만 저장
+    TraceSnapshot snapshot = TraceSnapshot.of(context);
+    return chain.filter(exchange)
+        .contextWrite(ctx -> ctx.put(TraceSnapshotAccessor.KEY, snapshot));
+  }
+
+  /**
+   * 다른 필터(보안 필터 포함)보다 먼저 실행되도록 최우선 순위를 반환한다.
+   *
+   * @return {@link Ordered#HIGHEST_PRECEDENCE}
+   */
+  @Override
+  public int getOrder() {
+    return Ordered.HIGHEST_PRECEDENCE;
+  }
+
+  private String extractTraceId(HttpHeaders headers, TraceContext parent) {
+    String traceIdHeader = headers.getFirst(MdcFilter.HEADER_TRACE_ID);
+
+    if (StringUtils.hasText(traceIdHeader)) {
+      return traceIdHeader;
+    }
+
+    if (parent != null) {
+      return parent.getTraceId();
+    }
+
+    return traceIdGenerator.generate();
+  }
+}
@@ -0,0 +1,96 @@
+package io.github.tickatch.common.logging;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * {@link ScheduledJobRegistry}의 작업별 실행 통계를 Micrometer 메트릭으로 노출하는 바인더.
+ *
+ * <p>Micrometer가 클래스패스에 있을 때만 {@code ScheduledTraceAutoConfiguration}에 의해 등록된다.
+ * 작업 통계는 최초 실행 시 생성되므로, 미터도 해당 시점에 등록된다.
+ *
+ * <p>노출 메트릭 (모두 태그 {@code job}):
+ * <ul>
+ *   <li>{@code tickatch.scheduled.duration} (gauge, ms) - 태그 {@code quantile} (0.5, 0.9, 0.99, max),
+ *       최근 1~2시간 구간 값</li>
+ *   <li>{@code tickatch.scheduled.runs} (counter) - 태그 {@code outcome} (success, failure)</li>
+ *   <li>{@code tickatch.scheduled.overlaps} (counter) - 이전 실행이 끝나기 전에 시작된 횟수</li>
+ *   <li>{@code tickatch.scheduled.skipped} (counter) - 건너뛴 예정 실행 수 (cron)</li>
+ *   <li>{@code tickatch.scheduled.delayed} (counter) - 예정보다 늦게 따라잡아 실행된 수 (fixedRate)</li>
+ *   <li>{@code tickatch.scheduled.running} (gauge) - 현재 실행 중인 수</li>
+ *   <li>{@code tickatch.scheduled.last.success} (gauge, seconds) - 마지막 성공 시각 (epoch 초)</li>
+ * </ul>
+ *
+ * @author Tickatch
+ * @since 0.0.6
+ * @see ScheduledJobRegistry
+ */
+public class ScheduledJobMeterBinder implements MeterBinder {
+
+    /** 실행 시간 메트릭 이름 */
+    public static final String DURATION_METRIC = "tickatch.scheduled.duration";
+
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99};
+
+    private final ScheduledJobRegistry scheduledJobRegistry;
+
+    /**
+     * 바인더를 생성한다.
+     *
+     * @param scheduledJobRegistry 작업별 실행 통계 레지스트리
+     */
+    public ScheduledJobMeterBinder(ScheduledJobRegistry scheduledJobRegistry) {
+        this.scheduledJobRegistry = scheduledJobRegistry;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        scheduledJobRegistry.addListener((name, stats) -> bindJob(registry, name, stats));
+    }
+
+    private void bindJob(MeterRegistry registry, String name, ScheduledJobStats stats) {
+        LatencyHistogram duration = stats.getDuration();
+        for (double quantile : QUANTILES) {
+            Gauge.builder(DURATION_METRIC, duration, h -> h.getPercentileMillis(quantile))
+                    .tag("job", name)
+                    .tag("quantile", Double.toString(quantile))
+                    .baseUnit("milliseconds")
+                    .register(registry);
+        }
+        Gauge.builder(DURATION_METRIC, duration, LatencyHistogram::getMaxMillis)
+                .tag("job", name)
+                .tag("quantile", "max")
+                .baseUnit("milliseconds")
+                .register(registry);
+
+        FunctionCounter.builder("tickatch.scheduled.runs", stats, ScheduledJobStats::getSuccessCount)
+                .tag("job", name)
+                .tag("outcome", "success")
+                .register(registry);
+        FunctionCounter.builder("tickatch.scheduled.runs", stats, ScheduledJobStats::getFailureCount)
+                .tag("job", name)
+                .tag("outcome", "failure")
+                .register(registry);
+        FunctionCounter.builder("tickatch.scheduled.overlaps", stats, ScheduledJobStats::getOverlapCount)
+                .tag("job", name)
+                .description("이전 실행이 끝나기 전에 시작된 실행 수")
+                .register(registry);
+        FunctionCounter.builder("tickatch.scheduled.skipped", stats, ScheduledJobStats::getSkippedCount)
+                .tag("job", name)
+                .description("건너뛴 예정 실행 수")
+                .register(registry);
+        FunctionCounter.builder("tickatch.scheduled.delayed", stats, ScheduledJobStats::getDelayedCount)
+                .tag("job", name)
+                .description("예정보다 늦게 따라잡아 실행된 수")
+                .register(registry);
+        Gauge.builder("tickatch.scheduled.running", stats, ScheduledJobStats::getRunning)
+                .tag("job", name)
+                .register(registry);
+        Gauge.builder("tickatch.scheduled.last.success", stats, s -> s.getLastSuccessMillis() / 1_000.0)
+                .tag("job", name)
+                .baseUnit("seconds")
+                .register(registry);
+    }
+}
@@ -0,0 +1,89 @@
+package io.github.tickatch.common.logging;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+
+/**
+ * 스케줄 작업별 실행 통계 레지스트리.
+ *
+ * <p>{@code ScheduledTraceAutoConfiguration}의 Aspect가 {@code @Scheduled} 메서드의 실행을
+ * {@code "패키지.Class.method"}(전체 클래스 이름) 키로 기록하므로, 다른 패키지의 같은 이름 클래스와 섞이지 않는다.
+ * 통계는 최초 실행 시 한 번만 생성되며, 이후 기록은 락 없이 수행된다.
+ *
+ * <p>조회 예시:
+ * <pre>{@code
+ * ScheduledJobSnapshot job = scheduledJobRegistry.snapshot().get("io.tickatch.seat.SeatHoldScheduler.expireHolds");
+ * log.info("p99: {}ms, overlaps: {}, last success: {}",
+ *         job.duration().p99Millis(), job.overlapCount(), job.lastSuccess());
+ * }</pre>
+ *
+ * <p>Micrometer가 클래스패스에 있으면 {@code ScheduledJobMeterBinder}를 통해
+ * {@code tickatch.scheduled.*} 메트릭으로도 노출된다.
+ *
+ * @author Tickatch
+ * @since 0.0.6
+ * @see ScheduledJobStats
+ */
+public class ScheduledJobRegistry {
+
+    private final Map<String, ScheduledJobStats> jobs = new ConcurrentHashMap<>();
+    private final CopyOnWriteArrayList<BiConsumer<String, ScheduledJobStats>> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * 작업의 통계를 반환한다. 없으면 생성하여 등록한다.
+     *
+     * @param name 작업 이름 ({@code "패키지.Class.method"})
+     * @param schedule 예정 실행 시각 계산기 (최초 생성 시에만 사용, null이면 건너뛴 실행 판별 안 함)
+     * @return 작업 통계
+     */
+    public ScheduledJobStats register(String name, ScheduledJobStats.FireSchedule schedule) {
+        ScheduledJobStats stats = jobs.get(name);
+        if (stats == null) {
+            stats = jobs.computeIfAbsent(name, key -> create(key, schedule));
+        }
+        return stats;
+    }
+
+    /**
+     * 작업의 통계를 반환한다.
+     *
+     * @param name 작업 이름
+     * @return 작업 통계, 실행된 적이 없으면 null
+     */
+    public ScheduledJobStats get(String name) {
+        return jobs.get(name);
+    }
+
+    /**
+     * 모든 작업의 현재 통계를 반환한다.
+     *
+     * @return 작업 이름별 스냅샷 (수정 불가)
+     */
+    public Map<String, ScheduledJobSnapshot> snapshot() {
+        Map<String, ScheduledJobSnapshot> result = new LinkedHashMap<>();
+        jobs.forEach((name, stats) -> result.put(name, stats.snapshot()));
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * 작업 통계가 새로 생성될 때 호출될 리스너를 등록한다.
+     *
+     * <p>이미 생성된 통계에 대해서도 즉시 호출된다. 메트릭 바인더가 작업별 미터를 등록할 때 사용한다.
+     *
+     * @param listener 작업 이름과 통계를 받는 리스너
+     */
+    public void addListener(BiConsumer<String, ScheduledJobStats> listener) {
+        listeners.add(listener);
+        jobs.forEach(listener);
+    }
+
+    private ScheduledJobStats create(String name, ScheduledJobStats.FireSchedule schedule) {
+        ScheduledJobStats stats = new ScheduledJobStats(schedule);
+        listeners.forEach(listener -> listener.accept(name, stats));
+        return stats;
+    }
+}
@@ -0,0 +1,31 @@
+package io.github.tickatch.common.logging;
+
+import java.time.Instant;
+
+/**
+ * 스케줄 작업 실행 통계의 특정 시점 스냅샷.
+ *
+ * @param successCount 성공 횟수
+ * @param failureCount 실패 횟수
+ * @param overlapCount 이전 실행이 끝나기 전에 시작된 횟수
+ * @param skippedCount 건너뛴 예정 실행 수 (cron)
+ * @param delayedCount 예정보다 늦게 따라잡아 실행된 수 (fixedRate)
+ * @param running 현재 실행 중인 수
+ * @param lastSuccess 마지막 성공 종료 시각 (없으면 null)
+ * @param lastFailure 마지막 실패 종료 시각 (없으면 null)
+ * @param duration 최근 구간의 실행 시간 통계
+ * @author Tickatch
+ * @since 0.0.6
+ * @see ScheduledJobStats#snapshot()
+ */
+public record ScheduledJobSnapshot(
+        long successCount,
+        long failureCount,
+        long overlapCount,
+        long skippedCount,
+        long delayedCount,
+        int running,
+        Instant lastSuccess,
+        Instant lastFailure,
+        LatencySnapshot duration) {
+}
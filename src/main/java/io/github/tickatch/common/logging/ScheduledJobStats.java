@@ -0,0 +1,277 @@
+package io.github.tickatch.common.logging;
+
+import org.springframework.scheduling.support.CronExpression;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 스케줄 작업 하나의 실행 통계.
+ *
+ * <p>실행 시간 히스토그램, 성공/실패 횟수, 중복 실행(이전 실행이 끝나기 전에 시작) 횟수,
+ * 건너뛴 실행 횟수, 늦게 실행된 횟수, 마지막 성공 시각을 락 없이 기록한다. 실행마다 원자적 연산 몇 번만 수행하므로
+ * 100ms 주기의 스케줄에도 부담이 거의 없다.
+ *
+ * <p>실행 시간 히스토그램은 {@link #DURATION_WINDOW}(1시간) 구간으로 교체되므로, 실행 시간 통계는
+ * 최근 1~2시간의 분포를 나타낸다. 실행 횟수와 건너뛴 횟수는 누적값이다.
+ *
+ * <p>밀린 실행은 {@link FireSchedule}이 지정된 경우에만 판별한다. 직전 시작 시각과 이번 시작 시각 사이에
+ * 예정된 실행이 두 번 이상 있으면, 이번 실행을 제외한 나머지가 제때 실행되지 못한 것으로 본다.
+ * <ul>
+ *   <li><b>cron</b> - Spring은 지나간 예정 시각을 실행하지 않으므로 건너뛴 실행({@link #getSkippedCount()})으로 기록한다.</li>
+ *   <li><b>fixedRate</b> - Spring은 밀린 실행을 연달아 따라잡으므로 건너뛴 것이 아니라
+ *       늦게 실행된 것({@link #getDelayedCount()})으로 기록한다.</li>
+ * </ul>
+ *
+ * @author Tickatch
+ * @since 0.0.6
+ * @see ScheduledJobRegistry
+ */
+public final class ScheduledJobStats {
+
+    /** 실행 시간 히스토그램의 구간 길이. 분 단위 이상 주기의 작업도 통계에 남도록 메서드 지연 시간보다 길게 둔다. */
+    public static final Duration DURATION_WINDOW = Duration.ofHours(1);
+
+    private final FireSchedule schedule;
+
+    private final LatencyHistogram duration = new LatencyHistogram(DURATION_WINDOW);
+    private final LongAdder successCount = new LongAdder();
+    private final LongAdder failureCount = new LongAdder();
+    private final LongAdder overlapCount = new LongAdder();
+    private final LongAdder skippedCount = new LongAdder();
+    private final LongAdder delayedCount = new LongAdder();
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicLong lastStartMillis = new AtomicLong();
+    private final LongAccumulator lastSuccessMillis = new LongAccumulator(Math::max, 0L);
+    private final LongAccumulator lastFailureMillis = new LongAccumulator(Math::max, 0L);
+
+    /**
+     * 통계를 생성한다.
+     *
+     * @param schedule 예정 실행 시각 계산기 (null이면 밀린 실행을 판별하지 않음)
+     */
+    public ScheduledJobStats(FireSchedule schedule) {
+        this.schedule = schedule;
+    }
+
+    /**
+     * 실행 시작을 기록한다.
+     *
+     * @param startMillis 시작 시각 (epoch 밀리초)
+     * @return 이번 실행이 건너뛴 것으로 판별한 예정 실행 수 (fixedRate는 항상 0), 이전 실행이 진행 중이면 -1
+     */
+    public long onStart(long startMillis) {
+        boolean overlapped = running.getAndIncrement() > 0;
+        long previousStart = lastStartMillis.getAndSet(startMillis);
+        if (overlapped) {
+            overlapCount.increment();
+            return -1L;
+        }
+        if (schedule == null || previousStart == 0L || startMillis <= previousStart) {
+            return 0L;
+        }
+        long missed = Math.max(schedule.countBetween(previousStart, startMillis) - 1L, 0L);
+        if (missed == 0) {
+            return 0L;
+        }
+        if (schedule.catchesUp()) {
+            delayedCount.add(missed);
+            return 0L;
+        }
+        skippedCount.add(missed);
+        return missed;
+    }
+
+    /**
+     * 실행 종료를 기록한다.
+     *
+     * @param endMillis 종료 시각 (epoch 밀리초)
+     * @param elapsedNanos 실행 시간 (나노초)
+     * @param success 예외 없이 종료되었는지 여부
+     */
+    public void onFinish(long endMillis, long elapsedNanos, boolean success) {
+        running.decrementAndGet();
+        duration.record(elapsedNanos);
+        if (success) {
+            successCount.increment();
+            lastSuccessMillis.accumulate(endMillis);
+        } else {
+            failureCount.increment();
+            lastFailureMillis.accumulate(endMillis);
+        }
+    }
+
+    /**
+     * 실행 시간 히스토그램을 반환한다.
+     *
+     * @return 실행 시간 히스토그램 (최근 구간)
+     */
+    public LatencyHistogram getDuration() {
+        return duration;
+    }
+
+    /**
+     * 성공한 실행 수를 반환한다.
+     *
+     * @return 성공 횟수
+     */
+    public long getSuccessCount() {
+        return successCount.sum();
+    }
+
+    /**
+     * 예외로 종료된 실행 수를 반환한다.
+     *
+     * @return 실패 횟수
+     */
+    public long getFailureCount() {
+        return failureCount.sum();
+    }
+
+    /**
+     * 이전 실행이 끝나기 전에 시작된 실행 수를 반환한다.
+     *
+     * @return 중복 실행 횟수
+     */
+    public long getOverlapCount() {
+        return overlapCount.sum();
+    }
+
+    /**
+     * 건너뛴 예정 실행 수를 반환한다 (cron).
+     *
+     * @return 건너뛴 실행 횟수
+     */
+    public long getSkippedCount() {
+        return skippedCount.sum();
+    }
+
+    /**
+     * 예정 시각보다 늦게 따라잡아 실행된 수를 반환한다 (fixedRate).
+     *
+     * @return 늦게 실행된 횟수
+     */
+    public long getDelayedCount() {
+        return delayedCount.sum();
+    }
+
+    /**
+     * 현재 실행 중인 수를 반환한다.
+     *
+     * @return 실행 중인 수
+     */
+    public int getRunning() {
+        return running.get();
+    }
+
+    /**
+     * 마지막으로 성공한 실행의 종료 시각을 반환한다.
+     *
+     * @return 종료 시각 (epoch 밀리초), 성공한 적이 없으면 0
+     */
+    public long getLastSuccessMillis() {
+        return lastSuccessMillis.get();
+    }
+
+    /**
+     * 현재까지의 통계를 스냅샷으로 반환한다.
+     *
+     * @return 실행 통계 스냅샷
+     */
+    public ScheduledJobSnapshot snapshot() {
+        return new ScheduledJobSnapshot(
+                successCount.sum(),
+                failureCount.sum(),
+                overlapCount.sum(),
+                skippedCount.sum(),
+                delayedCount.sum(),
+                running.get(),
+                toInstant(lastSuccessMillis.get()),
+                toInstant(lastFailureMillis.get()),
+                duration.snapshot());
+    }
+
+    private static Instant toInstant(long epochMillis) {
+        return epochMillis == 0L ? null : Instant.ofEpochMilli(epochMillis);
+    }
+
+    /**
+     * 스케줄 작업의 예정 실행 시각 계산기.
+     */
+    @FunctionalInterface
+    public interface FireSchedule {
+
+        /** cron 계산 시 한 구간에서 확인할 최대 예정 실행 수 */
+        int MAX_CRON_ITERATIONS = 1_000;
+
+        /**
+         * {@code (afterMillis, untilMillis]} 구간에 예정된 실행 수를 계산한다.
+         *
+         * @param afterMillis 구간 시작 (제외, epoch 밀리초)
+         * @param untilMillis 구간 끝 (포함, epoch 밀리초)
+         * @return 예정 실행 수
+         */
+        long countBetween(long afterMillis, long untilMillis);
+
+        /**
+         * 밀린 예정 실행을 나중에 따라잡아 실행하는지 여부를 반환한다.
+         *
+         * @return 따라잡으면 true (밀린 실행은 늦은 실행), 아니면 false (밀린 실행은 건너뛴 실행)
+         */
+        default boolean catchesUp() {
+            return false;
+        }
+
+        /**
+         * 고정 주기({@code fixedRate}) 스케줄을 반환한다. 밀린 실행은 따라잡으므로 늦은 실행으로 기록된다.
+         *
+         * @param period 실행 주기
+         * @return 예정 실행 시각 계산기, 주기가 0 이하이면 null
+         */
+        static FireSchedule fixedRate(Duration period) {
+            long periodMillis = period.toMillis();
+            if (periodMillis <= 0) {
+                return null;
+            }
+            return new FireSchedule() {
+                @Override
+                public long countBetween(long afterMillis, long untilMillis) {
+                    return (untilMillis - afterMillis) / periodMillis;
+                }
+
+                @Override
+                public boolean catchesUp() {
+                    return true;
+                }
+            };
+        }
+
+        /**
+         * cron 스케줄을 반환한다.
+         *
+         * @param expression cron 표현식
+         * @param zone cron을 해석할 시간대
+         * @return 예정 실행 시각 계산기
+         */
+        static FireSchedule cron(CronExpression expression, ZoneId zone) {
+            return (afterMillis, untilMillis) -> {
+                ZonedDateTime next = ZonedDateTime.ofInstant(Instant.ofEpochMilli(afterMillis), zone);
+                long count = 0;
+                while (count < MAX_CRON_ITERATIONS) {
+                    next = expression.next(next);
+                    if (next == null || next.toInstant().toEpochMilli() > untilMillis) {
+                        break;
+                    }
+                    count++;
+                }
+                return count;
+            };
+        }
+    }
+}
@@ -0,0 +1,413 @@
+package io.github.tickatch.common.logging;
+
+import org.springframework.util.StringUtils;
+
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * W3C Trace Context({@code traceparent})와 Baggage({@code baggage}) 헤더를 해석하고 생성하는 유틸리티.
+ *
+ * <p>분산 추적 SDK 없이도 게이트웨이/사이드카와 같은 trace를 공유할 수 있도록
+ * traceId, 상위 span ID, 샘플링 플래그, baggage를 MDC에 저장하고 다음 hop으로 전파한다.
+ * 서비스(hop)마다 새로운 span ID를 생성하며, 수신한 span ID는 상위 span ID로 기록된다.
+ *
+ * <p>{@code traceparent} 형식:
+ * <pre>
+ * 00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01
+ * │  │                                │                └ trace-flags (01: sampled)
+ * │  │                                └ parent-id (16자리 hex)
+ * │  └ trace-id (32자리 hex)
+ * └ version
+ * </pre>
+ *
+ * <p>헤더 해석은 원본 문자열 위에서 문자 단위로 검증하며, 유효한 경우에만 trace-id와 parent-id를
+ * 잘라낸다. 형식이 올바르지 않은 헤더는 무시한다 (새로운 trace 시작).
+ *
+ * <p>MDC 키:
+ * <ul>
+ *   <li>{@link #SPAN_ID} - 현재 서비스의 span ID</li>
+ *   <li>{@link #PARENT_SPAN_ID} - 호출한 서비스의 span ID (없으면 저장하지 않음)</li>
+ *   <li>{@link #TRACE_FLAGS} - 샘플링 플래그 ({@code 01} 또는 {@code 00})</li>
+ *   <li>{@link #BAGGAGE} - 수신한 baggage 헤더 원문</li>
+ * </ul>
+ *
+ * @author Tickatch
+ * @since 0.0.6
+ * @see MdcFilter
+ * @see MdcUtils
+ */
+public final class TraceContext {
+
+    /** W3C Trace Context 헤더 이름. */
+    public static final String HEADER_TRACEPARENT = "traceparent";
+
+    /** W3C Baggage 헤더 이름. */
+    public static final String HEADER_BAGGAGE = "baggage";
+
+    /** 현재 span ID를 저장하는 MDC 키. */
+    public static final String SPAN_ID = "spanId";
+
+    /** 상위 span ID를 저장하는 MDC 키. */
+    public static final String PARENT_SPAN_ID = "parentSpanId";
+
+    /** 샘플링 플래그를 저장하는 MDC 키. */
+    public static final String TRACE_FLAGS = "traceFlags";
+
+    /** baggage 원문을 저장하는 MDC 키. */
+    public static final String BAGGAGE = "baggage";
+
+    /** W3C Baggage 명세의 최대 길이 (바이트, ASCII 기준 문자 수와 같음). */
+    static final int MAX_BAGGAGE_LENGTH = 8192;
+
+    private static final int TRACEPARENT_LENGTH = 55;
+    private static final int TRACE_ID_LENGTH = 32;
+    private static final int SPAN_ID_LENGTH = 16;
+    private static final String FLAGS_SAMPLED = "01";
+    private static final String FLAGS_NOT_SAMPLED = "00";
+
+    private final String traceId;
+    private final String parentSpanId;
+    private final boolean sampled;
+
+    private TraceContext(String traceId, String parentSpanId, boolean sampled) {
+        this.traceId = traceId;
+        this.parentSpanId = parentSpanId;
+        this.sampled = sampled;
+    }
+
+    /**
+     * {@code traceparent} 헤더를 해석한다.
+     *
+     * <p>버전 {@code 00}은 정확히 55자여야 하며, 이후 버전은 뒤에 추가 필드가 있을 수 있다.
+     * trace-id나 parent-id가 모두 0이거나 대문자 hex를 포함하면 유효하지 않다.
+     *
+     * @param header 헤더 값 (null 가능)
+     * @return 해석 결과, 헤더가 없거나 유효하지 않으면 null
+     */
+    public static TraceContext parse(CharSequence header) {
+        if (header == null) {
+            return null;
+        }
+
+        int start = 0;
+        int end = header.length();
+        while (start < end && isWhitespace(header.charAt(start))) {
+            start++;
+        }
+        while (end > start && isWhitespace(header.charAt(end - 1))) {
+            end--;
+        }
+
+        int length = end - start;
+        if (length < TRACEPARENT_LENGTH) {
+            return null;
+        }
+
+        int version = hexByte(header, start);
+        if (version < 0 || version == 0xff) {
+            return null;
+        }
+        if (version == 0 ? length != TRACEPARENT_LENGTH
+                : length > TRACEPARENT_LENGTH && header.charAt(start + TRACEPARENT_LENGTH) != '-') {
+            return null;
+        }
+        if (header.charAt(start + 2) != '-'
+                || header.charAt(start + 35) != '-'
+                || header.charAt(start + 52) != '-') {
+            return null;
+        }
+
+        int traceIdStart = start + 3;
+        int spanIdStart = start + 36;
+        if (!isValidId(header, traceIdStart, TRACE_ID_LENGTH) || !isValidId(header, spanIdStart, SPAN_ID_LENGTH)) {
+            return null;
+        }
+
+        int flags = hexByte(header, start + 53);
+        if (flags < 0) {
+            return null;
+        }
+
+        return new TraceContext(
+                header.subSequence(traceIdStart, traceIdStart + TRACE_ID_LENGTH).toString(),
+                header.subSequence(spanIdStart, spanIdStart + SPAN_ID_LENGTH).toString(),
+                (flags & 0x01) != 0);
+    }
+
+    /**
+     * {@code traceparent} 헤더 값을 생성한다.
+     *
+     * <p>traceId는 32자리 hex 또는 UUID 형식(하이픈 포함)을 받으며, 대문자는 소문자로 변환한다.
+     * 그 외 형식(예: 임의의 {@code X-Trace-Id} 값)은 W3C trace-id로 표현할 수 없으므로 null을 반환한다.
+     *
+     * @param traceId 추적 ID
+     * @param spanId 다음 hop의 상위 span이 될 현재 span ID (16자리 hex)
+     * @param sampled 샘플링 여부
+     * @return {@code traceparent} 헤더 값, 생성할 수 없으면 null
+     */
+    public static String format(String traceId, String spanId, boolean sampled) {
+        if (traceId == null || !isSpanId(spanId)) {
+            return null;
+        }
+
+        char[] buffer = new char[TRACEPARENT_LENGTH];
+        buffer[0] = '0';
+        buffer[1] = '0';
+        buffer[2] = '-';
+
+        int position = 3;
+        boolean nonZero = false;
+        for (int i = 0; i < traceId.length(); i++) {
+            char c = traceId.charAt(i);
+            if (c == '-') {
+                continue;
+            }
+            if (c >= 'A' && c <= 'F') {
+                c = (char) (c + ('a' - 'A'));
+            } else if (!isLowerHex(c)) {
+                return null;
+            }
+            if (position == 3 + TRACE_ID_LENGTH) {
+                return null;
+            }
+            nonZero |= c != '0';
+            buffer[position++] = c;
+        }
+        if (position != 3 + TRACE_ID_LENGTH || !nonZero) {
+            return null;
+        }
+
+        buffer[35] = '-';
+        spanId.getChars(0, SPAN_ID_LENGTH, buffer, 36);
+        buffer[52] = '-';
+        buffer[53] = '0';
+        buffer[54] = sampled ? '1' : '0';
+        return new String(buffer);
+    }
+
+    /**
+     * 현재 MDC의 traceId와 span ID로 다음 hop에 전달할 {@code traceparent} 헤더 값을 생성한다.
+     *
+     * <p>MDC에 span ID가 없으면 (스케줄러 등 요청 외부) 새 span ID를 생성하여 사용한다.
+     *
+     * @return {@code traceparent} 헤더 값, traceId가 없거나 W3C 형식으로 표현할 수 없으면 null
+     */
+    public static String currentTraceparent() {
+        String traceId = MdcUtils.getRequestId();
+        if (!StringUtils.hasText(traceId)) {
+            return null;
+        }
+        String spanId = MdcUtils.get(SPAN_ID);
+        return format(
+                traceId,
+                spanId != null ? spanId : newSpanId(),
+                !FLAGS_NOT_SAMPLED.equals(MdcUtils.get(TRACE_FLAGS)));
+    }
+
+    /**
+     * 현재 서비스의 새 span을 시작하여 MDC에 저장한다.
+     *
+     * @param parentSpanId 호출한 서비스의 span ID (없으면 null)
+     * @param sampled 샘플링 여부
+     * @return 생성된 span ID
+     */
+    public static String startSpan(String parentSpanId, boolean sampled) {
+        return startSpan(MdcUtils::put, parentSpanId, sampled);
+    }
+
+    /**
+     * 현재 서비스의 새 span을 시작하여 지정한 맵에 저장한다.
+     *
+     * <p>{@link MdcUtils#setContext(Map)}로 한 번에 게시할 컨텍스트를 만들 때 사용한다.
+     *
+     * @param context span 정보를 저장할 맵
+     * @param parentSpanId 호출한 서비스의 span ID (없으면 null)
+     * @param sampled 샘플링 여부
+     * @return 생성된 span ID
+     */
+    public static String startSpan(Map<String, String> context, String parentSpanId, boolean sampled) {
+        return startSpan(context::put, parentSpanId, sampled);
+    }
+
+    /**
+     * 수신한 baggage 헤더를 MDC에 저장한다.
+     *
+     * <p>비어 있거나 W3C 명세의 최대 길이({@value #MAX_BAGGAGE_LENGTH})를 넘는 값은 저장하지 않는다.
+     *
+     * @param baggage baggage 헤더 값 (null 가능)
+     */
+    public static void putBaggage(String baggage) {
+        if (isBaggage(baggage)) {
+            MdcUtils.put(BAGGAGE, baggage.trim());
+        }
+    }
+
+    /**
+     * 수신한 baggage 헤더를 지정한 맵에 저장한다.
+     *
+     * <p>저장 조건은 {@link #putBaggage(String)}와 같다.
+     *
+     * @param context baggage를 저장할 맵
+     * @param baggage baggage 헤더 값 (null 가능)
+     */
+    public static void putBaggage(Map<String, String> context, String baggage) {
+        if (isBaggage(baggage)) {
+            context.put(BAGGAGE, baggage.trim());
+        }
+    }
+
+    /**
+     * 16자리 hex span ID를 새로 생성한다.
+     *
+     * @return span ID
+     */
+    public static String newSpanId() {
+        return RandomTraceIdGenerator.newSpanId();
+    }
+
+    /**
+     * 32자리 hex trace-id를 반환한다.
+     *
+     * @return trace-id
+     */
+    public String getTraceId() {
+        return traceId;
+    }
+
+    /**
+     * 이 {@code traceparent}가 지정한 traceId와 같은 trace에 속하는지 확인한다.
+     *
+     * <p>traceId는 {@link #format(String, String, boolean)}과 같은 규칙으로 정규화한다. 하이픈은 제거하고
+     * 대문자는 소문자로 바꾼 뒤 trace-id와 비교한다. {@code X-Trace-Id}와 {@code traceparent}가 서로 다른 trace를
+     * 가리키면 수신 측은 {@code X-Trace-Id}를 traceId로 사용한다. 이때 이 값이 false이면 {@code traceparent}의
+     * 상위 span과 샘플링 플래그를 다른 trace에 연결하지 않아야 한다.
+     *
+     * @param traceId 비교할 추적 ID (null 가능)
+     * @return 정규화한 traceId가 trace-id와 같으면 true
+     */
+    public boolean belongsTo(String traceId) {
+        if (traceId == null) {
+            return false;
+        }
+        int position = 0;
+        for (int i = 0; i < traceId.length(); i++) {
+            char c = traceId.charAt(i);
+            if (c == '-') {
+                continue;
+            }
+            if (c >= 'A' && c <= 'F') {
+                c = (char) (c + ('a' - 'A'));
+            }
+            if (position == TRACE_ID_LENGTH || this.traceId.charAt(position++) != c) {
+                return false;
+            }
+        }
+        return position == TRACE_ID_LENGTH;
+    }
+
+    /**
+     * 호출한 서비스의 span ID를 반환한다.
+     *
+     * @return 16자리 hex parent-id
+     */
+    public String getParentSpanId() {
+        return parentSpanId;
+    }
+
+    /**
+     * 샘플링 플래그를 반환한다.
+     *
+     * @return sampled 플래그가 설정되어 있으면 true
+     */
+    public boolean isSampled() {
+        return sampled;
+    }
+
+    /**
+     * 32자리 소문자 hex이고 모두 0이 아닌 trace-id인지 확인한다.
+     *
+     * <p>true이면 {@code traceparent}의 trace-id가 값과 정확히 같으므로, 수신 측이 같은 traceId를 얻는다.
+     *
+     * @param value 확인할 값 (null 가능)
+     * @return 유효한 trace-id이면 true
+     */
+    public static boolean isTraceId(String value) {
+        return value != null && value.length() == TRACE_ID_LENGTH && isValidId(value, 0, TRACE_ID_LENGTH);
+    }
+
+    /**
+     * 16자리 소문자 hex이고 모두 0이 아닌 span ID인지 확인한다.
+     *
+     * @param value 확인할 값 (null 가능)
+     * @return 유효한 span ID이면 true
+     */
+    public static boolean isSpanId(String value) {
+        return value != null && value.length() == SPAN_ID_LENGTH && isValidId(value, 0, SPAN_ID_LENGTH);
+    }
+
+    /**
+     * 새 span ID를 생성하여 span ID, 상위 span ID, 샘플링 플래그를 {@code sink}에 기록한다.
+     *
+     * <p>MDC에 직접 기록하는 {@link #startSpan(String, boolean)}과 맵에 모으는
+     * {@link #startSpan(Map, String, boolean)}이 공유한다. 상위 span ID는 유효한 경우에만 기록한다.
+     *
+     * @param sink 키-값을 기록할 대상
+     * @param parentSpanId 호출한 서비스의 span ID (없거나 유효하지 않으면 기록하지 않음)
+     * @param sampled 샘플링 여부
+     * @return 생성된 span ID
+     */
+    private static String startSpan(BiConsumer<String, String> sink, String parentSpanId, boolean sampled) {
+        String spanId = newSpanId();
+        sink.accept(SPAN_ID, spanId);
+        if (isSpanId(parentSpanId)) {
+            sink.accept(PARENT_SPAN_ID, parentSpanId);
+        }
+        sink.accept(TRACE_FLAGS, sampled ? FLAGS_SAMPLED : FLAGS_NOT_SAMPLED);
+        return spanId;
+    }
+
+    private static boolean isBaggage(String baggage) {
+        return StringUtils.hasText(baggage) && baggage.length() <= MAX_BAGGAGE_LENGTH;
+    }
+
+    /**
+     * 지정 위치부터 {@code length}자가 소문자 hex이고 모두 0이 아닌지 확인한다.
+     */
+    private static boolean isValidId(CharSequence value, int offset, int length) {
+        if (value.length() < offset + length) {
+            return false;
+        }
+        boolean nonZero = false;
+        for (int i = offset; i < offset + length; i++) {
+            char c = value.charAt(i);
+            if (!isLowerHex(c)) {
+                return false;
+            }
+            nonZero |= c != '0';
+        }
+        return nonZero;
+    }
+
+    /**
+     * 지정 위치의 두 자리 소문자 hex를 값으로 변환한다.
+     *
+     * @return 0 ~ 255, 유효하지 않으면 -1
+     */
+    private static int hexByte(CharSequence value, int offset) {
+        char high = value.charAt(offset);
+        char low = value.charAt(offset + 1);
+        if (!isLowerHex(high) || !isLowerHex(low)) {
+            return -1;
+        }
+        return (Character.digit(high, 16) << 4) | Character.digit(low, 16);
+    }
+
+    private static boolean isLowerHex(char c) {
+        return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f');
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t';
+    }
+}
@@ -0,0 +1,104 @@
+package io.github.tickatch.common.logging;
+
+import java.util.UUID;
+
+/**
+ * 새로운 traceId를 생성하는 전략.
+ *
+ * <p>상위 서비스에서 traceId를 전달받지 못한 경우 {@link MdcFilter}, {@link MdcUtils#getOrCreateRequestId()},
+ * {@code EventContext}, {@code @Scheduled} 메서드 등 새로운 추적 흐름이 시작되는 모든 곳에서 사용된다.
+ *
+ * <p>제공하는 구현:
+ * <ul>
+ *   <li>{@link #random()} - 기본값. 스레드별 난수로 생성한 128비트 값을 UUID(v4) 형식으로 출력</li>
+ *   <li>{@link #w3c()} - 같은 방식의 128비트 값을 W3C Trace Context의 trace-id 형식(32자리 소문자 hex)으로 출력</li>
+ *   <li>{@link #secureUuid()} - 기존 방식. {@link UUID#randomUUID()} ({@code SecureRandom} 사용)</li>
+ * </ul>
+ *
+ * <p>{@link #random()}과 {@link #w3c()}는 {@code SecureRandom}을 거치지 않으므로 부하 상황에서도 경합이 없다.
+ * traceId는 추적용 식별자일 뿐 보안 토큰이 아니므로 예측 불가능성이 필요하지 않다.
+ * 두 형식 모두 하이픈을 제외하면 W3C trace-id로 그대로 사용할 수 있다.
+ *
+ * <p>사용 예시:
+ * <pre>{@code
+ * # application.yml
+ * tickatch:
+ *   trace:
+ *     id-format: w3c    # uuid(기본) | w3c | secure-uuid
+ *
+ * // 또는 직접 빈 등록
+ * @Bean
+ * public TraceIdGenerator traceIdGenerator() {
+ *     return () -> "svc-" + UUID.randomUUID();
+ * }
+ * }</pre>
+ *
+ * @author Tickatch
+ * @since 0.0.6
+ * @see MdcUtils#setTraceIdGenerator(TraceIdGenerator)
+ */
+@FunctionalInterface
+public interface TraceIdGenerator {
+
+    /**
+     * 새로운 traceId를 생성한다.
+     *
+     * @return traceId 문자열
+     */
+    String generate();
+
+    /**
+     * 스레드별 난수 기반 UUID(v4) 형식 생성기를 반환한다. (기본값)
+     *
+     * @return UUID 형식 생성기
+     */
+    static TraceIdGenerator random() {
+        return RandomTraceIdGenerator.UUID_FORMAT;
+    }
+
+    /**
+     * 스레드별 난수 기반 W3C trace-id 형식 생성기를 반환한다.
+     *
+     * @return 32자리 hex 형식 생성기
+     */
+    static TraceIdGenerator w3c() {
+        return RandomTraceIdGenerator.W3C_FORMAT;
+    }
+
+    /**
+     * {@link UUID#randomUUID()}를 사용하는 생성기를 반환한다.
+     *
+     * @return SecureRandom 기반 UUID 생성기
+     */
+    static TraceIdGenerator secureUuid() {
+        return () -> UUID.randomUUID().toString();
+    }
+
+    /**
+     * 설정으로 선택할 수 있는 traceId 형식.
+     */
+    enum Format {
+
+        /** 스레드별 난수 기반 UUID(v4) 형식 */
+        UUID,
+
+        /** 스레드별 난수 기반 W3C trace-id 형식 */
+        W3C,
+
+        /** {@link java.util.UUID#randomUUID()} 기반 UUID 형식 */
+        SECURE_UUID;
+
+        /**
+         * 형식에 해당하는 생성기를 반환한다.
+         *
+         * @return traceId 생성기
+         */
+        public TraceIdGenerator generator() {
+            return switch (this) {
+                case UUID -> random();
+                case W3C -> w3c();
+                case SECURE_UUID -> secureUuid();
+            };
+        }
+    }
+}
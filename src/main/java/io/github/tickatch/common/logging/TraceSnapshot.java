@@ -0,0 +1,307 @@
+package io.github.tickatch.common.logging;
+
+import org.slf4j.MDC;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 다른 스레드로 전달하기 위한 추적 컨텍스트의 불변 스냅샷.
+ *
+ * <p>SLF4J MDC는 ThreadLocal이므로 {@code CompletableFuture}, {@code @Async}, 가상 스레드 등
+ * 다른 스레드에서 실행되는 작업에는 traceId가 전달되지 않는다. 이 클래스는 추적에 필요한
+ * 고정된 키(requestId, userId, span 정보, baggage)만 읽어 두었다가 작업 스레드에서 복원한다.
+ *
+ * <ul>
+ *   <li><b>캡처</b> - MDC 전체를 복사하지 않고 고정된 키만 조회하므로 비용이 MDC 크기와 무관하다.</li>
+ *   <li><b>불변</b> - 생성 후 변경되지 않으므로 여러 작업이 같은 스냅샷을 공유해도 안전하다.</li>
+ *   <li><b>복원</b> - {@link #restore()}는 작업 스레드의 기존 MDC를 기억했다가 {@link MdcScope#close()}에서 되돌린다.
+ *       스레드 풀 스레드에 값이 남지 않는다.</li>
+ * </ul>
+ *
+ * <p>사용 예시:
+ * <pre>{@code
+ * // 단일 작업
+ * CompletableFuture.supplyAsync(TraceSnapshot.capture().wrapSupplier(() -> loadSeats(eventId)), executor);
+ *
+ * // Executor 전체
+ * Executor traced = TraceSnapshot.decorate(executor);
+ *
+ * // 직접 복원
+ * TraceSnapshot snapshot = TraceSnapshot.capture();
+ * executor.execute(() -> {
+ *     try (MdcScope scope = snapshot.restore()) {
+ *         log.info("traceId 유지");
+ *     }
+ * });
+ * }</pre>
+ *
+ * <p>Spring의 {@code ThreadPoolTaskExecutor}와 {@code @Async}에는 {@link MdcTaskDecorator}가 자동으로 적용된다.
+ *
+ * @author Tickatch
+ * @since 0.0.6
+ * @see MdcTaskDecorator
+ * @see MdcUtils#snapshot()
+ */
+public final class TraceSnapshot {
+
+    /** 스냅샷에 포함되는 MDC 키. */
+    static final String[] KEYS = {
+            MdcUtils.REQUEST_ID,
+            MdcUtils.USER_ID,
+            TraceContext.SPAN_ID,
+            TraceContext.PARENT_SPAN_ID,
+            TraceContext.TRACE_FLAGS,
+            TraceContext.BAGGAGE
+    };
+
+    private static final TraceSnapshot EMPTY = new TraceSnapshot(new String[KEYS.length]);
+
+    private final String[] values;
+
+    private TraceSnapshot(String[] values) {
+        this.values = values;
+    }
+
+    /**
+     * 현재 스레드의 추적 컨텍스트를 캡처한다.
+     *
+     * @return 스냅샷 (추적 정보가 없으면 빈 스냅샷)
+     */
+    public static TraceSnapshot capture() {
+        String[] captured = null;
+        for (int i = 0; i < KEYS.length; i++) {
+            String value = MDC.get(KEYS[i]);
+            if (value != null) {
+                if (captured == null) {
+                    captured = new String[KEYS.length];
+                }
+                captured[i] = value;
+            }
+        }
+        return captured != null ? new TraceSnapshot(captured) : EMPTY;
+    }
+
+    /**
+     * 지정한 키-값으로 스냅샷을 생성한다.
+     *
+     * <p>MDC를 거치지 않고 스냅샷을 만들 때 사용한다 (예: Reactor {@code Context}에 저장할 요청 컨텍스트).
+     * 추적용 키 외의 값은 무시한다.
+     *
+     * @param context MDC 키-값
+     * @return 스냅샷 (추적 정보가 없으면 빈 스냅샷)
+     */
+    public static TraceSnapshot of(Map<String, String> context) {
+        String[] captured = null;
+        for (int i = 0; i < KEYS.length; i++) {
+            String value = context.get(KEYS[i]);
+            if (value != null) {
+                if (captured == null) {
+                    captured = new String[KEYS.length];
+                }
+                captured[i] = value;
+            }
+        }
+        return captured != null ? new TraceSnapshot(captured) : EMPTY;
+    }
+
+    /**
+     * Executor에 제출되는 모든 작업에 제출 시점의 추적 컨텍스트를 전달하도록 감싼다.
+     *
+     * @param executor 원본 Executor
+     * @return 추적 컨텍스트를 전달하는 Executor
+     */
+    public static Executor decorate(Executor executor) {
+        return command -> executor.execute(capture().wrap(command));
+    }
+
+    /**
+     * 스냅샷의 값을 현재 스레드의 MDC에 설정한다.
+     *
+     * <p>추적용 키를 한 번의 {@link MdcUtils#setContext(Map)} 호출로 설정하며, 스냅샷에 없는 추적용 키는 제거한다.
+     * 반환된 {@link MdcScope}를 닫으면 설정 전의 MDC로 되돌린다.
+     *
+     * @return 복원 범위
+     */
+    public MdcScope restore() {
+        if (this == EMPTY && !hasAnyKey()) {
+            return MdcScope.NOOP;
+        }
+
+        return MdcUtils.setContext(toContext());
+    }
+
+    /**
+     * 스냅샷의 값을 현재 스레드의 MDC에 설정한다. 복원 범위 없이 값만 교체한다.
+     *
+     * <p>이전 값의 복원을 호출자가 직접 관리하는 경우({@link TraceSnapshotAccessor})에 사용한다.
+     */
+    void applyToMdc() {
+        if (this == EMPTY && !hasAnyKey()) {
+            return;
+        }
+        MdcUtils.setContext(toContext());
+    }
+
+    /**
+     * 작업 실행 중에만 스냅샷을 적용하도록 감싼다.
+     *
+     * @param task 원본 작업
+     * @return 추적 컨텍스트를 복원하여 실행하는 작업
+     */
+    public Runnable wrap(Runnable task) {
+        return () -> {
+            try (MdcScope ignored = restore()) {
+                task.run();
+            }
+        };
+    }
+
+    /**
+     * 작업 실행 중에만 스냅샷을 적용하도록 감싼다.
+     *
+     * @param task 원본 작업
+     * @param <T> 반환 타입
+     * @return 추적 컨텍스트를 복원하여 실행하는 작업
+     */
+    public <T> Callable<T> wrap(Callable<T> task) {
+        return () -> {
+            try (MdcScope ignored = restore()) {
+                return task.call();
+            }
+        };
+    }
+
+    /**
+     * 작업 실행 중에만 스냅샷을 적용하도록 감싼다.
+     *
+     * @param task 원본 작업
+     * @param <T> 반환 타입
+     * @return 추적 컨텍스트를 복원하여 실행하는 작업
+     */
+    public <T> Supplier<T> wrapSupplier(Supplier<T> task) {
+        return () -> {
+            try (MdcScope ignored = restore()) {
+                return task.get();
+            }
+        };
+    }
+
+    /**
+     * 요소 처리 중에만 스냅샷을 적용하도록 감싼다. 병렬 스트림의 {@code forEach}에 사용한다.
+     *
+     * @param action 원본 처리
+     * @param <T> 요소 타입
+     * @return 추적 컨텍스트를 복원하여 실행하는 처리
+     */
+    public <T> Consumer<T> wrapConsumer(Consumer<T> action) {
+        return value -> {
+            try (MdcScope ignored = restore()) {
+                action.accept(value);
+            }
+        };
+    }
+
+    /**
+     * 요소 변환 중에만 스냅샷을 적용하도록 감싼다. 병렬 스트림의 {@code map}에 사용한다.
+     *
+     * @param function 원본 변환
+     * @param <T> 입력 타입
+     * @param <R> 반환 타입
+     * @return 추적 컨텍스트를 복원하여 실행하는 변환
+     */
+    public <T, R> Function<T, R> wrapFunction(Function<T, R> function) {
+        return value -> {
+            try (MdcScope ignored = restore()) {
+                return function.apply(value);
+            }
+        };
+    }
+
+    /**
+     * 스냅샷의 requestId(traceId)를 반환한다.
+     *
+     * @return requestId, 없으면 null
+     */
+    public String getRequestId() {
+        return values[0];
+    }
+
+    /**
+     * 스냅샷의 userId를 반환한다.
+     *
+     * @return userId, 없으면 null
+     */
+    public String getUserId() {
+        return values[1];
+    }
+
+    /**
+     * 스냅샷의 baggage 원문을 반환한다.
+     *
+     * @return baggage, 없으면 null
+     */
+    public String getBaggage() {
+        return values[5];
+    }
+
+    /**
+     * 스냅샷의 span을 상위 span으로 하는 W3C {@code traceparent} 헤더 값을 만든다.
+     *
+     * <p>{@link TraceContext#currentTraceparent()}와 같은 규칙을 MDC 대신 스냅샷 값에 적용한다.
+     *
+     * @return traceparent 헤더 값, traceId가 없거나 W3C 형식으로 표현할 수 없으면 null
+     */
+    public String traceparent() {
+        String traceId = values[0];
+        if (traceId == null || traceId.isBlank()) {
+            return null;
+        }
+        String spanId = values[2];
+        return TraceContext.format(
+                traceId,
+                spanId != null ? spanId : TraceContext.newSpanId(),
+                !"00".equals(values[4]));
+    }
+
+    /**
+     * 스냅샷에 저장된 값이 없는지 확인한다.
+     *
+     * @return 추적 정보가 없으면 true
+     */
+    public boolean isEmpty() {
+        return this == EMPTY;
+    }
+
+    /**
+     * 현재 스레드의 MDC에서 추적용 키를 제거한다. 다른 키는 유지한다.
+     */
+    static void removeFromMdc() {
+        EMPTY.applyToMdc();
+    }
+
+    /**
+     * 추적용 키-값 맵으로 변환한다. 값이 없는 키는 null로 담아 MDC에서 제거되도록 한다.
+     */
+    private Map<String, String> toContext() {
+        Map<String, String> context = new HashMap<>(KEYS.length * 2);
+        for (int i = 0; i < KEYS.length; i++) {
+            context.put(KEYS[i], values[i]);
+        }
+        return context;
+    }
+
+    private static boolean hasAnyKey() {
+        for (String key : KEYS) {
+            if (MDC.get(key) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,70 @@
+package io.github.tickatch.common.logging;
+
+import io.micrometer.context.ThreadLocalAccessor;
+
+/**
+ * Reactor {@code Context}의 {@link TraceSnapshot}을 MDC로 연결하는 {@link ThreadLocalAccessor}.
+ *
+ * <p>Micrometer Context Propagation 라이브러리에 등록하고 Reactor의 자동 컨텍스트 전파
+ * ({@code Hooks.enableAutomaticContextPropagation()})를 켜면, 리액티브 파이프라인이 스레드를 옮겨 다니더라도
+ * 신호를 처리하는 스레드의 MDC에 요청의 추적 정보가 설정된다. 따라서 {@code log.info(...)}를 호출하는
+ * 연산자마다 MDC를 직접 복사할 필요가 없다.
+ *
+ * <p>컨텍스트에는 MDC 키별 값이 아닌 불변 {@link TraceSnapshot} 하나만 {@link #KEY}로 저장되므로,
+ * 연산자 간에는 참조만 전달되고 MDC 설정은 스레드 경계에서만 일어난다.
+ *
+ * <p>등록 예시 ({@code ReactiveTraceAutoConfiguration}이 자동 등록):
+ * <pre>{@code
+ * ContextRegistry.getInstance().registerThreadLocalAccessor(new TraceSnapshotAccessor());
+ * Hooks.enableAutomaticContextPropagation();
+ *
+ * Mono.just(seatId)
+ *         .flatMap(seatService::load)
+ *         .doOnNext(seat -> log.info("좌석 조회"))   // MDC에 traceId 포함
+ *         .contextWrite(Context.of(TraceSnapshotAccessor.KEY, MdcUtils.snapshot()));
+ * }</pre>
+ *
+ * @author Tickatch
+ * @since 0.0.6
+ * @see ReactiveMdcFilter
+ * @see TraceSnapshot
+ */
+public final class TraceSnapshotAccessor implements ThreadLocalAccessor<TraceSnapshot> {
+
+    /** Reactor {@code Context}에 {@link TraceSnapshot}을 저장하는 키. */
+    public static final String KEY = "tickatch.trace";
+
+    @Override
+    public Object key() {
+        return KEY;
+    }
+
+    /**
+     * 현재 스레드의 MDC에서 추적 컨텍스트를 캡처한다.
+     *
+     * @return 스냅샷, 추적 정보가 없으면 null
+     */
+    @Override
+    public TraceSnapshot getValue() {
+        TraceSnapshot snapshot = TraceSnapshot.capture();
+        return snapshot.isEmpty() ? null : snapshot;
+    }
+
+    /**
+     * 스냅샷의 값을 현재 스레드의 MDC에 설정한다.
+     *
+     * @param value 설정할 스냅샷
+     */
+    @Override
+    public void setValue(TraceSnapshot value) {
+        value.applyToMdc();
+    }
+
+    /**
+     * 현재 스레드의 MDC에서 추적용 키를 제거한다.
+     */
+    @Override
+    public void setValue() {
+        TraceSnapshot.removeFromMdc();
+    }
+}
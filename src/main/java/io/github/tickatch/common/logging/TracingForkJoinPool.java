@@ -0,0 +1,112 @@
+package io.github.tickatch.common.logging;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 외부에서 제출한 {@link Runnable}/{@link Callable}에 제출 시점의 추적 컨텍스트를 전달하는 {@link ForkJoinPool}.
+ *
+ * <p>{@link ForkJoinPool#commonPool()}과 병렬 스트림의 작업 스레드에는 MDC가 없으므로,
+ * 대량의 알림 발송처럼 팬아웃하는 작업의 로그에서 traceId가 사라진다. 이 풀에 제출한 작업은
+ * {@link TraceSnapshot}으로 감싸져 실행되므로 traceId와 userId가 유지된다.
+ *
+ * <p>주의: 이미 만들어진 {@link ForkJoinTask}를 제출하거나, 작업 안에서 {@code fork()}/병렬 스트림으로
+ * 다시 분할된 하위 작업은 감싸지 않는다. 병렬 스트림의 각 요소 처리에는
+ * {@link TraceSnapshot#wrapConsumer(java.util.function.Consumer)}를 사용한다.
+ *
+ * <p>사용 예시:
+ * <pre>{@code
+ * ForkJoinPool pool = new TracingForkJoinPool(16);
+ * pool.submit(() -> notificationService.send(holder));
+ *
+ * // 병렬 스트림
+ * TraceSnapshot snapshot = MdcUtils.snapshot();
+ * holders.parallelStream().forEach(snapshot.wrapConsumer(notificationService::send));
+ * }</pre>
+ *
+ * @author Tickatch
+ * @since 0.0.6
+ * @see TraceSnapshot
+ * @see MdcTaskDecorator
+ */
+public class TracingForkJoinPool extends ForkJoinPool {
+
+    /**
+     * 사용 가능한 프로세서 수만큼의 병렬성으로 풀을 생성한다.
+     */
+    public TracingForkJoinPool() {
+        super();
+    }
+
+    /**
+     * 지정한 병렬성으로 풀을 생성한다.
+     *
+     * @param parallelism 병렬성 (작업 스레드 수)
+     */
+    public TracingForkJoinPool(int parallelism) {
+        super(parallelism);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        super.execute(TraceSnapshot.capture().wrap(task));
+    }
+
+    @Override
+    public ForkJoinTask<?> submit(Runnable task) {
+        return super.submit(TraceSnapshot.capture().wrap(task));
+    }
+
+    @Override
+    public <T> ForkJoinTask<T> submit(Runnable task, T result) {
+        return super.submit(TraceSnapshot.capture().wrap(task), result);
+    }
+
+    @Override
+    public <T> ForkJoinTask<T> submit(Callable<T> task) {
+        return super.submit(TraceSnapshot.capture().wrap(task));
+    }
+
+    @Override
+    public <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> tasks) {
+        return super.invokeAll(wrapAll(tasks));
+    }
+
+    @Override
+    public <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> tasks, long timeout, TimeUnit unit)
+            throws InterruptedException {
+        return super.invokeAll(wrapAll(tasks), timeout, unit);
+    }
+
+    @Override
+    public <T> T invokeAny(Collection<? extends Callable<T>> tasks)
+            throws InterruptedException, ExecutionException {
+        return super.invokeAny(wrapAll(tasks));
+    }
+
+    @Override
+    public <T> T invokeAny(Collection<? extends Callable<T>> tasks, long timeout, TimeUnit unit)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        return super.invokeAny(wrapAll(tasks), timeout, unit);
+    }
+
+    /**
+     * 작업 목록 전체를 한 번 캡처한 스냅샷으로 감싼다.
+     */
+    private static <T> List<Callable<T>> wrapAll(Collection<? extends Callable<T>> tasks) {
+        TraceSnapshot snapshot = TraceSnapshot.capture();
+        List<Callable<T>> wrapped = new ArrayList<>(tasks.size());
+        for (Callable<T> task : tasks) {
+            wrapped.add(snapshot.wrap(task));
+        }
+        return wrapped;
+    }
+}
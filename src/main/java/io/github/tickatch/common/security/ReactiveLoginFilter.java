@@ -0,0 +1,85 @@
+package io.github.tickatch.common.security;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * 사용자 인증 정보를 HTTP Header에서 읽어 리액티브 보안 컨텍스트에 설정하는 {@link WebFilter}.
+ *
+ * <p>{@link LoginFilter}의 WebFlux 버전이다. {@code SecurityContextHolder}(ThreadLocal) 대신
+ * {@link ReactiveSecurityContextHolder}를 통해 Reactor {@code Context}에 인증 정보를 저장하므로,
+ * 파이프라인이 어느 스레드에서 실행되든 {@code @AuthenticationPrincipal}과 {@code @PreAuthorize}가 동작한다.
+ *
+ * <p>처리하는 헤더:
+ * <ul>
+ *   <li>{@code X-User-Id} — 사용자 ID (UUID 문자열)</li>
+ *   <li>{@code X-User-Type} — 사용자 유형 (CUSTOMER, SELLER, ADMIN)</li>
+ * </ul>
+ *
+ * <p>{@code X-User-Id} 헤더가 없으면 인증 정보를 설정하지 않고 다음 필터로 전달한다.
+ * {@code X-User-Type} 헤더가 없거나 유효하지 않으면 인증은 수행되지만 권한(Role)은 부여되지 않는다.
+ *
+ * <p>사용 방법 - {@code SecurityWebFilterChain}의 인증 위치에 등록:
+ * <pre>{@code
+ * http.addFilterAt(new ReactiveLoginFilter(), SecurityWebFiltersOrder.AUTHENTICATION);
+ * }</pre>
+ *
+ * @author Tickatch
+ * @since 0.0.6
+ * @see LoginFilter
+ * @see AuthenticatedUser
+ */
+public class ReactiveLoginFilter implements WebFilter {
+
+  /** 사용자 ID를 전달하는 HTTP 헤더 이름. */
+  private static final String HEADER_USER_ID = "X-User-Id";
+
+  /** 사용자 유형을 전달하는 HTTP 헤더 이름. */
+  private static final String HEADER_USER_TYPE = "X-User-Type";
+
+  /**
+   * 요청 헤더에서 사용자 인증 정보를 추출하여 하위 체인의 보안 컨텍스트에 설정한다.
+   *
+   * @param exchange 현재 요청/응답
+   * @param chain 필터 체인
+   * @return 필터 체인 실행 결과
+   */
+  @Override
+  public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+    Authentication authentication = authenticate(exchange.getRequest().getHeaders());
+    if (authentication == null) {
+      return chain.filter(exchange);
+    }
+    return chain.filter(exchange)
+        .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication));
+  }
+
+  /**
+   * HTTP Header에서 사용자 ID와 사용자 유형을 추출하여 Authentication 객체로 변환한다.
+   *
+   * @param headers 요청 헤더
+   * @return 인증 정보, {@code X-User-Id}가 없으면 null
+   */
+  private Authentication authenticate(HttpHeaders headers) {
+    String userId = headers.getFirst(HEADER_USER_ID);
+
+    if (!StringUtils.hasText(userId)) {
+      return null;
+    }
+
+    AuthenticatedUser userDetails = AuthenticatedUser.of(userId, headers.getFirst(HEADER_USER_TYPE));
+
+    return new UsernamePasswordAuthenticationToken(
+        userDetails,
+        null,
+        userDetails.getAuthorities()
+    );
+  }
+}
@@ -0,0 +1,143 @@
+package io.github.tickatch.common.util;
+
+import java.util.Arrays;
+
+/**
+ * Crockford Base32 인코딩/디코딩.
+ *
+ * <p>혼동하기 쉬운 문자(I, L, O, U)를 제외한 32개 문자를 사용한다. 디코딩 시 대소문자를 구분하지 않으며,
+ * {@code I}/{@code L}은 1로, {@code O}는 0으로 읽는다.
+ *
+ * @author Tickatch
+ * @since 0.0.6
+ */
+final class CrockfordBase32 {
+
+    /** 128비트 값을 인코딩한 문자열 길이 (앞 2비트는 항상 0) */
+    static final int LENGTH_128 = 26;
+
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final byte[] DECODE = new byte[128];
+
+    static {
+        Arrays.fill(DECODE, (byte) -1);
+        for (int i = 0; i < ALPHABET.length; i++) {
+            DECODE[ALPHABET[i]] = (byte) i;
+            DECODE[Character.toLowerCase(ALPHABET[i])] = (byte) i;
+        }
+        DECODE['I'] = DECODE['i'] = DECODE['L'] = DECODE['l'] = 1;
+        DECODE['O'] = DECODE['o'] = 0;
+    }
+
+    private CrockfordBase32() {
+        throw new AssertionError("유틸리티 클래스는 인스턴스화할 수 없습니다.");
+    }
+
+    /**
+     * 128비트 값을 26자리 문자열로 인코딩한다.
+     *
+     * @param high 상위 64비트
+     * @param low 하위 64비트
+     * @return 26자리 Crockford Base32 문자열
+     */
+    static String encode128(long high, long low) {
+        char[] out = new char[LENGTH_128];
+        for (int i = LENGTH_128 - 1, shift = 0; i >= 0; i--, shift += 5) {
+            int value;
+            if (shift < 60) {
+                value = (int) (low >>> shift) & 31;
+            } else if (shift == 60) {
+                value = (int) ((low >>> 60) | (high << 4)) & 31;
+            } else {
+                value = (int) (high >>> (shift - 64)) & 31;
+            }
+            out[i] = ALPHABET[value];
+        }
+        return new String(out);
+    }
+
+    /**
+     * 64비트 값의 하위 {@code length * 5}비트를 지정한 길이의 문자열로 인코딩한다.
+     *
+     * @param value 인코딩할 값
+     * @param length 문자열 길이 (1 ~ 13)
+     * @return Crockford Base32 문자열
+     */
+    static String encode64(long value, int length) {
+        char[] out = new char[length];
+        for (int i = length - 1, shift = 0; i >= 0; i--, shift += 5) {
+            out[i] = ALPHABET[(int) (value >>> shift) & 31];
+        }
+        return new String(out);
+    }
+
+    /**
+     * 26자리 문자열을 128비트 값으로 디코딩한다.
+     *
+     * @param text Crockford Base32 문자열
+     * @return {@code [상위 64비트, 하위 64비트]}
+     * @throws IllegalArgumentException 길이가 26이 아니거나, 허용되지 않은 문자가 있거나, 128비트를 넘는 경우
+     */
+    static long[] decode128(CharSequence text) {
+        if (text == null || text.length() != LENGTH_128 || valueOf(text.charAt(0)) > 7) {
+            throw new IllegalArgumentException("유효하지 않은 Base32 형식입니다: " + text);
+        }
+        long high = 0;
+        long low = 0;
+        for (int i = 0; i < LENGTH_128; i++) {
+            int value = valueOf(text.charAt(i));
+            if (value < 0) {
+                throw new IllegalArgumentException("유효하지 않은 Base32 형식입니다: " + text);
+            }
+            high = (high << 5) | (low >>> 59);
+            low = (low << 5) | value;
+        }
+        return new long[] {high, low};
+    }
+
+    /**
+     * 문자열을 64비트 값으로 디코딩한다.
+     *
+     * @param text Crockford Base32 문자열 (최대 13자리)
+     * @return 디코딩한 값
+     * @throws IllegalArgumentException 비어 있거나, 13자리를 넘거나, 허용되지 않은 문자가 있는 경우
+     */
+    static long decode64(CharSequence text) {
+        if (text == null || text.isEmpty() || text.length() > 13
+                || (text.length() == 13 && valueOf(text.charAt(0)) > 15)) {
+            throw new IllegalArgumentException("유효하지 않은 Base32 형식입니다: " + text);
+        }
+        long result = 0;
+        for (int i = 0; i < text.length(); i++) {
+            int value = valueOf(text.charAt(i));
+            if (value < 0) {
+                throw new IllegalArgumentException("유효하지 않은 Base32 형식입니다: " + text);
+            }
+            result = (result << 5) | value;
+        }
+        return result;
+    }
+
+    /**
+     * 문자가 Crockford Base32 문자인지 확인한다.
+     *
+     * @param c 확인할 문자
+     * @return 5비트 값, 허용되지 않은 문자이면 -1
+     */
+    static int valueOf(char c) {
+        return c < DECODE.length ? DECODE[c] : -1;
+    }
+
+    /**
+     * 문자가 인코딩 결과에 나타나는 대문자 Crockford Base32 문자인지 확인한다.
+     *
+     * <p>{@link #valueOf(char)}와 달리 소문자와 {@code I}/{@code L}/{@code O}는 허용하지 않는다.
+     *
+     * @param c 확인할 문자
+     * @return {@code [0-9A-HJKMNP-TV-Z]}이면 true
+     */
+    static boolean isCanonical(char c) {
+        int value = valueOf(c);
+        return value >= 0 && ALPHABET[value] == c;
+    }
+}
@@ -0,0 +1,168 @@
+package io.github.tickatch.common.util;
+
+import java.util.function.Supplier;
+
+/**
+ * 스레드별로 ID를 미리 확보해 두는 ID 풀.
+ *
+ * <p>대량 INSERT나 이벤트 팬아웃처럼 여러 스레드가 짧은 시간에 ID를 많이 만들 때 사용한다.
+ * 스레드마다 블록을 하나씩 가지고 있다가 소진되면 다시 채우므로, 공유 자원에는 블록당 한 번만 접근한다.
+ * <ul>
+ *   <li><b>도메인 ID</b> - 랜덤 소스({@link java.security.SecureRandom})를 블록당 한 번 호출한다.
+ *       형식은 {@link UuidUtils#generateDomainId(String)}와 같고, 같은 블록 안에서는 중복이 없다.
+ *       블록을 넘어서는 중복은 32비트 랜덤 값의 확률에 따르므로, 한 번에 모두 만들 수 있는 배치는
+ *       {@link UuidUtils#generateDomainIds(String, int)}를 사용한다.</li>
+ *   <li><b>Snowflake ID</b> - {@link SnowflakeIdGenerator#nextIds(long[])}로 블록 단위로 예약한다.
+ *       같은 스레드에서 받은 ID는 증가하지만, 미리 예약한 값이므로 스레드 간 발급 순서와 ID 순서는 다를 수 있고
+ *       ID의 타임스탬프는 예약 시각이다. 스레드가 끝나면 쓰지 않은 ID는 버려지므로, 첫 블록은
+ *       {@value #INITIAL_SNOWFLAKE_BLOCK_SIZE}개만 예약하고 다시 채울 때마다 두 배씩 늘려 블록 크기까지 키운다.</li>
+ * </ul>
+ *
+ * <p>가상 스레드는 작업마다 새로 만들어지므로 스레드별 블록을 두면 쓰지 않은 시퀀스만 소모한다.
+ * 가상 스레드에서 호출하면 블록 없이 {@link SnowflakeIdGenerator#nextId()}와
+ * {@link UuidUtils#generateDomainId(String)}로 바로 생성한다.
+ *
+ * <p>사용 예시:
+ * <pre>{@code
+ * private static final PrefetchingIdPool ID_POOL = new PrefetchingIdPool();
+ *
+ * seats.forEach(seat -> seat.assignId(ID_POOL.nextDomainId(UuidUtils.PREFIX_SEAT)));
+ * long ticketKey = ID_POOL.nextSnowflakeId();
+ * }</pre>
+ *
+ * <p>스레드별 블록은 {@link ThreadLocal}에 보관하므로 풀 인스턴스는 공유하여 재사용하고,
+ * 오래 사는 플랫폼 스레드(요청 처리 풀, 배치 워커)에서 사용한다.
+ *
+ * @author Tickatch
+ * @since 0.0.6
+ * @see UuidUtils#generateDomainIds(String, int)
+ */
+public final class PrefetchingIdPool {
+
+    /** 기본 블록 크기 */
+    public static final int DEFAULT_BLOCK_SIZE = UuidUtils.RANDOM_BLOCK_SIZE;
+
+    /** 최대 블록 크기 (Snowflake 밀리초당 시퀀스 수) */
+    public static final int MAX_BLOCK_SIZE = 4096;
+
+    /** 스레드가 처음 예약하는 Snowflake ID 개수 */
+    static final int INITIAL_SNOWFLAKE_BLOCK_SIZE = 16;
+
+    private final int blockSize;
+    private final Supplier<SnowflakeIdGenerator> snowflakeIdGenerator;
+    private final ThreadLocal<Block> blocks = ThreadLocal.withInitial(this::newBlock);
+
+    /**
+     * 기본 블록 크기로 풀을 생성한다.
+     */
+    public PrefetchingIdPool() {
+        this(DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * 블록 크기를 지정하여 풀을 생성한다. Snowflake ID는 {@link UuidUtils#snowflakeIdGenerator()}로 예약한다.
+     *
+     * @param blockSize 스레드별로 미리 확보할 ID 개수 (1 ~ {@value #MAX_BLOCK_SIZE})
+     * @throws IllegalArgumentException 블록 크기가 범위를 벗어난 경우
+     */
+    public PrefetchingIdPool(int blockSize) {
+        this(blockSize, UuidUtils::snowflakeIdGenerator);
+    }
+
+    /**
+     * 블록 크기와 Snowflake ID 생성기를 지정하여 풀을 생성한다.
+     *
+     * @param blockSize 스레드별로 미리 확보할 ID 개수 (1 ~ {@value #MAX_BLOCK_SIZE})
+     * @param snowflakeIdGenerator Snowflake ID 생성기
+     * @throws IllegalArgumentException 블록 크기가 범위를 벗어난 경우
+     */
+    public PrefetchingIdPool(int blockSize, SnowflakeIdGenerator snowflakeIdGenerator) {
+        this(blockSize, () -> snowflakeIdGenerator);
+    }
+
+    private PrefetchingIdPool(int blockSize, Supplier<SnowflakeIdGenerator> snowflakeIdGenerator) {
+        if (blockSize < 1 || blockSize > MAX_BLOCK_SIZE) {
+            throw new IllegalArgumentException("blockSize는 1-" + MAX_BLOCK_SIZE + " 사이여야 합니다: " + blockSize);
+        }
+        this.blockSize = blockSize;
+        this.snowflakeIdGenerator = snowflakeIdGenerator;
+    }
+
+    /**
+     * 도메인 ID를 생성한다 (형식: PREFIX-xxxxxxxx).
+     *
+     * @param prefix 도메인 prefix
+     * @return 도메인 ID
+     * @throws IllegalArgumentException prefix가 없는 경우
+     */
+    public String nextDomainId(String prefix) {
+        if (prefix == null || prefix.isBlank()) {
+            throw new IllegalArgumentException("prefix는 필수입니다.");
+        }
+        if (Thread.currentThread().isVirtual()) {
+            return UuidUtils.generateDomainId(prefix);
+        }
+        Block block = blocks.get();
+        if (block.randomIndex == block.random.length) {
+            UuidUtils.nextDistinctRandomInts(block.random);
+            block.randomIndex = 0;
+        }
+        return UuidCodec.toDomainId(prefix.toUpperCase(), block.random[block.randomIndex++]);
+    }
+
+    /**
+     * 미리 예약한 Snowflake ID를 하나 꺼낸다. 가상 스레드에서는 생성기에서 바로 하나를 예약한다.
+     *
+     * @return Snowflake ID
+     * @throws IllegalStateException 블록 예약 중 시계가 허용 오차 이상 역행한 경우
+     */
+    public long nextSnowflakeId() {
+        if (Thread.currentThread().isVirtual()) {
+            return snowflakeIdGenerator.get().nextId();
+        }
+        Block block = blocks.get();
+        if (block.snowflakeIndex == block.snowflakeIds.length) {
+            int length = block.snowflakeIds.length;
+            int nextLength = length == 0
+                    ? Math.min(INITIAL_SNOWFLAKE_BLOCK_SIZE, blockSize)
+                    : Math.min(length * 2, blockSize);
+            if (nextLength != length) {
+                block.snowflakeIds = new long[nextLength];
+            }
+            snowflakeIdGenerator.get().nextIds(block.snowflakeIds);
+            block.snowflakeIndex = 0;
+        }
+        return block.snowflakeIds[block.snowflakeIndex++];
+    }
+
+    /**
+     * 블록 크기를 반환한다.
+     *
+     * @return 스레드별로 미리 확보하는 ID 개수
+     */
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    private Block newBlock() {
+        return new Block(blockSize);
+    }
+
+    /**
+     * 스레드 하나가 사용하는 미리 확보한 랜덤 값과 Snowflake ID.
+     */
+    private static final class Block {
+
+        private final int[] random;
+        private long[] snowflakeIds;
+        private int randomIndex;
+        private int snowflakeIndex;
+
+        private Block(int blockSize) {
+            this.random = new int[blockSize];
+            this.snowflakeIds = new long[0];
+            this.randomIndex = random.length;
+            this.snowflakeIndex = snowflakeIds.length;
+        }
+    }
+}
@@ -0,0 +1,326 @@
+package io.github.tickatch.common.util;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Snowflake 방식의 64비트 숫자 ID 생성기.
+ *
+ * <p>ID 구조 (상위 비트부터):
+ * <pre>
+ * | 0 (1비트) | 타임스탬프 (41비트, {@link #EPOCH} 기준 밀리초) | 워커 ID (10비트) | 시퀀스 (12비트) |
+ * </pre>
+ *
+ * <ul>
+ *   <li><b>정렬</b> - 타임스탬프가 상위 비트에 있으므로 ID는 생성 시각 순서로 증가하며, {@code BIGINT} 기본 키로
+ *       사용하면 인덱스 오른쪽 끝에 추가된다.</li>
+ *   <li><b>락 없는 할당</b> - 마지막 타임스탬프와 시퀀스를 하나의 {@link AtomicLong}에 담아 CAS로 증가시킨다.
+ *       시퀀스가 넘치면(밀리초당 4096개) 시계가 다음 밀리초로 넘어갈 때까지 대기하므로,
+ *       노드당 처리량 상한은 초당 4,096,000개다.</li>
+ *   <li><b>블록 예약</b> - {@link #nextIds(long[])}는 최대 4096개씩 CAS 한 번으로 연속된 시퀀스 구간을 예약하므로,
+ *       대량 생성 시 ID마다 경합하지 않는다.</li>
+ *   <li><b>시계 역행</b> - 시스템 시계가 뒤로 가면 마지막 타임스탬프를 계속 사용한다. 시계가 마지막 타임스탬프보다
+ *       허용 오차({@code maxClockDrift}) 이상 뒤에 있으면 중복을 막기 위해 {@link IllegalStateException}을 던진다.
+ *       타임스탬프는 시계가 보여준 시각보다 앞서지 않으므로, 시퀀스 소진은 역행으로 판단하지 않는다.</li>
+ * </ul>
+ *
+ * <p>워커 ID는 노드마다 달라야 한다. 직접 지정하거나 {@link #resolveWorkerId(String)}로 호스트 이름에서 구한다.
+ * Kubernetes StatefulSet처럼 호스트 이름이 {@code -숫자}로 끝나면 그 순번을, 아니면 호스트 이름의 해시를 사용한다.
+ *
+ * <p>사용 예시:
+ * <pre>{@code
+ * SnowflakeIdGenerator generator = new SnowflakeIdGenerator(3);
+ * long id = generator.nextId();                      // BIGINT 기본 키
+ * String text = SnowflakeIdGenerator.toBase32(id);   // 13자리 Crockford Base32
+ * }</pre>
+ *
+ * @author Tickatch
+ * @since 0.0.6
+ * @see UuidUtils#generateSnowflakeId()
+ */
+public final class SnowflakeIdGenerator {
+
+    /** 타임스탬프 기준 시각 (2025-01-01T00:00:00Z) */
+    public static final Instant EPOCH = Instant.parse("2025-01-01T00:00:00Z");
+
+    /** 워커 ID 최대값 (10비트) */
+    public static final long MAX_WORKER_ID = (1L << 10) - 1;
+
+    /** Base32 문자열 길이 (64비트 / 5비트) */
+    public static final int BASE32_LENGTH = 13;
+
+    /** 기본 시계 역행 허용 오차 */
+    public static final Duration DEFAULT_MAX_CLOCK_DRIFT = Duration.ofSeconds(5);
+
+    private static final int SEQUENCE_BITS = 12;
+    private static final int WORKER_ID_SHIFT = SEQUENCE_BITS;
+    private static final int TIMESTAMP_SHIFT = SEQUENCE_BITS + 10;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final long EPOCH_MILLIS = EPOCH.toEpochMilli();
+
+    /** CAS 한 번으로 예약하는 최대 개수 (밀리초당 시퀀스 수) */
+    private static final int MAX_RESERVATION = 1 << SEQUENCE_BITS;
+
+    private final long workerId;
+    private final Clock clock;
+    private final long maxClockDriftMillis;
+
+    /** {@code (EPOCH 기준 밀리초 << 12) | 시퀀스} */
+    private final AtomicLong state = new AtomicLong();
+
+    /**
+     * 시스템 시계와 기본 허용 오차로 생성기를 생성한다.
+     *
+     * @param workerId 워커 ID (0 ~ {@value #MAX_WORKER_ID})
+     */
+    public SnowflakeIdGenerator(long workerId) {
+        this(workerId, Clock.systemUTC(), DEFAULT_MAX_CLOCK_DRIFT);
+    }
+
+    /**
+     * 시계와 시계 역행 허용 오차를 지정하여 생성기를 생성한다.
+     *
+     * @param workerId 워커 ID (0 ~ {@value #MAX_WORKER_ID})
+     * @param clock 타임스탬프를 읽을 시계
+     * @param maxClockDrift 시계가 마지막 타임스탬프보다 뒤로 갈 수 있는 최대 시간
+     * @throws IllegalArgumentException 워커 ID가 범위를 벗어난 경우
+     */
+    public SnowflakeIdGenerator(long workerId, Clock clock, Duration maxClockDrift) {
+        if (workerId < 0 || workerId > MAX_WORKER_ID) {
+            throw new IllegalArgumentException("workerId는 0-" + MAX_WORKER_ID + " 사이여야 합니다: " + workerId);
+        }
+        this.workerId = workerId;
+        this.clock = clock;
+        this.maxClockDriftMillis = maxClockDrift.toMillis();
+    }
+
+    /**
+     * 호스트 이름에서 구한 워커 ID로 생성기를 생성한다.
+     *
+     * @return 생성기
+     * @see #resolveWorkerId(String)
+     */
+    public static SnowflakeIdGenerator fromHostname() {
+        return new SnowflakeIdGenerator(resolveWorkerId());
+    }
+
+    /**
+     * 새 ID를 생성한다. 현재 밀리초의 시퀀스가 소진되었으면 다음 밀리초까지 대기한다.
+     *
+     * @return 64비트 양수 ID
+     * @throws IllegalStateException 시계가 허용 오차 이상 역행했거나 기준 시각 이전인 경우
+     */
+    public long nextId() {
+        return compose(reserve(1));
+    }
+
+    /**
+     * 배열 길이만큼의 ID를 한 번에 예약하여 채운다.
+     *
+     * <p>최대 4096개씩 CAS 한 번으로 연속된 구간을 예약하므로 결과는 항상 증가한다. 4096개 이하는 다른 스레드의 ID와
+     * 섞이지 않고, 그보다 많으면 4096개 단위 구간 사이에 다른 스레드의 ID가 끼일 수 있다.
+     * 밀리초당 4096개를 넘는 만큼은 시계가 다음 밀리초로 넘어갈 때까지 기다리므로 개수 제한은 없다.
+     *
+     * @param ids 채울 배열
+     * @throws IllegalStateException 시계가 허용 오차 이상 역행했거나 기준 시각 이전인 경우
+     */
+    public void nextIds(long[] ids) {
+        if (ids.length == 0) {
+            return;
+        }
+        for (int offset = 0; offset < ids.length; offset += MAX_RESERVATION) {
+            int count = Math.min(MAX_RESERVATION, ids.length - offset);
+            long first = reserve(count) - count + 1;
+            for (int i = 0; i < count; i++) {
+                ids[offset + i] = compose(first + i);
+            }
+        }
+    }
+
+    /**
+     * 지정한 개수의 ID를 한 번에 예약하여 생성한다.
+     *
+     * @param count 생성할 개수
+     * @return 증가 순서의 ID 배열
+     * @throws IllegalArgumentException 개수가 음수인 경우
+     * @see #nextIds(long[])
+     */
+    public long[] nextIds(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count는 0 이상이어야 합니다: " + count);
+        }
+        long[] ids = new long[count];
+        nextIds(ids);
+        return ids;
+    }
+
+    /**
+     * 워커 ID를 반환한다.
+     *
+     * @return 워커 ID
+     */
+    public long getWorkerId() {
+        return workerId;
+    }
+
+    /**
+     * {@code count}개({@value #MAX_RESERVATION}개 이하)의 연속된 상태 값을 예약하고 마지막 값을 반환한다.
+     *
+     * <p>예약한 타임스탬프는 시계가 이미 보여준 시각(현재 시각 또는 역행 전 마지막 타임스탬프)을 넘지 않는다.
+     * 넘어야 하는 경우는 시퀀스 소진이므로 시계가 따라올 때까지 대기하고, 예외는 실제 시계 역행에만 던진다.
+     */
+    private long reserve(int count) {
+        while (true) {
+            long elapsed = clock.millis() - EPOCH_MILLIS;
+            if (elapsed < 0) {
+                throw new IllegalStateException("시스템 시각이 기준 시각(" + EPOCH + ") 이전입니다.");
+            }
+
+            long last = state.get();
+            long lastMillis = last >>> SEQUENCE_BITS;
+            long regression = lastMillis - elapsed;
+            if (regression > maxClockDriftMillis) {
+                throw new IllegalStateException("시계가 허용 오차를 넘어 역행했습니다: " + regression + "ms");
+            }
+
+            long candidate = elapsed << SEQUENCE_BITS;
+            long next = (candidate > last ? candidate : last + 1) + count - 1;
+            if ((next >>> SEQUENCE_BITS) > Math.max(elapsed, lastMillis)) {
+                // 시퀀스 소진: 다음 밀리초가 될 때까지 대기
+                Thread.onSpinWait();
+                continue;
+            }
+            if (state.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+
+    private long compose(long reserved) {
+        return ((reserved >>> SEQUENCE_BITS) << TIMESTAMP_SHIFT)
+                | (workerId << WORKER_ID_SHIFT)
+                | (reserved & SEQUENCE_MASK);
+    }
+
+    // ========================================
+    // ID 해석
+    // ========================================
+
+    /**
+     * ID의 생성 시각을 추출한다.
+     *
+     * @param id Snowflake ID
+     * @return 생성 시각 (밀리초 정밀도)
+     */
+    public static Instant extractTimestamp(long id) {
+        return Instant.ofEpochMilli((id >>> TIMESTAMP_SHIFT) + EPOCH_MILLIS);
+    }
+
+    /**
+     * ID의 워커 ID를 추출한다.
+     *
+     * @param id Snowflake ID
+     * @return 워커 ID
+     */
+    public static long extractWorkerId(long id) {
+        return (id >>> WORKER_ID_SHIFT) & MAX_WORKER_ID;
+    }
+
+    /**
+     * ID의 시퀀스를 추출한다.
+     *
+     * @param id Snowflake ID
+     * @return 밀리초 내 시퀀스
+     */
+    public static long extractSequence(long id) {
+        return id & SEQUENCE_MASK;
+    }
+
+    // ========================================
+    // Base32 변환
+    // ========================================
+
+    /**
+     * ID를 13자리 Crockford Base32 문자열로 변환한다.
+     *
+     * <p>고정 길이이므로 문자열 정렬 순서가 숫자 순서와 같다.
+     *
+     * @param id Snowflake ID
+     * @return 13자리 대문자 문자열
+     */
+    public static String toBase32(long id) {
+        return CrockfordBase32.encode64(id, BASE32_LENGTH);
+    }
+
+    /**
+     * 13자리 Crockford Base32 문자열을 ID로 변환한다. 대소문자를 구분하지 않는다.
+     *
+     * @param text Base32 문자열
+     * @return Snowflake ID
+     * @throws IllegalArgumentException 유효하지 않은 형식인 경우
+     */
+    public static long fromBase32(String text) {
+        if (text == null || text.length() != BASE32_LENGTH) {
+            throw new IllegalArgumentException("유효하지 않은 Snowflake ID 형식입니다: " + text);
+        }
+        return CrockfordBase32.decode64(text);
+    }
+
+    // ========================================
+    // 워커 ID 결정
+    // ========================================
+
+    /**
+     * 현재 호스트 이름({@code HOSTNAME} 환경 변수 또는 로컬 호스트 이름)에서 워커 ID를 구한다.
+     *
+     * @return 워커 ID
+     * @see #resolveWorkerId(String)
+     */
+    public static long resolveWorkerId() {
+        return resolveWorkerId(hostname());
+    }
+
+    /**
+     * 호스트 이름에서 워커 ID를 구한다.
+     *
+     * <p>{@code ticket-service-3}처럼 {@code -숫자}로 끝나고 그 값이 {@value #MAX_WORKER_ID} 이하이면 그 숫자를,
+     * 아니면 호스트 이름 해시를 워커 ID 범위로 줄인 값을 사용한다.
+     * 해시 방식은 노드 간 충돌이 있을 수 있으므로 노드 수가 많으면 워커 ID를 직접 지정한다.
+     *
+     * @param hostname 호스트 이름 (null이면 임의 값)
+     * @return 워커 ID
+     */
+    public static long resolveWorkerId(String hostname) {
+        if (hostname == null || hostname.isBlank()) {
+            return ThreadLocalRandom.current().nextLong(MAX_WORKER_ID + 1);
+        }
+        int dash = hostname.lastIndexOf('-');
+        if (dash >= 0 && dash < hostname.length() - 1 && hostname.length() - dash <= 5) {
+            String ordinal = hostname.substring(dash + 1);
+            if (ordinal.chars().allMatch(Character::isDigit)) {
+                long value = Long.parseLong(ordinal);
+                if (value <= MAX_WORKER_ID) {
+                    return value;
+                }
+            }
+        }
+        return Math.floorMod(hostname.hashCode(), MAX_WORKER_ID + 1);
+    }
+
+    private static String hostname() {
+        String hostname = System.getenv("HOSTNAME");
+        if (hostname != null && !hostname.isBlank()) {
+            return hostname;
+        }
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package io.github.tickatch.common.util;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 타임스탬프 기반 도메인 ID({@code PREFIX-yyyyMMddHHmmss-xxxxxx}) 생성기.
+ *
+ * <ul>
+ *   <li><b>초 단위 캐시</b> - 14자리 타임스탬프는 초가 바뀔 때 한 번만 만들고, 같은 초 안에서는 캐시한 문자를 복사한다.
+ *       ID 하나를 만들 때 할당은 결과 문자열용 {@code char[]} 하나뿐이다.</li>
+ *   <li><b>단조 증가 suffix</b> - 6자리 hex suffix는 초마다 랜덤 값에서 시작하여 1씩 증가하므로
+ *       같은 JVM에서 같은 초에 중복이 생기지 않는다. 한 초에 2<sup>24</sup>개를 넘으면 다음 초로 넘어간다.
+ *       다른 노드와는 시작 값이 랜덤이므로 기존 랜덤 suffix와 같이 확률적으로 구분된다.</li>
+ *   <li><b>시계 역행</b> - 시계가 뒤로 가면 마지막 초를 계속 사용하여 증가를 유지한다.</li>
+ * </ul>
+ *
+ * <p>초 경계는 {@link Clock}으로, 타임스탬프 문자열은 시계의 시간대로 계산한다.
+ * suffix는 같은 초 안에서 순차적이므로 추측하기 어려워야 하는 값(인증 토큰 등)으로 사용하지 않는다.
+ *
+ * @author Tickatch
+ * @since 0.0.6
+ * @see UuidUtils#generateTimestampId(String)
+ */
+final class TimestampIdGenerator {
+
+    /** 타임스탬프 자릿수 (yyyyMMddHHmmss) */
+    static final int TIMESTAMP_LENGTH = 14;
+
+    /** suffix 자릿수 (24비트 hex) */
+    static final int SUFFIX_LENGTH = 6;
+
+    private static final int SUFFIX_BITS = SUFFIX_LENGTH * 4;
+    private static final long SUFFIX_MASK = (1L << SUFFIX_BITS) - 1;
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private final Clock clock;
+
+    /** {@code (epoch 초 << 24) | suffix} */
+    private final AtomicLong state = new AtomicLong();
+
+    /** 마지막으로 만든 초의 타임스탬프 문자 */
+    private volatile Tick tick = new Tick(Long.MIN_VALUE, new char[TIMESTAMP_LENGTH]);
+
+    /**
+     * 지정한 시계로 생성기를 생성한다.
+     *
+     * @param clock 현재 시각과 시간대를 제공하는 시계
+     */
+    TimestampIdGenerator(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * 새 타임스탬프 기반 도메인 ID를 생성한다.
+     *
+     * @param upperPrefix 대문자 prefix
+     * @return {@code PREFIX-yyyyMMddHHmmss-xxxxxx} 형식의 도메인 ID
+     */
+    String next(String upperPrefix) {
+        long reserved = reserve();
+        char[] timestamp = tick(reserved >>> SUFFIX_BITS);
+
+        int prefixLength = upperPrefix.length();
+        char[] out = new char[prefixLength + TIMESTAMP_LENGTH + SUFFIX_LENGTH + 2];
+        upperPrefix.getChars(0, prefixLength, out, 0);
+        out[prefixLength] = '-';
+        System.arraycopy(timestamp, 0, out, prefixLength + 1, TIMESTAMP_LENGTH);
+        int suffixStart = prefixLength + TIMESTAMP_LENGTH + 2;
+        out[suffixStart - 1] = '-';
+        for (int i = 0; i < SUFFIX_LENGTH; i++) {
+            out[suffixStart + i] = HEX_DIGITS[(int) (reserved >>> ((SUFFIX_LENGTH - 1 - i) * 4)) & 0xF];
+        }
+        return new String(out);
+    }
+
+    /**
+     * 초와 suffix를 예약한다. 초가 바뀌면 suffix 공간의 앞쪽 절반에서 랜덤하게 시작한다.
+     */
+    private long reserve() {
+        while (true) {
+            long second = Math.floorDiv(clock.millis(), 1000L);
+            long last = state.get();
+            long next = second > (last >>> SUFFIX_BITS)
+                    ? (second << SUFFIX_BITS) | ThreadLocalRandom.current().nextLong(SUFFIX_MASK >>> 1)
+                    : last + 1;
+            if (state.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+
+    /**
+     * 해당 초의 타임스탬프 문자를 반환한다. 캐시한 초와 다르면 새로 만든다.
+     */
+    private char[] tick(long epochSecond) {
+        Tick current = tick;
+        if (current.epochSecond == epochSecond) {
+            return current.timestamp;
+        }
+        char[] timestamp = format(LocalDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), clock.getZone()));
+        // 늦게 예약한 스레드가 이전 초로 캐시를 되돌리지 않도록 더 최근 초일 때만 교체
+        if (epochSecond > current.epochSecond) {
+            tick = new Tick(epochSecond, timestamp);
+        }
+        return timestamp;
+    }
+
+    private static char[] format(LocalDateTime time) {
+        char[] out = new char[TIMESTAMP_LENGTH];
+        writeDigits(out, 0, time.getYear(), 4);
+        writeDigits(out, 4, time.getMonthValue(), 2);
+        writeDigits(out, 6, time.getDayOfMonth(), 2);
+        writeDigits(out, 8, time.getHour(), 2);
+        writeDigits(out, 10, time.getMinute(), 2);
+        writeDigits(out, 12, time.getSecond(), 2);
+        return out;
+    }
+
+    private static void writeDigits(char[] out, int offset, int value, int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            out[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    /**
+     * 초와 그 초의 타임스탬프 문자. 생성 후 변경하지 않는다.
+     */
+    private record Tick(long epochSecond, char[] timestamp) {
+    }
+}
@@ -0,0 +1,192 @@
+package io.github.tickatch.common.util;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * UUID 문자열 검증/변환을 정규식 없이 문자 테이블로 처리한다.
+ *
+ * <p>요청 검증 경로에서 호출되므로 검증은 할당 없이 문자 단위로 수행하고,
+ * 변환은 결과 문자열용 {@code char[]} 하나만 할당한다.
+ *
+ * @author Tickatch
+ * @since 0.0.6
+ */
+final class UuidCodec {
+
+    /** 표준 형식(8-4-4-4-12) 길이 */
+    static final int STANDARD_LENGTH = 36;
+
+    /** compact 형식(하이픈 없는 32자리 hex) 길이 */
+    static final int COMPACT_LENGTH = 32;
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    private static final byte[] HEX_VALUES = new byte[128];
+
+    static {
+        Arrays.fill(HEX_VALUES, (byte) -1);
+        for (int i = 0; i < HEX_DIGITS.length; i++) {
+            HEX_VALUES[HEX_DIGITS[i]] = (byte) i;
+            HEX_VALUES[Character.toUpperCase(HEX_DIGITS[i])] = (byte) i;
+        }
+    }
+
+    private UuidCodec() {
+        throw new AssertionError("유틸리티 클래스는 인스턴스화할 수 없습니다.");
+    }
+
+    /**
+     * 문자의 hex 값을 반환한다.
+     *
+     * @param c 확인할 문자
+     * @return 0 ~ 15, hex 문자가 아니면 -1
+     */
+    static int hexValue(char c) {
+        return c < HEX_VALUES.length ? HEX_VALUES[c] : -1;
+    }
+
+    /**
+     * 지정한 구간이 비어 있지 않고 모두 hex 문자(대소문자 무관)인지 확인한다.
+     *
+     * @param text 확인할 문자열
+     * @param from 시작 위치 (포함)
+     * @param to 끝 위치 (제외)
+     * @return 모두 hex 문자이면 true
+     */
+    static boolean isHex(CharSequence text, int from, int to) {
+        if (from >= to) {
+            return false;
+        }
+        for (int i = from; i < to; i++) {
+            if (hexValue(text.charAt(i)) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 표준 형식(8-4-4-4-12, 대소문자 무관)인지 확인한다.
+     *
+     * @param text 확인할 문자열
+     * @return 표준 형식이면 true
+     */
+    static boolean isStandard(CharSequence text) {
+        if (text.length() != STANDARD_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < STANDARD_LENGTH; i++) {
+            char c = text.charAt(i);
+            if (isHyphenPosition(i) ? c != '-' : hexValue(c) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * compact 형식(32자리 hex, 대소문자 무관)인지 확인한다.
+     *
+     * @param text 확인할 문자열
+     * @return compact 형식이면 true
+     */
+    static boolean isCompact(CharSequence text) {
+        return text.length() == COMPACT_LENGTH && isHex(text, 0, COMPACT_LENGTH);
+    }
+
+    /**
+     * 표준 형식 문자열을 UUID로 변환한다. {@link #isStandard(CharSequence)}로 검증한 값만 전달한다.
+     *
+     * @param text 표준 형식 문자열
+     * @return UUID
+     */
+    static UUID parseStandard(CharSequence text) {
+        long msb = 0;
+        long lsb = 0;
+        for (int i = 0, nibble = 0; i < STANDARD_LENGTH; i++) {
+            if (isHyphenPosition(i)) {
+                continue;
+            }
+            long value = hexValue(text.charAt(i));
+            if (nibble++ < 16) {
+                msb = (msb << 4) | value;
+            } else {
+                lsb = (lsb << 4) | value;
+            }
+        }
+        return new UUID(msb, lsb);
+    }
+
+    /**
+     * 32자리 문자열에 하이픈을 넣어 표준 형식으로 만든다. 문자 자체는 검증하지 않는다.
+     *
+     * @param compact 32자리 문자열
+     * @return 8-4-4-4-12 형식 문자열
+     */
+    static String toStandard(String compact) {
+        char[] out = new char[STANDARD_LENGTH];
+        for (int i = 0, j = 0; i < STANDARD_LENGTH; i++) {
+            out[i] = isHyphenPosition(i) ? '-' : compact.charAt(j++);
+        }
+        return new String(out);
+    }
+
+    /**
+     * 표준 형식 문자열에서 하이픈을 제거한다. {@link #isStandard(CharSequence)}로 검증한 값만 전달한다.
+     *
+     * @param standard 표준 형식 문자열
+     * @return 32자리 문자열 (대소문자 유지)
+     */
+    static String toCompact(String standard) {
+        char[] out = new char[COMPACT_LENGTH];
+        for (int i = 0, j = 0; i < STANDARD_LENGTH; i++) {
+            if (!isHyphenPosition(i)) {
+                out[j++] = standard.charAt(i);
+            }
+        }
+        return new String(out);
+    }
+
+    /**
+     * 128비트 값의 compact 형식 앞 {@code length}자리를 소문자 hex로 만든다.
+     *
+     * <p>{@code uuid.toString().replace("-", "").substring(0, length)}와 같은 결과다.
+     *
+     * @param msb 상위 64비트
+     * @param lsb 하위 64비트
+     * @param length 문자열 길이 (1 ~ 32)
+     * @return 소문자 hex 문자열
+     */
+    static String toHex(long msb, long lsb, int length) {
+        char[] out = new char[length];
+        for (int i = 0; i < length; i++) {
+            long bits = i < 16 ? msb : lsb;
+            out[i] = HEX_DIGITS[(int) (bits >>> (60 - ((i & 15) << 2))) & 0xF];
+        }
+        return new String(out);
+    }
+
+    /**
+     * {@code PREFIX-xxxxxxxx} 형식의 도메인 ID를 만든다. 32비트 랜덤 값을 8자리 소문자 hex로 쓴다.
+     *
+     * <p>UUID의 compact 형식 앞 8자리와 같은 형식이다.
+     *
+     * @param upperPrefix 대문자 prefix
+     * @param random 32비트 랜덤 값
+     * @return 도메인 ID
+     */
+    static String toDomainId(String upperPrefix, int random) {
+        int prefixLength = upperPrefix.length();
+        char[] out = new char[prefixLength + 9];
+        upperPrefix.getChars(0, prefixLength, out, 0);
+        out[prefixLength] = '-';
+        for (int i = 0; i < 8; i++) {
+            out[prefixLength + 1 + i] = HEX_DIGITS[(random >>> ((7 - i) * 4)) & 0xF];
+        }
+        return new String(out);
+    }
+
+    private static boolean isHyphenPosition(int index) {
+        return index == 8 || index == 13 || index == 18 || index == 23;
+    }
+}
@@ -1,25 +1,45 @@
 package io.github.tickatch.common.util;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.nio.ByteBuffer;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Instant;
 import java.util.UUID;
-import java.util.regex.Pattern;
+import java.util.stream.LongStream;
 
 /**
  * UUID 유틸리티.
  *
  * <p>UUID 생성 및 검증. 티케팅 도메인 ID 생성 지원.
  *
+ * <p>JPA 기본 키처럼 인덱스에 계속 추가되는 값에는 {@link #generate()}(랜덤 v4) 대신
+ * 시간 순서로 정렬되는 {@link #generateV7()} 또는 {@link #generateUlid()}를 사용한다.
+ *
+ * <p>검증과 형식 변환은 정규식 대신 문자 테이블로 처리하므로, 검증은 할당이 없고 변환은 결과 문자열만 할당한다.
+ *
  * @author Tickatch
  * @since 0.0.1
  */
 public final class UuidUtils {
 
-    private static final Pattern UUID_PATTERN = Pattern.compile(
-            "^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$"
-    );
+    /** 타임스탬프 기반 도메인 ID의 타임스탬프 자릿수 (yyyyMMddHHmmss) */
+    private static final int TIMESTAMP_LENGTH = TimestampIdGenerator.TIMESTAMP_LENGTH;
+
+    /** 대량 생성 시 랜덤 소스를 한 번 호출하여 만드는 ID 개수 */
+    static final int RANDOM_BLOCK_SIZE = 256;
+
+    /**
+     * 도메인 ID 대량 생성 시 한 번에 만들 수 있는 최대 개수.
+     * 32비트 랜덤 공간에서 배치 내 중복을 제거하므로, 그 이상은 Snowflake 기반 ID를 사용한다.
+     */
+    public static final int MAX_DOMAIN_ID_BATCH_SIZE = 1 << 20;
 
-    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+    /** 설정된 Snowflake ID 생성기 (없으면 호스트 이름 기반 기본 생성기 사용) */
+    private static volatile SnowflakeIdGenerator snowflakeIdGenerator;
+
+    /** 타임스탬프 기반 도메인 ID 생성기 (기본: 시스템 시계와 시스템 기본 시간대) */
+    private static volatile TimestampIdGenerator timestampIdGenerator =
+            new TimestampIdGenerator(Clock.systemDefaultZone());
 
     private UuidUtils() {
         throw new AssertionError("유틸리티 클래스는 인스턴스화할 수 없습니다.");
@@ -34,35 +54,173 @@ public final class UuidUtils {
     }
 
     public static String generateCompact() {
-        return UUID.randomUUID().toString().replace("-", "");
+        return randomHex(UuidCodec.COMPACT_LENGTH);
     }
 
     // ========================================
-    // UUID 검증
+    // 시간 순서 UUID 생성 (UUIDv7 / ULID)
     // ========================================
 
-    public static boolean isValid(String uuid) {
-        if (uuid == null || uuid.isBlank()) {
+    /**
+     * 시간 순서로 정렬되는 UUIDv7 문자열을 생성한다 (RFC 9562).
+     *
+     * <p>같은 스레드에서 생성한 값은 문자열/UUID 모두 항상 증가한다.
+     *
+     * @return 표준 형식(8-4-4-4-12) UUIDv7 문자열
+     */
+    public static String generateV7() {
+        return TimeOrderedIdGenerator.nextUuidV7().toString();
+    }
+
+    /**
+     * 시간 순서로 정렬되는 UUIDv7을 생성한다 (RFC 9562).
+     *
+     * @return UUIDv7
+     */
+    public static UUID generateV7Uuid() {
+        return TimeOrderedIdGenerator.nextUuidV7();
+    }
+
+    /**
+     * 시간 순서로 정렬되는 ULID 문자열을 생성한다.
+     *
+     * <p>26자리 Crockford Base32 대문자 문자열이며, 같은 스레드에서 생성한 값은 사전순으로 항상 증가한다.
+     *
+     * @return ULID 문자열
+     */
+    public static String generateUlid() {
+        UUID ulid = TimeOrderedIdGenerator.nextUlid();
+        return CrockfordBase32.encode128(ulid.getMostSignificantBits(), ulid.getLeastSignificantBits());
+    }
+
+    /**
+     * 시간 순서로 정렬되는 ULID를 128비트 {@link UUID} 컨테이너로 생성한다.
+     *
+     * <p>DB의 uuid 컬럼에 ULID를 저장할 때 사용한다. 버전/variant 비트를 설정하지 않으므로
+     * {@link UUID#version()}은 의미가 없다.
+     *
+     * @return ULID 128비트 값
+     */
+    public static UUID generateUlidUuid() {
+        return TimeOrderedIdGenerator.nextUlid();
+    }
+
+    /**
+     * ULID 문자열을 128비트 {@link UUID} 컨테이너로 변환한다.
+     *
+     * @param ulid ULID 문자열 (대소문자 무관)
+     * @return ULID 128비트 값
+     * @throws IllegalArgumentException 유효하지 않은 ULID인 경우
+     */
+    public static UUID ulidToUuid(String ulid) {
+        long[] bits = CrockfordBase32.decode128(ulid);
+        return new UUID(bits[0], bits[1]);
+    }
+
+    /**
+     * 128비트 {@link UUID} 컨테이너를 ULID 문자열로 변환한다.
+     *
+     * @param uuid ULID 128비트 값
+     * @return ULID 문자열
+     */
+    public static String uuidToUlid(UUID uuid) {
+        return CrockfordBase32.encode128(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+    }
+
+    /**
+     * ULID 형식인지 확인한다.
+     *
+     * @param ulid 확인할 문자열
+     * @return 26자리 Crockford Base32이고 128비트 범위이면 true
+     */
+    public static boolean isValidUlid(String ulid) {
+        if (ulid == null || ulid.length() != CrockfordBase32.LENGTH_128 || CrockfordBase32.valueOf(ulid.charAt(0)) > 7) {
             return false;
         }
-        return UUID_PATTERN.matcher(uuid).matches();
+        for (int i = 0; i < ulid.length(); i++) {
+            if (CrockfordBase32.valueOf(ulid.charAt(i)) < 0) {
+                return false;
+            }
+        }
+        return true;
     }
 
-    public static boolean isValidAnyFormat(String uuid) {
-        if (uuid == null || uuid.isBlank()) {
-            return false;
+    /**
+     * UUIDv7의 생성 시각을 추출한다.
+     *
+     * @param uuid UUIDv7
+     * @return 생성 시각 (밀리초 정밀도)
+     * @throws IllegalArgumentException 버전 7이 아닌 경우
+     */
+    public static Instant extractTimestamp(UUID uuid) {
+        if (uuid == null || uuid.version() != 7) {
+            throw new IllegalArgumentException("UUIDv7이 아닙니다: " + uuid);
         }
-        if (UUID_PATTERN.matcher(uuid).matches()) {
-            return true;
+        return Instant.ofEpochMilli(uuid.getMostSignificantBits() >>> 16);
+    }
+
+    /**
+     * ULID의 생성 시각을 추출한다.
+     *
+     * @param ulid ULID 문자열
+     * @return 생성 시각 (밀리초 정밀도)
+     * @throws IllegalArgumentException 유효하지 않은 ULID인 경우
+     */
+    public static Instant extractUlidTimestamp(String ulid) {
+        return Instant.ofEpochMilli(ulidToUuid(ulid).getMostSignificantBits() >>> 16);
+    }
+
+    // ========================================
+    // 바이너리 변환
+    // ========================================
+
+    /**
+     * UUID를 16바이트 big-endian 배열로 변환한다.
+     *
+     * <p>{@code BINARY(16)} 컬럼에 저장할 때 사용한다. 시간 순서 UUID는 바이트 순서로도 정렬된다.
+     *
+     * @param uuid 변환할 UUID
+     * @return 16바이트 배열
+     */
+    public static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    /**
+     * 16바이트 big-endian 배열을 UUID로 변환한다.
+     *
+     * @param bytes 16바이트 배열
+     * @return UUID
+     * @throws IllegalArgumentException 길이가 16이 아닌 경우
+     */
+    public static UUID fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length != 16) {
+            throw new IllegalArgumentException("UUID 바이트 배열은 16바이트여야 합니다.");
         }
-        return uuid.length() == 32 && uuid.matches("^[0-9a-fA-F]{32}$");
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    // ========================================
+    // UUID 검증
+    // ========================================
+
+    public static boolean isValid(String uuid) {
+        return uuid != null && UuidCodec.isStandard(uuid);
+    }
+
+    public static boolean isValidAnyFormat(String uuid) {
+        return uuid != null && (UuidCodec.isStandard(uuid) || UuidCodec.isCompact(uuid));
     }
 
     public static UUID parse(String uuid) {
         if (!isValid(uuid)) {
             throw new IllegalArgumentException("유효하지 않은 UUID 형식입니다: " + uuid);
         }
-        return UUID.fromString(uuid);
+        return UuidCodec.parseStandard(uuid);
     }
 
     // ========================================
@@ -73,19 +231,14 @@ public final class UuidUtils {
         if (compactUuid == null || compactUuid.length() != 32) {
             throw new IllegalArgumentException("유효하지 않은 compact UUID 형식입니다: " + compactUuid);
         }
-        return String.format("%s-%s-%s-%s-%s",
-                compactUuid.substring(0, 8),
-                compactUuid.substring(8, 12),
-                compactUuid.substring(12, 16),
-                compactUuid.substring(16, 20),
-                compactUuid.substring(20, 32));
+        return UuidCodec.toStandard(compactUuid);
     }
 
     public static String toCompactFormat(String uuid) {
         if (!isValid(uuid)) {
             throw new IllegalArgumentException("유효하지 않은 UUID 형식입니다: " + uuid);
         }
-        return uuid.replace("-", "");
+        return UuidCodec.toCompact(uuid);
     }
 
     // ========================================
@@ -99,8 +252,7 @@ public final class UuidUtils {
         if (prefix == null || prefix.isBlank()) {
             throw new IllegalArgumentException("prefix는 필수입니다.");
         }
-        String uuid = UUID.randomUUID().toString().replace("-", "");
-        return prefix.toUpperCase() + "-" + uuid.substring(0, 8);
+        return prefix.toUpperCase() + "-" + randomHex(8);
     }
 
     /**
@@ -113,20 +265,33 @@ public final class UuidUtils {
         if (length < 4 || length > 32) {
             throw new IllegalArgumentException("length는 4-32 사이여야 합니다.");
         }
-        String uuid = UUID.randomUUID().toString().replace("-", "");
-        return prefix.toUpperCase() + "-" + uuid.substring(0, length);
+        return prefix.toUpperCase() + "-" + randomHex(length);
     }
 
     /**
      * 타임스탬프 기반 도메인 ID 생성 (형식: PREFIX-yyyyMMddHHmmss-xxxxxx)
+     *
+     * <p>타임스탬프는 초마다 한 번만 만들어 캐시하고, 6자리 hex suffix는 같은 초 안에서 단조 증가하므로
+     * 같은 JVM에서 생성한 ID는 중복되지 않는다. 타임스탬프의 시간대는 {@link #setTimestampIdClock(Clock)}로 바꿀 수 있다.
      */
     public static String generateTimestampId(String prefix) {
         if (prefix == null || prefix.isBlank()) {
             throw new IllegalArgumentException("prefix는 필수입니다.");
         }
-        String timestamp = LocalDateTime.now().format(TIMESTAMP_FORMAT);
-        String uuid = UUID.randomUUID().toString().replace("-", "").substring(0, 6);
-        return prefix.toUpperCase() + "-" + timestamp + "-" + uuid;
+        return timestampIdGenerator.next(prefix.toUpperCase());
+    }
+
+    /**
+     * 타임스탬프 기반 도메인 ID에 사용할 시계를 변경한다.
+     *
+     * <p>타임스탬프는 시계의 시간대로 계산한다. 테스트에서 고정 시계를 사용하거나,
+     * 서버 기본 시간대와 다른 시간대({@code Clock.system(ZoneId.of("Asia/Seoul"))} 등)로 ID를 만들 때 사용한다.
+     * 변경하면 suffix 증가 상태가 초기화되므로 애플리케이션 시작 시에만 호출한다.
+     *
+     * @param clock 시계 (null이면 시스템 시계와 시스템 기본 시간대)
+     */
+    public static void setTimestampIdClock(Clock clock) {
+        timestampIdGenerator = new TimestampIdGenerator(clock != null ? clock : Clock.systemDefaultZone());
     }
 
     public static String extractPrefix(String domainId) {
@@ -137,22 +302,161 @@ public final class UuidUtils {
     }
 
     public static boolean isValidDomainId(String domainId, String expectedPrefix) {
-        if (domainId == null || domainId.isBlank() || !domainId.contains("-")) {
+        if (domainId == null) {
             return false;
         }
-        String[] parts = domainId.split("-", 2);
-        if (parts.length != 2) {
+        int separator = domainId.indexOf('-');
+        if (separator < 0) {
             return false;
         }
-        String prefix = parts[0];
-        String idPart = parts[1];
-        if (expectedPrefix != null && !prefix.equalsIgnoreCase(expectedPrefix)) {
+        if (expectedPrefix != null && (separator != expectedPrefix.length()
+                || !domainId.regionMatches(true, 0, expectedPrefix, 0, separator))) {
             return false;
         }
-        if (!prefix.matches("^[A-Z]+$")) {
+        if (!isUpperCaseAlpha(domainId, 0, separator)) {
             return false;
         }
-        return idPart.matches("^[0-9a-fA-F]+$") || idPart.matches("^\\d{14}-[0-9a-fA-F]+$");
+        int idStart = separator + 1;
+        return UuidCodec.isHex(domainId, idStart, domainId.length())
+                || isTimestampIdPart(domainId, idStart)
+                || isSnowflakeIdPart(domainId, idStart);
+    }
+
+    // ========================================
+    // 대량 ID 생성
+    // ========================================
+
+    /**
+     * 도메인 ID를 지정한 개수만큼 생성한다 (형식: PREFIX-xxxxxxxx).
+     *
+     * <p>{@link #generateDomainId(String)}를 반복 호출하는 것과 같은 형식이지만,
+     * ID마다 {@link UUID#randomUUID()}를 호출하지 않고 {@value #RANDOM_BLOCK_SIZE}개 단위로 랜덤 소스를 한 번 호출한다.
+     * 공연장 좌석처럼 수만 개를 한 번에 만들 때 사용한다.
+     *
+     * <p>랜덤 부분은 32비트이므로 5만 개를 독립적으로 뽑으면 중복이 생길 확률이 약 25%다.
+     * 따라서 배치 안에서 이미 나온 값은 다시 뽑아, 한 번에 생성한 ID끼리는 중복이 없음을 보장한다.
+     * 다른 배치나 기존 데이터와의 중복은 보장하지 않으므로 저장 시 유니크 제약을 함께 사용한다.
+     *
+     * @param prefix 도메인 prefix
+     * @param count 생성할 개수 (0 ~ {@value #MAX_DOMAIN_ID_BATCH_SIZE})
+     * @return 서로 다른 도메인 ID 배열
+     * @throws IllegalArgumentException prefix가 없거나 개수가 범위를 벗어난 경우
+     */
+    public static String[] generateDomainIds(String prefix, int count) {
+        if (count < 0 || count > MAX_DOMAIN_ID_BATCH_SIZE) {
+            throw new IllegalArgumentException(
+                    "count는 0-" + MAX_DOMAIN_ID_BATCH_SIZE + " 사이여야 합니다: " + count);
+        }
+        String[] ids = new String[count];
+        fillDomainIds(prefix, ids);
+        return ids;
+    }
+
+    /**
+     * 미리 할당한 배열을 서로 다른 도메인 ID로 채운다 (형식: PREFIX-xxxxxxxx).
+     *
+     * @param prefix 도메인 prefix
+     * @param ids 채울 배열 (길이 {@value #MAX_DOMAIN_ID_BATCH_SIZE} 이하)
+     * @throws IllegalArgumentException prefix가 없거나 배열이 너무 긴 경우
+     * @see #generateDomainIds(String, int)
+     */
+    public static void fillDomainIds(String prefix, String[] ids) {
+        if (prefix == null || prefix.isBlank()) {
+            throw new IllegalArgumentException("prefix는 필수입니다.");
+        }
+        if (ids.length > MAX_DOMAIN_ID_BATCH_SIZE) {
+            throw new IllegalArgumentException(
+                    "한 번에 생성할 수 있는 도메인 ID는 최대 " + MAX_DOMAIN_ID_BATCH_SIZE + "개입니다: " + ids.length);
+        }
+        String upperPrefix = prefix.toUpperCase();
+        int[] random = new int[ids.length];
+        nextDistinctRandomInts(random);
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = UuidCodec.toDomainId(upperPrefix, random[i]);
+        }
+    }
+
+    /**
+     * Snowflake ID를 지정한 개수만큼 생성한다.
+     *
+     * <p>생성기에서 4096개씩 CAS 한 번으로 연속 구간을 예약하므로 결과는 증가 순서이며, 대량 INSERT의 기본 키로 사용한다.
+     *
+     * @param count 생성할 개수
+     * @return 증가 순서의 Snowflake ID 스트림
+     * @throws IllegalArgumentException 개수가 음수인 경우
+     * @see SnowflakeIdGenerator#nextIds(int)
+     */
+    public static LongStream generateSnowflakeIds(int count) {
+        return LongStream.of(snowflakeIdGenerator().nextIds(count));
+    }
+
+    // ========================================
+    // Snowflake ID 생성
+    // ========================================
+
+    /**
+     * 시간 순서로 증가하는 64비트 숫자 ID를 생성한다.
+     *
+     * <p>{@code BIGINT} 기본 키에 사용한다. 노드마다 다른 워커 ID가 필요하며,
+     * {@code SnowflakeIdAutoConfiguration}이 설정한 생성기 또는 호스트 이름 기반 기본 생성기를 사용한다.
+     *
+     * @return Snowflake ID
+     * @see SnowflakeIdGenerator
+     */
+    public static long generateSnowflakeId() {
+        return snowflakeIdGenerator().nextId();
+    }
+
+    /**
+     * Snowflake ID 기반 도메인 ID 생성 (형식: PREFIX-13자리 Crockford Base32)
+     *
+     * <p>{@link #generateDomainId(String)}의 8자리 hex보다 충돌 위험이 없고, 같은 prefix 안에서 생성 순서로 정렬된다.
+     * 예: {@code TKT-0DB8K5X7R00A3}
+     *
+     * @param prefix 도메인 prefix ({@link #PREFIX_TICKET} 등)
+     * @return 도메인 ID
+     */
+    public static String generateSnowflakeDomainId(String prefix) {
+        if (prefix == null || prefix.isBlank()) {
+            throw new IllegalArgumentException("prefix는 필수입니다.");
+        }
+        return prefix.toUpperCase() + "-" + SnowflakeIdGenerator.toBase32(generateSnowflakeId());
+    }
+
+    /**
+     * Snowflake ID 기반 도메인 ID에서 숫자 ID를 추출한다.
+     *
+     * @param domainId {@link #generateSnowflakeDomainId(String)}로 생성한 도메인 ID
+     * @return Snowflake ID
+     * @throws IllegalArgumentException 유효하지 않은 형식인 경우
+     */
+    public static long extractSnowflakeId(String domainId) {
+        if (domainId == null || !domainId.contains("-")) {
+            throw new IllegalArgumentException("유효하지 않은 도메인 ID 형식입니다: " + domainId);
+        }
+        return SnowflakeIdGenerator.fromBase32(domainId.substring(domainId.indexOf('-') + 1));
+    }
+
+    /**
+     * Snowflake ID 생성기를 변경한다.
+     *
+     * <p>일반적으로 {@code SnowflakeIdAutoConfiguration}이 애플리케이션 시작 시 설정한다.
+     * ID를 생성하기 시작한 뒤 같은 워커 ID의 새 생성기로 교체하면 중복이 생길 수 있으므로 시작 시에만 호출한다.
+     *
+     * @param generator Snowflake ID 생성기 (null이면 기본 생성기 사용)
+     */
+    public static void setSnowflakeIdGenerator(SnowflakeIdGenerator generator) {
+        snowflakeIdGenerator = generator;
+    }
+
+    /**
+     * 현재 Snowflake ID 생성기를 반환한다.
+     *
+     * @return Snowflake ID 생성기
+     */
+    public static SnowflakeIdGenerator snowflakeIdGenerator() {
+        SnowflakeIdGenerator generator = snowflakeIdGenerator;
+        return generator != null ? generator : DefaultSnowflakeIdGenerator.INSTANCE;
     }
 
     // ========================================
@@ -204,4 +508,127 @@ public final class UuidUtils {
     public static String generateNotificationId() {
         return generateDomainId(PREFIX_NOTIFICATION);
     }
+
+    public static String[] generateSeatIds(int count) {
+        return generateDomainIds(PREFIX_SEAT, count);
+    }
+
+    public static String[] generateTicketIds(int count) {
+        return generateDomainIds(PREFIX_TICKET, count);
+    }
+
+    /**
+     * 대량 생성용 랜덤 소스로 배열을 서로 다른 32비트 값으로 채운다.
+     *
+     * <p>{@link UUID#randomUUID()}와 같이 {@link SecureRandom}을 사용하며, {@value #RANDOM_BLOCK_SIZE}개마다
+     * 랜덤 소스를 한 번 호출한다. 이미 나온 값은 개방 주소법 해시 테이블로 걸러 다시 뽑는다.
+     */
+    static void nextDistinctRandomInts(int[] values) {
+        int tableSize = Integer.highestOneBit(Math.max(values.length, 8) - 1) << 2;
+        int[] table = new int[tableSize];
+        int mask = tableSize - 1;
+        // 0은 빈 슬롯 표시로 쓰므로 별도로 기록
+        boolean zeroUsed = false;
+        byte[] block = new byte[Math.min(Math.max(values.length, 1), RANDOM_BLOCK_SIZE) * 4];
+        ByteBuffer buffer = ByteBuffer.wrap(block);
+        buffer.position(block.length);
+
+        for (int i = 0; i < values.length; i++) {
+            while (true) {
+                if (!buffer.hasRemaining()) {
+                    RandomHolder.RANDOM.nextBytes(block);
+                    buffer.clear();
+                }
+                int candidate = buffer.getInt();
+                if (candidate == 0) {
+                    if (zeroUsed) {
+                        continue;
+                    }
+                    zeroUsed = true;
+                    values[i] = candidate;
+                    break;
+                }
+                int slot = candidate & mask;
+                while (table[slot] != 0 && table[slot] != candidate) {
+                    slot = (slot + 1) & mask;
+                }
+                if (table[slot] == candidate) {
+                    continue;
+                }
+                table[slot] = candidate;
+                values[i] = candidate;
+                break;
+            }
+        }
+    }
+
+    /**
+     * 랜덤 UUID(v4)의 compact 형식 앞 {@code length}자리를 생성한다.
+     */
+    private static String randomHex(int length) {
+        UUID uuid = UUID.randomUUID();
+        return UuidCodec.toHex(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), length);
+    }
+
+    /**
+     * 구간이 비어 있지 않고 모두 ASCII 대문자인지 확인한다 ({@code ^[A-Z]+$}).
+     */
+    private static boolean isUpperCaseAlpha(String text, int from, int to) {
+        if (from >= to) {
+            return false;
+        }
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            if (c < 'A' || c > 'Z') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * ID 부분이 타임스탬프 형식인지 확인한다 ({@code ^\d{14}-[0-9a-fA-F]+$}).
+     */
+    private static boolean isTimestampIdPart(String domainId, int from) {
+        int separator = from + TIMESTAMP_LENGTH;
+        if (domainId.length() <= separator + 1 || domainId.charAt(separator) != '-') {
+            return false;
+        }
+        for (int i = from; i < separator; i++) {
+            char c = domainId.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return UuidCodec.isHex(domainId, separator + 1, domainId.length());
+    }
+
+    /**
+     * ID 부분이 Snowflake ID 형식인지 확인한다 ({@code ^[0-9A-HJKMNP-TV-Z]{13}$}).
+     */
+    private static boolean isSnowflakeIdPart(String domainId, int from) {
+        if (domainId.length() - from != SnowflakeIdGenerator.BASE32_LENGTH) {
+            return false;
+        }
+        for (int i = from; i < domainId.length(); i++) {
+            if (!CrockfordBase32.isCanonical(domainId.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 최초 대량 생성 시 {@link SecureRandom}을 한 번만 생성한다.
+     */
+    private static final class RandomHolder {
+        private static final SecureRandom RANDOM = new SecureRandom();
+    }
+
+    /**
+     * 최초 사용 시 호스트 이름 기반 기본 생성기를 한 번만 생성한다.
+     */
+    private static final class DefaultSnowflakeIdGenerator {
+        private static final SnowflakeIdGenerator INSTANCE = SnowflakeIdGenerator.fromHostname();
+    }
 }
\ No newline at end of file
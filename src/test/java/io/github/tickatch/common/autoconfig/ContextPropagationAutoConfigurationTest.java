@@ -0,0 +1,107 @@
+package io.github.tickatch.common.autoconfig;
+
+import io.github.tickatch.common.logging.MdcTaskDecorator;
+import io.github.tickatch.common.logging.MdcUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ContextPropagationAutoConfiguration 단위 테스트.
+ */
+@DisplayName("ContextPropagationAutoConfiguration 테스트")
+class ContextPropagationAutoConfigurationTest {
+
+  private ContextPropagationAutoConfiguration.TraceTaskExecutorPostProcessor postProcessor;
+  private ThreadPoolTaskExecutor executor;
+
+  @BeforeEach
+  void setUp() {
+    postProcessor = new ContextPropagationAutoConfiguration.TraceTaskExecutorPostProcessor();
+    executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(1);
+    MDC.clear();
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdown();
+    MDC.clear();
+  }
+
+  // ========================================
+  // TaskExecutor 빈 데코레이션 테스트
+  // ========================================
+
+  @Nested
+  @DisplayName("TaskExecutor 빈 데코레이션 테스트")
+  class TaskExecutorDecorationTest {
+
+    @Test
+    @DisplayName("직접 정의한 ThreadPoolTaskExecutor에서 traceId가 유지된다")
+    void threadPoolTaskExecutor_propagatesTraceId() throws Exception {
+      // given
+      postProcessor.postProcessBeforeInitialization(executor, "notificationExecutor");
+      executor.initialize();
+      MdcUtils.setRequestId("trace-123");
+
+      // when
+      Future<String> traceId = executor.submit(MdcUtils::getRequestId);
+
+      // then
+      assertThat(traceId.get(1, TimeUnit.SECONDS)).isEqualTo("trace-123");
+    }
+
+    @Test
+    @DisplayName("기존 TaskDecorator가 있으면 함께 실행되도록 합성한다")
+    void threadPoolTaskExecutor_composesExistingDecorator() throws Exception {
+      // given
+      AtomicBoolean existingApplied = new AtomicBoolean();
+      executor.setTaskDecorator(runnable -> () -> {
+        existingApplied.set(true);
+        runnable.run();
+      });
+      postProcessor.postProcessBeforeInitialization(executor, "notificationExecutor");
+      executor.initialize();
+      MdcUtils.setRequestId("trace-123");
+
+      // when
+      Future<String> traceId = executor.submit(MdcUtils::getRequestId);
+
+      // then
+      assertThat(traceId.get(1, TimeUnit.SECONDS)).isEqualTo("trace-123");
+      assertThat(existingApplied).isTrue();
+    }
+
+    @Test
+    @DisplayName("이미 MdcTaskDecorator가 적용되어 있으면 다시 감싸지 않는다")
+    void compose_keepsMdcTaskDecorator() {
+      // given
+      TaskDecorator existing = new MdcTaskDecorator();
+
+      // when & then
+      assertThat(postProcessor.compose(existing)).isSameAs(existing);
+    }
+
+    @Test
+    @DisplayName("Executor가 아닌 빈은 그대로 반환한다")
+    void postProcess_otherBean() {
+      // given
+      Object bean = new Object();
+
+      // when & then
+      assertThat(postProcessor.postProcessBeforeInitialization(bean, "other")).isSameAs(bean);
+    }
+  }
+}
@@ -1,14 +1,17 @@
 package io.github.tickatch.common.autoconfig;
 
+import feign.RequestInterceptor;
 import feign.RequestTemplate;
 import io.github.tickatch.common.logging.MdcFilter;
 import io.github.tickatch.common.logging.MdcUtils;
+import io.github.tickatch.common.logging.TraceContext;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.slf4j.MDC;
+import org.springframework.mock.env.MockEnvironment;
 
 import java.util.Collection;
 import java.util.UUID;
@@ -28,7 +31,7 @@ class FeignTraceAutoConfigurationTest {
   void setUp() {
     configuration = new FeignTraceAutoConfiguration();
     interceptor = (FeignTraceAutoConfiguration.MdcPropagationInterceptor)
-        configuration.mdcPropagationInterceptor();
+        configuration.mdcPropagationInterceptor(new MockEnvironment());
     MDC.clear();
   }
 
@@ -49,7 +52,7 @@ class FeignTraceAutoConfigurationTest {
     @DisplayName("mdcPropagationInterceptor 빈을 생성한다")
     void createsMdcPropagationInterceptor() {
       // when
-      var interceptor = configuration.mdcPropagationInterceptor();
+      var interceptor = configuration.mdcPropagationInterceptor(new MockEnvironment());
 
       // then
       assertThat(interceptor).isNotNull();
@@ -124,6 +127,177 @@ class FeignTraceAutoConfigurationTest {
     }
   }
 
+  // ========================================
+  // W3C Trace Context 전파 테스트
+  // ========================================
+
+  @Nested
+  @DisplayName("W3C Trace Context 전파 테스트")
+  class TraceparentPropagationTest {
+
+    @Test
+    @DisplayName("현재 span을 상위 span으로 하는 traceparent 헤더를 추가한다")
+    void apply_withSpan_addsTraceparentHeader() {
+      // given
+      MdcUtils.setRequestId("0af76519-16cd-43dd-8448-eb211c80319c");
+      MDC.put(TraceContext.SPAN_ID, "b7ad6b7169203331");
+      MDC.put(TraceContext.TRACE_FLAGS, "01");
+      RequestTemplate template = new RequestTemplate();
+
+      // when
+      interceptor.apply(template);
+
+      // then
+      assertThat(template.headers().get(TraceContext.HEADER_TRACEPARENT))
+          .containsExactly("00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01");
+    }
+
+    @Test
+    @DisplayName("W3C 형식으로 표현할 수 없는 traceId면 traceparent 헤더를 추가하지 않는다")
+    void apply_withNonHexTraceId_doesNotAddTraceparentHeader() {
+      // given
+      MdcUtils.setRequestId("abc-123");
+      RequestTemplate template = new RequestTemplate();
+
+      // when
+      interceptor.apply(template);
+
+      // then
+      assertThat(template.headers().get(TraceContext.HEADER_TRACEPARENT)).isNull();
+      assertThat(template.headers().get(MdcFilter.HEADER_TRACE_ID)).containsExactly("abc-123");
+    }
+
+    @Test
+    @DisplayName("MDC에 baggage가 있으면 baggage 헤더에 추가한다")
+    void apply_withBaggage_addsBaggageHeader() {
+      // given
+      MDC.put(TraceContext.BAGGAGE, "tenant=tickatch");
+      RequestTemplate template = new RequestTemplate();
+
+      // when
+      interceptor.apply(template);
+
+      // then
+      assertThat(template.headers().get(TraceContext.HEADER_BAGGAGE)).containsExactly("tenant=tickatch");
+    }
+  }
+
+  // ========================================
+  // 헤더 설정 테스트
+  // ========================================
+
+  @Nested
+  @DisplayName("헤더 설정 테스트")
+  class HeaderConfigurationTest {
+
+    private static final String TRACE_ID = "0af76519-16cd-43dd-8448-eb211c80319c";
+
+    @Test
+    @DisplayName("format=tickatch이면 traceparent 헤더를 추가하지 않는다")
+    void apply_tickatchFormat_omitsTraceparent() {
+      // given
+      RequestInterceptor tickatchOnly = configuration.mdcPropagationInterceptor(
+          new MockEnvironment().withProperty("tickatch.trace.feign.format", "tickatch"));
+      MdcUtils.setRequestId(TRACE_ID);
+      RequestTemplate template = new RequestTemplate();
+
+      // when
+      tickatchOnly.apply(template);
+
+      // then
+      assertThat(template.headers().get(MdcFilter.HEADER_TRACE_ID)).containsExactly(TRACE_ID);
+      assertThat(template.headers().get(TraceContext.HEADER_TRACEPARENT)).isNull();
+    }
+
+    @Test
+    @DisplayName("format=w3c이고 traceId가 W3C trace-id이면 X-Trace-Id 헤더 없이 traceparent만 추가한다")
+    void apply_w3cFormat_omitsTraceIdHeader() {
+      // given
+      RequestInterceptor w3cOnly = configuration.mdcPropagationInterceptor(
+          new MockEnvironment().withProperty("tickatch.trace.feign.format", "w3c"));
+      MdcUtils.setRequestId("0af7651916cd43dd8448eb211c80319c");
+      MDC.put(TraceContext.SPAN_ID, "b7ad6b7169203331");
+      RequestTemplate template = new RequestTemplate();
+
+      // when
+      w3cOnly.apply(template);
+
+      // then
+      assertThat(template.headers().get(MdcFilter.HEADER_TRACE_ID)).isNull();
+      assertThat(template.headers().get(TraceContext.HEADER_TRACEPARENT))
+          .containsExactly("00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01");
+    }
+
+    @Test
+    @DisplayName("format=w3c라도 UUID 형식 traceId는 수신 측에서 그대로 유지되도록 X-Trace-Id를 함께 추가한다")
+    void apply_w3cFormat_uuidTraceId_addsTraceIdHeader() {
+      // given
+      RequestInterceptor w3cOnly = configuration.mdcPropagationInterceptor(
+          new MockEnvironment().withProperty("tickatch.trace.feign.format", "w3c"));
+      MdcUtils.setRequestId(TRACE_ID);
+      MDC.put(TraceContext.SPAN_ID, "b7ad6b7169203331");
+      RequestTemplate template = new RequestTemplate();
+
+      // when
+      w3cOnly.apply(template);
+
+      // then
+      assertThat(template.headers().get(MdcFilter.HEADER_TRACE_ID)).containsExactly(TRACE_ID);
+      assertThat(template.headers().get(TraceContext.HEADER_TRACEPARENT))
+          .containsExactly("00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01");
+    }
+
+    @Test
+    @DisplayName("format=w3c에서 W3C 형식으로 표현할 수 없는 traceId는 X-Trace-Id로 전파한다")
+    void apply_w3cFormat_nonHexTraceId_addsTraceIdHeader() {
+      // given
+      RequestInterceptor w3cOnly = configuration.mdcPropagationInterceptor(
+          new MockEnvironment().withProperty("tickatch.trace.feign.format", "w3c"));
+      MdcUtils.setRequestId("order-20250601-0001");
+      RequestTemplate template = new RequestTemplate();
+
+      // when
+      w3cOnly.apply(template);
+
+      // then
+      assertThat(template.headers().get(MdcFilter.HEADER_TRACE_ID)).containsExactly("order-20250601-0001");
+      assertThat(template.headers().get(TraceContext.HEADER_TRACEPARENT)).isNull();
+    }
+
+    @Test
+    @DisplayName("extra-headers에 지정한 MDC 키를 해당 헤더로 전파한다")
+    void apply_extraHeaders_propagatesMdcKeys() {
+      // given
+      RequestInterceptor withExtras = configuration.mdcPropagationInterceptor(
+          new MockEnvironment().withProperty("tickatch.trace.feign.extra-headers[tenantId]", "X-Tenant-Id"));
+      MdcUtils.setRequestId(TRACE_ID);
+      MDC.put("tenantId", "tickatch");
+      RequestTemplate template = new RequestTemplate();
+
+      // when
+      withExtras.apply(template);
+
+      // then
+      assertThat(template.headers().get("X-Tenant-Id")).containsExactly("tickatch");
+      assertThat(template.headers().get(MdcFilter.HEADER_TRACE_ID)).containsExactly(TRACE_ID);
+    }
+
+    @Test
+    @DisplayName("extra-headers의 MDC 키에 값이 없으면 헤더를 추가하지 않는다")
+    void apply_extraHeaders_missingValue() {
+      // given
+      RequestInterceptor withExtras = configuration.mdcPropagationInterceptor(
+          new MockEnvironment().withProperty("tickatch.trace.feign.extra-headers[tenantId]", "X-Tenant-Id"));
+      RequestTemplate template = new RequestTemplate();
+
+      // when
+      withExtras.apply(template);
+
+      // then
+      assertThat(template.headers()).isEmpty();
+    }
+  }
+
   // ========================================
   // User ID 전파 테스트
   // ========================================
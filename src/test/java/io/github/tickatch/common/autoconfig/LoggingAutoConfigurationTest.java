@@ -0,0 +1,54 @@
+package io.github.tickatch.common.autoconfig;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * LoggingAutoConfiguration 단위 테스트.
+ */
+@DisplayName("LoggingAutoConfiguration 테스트")
+class LoggingAutoConfigurationTest {
+
+  private final LoggingAutoConfiguration.AsyncModeCondition condition =
+      new LoggingAutoConfiguration.AsyncModeCondition();
+
+  // ========================================
+  // 비동기 모드 조건 테스트
+  // ========================================
+
+  @Nested
+  @DisplayName("비동기 모드 조건 테스트")
+  class AsyncModeConditionTest {
+
+    @Test
+    @DisplayName("mode가 ASYNC로 바인딩되면 일치한다")
+    void asyncMode_matches() {
+      assertThat(matches("async")).isTrue();
+      assertThat(matches("ASYNC")).isTrue();
+    }
+
+    @Test
+    @DisplayName("mode가 SYNC이거나 설정이 없으면 일치하지 않는다")
+    void syncOrMissingMode_doesNotMatch() {
+      assertThat(matches("sync")).isFalse();
+      assertThat(matches(null)).isFalse();
+    }
+  }
+
+  private boolean matches(String mode) {
+    MockEnvironment environment = new MockEnvironment();
+    if (mode != null) {
+      environment.setProperty(LoggingAutoConfiguration.AsyncModeCondition.MODE_PROPERTY, mode);
+    }
+    ConditionContext context = mock(ConditionContext.class);
+    when(context.getEnvironment()).thenReturn(environment);
+    return condition.getMatchOutcome(context, mock(AnnotatedTypeMetadata.class)).isMatch();
+  }
+}
@@ -0,0 +1,198 @@
+package io.github.tickatch.common.autoconfig;
+
+import io.github.tickatch.common.logging.MdcUtils;
+import io.github.tickatch.common.logging.ScheduledJobRegistry;
+import io.github.tickatch.common.logging.ScheduledJobSnapshot;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * ScheduledTraceAutoConfiguration 단위 테스트.
+ */
+@DisplayName("ScheduledTraceAutoConfiguration 테스트")
+class ScheduledTraceAutoConfigurationTest {
+
+  private ScheduledJobRegistry registry;
+  private ScheduledTraceAutoConfiguration.ScheduledTraceAspect aspect;
+
+  @BeforeEach
+  void setUp() {
+    registry = new ScheduledJobRegistry();
+    aspect = new ScheduledTraceAutoConfiguration.ScheduledTraceAspect(registry);
+    MDC.clear();
+  }
+
+  @AfterEach
+  void tearDown() {
+    MDC.clear();
+  }
+
+  // ========================================
+  // 실행 통계 테스트
+  // ========================================
+
+  @Nested
+  @DisplayName("실행 통계 테스트")
+  class StatsTest {
+
+    @Test
+    @DisplayName("성공한 실행을 작업 이름별로 기록하고, 실행 중에는 traceId가 있다")
+    void aroundScheduled_recordsSuccess() throws Throwable {
+      // given
+      AtomicReference<String> traceId = new AtomicReference<>();
+      ProceedingJoinPoint joinPoint = joinPoint("expireHolds");
+      when(joinPoint.proceed()).thenAnswer(invocation -> {
+        traceId.set(MdcUtils.getRequestId());
+        return null;
+      });
+
+      // when
+      aspect.aroundScheduled(joinPoint, scheduled("expireHolds"));
+
+      // then
+      ScheduledJobSnapshot snapshot = registry.snapshot().get(SampleJobs.class.getName() + ".expireHolds");
+      assertThat(snapshot.successCount()).isEqualTo(1);
+      assertThat(snapshot.lastSuccess()).isNotNull();
+      assertThat(traceId.get()).isNotBlank();
+      assertThat(MdcUtils.getRequestId()).isNull();
+    }
+
+    @Test
+    @DisplayName("예외로 종료된 실행을 실패로 기록하고 예외를 그대로 전파한다")
+    void aroundScheduled_recordsFailure() throws Throwable {
+      // given
+      ProceedingJoinPoint joinPoint = joinPoint("settle");
+      when(joinPoint.proceed()).thenThrow(new IllegalStateException("settlement failed"));
+
+      // when & then
+      assertThatThrownBy(() -> aspect.aroundScheduled(joinPoint, scheduled("settle")))
+          .isInstanceOf(IllegalStateException.class);
+      ScheduledJobSnapshot snapshot = registry.snapshot().get(SampleJobs.class.getName() + ".settle");
+      assertThat(snapshot.failureCount()).isEqualTo(1);
+      assertThat(snapshot.running()).isZero();
+    }
+
+    @Test
+    @DisplayName("레지스트리가 없으면 통계 없이 실행한다")
+    void aroundScheduled_withoutRegistry() throws Throwable {
+      // given
+      var plainAspect = new ScheduledTraceAutoConfiguration.ScheduledTraceAspect(null);
+      ProceedingJoinPoint joinPoint = joinPoint("expireHolds");
+      when(joinPoint.proceed()).thenReturn("done");
+
+      // when
+      Object result = plainAspect.aroundScheduled(joinPoint, scheduled("expireHolds"));
+
+      // then
+      assertThat(result).isEqualTo("done");
+    }
+  }
+
+  // ========================================
+  // 작업 이름 테스트
+  // ========================================
+
+  @Nested
+  @DisplayName("작업 이름 테스트")
+  class JobNameTest {
+
+    @Test
+    @DisplayName("다른 패키지의 같은 이름 클래스와 섞이지 않도록 전체 클래스 이름을 사용한다")
+    void jobName_usesFullyQualifiedClassName() throws Exception {
+      // given
+      Method method = SampleJobs.class.getDeclaredMethod("expireHolds");
+      Method sameSimpleName = OtherModule.SampleJobs.class.getDeclaredMethod("expireHolds");
+
+      // when
+      String name = ScheduledTraceAutoConfiguration.ScheduledTraceAspect.jobName(method);
+
+      // then
+      assertThat(name).isEqualTo(SampleJobs.class.getName() + ".expireHolds");
+      assertThat(ScheduledTraceAutoConfiguration.ScheduledTraceAspect.jobName(sameSimpleName)).isNotEqualTo(name);
+    }
+  }
+
+  // ========================================
+  // 스케줄 해석 테스트
+  // ========================================
+
+  @Nested
+  @DisplayName("스케줄 해석 테스트")
+  class FireScheduleTest {
+
+    @Test
+    @DisplayName("fixedRate, cron 작업은 예정 실행 시각을 계산한다")
+    void fireSchedule_fixedRateAndCron() throws Exception {
+      assertThat(aspect.fireSchedule(scheduled("expireHolds"))).isNotNull();
+      assertThat(aspect.fireSchedule(scheduled("settle"))).isNotNull();
+      assertThat(aspect.fireSchedule(scheduled("reportRate"))).isNotNull();
+    }
+
+    @Test
+    @DisplayName("fixedDelay 작업과 비활성화된 cron은 건너뛴 실행을 판별하지 않는다")
+    void fireSchedule_fixedDelayAndDisabled() throws Exception {
+      assertThat(aspect.fireSchedule(scheduled("cleanup"))).isNull();
+      assertThat(aspect.fireSchedule(scheduled("disabled"))).isNull();
+    }
+  }
+
+  private static ProceedingJoinPoint joinPoint(String methodName) throws NoSuchMethodException {
+    ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+    MethodSignature signature = mock(MethodSignature.class);
+    when(joinPoint.getSignature()).thenReturn(signature);
+    when(signature.getMethod()).thenReturn(SampleJobs.class.getDeclaredMethod(methodName));
+    when(signature.toShortString()).thenReturn("SampleJobs." + methodName + "()");
+    return joinPoint;
+  }
+
+  private static Scheduled scheduled(String methodName) throws NoSuchMethodException {
+    Method method = SampleJobs.class.getDeclaredMethod(methodName);
+    return method.getAnnotation(Scheduled.class);
+  }
+
+  static class SampleJobs {
+
+    @Scheduled(fixedRate = 100)
+    void expireHolds() {
+    }
+
+    @Scheduled(cron = "0 0 3 * * *", zone = "Asia/Seoul")
+    void settle() {
+    }
+
+    @Scheduled(fixedRateString = "PT1M")
+    void reportRate() {
+    }
+
+    @Scheduled(fixedDelay = 1000)
+    void cleanup() {
+    }
+
+    @Scheduled(cron = "-")
+    void disabled() {
+    }
+  }
+
+  static class OtherModule {
+
+    static class SampleJobs {
+
+      @Scheduled(fixedRate = 100)
+      void expireHolds() {
+      }
+    }
+  }
+}
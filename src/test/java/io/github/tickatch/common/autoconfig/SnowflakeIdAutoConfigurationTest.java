@@ -0,0 +1,94 @@
+package io.github.tickatch.common.autoconfig;
+
+import io.github.tickatch.common.util.SnowflakeIdGenerator;
+import io.github.tickatch.common.util.UuidUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * SnowflakeIdAutoConfiguration 단위 테스트.
+ */
+@DisplayName("SnowflakeIdAutoConfiguration 테스트")
+class SnowflakeIdAutoConfigurationTest {
+
+  private final SnowflakeIdAutoConfiguration configuration = new SnowflakeIdAutoConfiguration();
+
+  @AfterEach
+  void tearDown() {
+    UuidUtils.setSnowflakeIdGenerator(null);
+  }
+
+  // ========================================
+  // 빈 생성 테스트
+  // ========================================
+
+  @Nested
+  @DisplayName("빈 생성 테스트")
+  class BeanCreationTest {
+
+    @Test
+    @DisplayName("worker-id 설정이 있으면 해당 값을 사용한다")
+    void snowflakeIdGenerator_withWorkerId() {
+      // given
+      MockEnvironment environment = new MockEnvironment()
+          .withProperty("tickatch.id.snowflake.worker-id", "7");
+
+      // when
+      SnowflakeIdGenerator generator = configuration.snowflakeIdGenerator(environment);
+
+      // then
+      assertThat(generator.getWorkerId()).isEqualTo(7);
+      assertThat(SnowflakeIdGenerator.extractWorkerId(generator.nextId())).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("worker-id 설정이 없으면 호스트 이름으로 결정한다")
+    void snowflakeIdGenerator_withoutWorkerId() {
+      // when
+      SnowflakeIdGenerator generator = configuration.snowflakeIdGenerator(new MockEnvironment());
+
+      // then
+      assertThat(generator.getWorkerId()).isBetween(0L, SnowflakeIdGenerator.MAX_WORKER_ID);
+    }
+
+    @Test
+    @DisplayName("worker-id가 범위를 벗어나면 예외가 발생한다")
+    void snowflakeIdGenerator_withInvalidWorkerId_throwsException() {
+      // given
+      MockEnvironment environment = new MockEnvironment()
+          .withProperty("tickatch.id.snowflake.worker-id", "2048");
+
+      // when & then
+      assertThatThrownBy(() -> configuration.snowflakeIdGenerator(environment))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+
+  // ========================================
+  // UuidUtils 설정 테스트
+  // ========================================
+
+  @Nested
+  @DisplayName("UuidUtils 설정 테스트")
+  class InstallerTest {
+
+    @Test
+    @DisplayName("초기화 콜백이 UuidUtils에 생성기를 설정한다")
+    void installer_setsUuidUtilsGenerator() {
+      // given
+      SnowflakeIdGenerator generator = new SnowflakeIdGenerator(5);
+
+      // when
+      configuration.snowflakeIdGeneratorInstaller(generator).afterSingletonsInstantiated();
+
+      // then
+      assertThat(UuidUtils.snowflakeIdGenerator()).isSameAs(generator);
+      assertThat(SnowflakeIdGenerator.extractWorkerId(UuidUtils.generateSnowflakeId())).isEqualTo(5);
+    }
+  }
+}
@@ -1,6 +1,7 @@
 package io.github.tickatch.common.error;
 
 import io.github.tickatch.common.api.ApiResponse;
+import io.github.tickatch.common.logging.LogEvent;
 import io.github.tickatch.common.message.MessageResolver;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -56,6 +57,35 @@ class GlobalExceptionHandlerTest {
         assertThat(response.getBody().getError().getCode()).isEqualTo("BAD_REQUEST");
     }
 
+    @Test
+    @DisplayName("LoggingAspect가 이미 기록한 BusinessException도 동일한 응답을 반환한다")
+    void handleBusinessException_alreadyLogged() {
+        // given
+        BusinessException e = new BusinessException(GlobalErrorCode.BAD_REQUEST);
+        request.setAttribute(LogEvent.FAILURE_ATTRIBUTE,
+                LogEvent.controllerFailure("GET", "/api/test", "TestController.get", e, 3));
+
+        // when
+        ResponseEntity<ApiResponse<Void>> response = handler.handleBusinessException(request, e);
+
+        // then
+        assertThat(LogEvent.isFailureLogged(request, e)).isTrue();
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody().getError().getCode()).isEqualTo("BAD_REQUEST");
+    }
+
+    @Test
+    @DisplayName("다른 예외 인스턴스의 실패 이벤트는 기록된 것으로 보지 않는다")
+    void isFailureLogged_differentException() {
+        // given
+        BusinessException logged = new BusinessException(GlobalErrorCode.BAD_REQUEST);
+        request.setAttribute(LogEvent.FAILURE_ATTRIBUTE,
+                LogEvent.controllerFailure("GET", "/api/test", "TestController.get", logged, 3));
+
+        // when & then
+        assertThat(LogEvent.isFailureLogged(request, new BusinessException(GlobalErrorCode.BAD_REQUEST))).isFalse();
+    }
+
     @Test
     @DisplayName("AccessDeniedException을 처리한다")
     void handleAccessDenied() {
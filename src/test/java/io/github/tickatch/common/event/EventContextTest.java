@@ -1,6 +1,7 @@
 package io.github.tickatch.common.event;
 
 import io.github.tickatch.common.logging.MdcUtils;
+import io.github.tickatch.common.logging.TraceContext;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -9,6 +10,7 @@ import org.junit.jupiter.api.Test;
 import org.slf4j.MDC;
 
 import java.time.Instant;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -193,6 +195,22 @@ class EventContextTest {
       assertThat(capturedTraceId.get()).isNotNull();
       assertThatCode(() -> UUID.fromString(capturedTraceId.get())).doesNotThrowAnyException();
     }
+
+    @Test
+    @DisplayName("호출 전 MDC가 있으면 실행 후 이전 값으로 복원한다")
+    void run_restoresOuterMdc() {
+      // given - 리스너 advice가 설정한 컨텍스트
+      MdcUtils.setRequestId("listener-trace-id");
+      MdcUtils.put(EventContext.SOURCE_SERVICE, "order-service");
+      IntegrationEvent event = createEventWithTraceId("event-trace-id");
+
+      // when
+      EventContext.run(event, e -> assertThat(MdcUtils.getRequestId()).isEqualTo("event-trace-id"));
+
+      // then
+      assertThat(MdcUtils.getRequestId()).isEqualTo("listener-trace-id");
+      assertThat(EventContext.currentSourceService()).isEqualTo("order-service");
+    }
   }
 
   // ========================================
@@ -379,6 +397,33 @@ class EventContextTest {
       EventContext.clearMdc();
     }
 
+    @Test
+    @DisplayName("setupMdc()는 이벤트의 spanId를 상위 span으로 하는 새 span과 baggage를 설정한다")
+    void setupMdc_startsChildSpan() {
+      // given
+      IntegrationEvent event = IntegrationEvent.builder()
+          .eventId("id")
+          .eventType("TestEvent")
+          .occurredAt(Instant.now())
+          .sourceService("service")
+          .traceId("trace-123")
+          .spanId("b7ad6b7169203331")
+          .metadata(Map.of(TraceContext.BAGGAGE, "tenant=tickatch"))
+          .payload("{}")
+          .build();
+
+      // when
+      EventContext.setupMdc(event);
+
+      // then
+      assertThat(MdcUtils.get(TraceContext.SPAN_ID)).matches("[0-9a-f]{16}");
+      assertThat(MdcUtils.get(TraceContext.PARENT_SPAN_ID)).isEqualTo("b7ad6b7169203331");
+      assertThat(MdcUtils.get(TraceContext.BAGGAGE)).isEqualTo("tenant=tickatch");
+
+      // cleanup
+      EventContext.clearMdc();
+    }
+
     @Test
     @DisplayName("clearMdc()는 모든 MDC 값을 제거한다")
     void clearMdc_removesAllValues() {
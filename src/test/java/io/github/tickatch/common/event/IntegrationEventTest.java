@@ -1,9 +1,13 @@
 package io.github.tickatch.common.event;
 
+import io.github.tickatch.common.logging.MdcUtils;
+import io.github.tickatch.common.logging.TraceContext;
 import io.github.tickatch.common.util.JsonUtils;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
 
 import java.time.Instant;
 import java.util.Map;
@@ -158,6 +162,48 @@ class IntegrationEventTest {
         }
     }
 
+    // ========================================
+    // Trace Context 전파 테스트
+    // ========================================
+
+    @Nested
+    @DisplayName("Trace Context 전파 테스트")
+    class TraceContextPropagationTest {
+
+        @AfterEach
+        void tearDown() {
+            MDC.clear();
+        }
+
+        @Test
+        @DisplayName("MDC의 traceId, spanId, baggage를 담는다")
+        void from_capturesTraceContextFromMdc() {
+            // given
+            MdcUtils.setRequestId("0af7651916cd43dd8448eb211c80319c");
+            String spanId = TraceContext.startSpan(null, true);
+            TraceContext.putBaggage("tenant=tickatch");
+
+            // when
+            IntegrationEvent integrationEvent = IntegrationEvent.from(new TestDomainEvent(1L, "테스트"), "service");
+
+            // then
+            assertThat(integrationEvent.getTraceId()).isEqualTo("0af7651916cd43dd8448eb211c80319c");
+            assertThat(integrationEvent.getSpanId()).isEqualTo(spanId);
+            assertThat(integrationEvent.getMetadata()).containsEntry(TraceContext.BAGGAGE, "tenant=tickatch");
+        }
+
+        @Test
+        @DisplayName("MDC에 값이 없으면 spanId와 metadata는 null이다")
+        void create_withoutTraceContext() {
+            // when
+            IntegrationEvent integrationEvent = IntegrationEvent.create("TestEvent", "service", Map.of(), "test.key");
+
+            // then
+            assertThat(integrationEvent.getSpanId()).isNull();
+            assertThat(integrationEvent.getMetadata()).isNull();
+        }
+    }
+
     // ========================================
     // getPayloadAs() 테스트
     // ========================================
@@ -0,0 +1,238 @@
+package io.github.tickatch.common.event;
+
+import io.github.tickatch.common.logging.MdcScope;
+import io.github.tickatch.common.logging.MdcUtils;
+import io.github.tickatch.common.logging.TraceContext;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * TraceListenerAdvice 단위 테스트.
+ */
+@DisplayName("TraceListenerAdvice 테스트")
+class TraceListenerAdviceTest {
+
+  private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+  private static final String PARENT_SPAN_ID = "00f067aa0ba902b7";
+  private static final String TRACEPARENT = "00-" + TRACE_ID + "-" + PARENT_SPAN_ID + "-01";
+
+  private TraceListenerAdvice advice;
+
+  @BeforeEach
+  void setUp() {
+    advice = new TraceListenerAdvice();
+    MDC.clear();
+  }
+
+  @AfterEach
+  void tearDown() {
+    MDC.clear();
+  }
+
+  private Message messageWithHeaders(Map<String, Object> headers) {
+    MessageProperties properties = new MessageProperties();
+    headers.forEach(properties::setHeader);
+    return new Message("{}".getBytes(), properties);
+  }
+
+  /**
+   * 리스너 호출 중 MDC를 캡처하는 MethodInvocation을 만든다.
+   */
+  private MethodInvocation invocationOf(Object data, AtomicReference<Map<String, String>> captured)
+      throws Throwable {
+    MethodInvocation invocation = mock(MethodInvocation.class);
+    when(invocation.getArguments()).thenReturn(new Object[] {null, data});
+    when(invocation.proceed()).thenAnswer(i -> {
+      captured.set(MDC.getCopyOfContextMap());
+      return "result";
+    });
+    return invocation;
+  }
+
+  // ========================================
+  // MDC 복원 테스트
+  // ========================================
+
+  @Nested
+  @DisplayName("MDC 복원 테스트")
+  class RestoreTest {
+
+    @Test
+    @DisplayName("메시지 헤더의 traceId, userId, 발행 서비스, baggage를 MDC에 설정한다")
+    void invoke_restoresHeaders() throws Throwable {
+      // given
+      Message message = messageWithHeaders(Map.of(
+          "X-Trace-Id", "trace-123",
+          "X-User-Id", "user-456",
+          "X-Source-Service", "order-service",
+          "baggage", "tenant=tickatch"));
+      message.getMessageProperties().setType("OrderCreated");
+      AtomicReference<Map<String, String>> captured = new AtomicReference<>();
+
+      // when
+      Object result = advice.invoke(invocationOf(message, captured));
+
+      // then
+      assertThat(result).isEqualTo("result");
+      assertThat(captured.get())
+          .containsEntry(MdcUtils.REQUEST_ID, "trace-123")
+          .containsEntry(MdcUtils.USER_ID, "user-456")
+          .containsEntry(EventContext.SOURCE_SERVICE, "order-service")
+          .containsEntry(EventContext.EVENT_TYPE, "OrderCreated")
+          .containsEntry(TraceContext.BAGGAGE, "tenant=tickatch")
+          .containsKey(TraceContext.SPAN_ID);
+    }
+
+    @Test
+    @DisplayName("traceparent만 있으면 trace-id를 사용하고 발행한 span을 상위 span으로 기록한다")
+    void invoke_usesTraceparent() throws Throwable {
+      // given
+      Message message = messageWithHeaders(Map.of("traceparent", TRACEPARENT));
+      AtomicReference<Map<String, String>> captured = new AtomicReference<>();
+
+      // when
+      advice.invoke(invocationOf(message, captured));
+
+      // then
+      assertThat(captured.get())
+          .containsEntry(MdcUtils.REQUEST_ID, TRACE_ID)
+          .containsEntry(TraceContext.PARENT_SPAN_ID, PARENT_SPAN_ID)
+          .containsEntry(TraceContext.TRACE_FLAGS, "01");
+      assertThat(captured.get().get(TraceContext.SPAN_ID)).isNotEqualTo(PARENT_SPAN_ID);
+    }
+
+    @Test
+    @DisplayName("X-Trace-Id와 traceparent의 trace-id가 다르면 traceparent의 상위 span과 플래그를 사용하지 않는다")
+    void invoke_mismatchedTraceparent_ignoresParentSpan() throws Throwable {
+      // given
+      Message message = messageWithHeaders(Map.of(
+          "X-Trace-Id", "0af76519-16cd-43dd-8448-eb211c80319c",
+          "traceparent", "00-" + TRACE_ID + "-" + PARENT_SPAN_ID + "-00"));
+      AtomicReference<Map<String, String>> captured = new AtomicReference<>();
+
+      // when
+      advice.invoke(invocationOf(message, captured));
+
+      // then
+      assertThat(captured.get())
+          .containsEntry(MdcUtils.REQUEST_ID, "0af76519-16cd-43dd-8448-eb211c80319c")
+          .containsEntry(TraceContext.TRACE_FLAGS, "01")
+          .doesNotContainKey(TraceContext.PARENT_SPAN_ID);
+    }
+
+    @Test
+    @DisplayName("추적 헤더가 없으면 새 traceId를 생성한다")
+    void invoke_generatesTraceId() throws Throwable {
+      // given
+      AtomicReference<Map<String, String>> captured = new AtomicReference<>();
+
+      // when
+      advice.invoke(invocationOf(messageWithHeaders(Map.of()), captured));
+
+      // then
+      assertThat(captured.get().get(MdcUtils.REQUEST_ID)).isNotBlank();
+    }
+
+    @Test
+    @DisplayName("배치 리스너는 한 메시지의 trace로 배치 전체를 기록하지 않도록 MDC를 설정하지 않는다")
+    void invoke_batchDoesNotRestoreTrace() throws Throwable {
+      // given
+      List<Message> messages = List.of(
+          messageWithHeaders(Map.of("X-Trace-Id", "trace-1")),
+          messageWithHeaders(Map.of("X-Trace-Id", "trace-2")));
+      AtomicReference<Map<String, String>> captured = new AtomicReference<>();
+
+      // when
+      advice.invoke(invocationOf(messages, captured));
+
+      // then
+      assertThat(captured.get()).isNullOrEmpty();
+    }
+
+    @Test
+    @DisplayName("restore로 배치의 메시지별 trace를 설정하고 범위가 끝나면 되돌린다")
+    void restore_perMessage() {
+      // given
+      List<Message> messages = List.of(
+          messageWithHeaders(Map.of("X-Trace-Id", "trace-1")),
+          messageWithHeaders(Map.of("X-Trace-Id", "trace-2")));
+      List<String> traceIds = new ArrayList<>();
+
+      // when
+      for (Message message : messages) {
+        try (MdcScope ignored = TraceListenerAdvice.restore(message)) {
+          traceIds.add(MdcUtils.getRequestId());
+        }
+      }
+
+      // then
+      assertThat(traceIds).containsExactly("trace-1", "trace-2");
+      assertThat(MdcUtils.getRequestId()).isNull();
+    }
+  }
+
+  // ========================================
+  // MDC 정리 테스트
+  // ========================================
+
+  @Nested
+  @DisplayName("MDC 정리 테스트")
+  class CleanupTest {
+
+    @Test
+    @DisplayName("리스너 실행 후 MDC가 클리어된다")
+    void invoke_clearsMdcAfterExecution() throws Throwable {
+      // given
+      Message message = messageWithHeaders(Map.of("X-Trace-Id", "trace-123"));
+
+      // when
+      advice.invoke(invocationOf(message, new AtomicReference<>()));
+
+      // then
+      assertThat(MdcUtils.getRequestId()).isNull();
+      assertThat(MDC.get(TraceContext.SPAN_ID)).isNull();
+    }
+
+    @Test
+    @DisplayName("리스너에서 예외가 발생해도 MDC가 클리어된다")
+    void invoke_clearsMdcOnException() throws Throwable {
+      // given
+      MethodInvocation invocation = mock(MethodInvocation.class);
+      when(invocation.getArguments())
+          .thenReturn(new Object[] {null, messageWithHeaders(Map.of("X-Trace-Id", "trace-123"))});
+      when(invocation.proceed()).thenThrow(new IllegalStateException("리스너 예외"));
+
+      // when & then
+      assertThatThrownBy(() -> advice.invoke(invocation)).isInstanceOf(IllegalStateException.class);
+      assertThat(MdcUtils.getRequestId()).isNull();
+    }
+
+    @Test
+    @DisplayName("메시지가 없는 호출은 MDC를 변경하지 않는다")
+    void invoke_withoutMessage() throws Throwable {
+      // given
+      AtomicReference<Map<String, String>> captured = new AtomicReference<>();
+
+      // when
+      advice.invoke(invocationOf("not-a-message", captured));
+
+      // then
+      assertThat(captured.get()).isNullOrEmpty();
+    }
+  }
+}
@@ -0,0 +1,111 @@
+package io.github.tickatch.common.event;
+
+import io.github.tickatch.common.logging.MdcUtils;
+import io.github.tickatch.common.logging.TraceContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * TraceMessagePostProcessor 단위 테스트.
+ */
+@DisplayName("TraceMessagePostProcessor 테스트")
+class TraceMessagePostProcessorTest {
+
+  private static final String TRACE_ID = "4bf92f35-77b3-4da6-a3ce-929d0e0e4736";
+
+  private TraceMessagePostProcessor processor;
+
+  @BeforeEach
+  void setUp() {
+    processor = new TraceMessagePostProcessor("ticket-service");
+    MDC.clear();
+  }
+
+  @AfterEach
+  void tearDown() {
+    MDC.clear();
+  }
+
+  private Message newMessage() {
+    return new Message("{}".getBytes(), new MessageProperties());
+  }
+
+  // ========================================
+  // 헤더 전파 테스트
+  // ========================================
+
+  @Nested
+  @DisplayName("헤더 전파 테스트")
+  class PropagationTest {
+
+    @Test
+    @DisplayName("MDC의 traceId, userId, traceparent, baggage, 발행 서비스를 헤더로 전파한다")
+    void postProcessMessage_propagatesHeaders() {
+      // given
+      MdcUtils.setRequestId(TRACE_ID);
+      MdcUtils.setUserId("user-456");
+      TraceContext.startSpan(null, true);
+      TraceContext.putBaggage("tenant=tickatch");
+
+      // when
+      MessageProperties properties = processor.postProcessMessage(newMessage()).getMessageProperties();
+
+      // then
+      assertThat((String) properties.getHeader("X-Trace-Id")).isEqualTo(TRACE_ID);
+      assertThat((String) properties.getHeader("X-User-Id")).isEqualTo("user-456");
+      assertThat((String) properties.getHeader("traceparent"))
+          .isEqualTo(TraceContext.currentTraceparent());
+      assertThat((String) properties.getHeader("baggage")).isEqualTo("tenant=tickatch");
+      assertThat((String) properties.getHeader(TraceMessagePostProcessor.HEADER_SOURCE_SERVICE))
+          .isEqualTo("ticket-service");
+    }
+
+    @Test
+    @DisplayName("MDC에 값이 없으면 추적 헤더를 추가하지 않는다")
+    void postProcessMessage_emptyMdc() {
+      // when
+      MessageProperties properties = processor.postProcessMessage(newMessage()).getMessageProperties();
+
+      // then
+      assertThat(properties.getHeaders())
+          .containsOnlyKeys(TraceMessagePostProcessor.HEADER_SOURCE_SERVICE);
+    }
+
+    @Test
+    @DisplayName("이미 있는 헤더는 덮어쓰지 않는다")
+    void postProcessMessage_keepsExistingHeaders() {
+      // given
+      MdcUtils.setRequestId(TRACE_ID);
+      Message message = newMessage();
+      message.getMessageProperties().setHeader("X-Trace-Id", "explicit-trace");
+
+      // when
+      MessageProperties properties = processor.postProcessMessage(message).getMessageProperties();
+
+      // then
+      assertThat((String) properties.getHeader("X-Trace-Id")).isEqualTo("explicit-trace");
+    }
+
+    @Test
+    @DisplayName("발행 서비스명이 없으면 X-Source-Service 헤더를 추가하지 않는다")
+    void postProcessMessage_withoutSourceService() {
+      // given
+      MdcUtils.setRequestId(TRACE_ID);
+
+      // when
+      MessageProperties properties = new TraceMessagePostProcessor()
+          .postProcessMessage(newMessage()).getMessageProperties();
+
+      // then
+      assertThat(properties.getHeaders()).doesNotContainKey(TraceMessagePostProcessor.HEADER_SOURCE_SERVICE);
+    }
+  }
+}
@@ -0,0 +1,218 @@
+package io.github.tickatch.common.logging;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * AsyncLogDispatcher 단위 테스트.
+ */
+@DisplayName("AsyncLogDispatcher 테스트")
+class AsyncLogDispatcherTest {
+
+    private AsyncLogDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() {
+        if (dispatcher != null) {
+            dispatcher.close();
+        }
+        MDC.clear();
+    }
+
+    @Test
+    @DisplayName("버퍼에 적재된 이벤트를 백그라운드에서 LogManager로 기록한다")
+    void dispatch_writesEventsInBackground() {
+        // given
+        LogManager logManager = mock(LogManager.class);
+        dispatcher = new AsyncLogDispatcher(logManager, 16, 4, AsyncLogDispatcher.OverflowPolicy.DROP);
+
+        // when
+        dispatcher.dispatch(LogEvent.methodEntry("TestService.method", new String[]{"id"}, new Object[]{1}));
+        dispatcher.dispatch(LogEvent.methodExit("TestService.method", Map.of("ok", true)));
+
+        // then
+        verify(logManager, timeout(1000)).logMethodEntry("TestService.method", ", Params: {id: 1}");
+        verify(logManager, timeout(1000)).logMethodExit("TestService.method", "{\"ok\":true}");
+    }
+
+    @Test
+    @DisplayName("캡처 시점의 requestId를 드레이너 스레드의 MDC에 복원한다")
+    void dispatch_restoresCapturedMdc() throws InterruptedException {
+        // given
+        AtomicReference<String> loggedRequestId = new AtomicReference<>();
+        CountDownLatch latch = new CountDownLatch(1);
+        LogManager logManager = new LogManager() {
+            @Override
+            public void logMethodExit(String methodInfo, String resultJson) {
+                loggedRequestId.set(MdcUtils.getRequestId());
+                latch.countDown();
+            }
+        };
+        dispatcher = new AsyncLogDispatcher(logManager, 16, 4, AsyncLogDispatcher.OverflowPolicy.DROP);
+
+        MdcUtils.setRequestId("trace-123");
+        LogEvent event = LogEvent.methodExit("TestService.method", "result");
+        MDC.clear();
+
+        // when
+        dispatcher.dispatch(event);
+
+        // then
+        assertThat(latch.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(loggedRequestId.get()).isEqualTo("trace-123");
+    }
+
+    @Test
+    @DisplayName("캡처 시점의 span 정보와 baggage도 동기 모드와 같이 MDC에 복원한다")
+    void dispatch_restoresSpanAndBaggage() throws InterruptedException {
+        // given
+        AtomicReference<Map<String, String>> loggedContext = new AtomicReference<>();
+        CountDownLatch latch = new CountDownLatch(1);
+        LogManager logManager = new LogManager() {
+            @Override
+            public void logMethodExit(String methodInfo, String resultJson) {
+                loggedContext.set(MDC.getCopyOfContextMap());
+                latch.countDown();
+            }
+        };
+        dispatcher = new AsyncLogDispatcher(logManager, 16, 4, AsyncLogDispatcher.OverflowPolicy.DROP);
+
+        MdcUtils.setRequestId("trace-123");
+        MDC.put(TraceContext.SPAN_ID, "00f067aa0ba902b7");
+        MDC.put(TraceContext.PARENT_SPAN_ID, "b7ad6b7169203331");
+        MDC.put(TraceContext.TRACE_FLAGS, "01");
+        MDC.put(TraceContext.BAGGAGE, "tenant=a");
+        LogEvent event = LogEvent.methodExit("TestService.method", "result");
+        MDC.clear();
+
+        // when
+        dispatcher.dispatch(event);
+
+        // then
+        assertThat(latch.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(loggedContext.get())
+                .containsEntry(TraceContext.SPAN_ID, "00f067aa0ba902b7")
+                .containsEntry(TraceContext.PARENT_SPAN_ID, "b7ad6b7169203331")
+                .containsEntry(TraceContext.TRACE_FLAGS, "01")
+                .containsEntry(TraceContext.BAGGAGE, "tenant=a");
+    }
+
+    @Test
+    @DisplayName("DROP 정책에서 버퍼가 가득 차면 이벤트를 버리고 드롭 수를 집계한다")
+    void dispatch_dropsWhenFull() throws InterruptedException {
+        // given
+        CountDownLatch blocker = new CountDownLatch(1);
+        LogManager logManager = new LogManager() {
+            @Override
+            public void logMethodExit(String methodInfo, String resultJson) {
+                try {
+                    blocker.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        dispatcher = new AsyncLogDispatcher(logManager, 1, 1, AsyncLogDispatcher.OverflowPolicy.DROP);
+
+        // when - 첫 이벤트가 드레이너를 점유한 뒤 버퍼(1)를 초과하도록 적재
+        dispatcher.dispatch(LogEvent.methodExit("m", "first"));
+        Thread.sleep(200);
+        boolean second = dispatcher.dispatch(LogEvent.methodExit("m", "second"));
+        boolean third = dispatcher.dispatch(LogEvent.methodExit("m", "third"));
+
+        // then
+        assertThat(second).isTrue();
+        assertThat(third).isFalse();
+        assertThat(dispatcher.getQueueDepth()).isEqualTo(1);
+        assertThat(dispatcher.getDroppedCount()).isEqualTo(1);
+        assertThat(dispatcher.getCapacity()).isEqualTo(1);
+
+        blocker.countDown();
+    }
+
+    @Test
+    @DisplayName("BLOCK 정책에서 대기 중인 요청 스레드는 close 이후 대기를 멈추고 드롭으로 집계된다")
+    void dispatch_blockedProducer_isReleasedOnClose() throws InterruptedException {
+        // given
+        CountDownLatch blocker = new CountDownLatch(1);
+        LogManager logManager = new LogManager() {
+            @Override
+            public void logMethodExit(String methodInfo, String resultJson) {
+                try {
+                    blocker.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        dispatcher = new AsyncLogDispatcher(logManager, 1, 1, AsyncLogDispatcher.OverflowPolicy.BLOCK);
+        dispatcher.dispatch(LogEvent.methodExit("m", "first"));
+        Thread.sleep(200);
+        dispatcher.dispatch(LogEvent.methodExit("m", "second"));
+        Thread producer = new Thread(() -> dispatcher.dispatch(LogEvent.methodExit("m", "third")));
+        producer.start();
+        Thread.sleep(200);
+
+        // when
+        Thread closer = new Thread(dispatcher::close);
+        closer.start();
+        producer.join(1_000);
+
+        // then
+        assertThat(producer.isAlive()).isFalse();
+        assertThat(dispatcher.getDroppedCount()).isEqualTo(1);
+
+        blocker.countDown();
+        closer.join(1_000);
+    }
+
+    @Test
+    @DisplayName("close 이후 적재된 이벤트는 드롭으로 집계된다")
+    void dispatch_afterClose_countsAsDropped() {
+        // given
+        dispatcher = new AsyncLogDispatcher(mock(LogManager.class), 4, 4, AsyncLogDispatcher.OverflowPolicy.BLOCK);
+        dispatcher.close();
+
+        // when
+        dispatcher.dispatch(LogEvent.methodExit("m", "late"));
+
+        // then
+        assertThat(dispatcher.getDroppedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("close는 버퍼에 남은 이벤트를 모두 기록한 뒤 종료한다")
+    void close_flushesRemainingEvents() {
+        // given
+        LogManager logManager = mock(LogManager.class);
+        dispatcher = new AsyncLogDispatcher(logManager, 64, 8, AsyncLogDispatcher.OverflowPolicy.BLOCK);
+        for (int i = 0; i < 20; i++) {
+            dispatcher.dispatch(LogEvent.methodExit("m", i));
+        }
+
+        // when
+        dispatcher.close();
+
+        // then
+        verify(logManager, times(20)).logMethodExit(eq("m"), anyString());
+        assertThat(dispatcher.getQueueDepth()).isZero();
+    }
+
+    @Test
+    @DisplayName("bufferSize가 1 미만이면 예외가 발생한다")
+    void constructor_invalidBufferSize_throwsException() {
+        assertThatThrownBy(() ->
+                new AsyncLogDispatcher(mock(LogManager.class), 0, 1, AsyncLogDispatcher.OverflowPolicy.DROP)
+        ).isInstanceOf(IllegalArgumentException.class);
+    }
+}
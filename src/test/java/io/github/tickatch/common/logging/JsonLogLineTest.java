@@ -0,0 +1,53 @@
+package io.github.tickatch.common.logging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * JsonLogLine 단위 테스트.
+ */
+@DisplayName("JsonLogLine 테스트")
+class JsonLogLineTest {
+
+    @Test
+    @DisplayName("문자열과 숫자 필드를 순서대로 기록한다")
+    void field_writesInOrder() {
+        String line = JsonLogLine.begin()
+                .field("event", "method_exit")
+                .field("elapsedMs", 12)
+                .end();
+
+        assertThat(line).isEqualTo("{\"event\":\"method_exit\",\"elapsedMs\":12}");
+    }
+
+    @Test
+    @DisplayName("null 값 필드는 생략한다")
+    void field_skipsNull() {
+        String line = JsonLogLine.begin()
+                .field("userId", (String) null)
+                .field("method", "A.b")
+                .end();
+
+        assertThat(line).isEqualTo("{\"method\":\"A.b\"}");
+    }
+
+    @Test
+    @DisplayName("따옴표, 역슬래시, 제어 문자를 이스케이프한다")
+    void field_escapesSpecialCharacters() {
+        String line = JsonLogLine.begin()
+                .field("error", "say \"hi\"\\\n\t\u0001끝")
+                .end();
+
+        assertThat(line).isEqualTo("{\"error\":\"say \\\"hi\\\"\\\\\\n\\t\\u0001끝\"}");
+    }
+
+    @Test
+    @DisplayName("연속 호출 시 이전 내용이 섞이지 않는다")
+    void begin_resetsBuffer() {
+        JsonLogLine.begin().field("first", "value").end();
+
+        assertThat(JsonLogLine.begin().field("b", 2).end()).isEqualTo("{\"b\":2}");
+    }
+}
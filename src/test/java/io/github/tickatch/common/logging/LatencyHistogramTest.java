@@ -0,0 +1,149 @@
+package io.github.tickatch.common.logging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * LatencyHistogram 단위 테스트.
+ */
+@DisplayName("LatencyHistogram 테스트")
+class LatencyHistogramTest {
+
+    @Nested
+    @DisplayName("버킷 인덱스 테스트")
+    class IndexTest {
+
+        @Test
+        @DisplayName("모든 값은 자신이 속한 버킷의 범위 안에 있다")
+        void indexOf_valueWithinBucketRange() {
+            long[] values = {0, 1, 31, 32, 33, 63, 64, 100, 1_000, 123_456, 1L << 30, (1L << 37) - 1};
+
+            for (long value : values) {
+                int index = LatencyHistogram.indexOf(value);
+                assertThat(value).isBetween(
+                        LatencyHistogram.lowestEquivalentValue(index),
+                        LatencyHistogram.highestEquivalentValue(index));
+            }
+        }
+
+        @Test
+        @DisplayName("버킷은 빈틈 없이 연속된다")
+        void buckets_areContiguous() {
+            for (int index = 1; index < LatencyHistogram.indexOf((1L << 37) - 1); index++) {
+                assertThat(LatencyHistogram.lowestEquivalentValue(index))
+                        .isEqualTo(LatencyHistogram.highestEquivalentValue(index - 1) + 1);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("통계 테스트")
+    class SnapshotTest {
+
+        @Test
+        @DisplayName("백분위 값은 버킷 정밀도 이내로 정확하다")
+        void snapshot_percentilesWithinPrecision() {
+            LatencyHistogram histogram = new LatencyHistogram();
+            IntStream.rangeClosed(1, 1000).forEach(ms -> histogram.record(TimeUnit.MILLISECONDS.toNanos(ms)));
+
+            LatencySnapshot snapshot = histogram.snapshot();
+
+            assertThat(snapshot.count()).isEqualTo(1000);
+            assertThat(snapshot.meanMillis()).isCloseTo(500.5, within(0.5));
+            assertThat(snapshot.p50Millis()).isCloseTo(500.0, withinPercentage(7));
+            assertThat(snapshot.p90Millis()).isCloseTo(900.0, withinPercentage(7));
+            assertThat(snapshot.p99Millis()).isCloseTo(990.0, withinPercentage(7));
+            assertThat(snapshot.maxMillis()).isEqualTo(1000.0);
+        }
+
+        @Test
+        @DisplayName("기록이 없으면 모든 값이 0이다")
+        void snapshot_empty() {
+            LatencySnapshot snapshot = new LatencyHistogram().snapshot();
+
+            assertThat(snapshot.count()).isZero();
+            assertThat(snapshot.p99Millis()).isZero();
+            assertThat(snapshot.maxMillis()).isZero();
+        }
+
+        @Test
+        @DisplayName("여러 스레드에서 동시에 기록해도 건수가 유실되지 않는다")
+        void record_concurrent() throws InterruptedException {
+            LatencyHistogram histogram = new LatencyHistogram();
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+
+            for (int t = 0; t < 4; t++) {
+                executor.submit(() -> IntStream.range(0, 10_000).forEach(i -> histogram.record(i * 1_000L)));
+            }
+            executor.shutdown();
+            assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+            assertThat(histogram.getCount()).isEqualTo(40_000);
+            assertThat(histogram.snapshot().count()).isEqualTo(40_000);
+        }
+    }
+
+    @Nested
+    @DisplayName("구간 교체 테스트")
+    class WindowTest {
+
+        private final AtomicLong nanoTime = new AtomicLong();
+        private final LatencyHistogram histogram = new LatencyHistogram(Duration.ofMinutes(1), nanoTime::get);
+
+        @Test
+        @DisplayName("한 구간이 지나도 이전 구간의 값은 통계에 남는다")
+        void snapshot_includesPreviousWindow() {
+            histogram.record(TimeUnit.SECONDS.toNanos(2));
+
+            nanoTime.addAndGet(TimeUnit.MINUTES.toNanos(1));
+
+            assertThat(histogram.snapshot().count()).isEqualTo(1);
+            assertThat(histogram.getMaxMillis()).isEqualTo(2_000.0);
+        }
+
+        @Test
+        @DisplayName("두 구간이 지나면 오래된 값은 통계에서 빠지고 누적 건수만 남는다")
+        void snapshot_dropsExpiredWindows() {
+            histogram.record(TimeUnit.SECONDS.toNanos(2));
+
+            nanoTime.addAndGet(TimeUnit.MINUTES.toNanos(2));
+
+            LatencySnapshot snapshot = histogram.snapshot();
+            assertThat(snapshot.count()).isZero();
+            assertThat(snapshot.maxMillis()).isZero();
+            assertThat(histogram.getCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("부하가 줄면 백분위와 최대값도 최근 값을 따라 내려간다")
+        void percentiles_followRecentLoad() {
+            IntStream.range(0, 100).forEach(i -> histogram.record(TimeUnit.SECONDS.toNanos(1)));
+            assertThat(histogram.getPercentileMillis(0.99)).isCloseTo(1_000.0, withinPercentage(7));
+
+            nanoTime.addAndGet(TimeUnit.MINUTES.toNanos(1));
+            IntStream.range(0, 100).forEach(i -> histogram.record(TimeUnit.MILLISECONDS.toNanos(10)));
+            nanoTime.addAndGet(TimeUnit.MINUTES.toNanos(1));
+
+            assertThat(histogram.getPercentileMillis(0.99)).isCloseTo(10.0, withinPercentage(7));
+            assertThat(histogram.getMaxMillis()).isEqualTo(10.0);
+            assertThat(histogram.getCount()).isEqualTo(200);
+        }
+
+        @Test
+        @DisplayName("구간 길이가 0 이하이면 예외가 발생한다")
+        void constructor_invalidWindow_throwsException() {
+            assertThatThrownBy(() -> new LatencyHistogram(Duration.ZERO))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package io.github.tickatch.common.logging;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * LatencyMeterBinder 단위 테스트.
+ */
+@DisplayName("LatencyMeterBinder 테스트")
+class LatencyMeterBinderTest {
+
+    @Test
+    @DisplayName("메서드별 실행 시간을 quantile 태그가 붙은 게이지로 노출한다")
+    void bindTo_registersLatencyMeters() {
+        LatencyRegistry latencyRegistry = new LatencyRegistry(Duration.ofSeconds(1));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        new LatencyMeterBinder(latencyRegistry, null).bindTo(meterRegistry);
+
+        latencyRegistry.record("TicketController.getTicket", Duration.ofMillis(10).toNanos());
+
+        assertThat(meterRegistry.get(LatencyMeterBinder.LATENCY_METRIC)
+                .tags("method", "TicketController.getTicket", "quantile", "0.99")
+                .gauge()
+                .value()).isCloseTo(10.0, withinPercentage(7));
+        assertThat(meterRegistry.get(LatencyMeterBinder.LATENCY_METRIC + ".count")
+                .tag("method", "TicketController.getTicket")
+                .functionCounter()
+                .count()).isEqualTo(1.0);
+    }
+}
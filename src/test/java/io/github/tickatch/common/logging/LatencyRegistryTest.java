@@ -0,0 +1,62 @@
+package io.github.tickatch.common.logging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * LatencyRegistry 단위 테스트.
+ */
+@DisplayName("LatencyRegistry 테스트")
+class LatencyRegistryTest {
+
+    @Test
+    @DisplayName("메서드 이름별로 히스토그램을 분리하여 기록한다")
+    void record_separatesByName() {
+        LatencyRegistry registry = new LatencyRegistry(Duration.ofSeconds(1));
+
+        registry.record("TicketController.getTicket", 1_000_000L);
+        registry.record("TicketController.getTicket", 2_000_000L);
+        registry.record("SeatService.reserve", 3_000_000L);
+
+        assertThat(registry.snapshot())
+                .containsOnlyKeys("TicketController.getTicket", "SeatService.reserve");
+        assertThat(registry.get("TicketController.getTicket").getCount()).isEqualTo(2);
+        assertThat(registry.get("unknown")).isNull();
+    }
+
+    @Test
+    @DisplayName("임계값 이상이면 지연 호출로 판단한다")
+    void isSlow_overThreshold() {
+        LatencyRegistry registry = new LatencyRegistry(Duration.ofMillis(100));
+
+        assertThat(registry.isSlow(Duration.ofMillis(100).toNanos())).isTrue();
+        assertThat(registry.isSlow(Duration.ofMillis(99).toNanos())).isFalse();
+    }
+
+    @Test
+    @DisplayName("임계값이 없으면 지연 호출로 판단하지 않는다")
+    void isSlow_noThreshold() {
+        assertThat(new LatencyRegistry(null).isSlow(Long.MAX_VALUE - 1)).isFalse();
+        assertThat(new LatencyRegistry(Duration.ZERO).isSlow(Long.MAX_VALUE - 1)).isFalse();
+    }
+
+    @Test
+    @DisplayName("리스너는 기존 및 신규 히스토그램마다 한 번씩 호출된다")
+    void addListener_notifiesExistingAndNew() {
+        LatencyRegistry registry = new LatencyRegistry(null);
+        List<String> names = new ArrayList<>();
+        registry.record("A.existing", 1_000L);
+
+        registry.addListener((name, histogram) -> names.add(name));
+        registry.record("B.created", 1_000L);
+        registry.record("B.created", 1_000L);
+
+        assertThat(names).containsExactly("A.existing", "B.created");
+    }
+}
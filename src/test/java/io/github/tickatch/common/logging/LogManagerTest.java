@@ -1,10 +1,20 @@
 package io.github.tickatch.common.logging;
 
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -91,4 +101,165 @@ class LogManagerTest {
             logManager.logException(new RuntimeException("error"));
         }).doesNotThrowAnyException();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("isEnabled는 INFO 레벨 활성화 여부를 반환한다")
+    void isEnabled_reflectsInfoLevel() {
+        assertThat(logManager.isEnabled())
+                .isEqualTo(LoggerFactory.getLogger(LogManager.class).isInfoEnabled());
+    }
+
+    @Test
+    @DisplayName("JSON 형식은 필드를 한 줄 JSON 메시지로 기록한다")
+    void jsonFormat_writesSingleLineJson() {
+        // given
+        LogManager jsonLogManager = new LogManager(LogManager.OutputFormat.JSON);
+        ListAppender<ILoggingEvent> appender = attachAppender();
+
+        try {
+            // when
+            jsonLogManager.logControllerExit("GET", "/api/tickets/1", "TicketController.getTicket", "{\"id\":1}");
+
+            // then
+            assertThat(appender.list).hasSize(1);
+            assertThat(appender.list.get(0).getFormattedMessage()).isEqualTo(
+                    "{\"event\":\"controller_exit\",\"traceId\":\"test-request-id\",\"userId\":\"test-user-id\","
+                            + "\"httpMethod\":\"GET\",\"uri\":\"/api/tickets/1\","
+                            + "\"method\":\"TicketController.getTicket\",\"result\":\"{\\\"id\\\":1}\"}");
+        } finally {
+            detachAppender(appender);
+        }
+    }
+
+    @Test
+    @DisplayName("KEY_VALUE 형식은 필드를 SLF4J key-value로 전달한다")
+    void keyValueFormat_addsKeyValuePairs() {
+        // given
+        LogManager kvLogManager = new LogManager(LogManager.OutputFormat.KEY_VALUE);
+        ListAppender<ILoggingEvent> appender = attachAppender();
+
+        try {
+            // when
+            kvLogManager.logMethodFailure("SeatService.reserve", new IllegalStateException("sold out"), 5);
+
+            // then
+            ILoggingEvent event = appender.list.get(0);
+            assertThat(event.getLevel()).isEqualTo(Level.WARN);
+            assertThat(event.getMessage()).isEqualTo("method_failure");
+            assertThat(event.getKeyValuePairs())
+                    .extracting(pair -> pair.key + "=" + pair.value)
+                    .contains("traceId=test-request-id", "method=SeatService.reserve",
+                            "elapsedMs=5", "exception=IllegalStateException", "error=sold out");
+        } finally {
+            detachAppender(appender);
+        }
+    }
+
+    @Test
+    @DisplayName("JSON 형식은 원본 인자를 파라미터 이름별 중첩 JSON으로 기록한다")
+    void jsonFormat_writesParamsByName() {
+        // given
+        LogManager jsonLogManager = new LogManager(LogManager.OutputFormat.JSON);
+        ListAppender<ILoggingEvent> appender = attachAppender();
+
+        try {
+            // when
+            jsonLogManager.logMethodEntry("SeatService.hold",
+                    new String[]{"seatId", "request", "memo"},
+                    new Object[]{7L, Map.of("count", 2), "say \"hi\""},
+                    new LogPayloadSerializer());
+
+            // then
+            assertThat(appender.list.get(0).getFormattedMessage()).isEqualTo(
+                    "{\"event\":\"method_entry\",\"traceId\":\"test-request-id\",\"userId\":\"test-user-id\","
+                            + "\"method\":\"SeatService.hold\","
+                            + "\"params\":{\"seatId\":7,\"request\":{\"count\":2},\"memo\":\"say \\\"hi\\\"\"}}");
+        } finally {
+            detachAppender(appender);
+        }
+    }
+
+    @Test
+    @DisplayName("JSON 형식은 서블릿 요청/응답 인자를 직렬화하지 않고 toString() 결과를 기록한다")
+    void jsonFormat_doesNotSerializeServletArguments() throws Exception {
+        // given
+        LogManager jsonLogManager = new LogManager(LogManager.OutputFormat.JSON);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/tickets");
+        request.setContent("{\"seatId\":7}".getBytes());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        ListAppender<ILoggingEvent> appender = attachAppender();
+
+        try {
+            // when
+            jsonLogManager.logControllerEntry("POST", "/api/tickets", "TicketController.reserve",
+                    new String[]{"request", "response", "seatId"},
+                    new Object[]{request, response, 7L},
+                    new LogPayloadSerializer());
+
+            // then
+            assertThat(appender.list.get(0).getFormattedMessage()).endsWith(
+                    "\"params\":{\"request\":\"" + request + "\",\"response\":\"" + response + "\",\"seatId\":7}}");
+            assertThat(request.getSession(false)).isNull();
+            assertThat(request.getInputStream().readAllBytes()).hasSize(12);
+            assertThatCode(response::getOutputStream).doesNotThrowAnyException();
+        } finally {
+            detachAppender(appender);
+        }
+    }
+
+    @Test
+    @DisplayName("JSON 형식은 반환값을 중첩 JSON으로, 잘린 반환값은 문자열로 기록한다")
+    void jsonFormat_writesResultAsNestedJson() {
+        // given
+        LogManager jsonLogManager = new LogManager(LogManager.OutputFormat.JSON);
+        LogPayloadSerializer serializer = new LogPayloadSerializer();
+        ListAppender<ILoggingEvent> appender = attachAppender();
+
+        try {
+            // when
+            jsonLogManager.logControllerExit("GET", "/api/tickets/1", "TicketController.getTicket",
+                    Map.of("id", 1), -1, serializer);
+            jsonLogManager.logMethodExit("TicketService.find", List.of("a", "b"), 4, serializer);
+
+            // then
+            assertThat(appender.list.get(0).getFormattedMessage()).endsWith(",\"result\":{\"id\":1}}");
+            assertThat(appender.list.get(1).getFormattedMessage())
+                    .endsWith(",\"result\":\"[\\\"a\\\"" + LogPayloadSerializer.TRUNCATED_MARKER + "\"}");
+        } finally {
+            detachAppender(appender);
+        }
+    }
+
+    @Test
+    @DisplayName("KEY_VALUE 형식은 파라미터를 이름별 키로 전달한다")
+    void keyValueFormat_addsParamsByName() {
+        // given
+        LogManager kvLogManager = new LogManager(LogManager.OutputFormat.KEY_VALUE);
+        ListAppender<ILoggingEvent> appender = attachAppender();
+
+        try {
+            // when
+            kvLogManager.logMethodEntry("UserService.login",
+                    new String[]{"email", "password"}, new Object[]{"a@b.com", LogMasker.MASK},
+                    new LogPayloadSerializer());
+
+            // then
+            assertThat(appender.list.get(0).getKeyValuePairs())
+                    .extracting(pair -> pair.key + "=" + pair.value)
+                    .contains("params.email=\"a@b.com\"", "params.password=\"****\"");
+        } finally {
+            detachAppender(appender);
+        }
+    }
+
+    private ListAppender<ILoggingEvent> attachAppender() {
+        ListAppender<ILoggingEvent> appender = new ListAppender<>();
+        appender.start();
+        ((Logger) LoggerFactory.getLogger(LogManager.class)).addAppender(appender);
+        return appender;
+    }
+
+    private void detachAppender(ListAppender<ILoggingEvent> appender) {
+        ((Logger) LoggerFactory.getLogger(LogManager.class)).detachAppender(appender);
+    }
+}
@@ -0,0 +1,205 @@
+package io.github.tickatch.common.logging;
+
+import io.github.tickatch.common.util.JsonUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * LogMasker 단위 테스트.
+ */
+@DisplayName("LogMasker 테스트")
+class LogMaskerTest {
+
+    record PaymentRequest(Long reservationId, @Masked String cardNumber) {
+    }
+
+    record LoginRequest(String email, String password) {
+    }
+
+    record Order(Long id, PaymentRequest payment) {
+    }
+
+    record Cart(Long id, List<PaymentRequest> payments, Map<String, PaymentRequest[]> saved) {
+    }
+
+    record Page<T>(List<T> content) {
+    }
+
+    @Nested
+    @DisplayName("직렬화 마스킹 테스트")
+    class SerializationTest {
+
+        @Test
+        @DisplayName("@Masked 필드는 마스킹된다")
+        void serialize_maskedAnnotation() {
+            LogPayloadSerializer serializer = new LogPayloadSerializer(JsonUtils.getObjectMapper(), 0, new LogMasker());
+
+            String json = serializer.serialize(new PaymentRequest(1L, "1234-5678-9012-3456"));
+
+            assertThat(json).isEqualTo("{\"reservationId\":1,\"cardNumber\":\"****\"}");
+        }
+
+        @Test
+        @DisplayName("중첩 객체의 @Masked 필드도 마스킹된다")
+        void serialize_nestedMaskedField() {
+            LogPayloadSerializer serializer = new LogPayloadSerializer(JsonUtils.getObjectMapper(), 0, new LogMasker());
+
+            String json = serializer.serialize(new Order(7L, new PaymentRequest(1L, "1234")));
+
+            assertThat(json).contains("\"cardNumber\":\"****\"").doesNotContain("1234");
+        }
+
+        @Test
+        @DisplayName("설정된 필드 이름은 대소문자 무시하고 모든 타입에 적용된다")
+        void serialize_configuredName() {
+            LogPayloadSerializer serializer = new LogPayloadSerializer(
+                    JsonUtils.getObjectMapper(), 0, new LogMasker(List.of("PASSWORD")));
+
+            String json = serializer.serialize(new LoginRequest("a@b.com", "secret"));
+
+            assertThat(json).isEqualTo("{\"email\":\"a@b.com\",\"password\":\"****\"}");
+        }
+
+        @Test
+        @DisplayName("타입 경로는 해당 타입에만 적용된다")
+        void serialize_typedPath() {
+            LogPayloadSerializer serializer = new LogPayloadSerializer(
+                    JsonUtils.getObjectMapper(), 0, new LogMasker(List.of("LoginRequest.email")));
+
+            assertThat(serializer.serialize(new LoginRequest("a@b.com", "secret")))
+                    .isEqualTo("{\"email\":\"****\",\"password\":\"secret\"}");
+        }
+
+        @Test
+        @DisplayName("원본 ObjectMapper에는 마스킹이 적용되지 않는다")
+        void apply_doesNotModifyOriginalMapper() throws Exception {
+            new LogMasker().apply(JsonUtils.getObjectMapper());
+
+            assertThat(JsonUtils.getObjectMapper().writeValueAsString(new PaymentRequest(1L, "1234")))
+                    .contains("\"cardNumber\":\"1234\"");
+        }
+    }
+
+    @Nested
+    @DisplayName("파라미터 마스킹 테스트")
+    class ParameterTest {
+
+        @Test
+        @DisplayName("마스킹 대상 필드가 있는 타입만 마스킹 직렬화를 사용한다")
+        void toLogString_usesMaskedJsonOnlyWhenNeeded() {
+            LogPayloadSerializer serializer = new LogPayloadSerializer();
+
+            assertThat(serializer.toLogString(new PaymentRequest(1L, "1234")))
+                    .isEqualTo("{\"reservationId\":1,\"cardNumber\":\"****\"}");
+            assertThat(serializer.toLogString(new LoginRequest("a@b.com", "secret")))
+                    .isEqualTo("LoginRequest[email=a@b.com, password=secret]");
+            assertThat(serializer.toLogString(null)).isEqualTo("null");
+        }
+
+        @Test
+        @DisplayName("타입별 마스킹 대상 여부를 판단한다")
+        void hasMaskedProperties() {
+            LogMasker masker = new LogMasker(List.of("password"));
+
+            assertThat(masker.hasMaskedProperties(PaymentRequest.class)).isTrue();
+            assertThat(masker.hasMaskedProperties(LoginRequest.class)).isTrue();
+            assertThat(masker.hasMaskedProperties(Order.class)).isTrue();
+            assertThat(masker.hasMaskedProperties(Long.class)).isFalse();
+            assertThat(masker.hasMaskedProperties(String.class)).isFalse();
+        }
+
+        @Test
+        @DisplayName("List 인자의 요소에 마스킹 대상 필드가 있으면 마스킹 직렬화를 사용한다")
+        void toLogString_listArgument() {
+            LogPayloadSerializer serializer = new LogPayloadSerializer();
+
+            String logged = serializer.toLogString(List.of(new PaymentRequest(1L, "1234-5678")));
+
+            assertThat(logged).isEqualTo("[{\"reservationId\":1,\"cardNumber\":\"****\"}]");
+            assertThat(serializer.toLogString(List.of(1L, 2L))).isEqualTo("[1, 2]");
+        }
+
+        @Test
+        @DisplayName("Map 인자의 값에 마스킹 대상 필드가 있으면 마스킹 직렬화를 사용한다")
+        void toLogString_mapArgument() {
+            LogPayloadSerializer serializer = new LogPayloadSerializer();
+
+            String logged = serializer.toLogString(Map.of("main", new PaymentRequest(1L, "1234-5678")));
+
+            assertThat(logged).contains("\"cardNumber\":\"****\"").doesNotContain("1234-5678");
+        }
+
+        @Test
+        @DisplayName("배열 인자의 요소에 마스킹 대상 필드가 있으면 마스킹 직렬화를 사용한다")
+        void toLogString_arrayArgument() {
+            LogPayloadSerializer serializer = new LogPayloadSerializer();
+
+            String logged = serializer.toLogString(new PaymentRequest[] {new PaymentRequest(1L, "1234-5678")});
+
+            assertThat(logged).contains("\"cardNumber\":\"****\"").doesNotContain("1234-5678");
+        }
+
+        @Test
+        @DisplayName("같은 타입 요소 사이의 다른 타입 요소도 검사한다")
+        void requiresMasking_mixedElements() {
+            LogMasker masker = new LogMasker();
+            List<Object> values = new ArrayList<>(Collections.nCopies(100, 1L));
+            values.add(new PaymentRequest(1L, "1234-5678"));
+
+            assertThat(masker.requiresMasking(values)).isTrue();
+            assertThat(masker.requiresMasking(Collections.nCopies(100, 1L))).isFalse();
+        }
+
+        @Test
+        @DisplayName("검사 한도를 넘는 컨테이너는 남은 요소를 검사하지 않고 마스킹 직렬화 대상으로 본다")
+        void requiresMasking_beyondScanLimit() {
+            LogMasker masker = new LogMasker();
+
+            assertThat(masker.requiresMasking(Collections.nCopies(LogMasker.MAX_SCANNED_ELEMENTS, 1L))).isFalse();
+            assertThat(masker.requiresMasking(Collections.nCopies(LogMasker.MAX_SCANNED_ELEMENTS + 1, 1L))).isTrue();
+        }
+
+        @Test
+        @DisplayName("컬렉션 필드의 요소 타입까지 검사하여 마스킹한다")
+        void toLogString_nestedCollectionField() {
+            LogPayloadSerializer serializer = new LogPayloadSerializer();
+            Cart cart = new Cart(3L,
+                    List.of(new PaymentRequest(1L, "1111-2222")),
+                    Map.of("saved", new PaymentRequest[] {new PaymentRequest(2L, "3333-4444")}));
+
+            String logged = serializer.toLogString(cart);
+
+            assertThat(new LogMasker().hasMaskedProperties(Cart.class)).isTrue();
+            assertThat(logged).doesNotContain("1111-2222").doesNotContain("3333-4444");
+        }
+
+        @Test
+        @DisplayName("타입 변수로 선언된 필드는 런타임 값에 마스킹 대상이 있을 수 있으므로 마스킹 직렬화를 사용한다")
+        void toLogString_typeVariableField() {
+            LogPayloadSerializer serializer = new LogPayloadSerializer();
+
+            String logged = serializer.toLogString(new Page<>(List.of(new PaymentRequest(1L, "1234-5678"))));
+
+            assertThat(new LogMasker().hasMaskedProperties(Page.class)).isTrue();
+            assertThat(logged).contains("\"cardNumber\":\"****\"").doesNotContain("1234-5678");
+        }
+
+        @Test
+        @DisplayName("설정된 이름의 파라미터를 판단한다")
+        void isMaskedName() {
+            LogMasker masker = new LogMasker(List.of("password", "PaymentRequest.cardNumber"));
+
+            assertThat(masker.isMaskedName("Password")).isTrue();
+            assertThat(masker.isMaskedName("cardNumber")).isFalse();
+            assertThat(masker.isMaskedName(null)).isFalse();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package io.github.tickatch.common.logging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * LogPayloadSerializer 단위 테스트.
+ */
+@DisplayName("LogPayloadSerializer 테스트")
+class LogPayloadSerializerTest {
+
+    @Nested
+    @DisplayName("기본 직렬화 테스트")
+    class SerializeTest {
+
+        @Test
+        @DisplayName("제한 길이 이내의 객체는 전체 JSON으로 직렬화한다")
+        void serialize_withinLimit_returnsFullJson() {
+            LogPayloadSerializer serializer = new LogPayloadSerializer(100);
+
+            String json = serializer.serialize(Map.of("id", 1));
+
+            assertThat(json).isEqualTo("{\"id\":1}");
+        }
+
+        @Test
+        @DisplayName("null은 \"null\" 문자열로 변환한다")
+        void serialize_null_returnsNullString() {
+            assertThat(new LogPayloadSerializer().serialize(null)).isEqualTo("null");
+        }
+
+        @Test
+        @DisplayName("연속 호출 시 이전 결과가 섞이지 않는다")
+        void serialize_reusesBufferWithoutLeaking() {
+            LogPayloadSerializer serializer = new LogPayloadSerializer(100);
+
+            serializer.serialize(Map.of("first", "value"));
+            String second = serializer.serialize(Map.of("b", 2));
+
+            assertThat(second).isEqualTo("{\"b\":2}");
+        }
+    }
+
+    @Nested
+    @DisplayName("길이 제한 테스트")
+    class TruncationTest {
+
+        private final List<Integer> largeList = IntStream.range(0, 10_000).boxed().toList();
+
+        @Test
+        @DisplayName("제한 길이를 넘으면 잘라내고 잘림 표시를 붙인다")
+        void serialize_exceedsLimit_truncates() {
+            LogPayloadSerializer serializer = new LogPayloadSerializer(50);
+
+            String json = serializer.serialize(largeList);
+
+            assertThat(json).hasSize(50 + LogPayloadSerializer.TRUNCATED_MARKER.length());
+            assertThat(json).startsWith("[0,1,2,3");
+            assertThat(json).endsWith(LogPayloadSerializer.TRUNCATED_MARKER);
+        }
+
+        @Test
+        @DisplayName("maxLength를 지정하면 기본 제한 대신 사용한다")
+        void serialize_overrideLimit() {
+            LogPayloadSerializer serializer = new LogPayloadSerializer(50);
+
+            String json = serializer.serialize(largeList, 10);
+
+            assertThat(json).isEqualTo("[0,1,2,3,4" + LogPayloadSerializer.TRUNCATED_MARKER);
+        }
+
+        @Test
+        @DisplayName("maxLength가 0이면 제한 없이 전체를 직렬화한다")
+        void serialize_zeroLimit_unlimited() {
+            LogPayloadSerializer serializer = new LogPayloadSerializer(50);
+
+            String json = serializer.serialize(largeList, 0);
+
+            assertThat(json).doesNotContain(LogPayloadSerializer.TRUNCATED_MARKER);
+            assertThat(json).endsWith("9999]");
+        }
+
+        @Test
+        @DisplayName("잘린 이후에도 다음 직렬화는 정상 동작한다")
+        void serialize_afterTruncation_resets() {
+            LogPayloadSerializer serializer = new LogPayloadSerializer(20);
+
+            serializer.serialize(largeList);
+            String json = serializer.serialize(Map.of("ok", true));
+
+            assertThat(json).isEqualTo("{\"ok\":true}");
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package io.github.tickatch.common.logging;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * LogSampler 단위 테스트.
+ */
+@DisplayName("LogSampler 테스트")
+class LogSamplerTest {
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+    }
+
+    @Nested
+    @DisplayName("traceId 기반 샘플링 테스트")
+    class TraceSamplingTest {
+
+        @Test
+        @DisplayName("같은 traceId는 항상 같은 결과를 반환한다")
+        void isSampledByTrace_isDeterministic() {
+            String traceId = UUID.randomUUID().toString();
+
+            boolean first = LogSampler.isSampledByTrace(traceId, 0.5);
+
+            IntStream.range(0, 100).forEach(i ->
+                    assertThat(LogSampler.isSampledByTrace(traceId, 0.5)).isEqualTo(first));
+        }
+
+        @Test
+        @DisplayName("비율 1.0은 항상, 0.0은 절대 샘플링하지 않는다")
+        void isSampledByTrace_boundaryRates() {
+            assertThat(LogSampler.isSampledByTrace("trace", 1.0)).isTrue();
+            assertThat(LogSampler.isSampledByTrace("trace", 0.0)).isFalse();
+        }
+
+        @Test
+        @DisplayName("샘플링 비율이 대략적으로 지켜진다")
+        void isSampledByTrace_respectsRate() {
+            long sampled = IntStream.range(0, 10_000)
+                    .filter(i -> LogSampler.isSampledByTrace(UUID.randomUUID().toString(), 0.1))
+                    .count();
+
+            assertThat(sampled).isBetween(700L, 1300L);
+        }
+    }
+
+    @Nested
+    @DisplayName("URI 패턴 테스트")
+    class PatternTest {
+
+        @Test
+        @DisplayName("매칭되는 패턴의 비율을 적용한다")
+        void isSampled_appliesMatchingRate() {
+            LogSampler sampler = new LogSampler(1.0, Map.of("/api/seats/**", 0.0), null, true, null);
+            MdcUtils.setRequestId("trace-1");
+
+            assertThat(sampler.isSampled("/api/seats/10")).isFalse();
+            assertThat(sampler.isSampled("/api/tickets/10")).isTrue();
+        }
+
+        @Test
+        @DisplayName("속도 제한을 넘으면 샘플링하지 않는다")
+        void isSampled_rateLimited() {
+            Map<String, Integer> rateLimits = new LinkedHashMap<>();
+            rateLimits.put("/api/**", 5);
+            LogSampler sampler = new LogSampler(1.0, null, rateLimits, true, null);
+
+            long sampled = IntStream.range(0, 50)
+                    .filter(i -> sampler.isSampled("/api/tickets"))
+                    .count();
+
+            assertThat(sampled).isEqualTo(5);
+            assertThat(sampler.isSampled("/health")).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("지연 임계값 테스트")
+    class SlowThresholdTest {
+
+        @Test
+        @DisplayName("임계값 이상이면 지연 호출로 판단한다")
+        void isSlow_overThreshold() {
+            LogSampler sampler = new LogSampler(1.0, null, null, true, Duration.ofMillis(100));
+
+            assertThat(sampler.isSlow(Duration.ofMillis(150).toNanos())).isTrue();
+            assertThat(sampler.isSlow(Duration.ofMillis(50).toNanos())).isFalse();
+        }
+
+        @Test
+        @DisplayName("임계값이 없으면 지연 호출로 판단하지 않는다")
+        void isSlow_noThreshold() {
+            LogSampler sampler = new LogSampler(1.0, null, null, true, null);
+
+            assertThat(sampler.isSlow(Long.MAX_VALUE - 1)).isFalse();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package io.github.tickatch.common.logging;
 
+import io.github.tickatch.common.util.JsonUtils;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.junit.jupiter.api.BeforeEach;
@@ -8,6 +9,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -46,6 +53,7 @@ class LoggingAspectTest {
     void logExecution_proceedsAndReturnsResult() throws Throwable {
         // given
         String expectedResult = "result";
+        when(logManager.isEnabled()).thenReturn(true);
         when(joinPoint.proceed()).thenReturn(expectedResult);
         when(joinPoint.getSignature()).thenReturn(methodSignature);
         when(methodSignature.getDeclaringTypeName()).thenReturn("com.example.TestService");
@@ -64,6 +72,7 @@ class LoggingAspectTest {
     @DisplayName("logExecution이 LogManager를 호출한다")
     void logExecution_callsLogManager() throws Throwable {
         // given
+        when(logManager.isEnabled()).thenReturn(true);
         when(joinPoint.proceed()).thenReturn("result");
         when(joinPoint.getSignature()).thenReturn(methodSignature);
         when(methodSignature.getDeclaringTypeName()).thenReturn("TestService");
@@ -82,6 +91,7 @@ class LoggingAspectTest {
     @DisplayName("logExecution이 파라미터 정보를 포함한다")
     void logExecution_includesParameters() throws Throwable {
         // given
+        when(logManager.isEnabled()).thenReturn(true);
         when(joinPoint.proceed()).thenReturn(null);
         when(joinPoint.getSignature()).thenReturn(methodSignature);
         when(joinPoint.getArgs()).thenReturn(new Object[]{"value1", 123});
@@ -95,4 +105,325 @@ class LoggingAspectTest {
         // then
         verify(logManager).logMethodEntry(eq("TestService.method"), contains("param1"));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("비동기 모드에서는 LogManager를 직접 호출하지 않고 디스패처에 이벤트를 적재한다")
+    void logExecution_asyncMode_dispatchesEvents() throws Throwable {
+        // given
+        AsyncLogDispatcher dispatcher = mock(AsyncLogDispatcher.class);
+        LoggingAspect asyncAspect = new LoggingAspect(logManager, dispatcher);
+        when(logManager.isEnabled()).thenReturn(true);
+        when(joinPoint.proceed()).thenReturn("result");
+        when(joinPoint.getSignature()).thenReturn(methodSignature);
+        when(joinPoint.getArgs()).thenReturn(new Object[]{"value1"});
+        when(methodSignature.getDeclaringTypeName()).thenReturn("TestService");
+        when(methodSignature.getName()).thenReturn("method");
+        when(methodSignature.getParameterNames()).thenReturn(new String[]{"param1"});
+
+        // when
+        Object result = asyncAspect.logExecution(joinPoint);
+
+        // then
+        assertThat(result).isEqualTo("result");
+        verify(dispatcher, times(2)).dispatch(any(LogEvent.class));
+        verify(logManager, never()).logMethodEntry(anyString(), anyString());
+        verify(logManager, never()).logMethodExit(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("로그 레벨이 비활성화되어 있으면 메시지를 생성하지 않고 메서드만 실행한다")
+    void logExecution_disabled_skipsMessageBuilding() throws Throwable {
+        // given
+        when(logManager.isEnabled()).thenReturn(false);
+        when(joinPoint.proceed()).thenReturn("result");
+
+        // when
+        Object result = loggingAspect.logExecution(joinPoint);
+
+        // then
+        assertThat(result).isEqualTo("result");
+        verify(logManager, never()).logMethodEntry(anyString(), anyString());
+        verify(logManager, never()).logMethodExit(anyString(), anyString());
+        verifyNoInteractions(methodSignature);
+    }
+
+    @Test
+    @DisplayName("로그 레벨이 비활성화되어 있으면 컨트롤러 로깅도 생략한다")
+    void logController_disabled_skipsMessageBuilding() throws Throwable {
+        // given
+        when(logManager.isEnabled()).thenReturn(false);
+        when(joinPoint.proceed()).thenReturn("result");
+
+        // when
+        Object result = loggingAspect.logController(joinPoint);
+
+        // then
+        assertThat(result).isEqualTo("result");
+        verify(joinPoint, never()).getArgs();
+        verify(logManager, never()).logControllerEntry(anyString(), anyString(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("메서드 메타데이터는 최초 호출 시 한 번만 계산되어 캐싱된다")
+    void logExecution_cachesMethodMetadata() throws Throwable {
+        // given
+        when(logManager.isEnabled()).thenReturn(true);
+        when(joinPoint.proceed()).thenReturn("result");
+        when(joinPoint.getSignature()).thenReturn(methodSignature);
+        when(methodSignature.getMethod()).thenReturn(String.class.getMethod("length"));
+        when(methodSignature.getDeclaringTypeName()).thenReturn("java.lang.String");
+        when(methodSignature.getName()).thenReturn("length");
+        when(methodSignature.getParameterNames()).thenReturn(new String[]{});
+
+        // when
+        loggingAspect.logExecution(joinPoint);
+        loggingAspect.logExecution(joinPoint);
+        loggingAspect.logExecution(joinPoint);
+
+        // then
+        verify(methodSignature, times(1)).getDeclaringTypeName();
+        verify(methodSignature, times(1)).getParameterNames();
+        verify(logManager, times(3)).logMethodEntry(eq("String.length"), anyString());
+    }
+
+    @Test
+    @DisplayName("지연 임계값을 넘은 호출은 실행 시간과 함께 WARN 종료 로그를 기록한다")
+    void logExecution_slowCall_logsSlowExit() throws Throwable {
+        // given
+        LatencyRegistry latencyRegistry = new LatencyRegistry(Duration.ofNanos(1));
+        LoggingAspect aspect = new LoggingAspect(logManager, null, new LogPayloadSerializer(), null, latencyRegistry);
+        when(logManager.isEnabled()).thenReturn(true);
+        when(joinPoint.proceed()).thenAnswer(invocation -> {
+            Thread.sleep(2);
+            return "result";
+        });
+        when(joinPoint.getSignature()).thenReturn(methodSignature);
+        when(methodSignature.getDeclaringTypeName()).thenReturn("TestService");
+        when(methodSignature.getName()).thenReturn("method");
+        when(methodSignature.getParameterNames()).thenReturn(new String[]{});
+
+        // when
+        aspect.logExecution(joinPoint);
+
+        // then
+        verify(logManager).logMethodSlowExit(eq("TestService.method"), anyString(), longThat(ms -> ms >= 2));
+        verify(logManager, never()).logMethodExit(anyString(), anyString());
+        assertThat(latencyRegistry.get("TestService.method").getCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("로그 레벨이 비활성화되어 있어도 실행 시간은 기록한다")
+    void logExecution_disabled_stillRecordsLatency() throws Throwable {
+        // given
+        LatencyRegistry latencyRegistry = new LatencyRegistry(Duration.ofSeconds(1));
+        LoggingAspect aspect = new LoggingAspect(logManager, null, new LogPayloadSerializer(), null, latencyRegistry);
+        when(logManager.isEnabled()).thenReturn(false);
+        when(joinPoint.proceed()).thenReturn("result");
+        when(joinPoint.getSignature()).thenReturn(methodSignature);
+        when(methodSignature.getDeclaringTypeName()).thenReturn("TestService");
+        when(methodSignature.getName()).thenReturn("method");
+        when(methodSignature.getParameterNames()).thenReturn(new String[]{});
+
+        // when
+        aspect.logExecution(joinPoint);
+        aspect.logExecution(joinPoint);
+
+        // then
+        assertThat(latencyRegistry.snapshot()).containsKey("TestService.method");
+        assertThat(latencyRegistry.snapshot().get("TestService.method").count()).isEqualTo(2);
+        verify(logManager, never()).logMethodEntry(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("INFO가 비활성화되고 WARN이 활성화되어 있으면 지연 호출의 WARN 종료 로그만 기록한다")
+    void logExecution_infoDisabled_stillLogsSlowExit() throws Throwable {
+        // given
+        LatencyRegistry latencyRegistry = new LatencyRegistry(Duration.ofNanos(1));
+        LoggingAspect aspect = new LoggingAspect(logManager, null, new LogPayloadSerializer(), null, latencyRegistry);
+        when(logManager.isEnabled()).thenReturn(false);
+        when(logManager.isWarnEnabled()).thenReturn(true);
+        when(joinPoint.proceed()).thenAnswer(invocation -> {
+            Thread.sleep(2);
+            return "result";
+        });
+        when(joinPoint.getSignature()).thenReturn(methodSignature);
+        when(methodSignature.getDeclaringTypeName()).thenReturn("TestService");
+        when(methodSignature.getName()).thenReturn("method");
+        when(methodSignature.getParameterNames()).thenReturn(new String[]{});
+
+        // when
+        aspect.logExecution(joinPoint);
+
+        // then
+        verify(logManager).logMethodSlowExit(eq("TestService.method"), anyString(), longThat(ms -> ms >= 2));
+        verify(logManager, never()).logMethodEntry(anyString(), anyString());
+        verify(logManager, never()).logMethodExit(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("INFO가 비활성화되고 WARN이 활성화되어 있으면 컨트롤러 실패 로그를 기록한다")
+    void logController_infoDisabled_stillLogsFailure() throws Throwable {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/tickets");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        IllegalStateException failure = new IllegalStateException("sold out");
+        when(logManager.isEnabled()).thenReturn(false);
+        when(logManager.isWarnEnabled()).thenReturn(true);
+        when(joinPoint.proceed()).thenThrow(failure);
+        when(joinPoint.getSignature()).thenReturn(methodSignature);
+        when(methodSignature.getDeclaringTypeName()).thenReturn("TicketController");
+        when(methodSignature.getName()).thenReturn("reserve");
+        when(methodSignature.getParameterNames()).thenReturn(new String[]{});
+
+        try {
+            // when & then
+            assertThatThrownBy(() -> loggingAspect.logController(joinPoint)).isSameAs(failure);
+            verify(logManager).logControllerFailure(
+                    eq("POST"), eq("/api/tickets"), eq("TicketController.reserve"), same(failure), anyLong());
+            verify(logManager, never()).logControllerEntry(anyString(), anyString(), anyString(), anyString());
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    @Test
+    @DisplayName("예외가 발생해도 실행 시간은 기록한다")
+    void logExecution_exception_recordsLatency() throws Throwable {
+        // given
+        LatencyRegistry latencyRegistry = new LatencyRegistry(Duration.ofSeconds(1));
+        LoggingAspect aspect = new LoggingAspect(logManager, null, new LogPayloadSerializer(), null, latencyRegistry);
+        when(logManager.isEnabled()).thenReturn(true);
+        when(joinPoint.proceed()).thenThrow(new IllegalStateException("boom"));
+        when(joinPoint.getSignature()).thenReturn(methodSignature);
+        when(methodSignature.getDeclaringTypeName()).thenReturn("TestService");
+        when(methodSignature.getName()).thenReturn("method");
+        when(methodSignature.getParameterNames()).thenReturn(new String[]{});
+
+        // when & then
+        assertThatThrownBy(() -> aspect.logExecution(joinPoint))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(latencyRegistry.get("TestService.method").getCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("예외로 종료된 메서드는 예외 유형과 실행 시간을 담은 실패 로그를 기록한다")
+    void logExecution_exception_logsFailure() throws Throwable {
+        // given
+        IllegalStateException failure = new IllegalStateException("boom");
+        when(logManager.isEnabled()).thenReturn(true);
+        when(joinPoint.proceed()).thenThrow(failure);
+        when(joinPoint.getSignature()).thenReturn(methodSignature);
+        when(methodSignature.getDeclaringTypeName()).thenReturn("TestService");
+        when(methodSignature.getName()).thenReturn("method");
+        when(methodSignature.getParameterNames()).thenReturn(new String[]{});
+
+        // when & then
+        assertThatThrownBy(() -> loggingAspect.logExecution(joinPoint)).isSameAs(failure);
+        verify(logManager).logMethodFailure(eq("TestService.method"), same(failure), anyLong());
+        verify(logManager, never()).logMethodExit(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("컨트롤러 실패 이벤트를 요청 속성에 저장하여 예외 핸들러와 공유한다")
+    void logController_exception_sharesFailureEvent() throws Throwable {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/tickets");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        IllegalStateException failure = new IllegalStateException("sold out");
+        when(logManager.isEnabled()).thenReturn(true);
+        when(logManager.isWarnEnabled()).thenReturn(true);
+        when(joinPoint.proceed()).thenThrow(failure);
+        when(joinPoint.getSignature()).thenReturn(methodSignature);
+        when(joinPoint.getArgs()).thenReturn(new Object[]{});
+        when(methodSignature.getDeclaringTypeName()).thenReturn("TicketController");
+        when(methodSignature.getName()).thenReturn("reserve");
+        when(methodSignature.getParameterNames()).thenReturn(new String[]{});
+
+        try {
+            // when & then
+            assertThatThrownBy(() -> loggingAspect.logController(joinPoint)).isSameAs(failure);
+            verify(logManager).logControllerFailure(
+                    eq("POST"), eq("/api/tickets"), eq("TicketController.reserve"), same(failure), anyLong());
+            assertThat(LogEvent.isFailureLogged(request, failure)).isTrue();
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    @Test
+    @DisplayName("비동기 모드에서 실패 이벤트가 버려지면 예외 핸들러가 기록하도록 요청 속성에 저장하지 않는다")
+    void logController_droppedFailureEvent_isNotShared() throws Throwable {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/tickets");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        AsyncLogDispatcher dispatcher = mock(AsyncLogDispatcher.class);
+        LoggingAspect asyncAspect = new LoggingAspect(logManager, dispatcher);
+        IllegalStateException failure = new IllegalStateException("sold out");
+        when(logManager.isEnabled()).thenReturn(true);
+        when(dispatcher.dispatch(any(LogEvent.class))).thenReturn(true, false);
+        when(joinPoint.proceed()).thenThrow(failure);
+        when(joinPoint.getSignature()).thenReturn(methodSignature);
+        when(joinPoint.getArgs()).thenReturn(new Object[]{});
+        when(methodSignature.getDeclaringTypeName()).thenReturn("TicketController");
+        when(methodSignature.getName()).thenReturn("reserve");
+        when(methodSignature.getParameterNames()).thenReturn(new String[]{});
+
+        try {
+            // when & then
+            assertThatThrownBy(() -> asyncAspect.logController(joinPoint)).isSameAs(failure);
+            verify(dispatcher, times(2)).dispatch(any(LogEvent.class));
+            assertThat(LogEvent.isFailureLogged(request, failure)).isFalse();
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    @Test
+    @DisplayName("설정된 이름의 파라미터는 마스킹하여 기록한다")
+    void logExecution_masksConfiguredParameter() throws Throwable {
+        // given
+        LogPayloadSerializer serializer = new LogPayloadSerializer(
+                JsonUtils.getObjectMapper(), 0, new LogMasker(List.of("password")));
+        LoggingAspect aspect = new LoggingAspect(logManager, null, serializer);
+        when(logManager.isEnabled()).thenReturn(true);
+        when(joinPoint.proceed()).thenReturn(null);
+        when(joinPoint.getArgs()).thenReturn(new Object[]{"user@tickatch.io", "secret"});
+        when(joinPoint.getSignature()).thenReturn(methodSignature);
+        when(methodSignature.getDeclaringTypeName()).thenReturn("UserService");
+        when(methodSignature.getName()).thenReturn("login");
+        when(methodSignature.getParameterNames()).thenReturn(new String[]{"email", "password"});
+
+        // when
+        aspect.logExecution(joinPoint);
+
+        // then
+        verify(logManager).logMethodEntry("UserService.login", ", Params: {email: user@tickatch.io, password: ****}");
+    }
+
+    @Test
+    @DisplayName("구조화 형식에서는 파라미터 문자열 대신 원본 인자와 반환값을 전달한다")
+    void logExecution_structured_passesRawValues() throws Throwable {
+        // given
+        LogPayloadSerializer serializer = new LogPayloadSerializer();
+        LoggingAspect aspect = new LoggingAspect(logManager, null, serializer);
+        Object result = List.of(1, 2);
+        when(logManager.isEnabled()).thenReturn(true);
+        when(logManager.isStructured()).thenReturn(true);
+        when(joinPoint.proceed()).thenReturn(result);
+        when(joinPoint.getArgs()).thenReturn(new Object[]{42L});
+        when(joinPoint.getSignature()).thenReturn(methodSignature);
+        when(methodSignature.getDeclaringTypeName()).thenReturn("SeatService");
+        when(methodSignature.getName()).thenReturn("hold");
+        when(methodSignature.getParameterNames()).thenReturn(new String[]{"seatId"});
+
+        // when
+        aspect.logExecution(joinPoint);
+
+        // then
+        verify(logManager).logMethodEntry(
+                eq("SeatService.hold"), aryEq(new String[]{"seatId"}), aryEq(new Object[]{42L}), same(serializer));
+        verify(logManager).logMethodExit(eq("SeatService.hold"), same(result), eq(-1), same(serializer));
+        verify(logManager, never()).logMethodEntry(anyString(), anyString());
+        verify(logManager, never()).logMethodExit(anyString(), anyString());
+    }
+}
@@ -1,5 +1,6 @@
 package io.github.tickatch.common.logging;
 
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import org.junit.jupiter.api.AfterEach;
@@ -116,6 +117,26 @@ class MdcFilterTest {
       assertThatCode(() -> UUID.fromString(capturedTraceId.get())).doesNotThrowAnyException();
     }
 
+    @Test
+    @DisplayName("X-Trace-Id 헤더가 없으면 지정한 생성기로 traceId를 생성한다")
+    void doFilterInternal_withoutTraceIdHeader_usesTraceIdGenerator() throws ServletException, IOException {
+      // given
+      MdcFilter filter = new MdcFilter(() -> "0af7651916cd43dd8448eb211c80319c");
+      AtomicReference<String> capturedTraceId = new AtomicReference<>();
+
+      doAnswer(invocation -> {
+        capturedTraceId.set(MdcUtils.getRequestId());
+        return null;
+      }).when(filterChain).doFilter(request, response);
+
+      // when
+      filter.doFilterInternal(request, response, filterChain);
+
+      // then
+      assertThat(capturedTraceId.get()).isEqualTo("0af7651916cd43dd8448eb211c80319c");
+      assertThat(response.getHeader("X-Trace-Id")).isEqualTo("0af7651916cd43dd8448eb211c80319c");
+    }
+
     @Test
     @DisplayName("빈 X-Trace-Id 헤더는 새 UUID를 생성한다")
     void doFilterInternal_withEmptyTraceIdHeader_generatesNewUuid() throws ServletException, IOException {
@@ -269,6 +290,142 @@ class MdcFilterTest {
     }
   }
 
+  // ========================================
+  // W3C Trace Context 테스트
+  // ========================================
+
+  @Nested
+  @DisplayName("W3C Trace Context 테스트")
+  class TraceparentTest {
+
+    private static final String TRACEPARENT = "00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-00";
+
+    @Test
+    @DisplayName("X-Trace-Id가 없으면 traceparent의 trace-id를 사용한다")
+    void doFilterInternal_withTraceparent_usesTraceparentTraceId() throws ServletException, IOException {
+      // given
+      request.addHeader(TraceContext.HEADER_TRACEPARENT, TRACEPARENT);
+      AtomicReference<String> capturedTraceId = new AtomicReference<>();
+
+      doAnswer(invocation -> {
+        capturedTraceId.set(MdcUtils.getRequestId());
+        return null;
+      }).when(filterChain).doFilter(request, response);
+
+      // when
+      mdcFilter.doFilterInternal(request, response, filterChain);
+
+      // then
+      assertThat(capturedTraceId.get()).isEqualTo("0af7651916cd43dd8448eb211c80319c");
+    }
+
+    @Test
+    @DisplayName("새 span을 시작하고 수신한 span과 샘플링 플래그를 MDC에 저장한다")
+    void doFilterInternal_withTraceparent_startsChildSpan() throws ServletException, IOException {
+      // given
+      request.addHeader(TraceContext.HEADER_TRACEPARENT, TRACEPARENT);
+      AtomicReference<String> capturedSpanId = new AtomicReference<>();
+      AtomicReference<String> capturedParentSpanId = new AtomicReference<>();
+      AtomicReference<String> capturedFlags = new AtomicReference<>();
+
+      doAnswer(invocation -> {
+        capturedSpanId.set(MDC.get(TraceContext.SPAN_ID));
+        capturedParentSpanId.set(MDC.get(TraceContext.PARENT_SPAN_ID));
+        capturedFlags.set(MDC.get(TraceContext.TRACE_FLAGS));
+        return null;
+      }).when(filterChain).doFilter(request, response);
+
+      // when
+      mdcFilter.doFilterInternal(request, response, filterChain);
+
+      // then
+      assertThat(capturedSpanId.get()).matches("[0-9a-f]{16}").isNotEqualTo("b7ad6b7169203331");
+      assertThat(capturedParentSpanId.get()).isEqualTo("b7ad6b7169203331");
+      assertThat(capturedFlags.get()).isEqualTo("00");
+    }
+
+    @Test
+    @DisplayName("UUID 형식 X-Trace-Id가 traceparent와 같은 trace이면 수신한 span을 상위 span으로 저장한다")
+    void doFilterInternal_withMatchingTraceIdHeader_keepsParentSpan() throws ServletException, IOException {
+      // given
+      request.addHeader(MdcFilter.HEADER_TRACE_ID, "0af76519-16cd-43dd-8448-eb211c80319c");
+      request.addHeader(TraceContext.HEADER_TRACEPARENT, TRACEPARENT);
+      AtomicReference<String> capturedParentSpanId = new AtomicReference<>();
+
+      doAnswer(invocation -> {
+        capturedParentSpanId.set(MDC.get(TraceContext.PARENT_SPAN_ID));
+        return null;
+      }).when(filterChain).doFilter(request, response);
+
+      // when
+      mdcFilter.doFilterInternal(request, response, filterChain);
+
+      // then
+      assertThat(capturedParentSpanId.get()).isEqualTo("b7ad6b7169203331");
+    }
+
+    @Test
+    @DisplayName("X-Trace-Id와 traceparent의 trace-id가 다르면 traceparent의 상위 span과 플래그를 사용하지 않는다")
+    void doFilterInternal_withMismatchedTraceparent_ignoresParentSpan() throws ServletException, IOException {
+      // given
+      request.addHeader(MdcFilter.HEADER_TRACE_ID, "trace-from-header");
+      request.addHeader(TraceContext.HEADER_TRACEPARENT, TRACEPARENT);
+      AtomicReference<String> capturedParentSpanId = new AtomicReference<>();
+      AtomicReference<String> capturedFlags = new AtomicReference<>();
+
+      doAnswer(invocation -> {
+        capturedParentSpanId.set(MDC.get(TraceContext.PARENT_SPAN_ID));
+        capturedFlags.set(MDC.get(TraceContext.TRACE_FLAGS));
+        return null;
+      }).when(filterChain).doFilter(request, response);
+
+      // when
+      mdcFilter.doFilterInternal(request, response, filterChain);
+
+      // then
+      assertThat(capturedParentSpanId.get()).isNull();
+      assertThat(capturedFlags.get()).isEqualTo("01");
+    }
+
+    @Test
+    @DisplayName("유효하지 않은 traceparent는 무시한다")
+    void doFilterInternal_withInvalidTraceparent_ignoresHeader() throws ServletException, IOException {
+      // given
+      request.addHeader(TraceContext.HEADER_TRACEPARENT, "00-invalid-b7ad6b7169203331-01");
+      AtomicReference<String> capturedParentSpanId = new AtomicReference<>();
+
+      doAnswer(invocation -> {
+        capturedParentSpanId.set(MDC.get(TraceContext.PARENT_SPAN_ID));
+        return null;
+      }).when(filterChain).doFilter(request, response);
+
+      // when
+      mdcFilter.doFilterInternal(request, response, filterChain);
+
+      // then
+      assertThat(capturedParentSpanId.get()).isNull();
+    }
+
+    @Test
+    @DisplayName("baggage 헤더를 MDC에 저장한다")
+    void doFilterInternal_withBaggage_storesInMdc() throws ServletException, IOException {
+      // given
+      request.addHeader(TraceContext.HEADER_BAGGAGE, "tenant=tickatch,region=kr");
+      AtomicReference<String> capturedBaggage = new AtomicReference<>();
+
+      doAnswer(invocation -> {
+        capturedBaggage.set(MDC.get(TraceContext.BAGGAGE));
+        return null;
+      }).when(filterChain).doFilter(request, response);
+
+      // when
+      mdcFilter.doFilterInternal(request, response, filterChain);
+
+      // then
+      assertThat(capturedBaggage.get()).isEqualTo("tenant=tickatch,region=kr");
+    }
+  }
+
   // ========================================
   // MDC 클리어 테스트
   // ========================================
@@ -319,6 +476,154 @@ class MdcFilterTest {
 
       assertThat(MdcUtils.getRequestId()).isNull();
     }
+
+    @Test
+    @DisplayName("필터 진입 전 MDC가 있으면 클리어하지 않고 이전 값으로 복원한다")
+    void doFilterInternal_restoresOuterMdc() throws ServletException, IOException {
+      // given
+      MdcUtils.setRequestId("outer-trace");
+      MDC.put("custom", "value");
+      request.addHeader("X-Trace-Id", "trace-123");
+      AtomicReference<String> innerTraceId = new AtomicReference<>();
+      AtomicReference<String> innerCustom = new AtomicReference<>();
+      doAnswer(invocation -> {
+        innerTraceId.set(MdcUtils.getRequestId());
+        innerCustom.set(MDC.get("custom"));
+        return null;
+      }).when(filterChain).doFilter(request, response);
+
+      // when
+      mdcFilter.doFilterInternal(request, response, filterChain);
+
+      // then
+      assertThat(innerTraceId.get()).isEqualTo("trace-123");
+      assertThat(innerCustom.get()).isEqualTo("value");
+      assertThat(MdcUtils.getRequestId()).isEqualTo("outer-trace");
+      assertThat(MDC.get("custom")).isEqualTo("value");
+      assertThat(MDC.get(TraceContext.SPAN_ID)).isNull();
+    }
+
+    @Test
+    @DisplayName("요청 처리 중 추가된 MDC 값도 클리어된다")
+    void doFilterInternal_clearsValuesAddedDuringRequest() throws ServletException, IOException {
+      // given
+      doAnswer(invocation -> {
+        MDC.put("orderId", "order-1");
+        return null;
+      }).when(filterChain).doFilter(request, response);
+
+      // when
+      mdcFilter.doFilterInternal(request, response, filterChain);
+
+      // then
+      assertThat(MDC.get("orderId")).isNull();
+    }
+  }
+
+  // ========================================
+  // 비동기/에러 디스패치 테스트
+  // ========================================
+
+  @Nested
+  @DisplayName("비동기/에러 디스패치 테스트")
+  class DispatchTest {
+
+    @Test
+    @DisplayName("비동기 디스패치와 에러 디스패치에서도 필터를 실행한다")
+    void shouldNotFilter_asyncAndErrorDispatch() {
+      assertThat(mdcFilter.shouldNotFilterAsyncDispatch()).isFalse();
+      assertThat(mdcFilter.shouldNotFilterErrorDispatch()).isFalse();
+    }
+
+    @Test
+    @DisplayName("최초 요청의 추적 컨텍스트를 요청 속성에 저장한다")
+    void doFilterInternal_storesTraceContextAttribute() throws ServletException, IOException {
+      // given
+      request.addHeader("X-Trace-Id", "trace-123");
+      request.addHeader("X-User-Id", "user-456");
+
+      // when
+      mdcFilter.doFilterInternal(request, response, filterChain);
+
+      // then
+      assertThat(request.getAttribute(MdcFilter.TRACE_CONTEXT_ATTRIBUTE))
+          .isInstanceOfSatisfying(TraceSnapshot.class, snapshot -> {
+            assertThat(snapshot.getRequestId()).isEqualTo("trace-123");
+            assertThat(snapshot.getUserId()).isEqualTo("user-456");
+          });
+    }
+
+    @Test
+    @DisplayName("비동기 디스패치에서 최초 요청의 traceId와 span을 복원하고, 처리 후 MDC를 클리어한다")
+    void asyncDispatch_restoresTraceContext() throws ServletException, IOException {
+      // given
+      request.addHeader("X-Trace-Id", "trace-123");
+      AtomicReference<String> initialSpanId = new AtomicReference<>();
+      doAnswer(invocation -> {
+        initialSpanId.set(MDC.get(TraceContext.SPAN_ID));
+        return null;
+      }).when(filterChain).doFilter(request, response);
+      mdcFilter.doFilterInternal(request, response, filterChain);
+      assertThat(MdcUtils.getRequestId()).isNull();
+
+      AtomicReference<String> asyncTraceId = new AtomicReference<>();
+      AtomicReference<String> asyncSpanId = new AtomicReference<>();
+      doAnswer(invocation -> {
+        asyncTraceId.set(MdcUtils.getRequestId());
+        asyncSpanId.set(MDC.get(TraceContext.SPAN_ID));
+        return null;
+      }).when(filterChain).doFilter(request, response);
+      request.setDispatcherType(DispatcherType.ASYNC);
+
+      // when
+      mdcFilter.doFilter(request, response, filterChain);
+
+      // then
+      assertThat(asyncTraceId.get()).isEqualTo("trace-123");
+      assertThat(asyncSpanId.get()).isEqualTo(initialSpanId.get());
+      assertThat(MdcUtils.getRequestId()).isNull();
+    }
+
+    @Test
+    @DisplayName("에러 디스패치에서 최초 요청의 traceId를 복원한다")
+    void errorDispatch_restoresTraceContext() throws ServletException, IOException {
+      // given
+      request.addHeader("X-Trace-Id", "trace-123");
+      mdcFilter.doFilterInternal(request, response, filterChain);
+
+      AtomicReference<String> errorTraceId = new AtomicReference<>();
+      doAnswer(invocation -> {
+        errorTraceId.set(MdcUtils.getRequestId());
+        return null;
+      }).when(filterChain).doFilter(request, response);
+      request.setDispatcherType(DispatcherType.ERROR);
+
+      // when
+      mdcFilter.doFilter(request, response, filterChain);
+
+      // then
+      assertThat(errorTraceId.get()).isEqualTo("trace-123");
+      assertThat(MdcUtils.getRequestId()).isNull();
+    }
+
+    @Test
+    @DisplayName("저장된 컨텍스트가 없는 에러 디스패치는 새 요청처럼 처리한다")
+    void errorDispatch_withoutAttribute_startsNewContext() throws ServletException, IOException {
+      // given
+      AtomicReference<String> errorTraceId = new AtomicReference<>();
+      doAnswer(invocation -> {
+        errorTraceId.set(MdcUtils.getRequestId());
+        return null;
+      }).when(filterChain).doFilter(request, response);
+      request.setDispatcherType(DispatcherType.ERROR);
+
+      // when
+      mdcFilter.doFilter(request, response, filterChain);
+
+      // then
+      assertThat(errorTraceId.get()).isNotNull();
+      assertThat(response.getHeader("X-Trace-Id")).isEqualTo(errorTraceId.get());
+    }
   }
 
   // ========================================
@@ -7,6 +7,8 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.slf4j.MDC;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.*;
@@ -196,6 +198,66 @@ class MdcUtilsTest {
     }
   }
 
+  @Nested
+  @DisplayName("setContext() 테스트")
+  class SetContextTest {
+
+    @Test
+    @DisplayName("여러 값을 한 번에 설정하고, 범위를 닫으면 MDC를 클리어한다")
+    void setContext_setsAllAndClearsOnClose() {
+      // given
+      Map<String, String> context = Map.of(MdcUtils.REQUEST_ID, "trace-1", MdcUtils.USER_ID, "user-1");
+
+      // when
+      try (MdcScope ignored = MdcUtils.setContext(context)) {
+        MDC.put("added", "value");
+
+        // then
+        assertThat(MdcUtils.getRequestId()).isEqualTo("trace-1");
+        assertThat(MdcUtils.getUserId()).isEqualTo("user-1");
+      }
+
+      assertThat(MDC.getCopyOfContextMap()).isNullOrEmpty();
+    }
+
+    @Test
+    @DisplayName("기존 MDC의 다른 키는 유지하고, 범위를 닫으면 이전 값으로 되돌린다")
+    void setContext_restoresPrevious() {
+      // given
+      MdcUtils.setRequestId("outer");
+      MDC.put("custom", "value");
+
+      // when
+      try (MdcScope ignored = MdcUtils.setContext(Map.of(MdcUtils.REQUEST_ID, "inner"))) {
+        assertThat(MdcUtils.getRequestId()).isEqualTo("inner");
+        assertThat(MDC.get("custom")).isEqualTo("value");
+        MDC.put("added", "value");
+      }
+
+      // then
+      assertThat(MdcUtils.getRequestId()).isEqualTo("outer");
+      assertThat(MDC.get("custom")).isEqualTo("value");
+      assertThat(MDC.get("added")).isNull();
+    }
+
+    @Test
+    @DisplayName("값이 null인 키는 범위 안에서 제거된다")
+    void setContext_nullValueRemovesKey() {
+      // given
+      MdcUtils.setUserId("user-1");
+      Map<String, String> context = new HashMap<>();
+      context.put(MdcUtils.USER_ID, null);
+
+      // when
+      try (MdcScope ignored = MdcUtils.setContext(context)) {
+        assertThat(MdcUtils.getUserId()).isNull();
+      }
+
+      // then
+      assertThat(MdcUtils.getUserId()).isEqualTo("user-1");
+    }
+  }
+
   // ========================================
   // Request ID 테스트
   // ========================================
@@ -350,6 +412,53 @@ class MdcUtilsTest {
     }
   }
 
+  @Nested
+  @DisplayName("traceId 생성 전략 테스트")
+  class TraceIdGeneratorTest {
+
+    @AfterEach
+    void resetGenerator() {
+      MdcUtils.setTraceIdGenerator(null);
+    }
+
+    @Test
+    @DisplayName("설정한 생성기로 requestId를 생성한다")
+    void getOrCreateRequestId_usesConfiguredGenerator() {
+      // given
+      MdcUtils.setTraceIdGenerator(() -> "custom-trace");
+
+      // when
+      String result = MdcUtils.getOrCreateRequestId();
+
+      // then
+      assertThat(result).isEqualTo("custom-trace");
+    }
+
+    @Test
+    @DisplayName("generateTraceId()는 MDC에 저장하지 않는다")
+    void generateTraceId_doesNotStoreInMdc() {
+      // when
+      String result = MdcUtils.generateTraceId();
+
+      // then
+      assertThat(result).isNotBlank();
+      assertThat(MdcUtils.hasRequestId()).isFalse();
+    }
+
+    @Test
+    @DisplayName("null을 설정하면 기본 생성기로 돌아간다")
+    void setTraceIdGenerator_null_restoresDefault() {
+      // given
+      MdcUtils.setTraceIdGenerator(TraceIdGenerator.w3c());
+
+      // when
+      MdcUtils.setTraceIdGenerator(null);
+
+      // then
+      assertThat(MdcUtils.getTraceIdGenerator()).isSameAs(TraceIdGenerator.random());
+    }
+  }
+
   @Nested
   @DisplayName("getRequestUuid() 테스트")
   class GetRequestUuidTest {
@@ -391,6 +500,20 @@ class MdcUtilsTest {
       assertThat(result).isNull();
     }
 
+    @Test
+    @DisplayName("하이픈 없는 32자리 hex도 UUID로 변환한다")
+    void getRequestUuid_withW3cTraceId_returnsUuid() {
+      // given
+      UUID uuid = UUID.randomUUID();
+      MdcUtils.setRequestId(uuid.toString().replace("-", ""));
+
+      // when
+      UUID result = MdcUtils.getRequestUuid();
+
+      // then
+      assertThat(result).isEqualTo(uuid);
+    }
+
     @Test
     @DisplayName("유효하지 않은 UUID면 null을 반환한다")
     void getRequestUuid_withInvalidUuid_returnsNull() {
@@ -0,0 +1,149 @@
+package io.github.tickatch.common.logging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.Ordered;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ReactiveMdcFilter 단위 테스트.
+ */
+@DisplayName("ReactiveMdcFilter 테스트")
+class ReactiveMdcFilterTest {
+
+  private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+  private static final String PARENT_SPAN_ID = "00f067aa0ba902b7";
+
+  private final ReactiveMdcFilter filter = new ReactiveMdcFilter(() -> "generated-trace-id");
+
+  /**
+   * 하위 체인의 Reactor Context에 저장된 스냅샷을 캡처하여 필터를 실행한다.
+   */
+  private TraceSnapshot filter(MockServerWebExchange exchange) {
+    AtomicReference<TraceSnapshot> captured = new AtomicReference<>();
+    WebFilterChain chain = e -> Mono.deferContextual(ctx -> {
+      captured.set(ctx.get(TraceSnapshotAccessor.KEY));
+      return Mono.<Void>empty();
+    });
+
+    filter.filter(exchange, chain).block();
+    return captured.get();
+  }
+
+  // ========================================
+  // Trace ID 테스트
+  // ========================================
+
+  @Nested
+  @DisplayName("Trace ID 테스트")
+  class TraceIdTest {
+
+    @Test
+    @DisplayName("X-Trace-Id 헤더가 있으면 Context와 응답 헤더에 그 값을 사용한다")
+    void filter_withTraceIdHeader() {
+      // given
+      MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/seats")
+          .header("X-Trace-Id", "trace-123")
+          .header("X-User-Id", "user-456"));
+
+      // when
+      TraceSnapshot snapshot = filter(exchange);
+
+      // then
+      assertThat(snapshot.getRequestId()).isEqualTo("trace-123");
+      assertThat(snapshot.getUserId()).isEqualTo("user-456");
+      assertThat(exchange.getResponse().getHeaders().getFirst("X-Trace-Id")).isEqualTo("trace-123");
+    }
+
+    @Test
+    @DisplayName("traceparent만 있으면 그 trace-id를 사용한다")
+    void filter_withTraceparent() {
+      // given
+      MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/seats")
+          .header("traceparent", "00-" + TRACE_ID + "-" + PARENT_SPAN_ID + "-01"));
+
+      // when
+      TraceSnapshot snapshot = filter(exchange);
+
+      // then
+      assertThat(snapshot.getRequestId()).isEqualTo(TRACE_ID);
+    }
+
+    @Test
+    @DisplayName("X-Trace-Id와 traceparent의 trace-id가 다르면 traceparent의 상위 span과 플래그를 사용하지 않는다")
+    void filter_withMismatchedTraceparent() {
+      // given
+      MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/seats")
+          .header("X-Trace-Id", "trace-123")
+          .header("traceparent", "00-" + TRACE_ID + "-" + PARENT_SPAN_ID + "-00"));
+
+      // when
+      TraceSnapshot snapshot = filter(exchange);
+
+      // then
+      assertThat(snapshot.getRequestId()).isEqualTo("trace-123");
+      try (MdcScope ignored = snapshot.restore()) {
+        assertThat(MdcUtils.get(TraceContext.PARENT_SPAN_ID)).isNull();
+        assertThat(MdcUtils.get(TraceContext.TRACE_FLAGS)).isEqualTo("01");
+      }
+    }
+
+    @Test
+    @DisplayName("헤더가 없으면 생성기로 새 traceId를 만든다")
+    void filter_withoutHeaders_generatesTraceId() {
+      // given
+      MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/seats"));
+
+      // when
+      TraceSnapshot snapshot = filter(exchange);
+
+      // then
+      assertThat(snapshot.getRequestId()).isEqualTo("generated-trace-id");
+      assertThat(exchange.getResponse().getHeaders().getFirst("X-Trace-Id")).isEqualTo("generated-trace-id");
+    }
+  }
+
+  // ========================================
+  // MDC 연결 테스트
+  // ========================================
+
+  @Nested
+  @DisplayName("MDC 연결 테스트")
+  class MdcBridgeTest {
+
+    @Test
+    @DisplayName("스냅샷을 복원하면 span과 baggage가 MDC에 설정된다")
+    void filter_snapshotContainsSpanAndBaggage() {
+      // given
+      MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/seats")
+          .header("traceparent", "00-" + TRACE_ID + "-" + PARENT_SPAN_ID + "-00")
+          .header("baggage", "tenant=tickatch"));
+
+      // when
+      TraceSnapshot snapshot = filter(exchange);
+
+      // then
+      try (MdcScope ignored = snapshot.restore()) {
+        assertThat(MdcUtils.get(TraceContext.SPAN_ID)).isNotNull();
+        assertThat(MdcUtils.get(TraceContext.PARENT_SPAN_ID)).isEqualTo(PARENT_SPAN_ID);
+        assertThat(MdcUtils.get(TraceContext.TRACE_FLAGS)).isEqualTo("00");
+        assertThat(MdcUtils.get(TraceContext.BAGGAGE)).isEqualTo("tenant=tickatch");
+      }
+      assertThat(MdcUtils.getRequestId()).isNull();
+    }
+
+    @Test
+    @DisplayName("다른 필터보다 먼저 실행된다")
+    void getOrder_highestPrecedence() {
+      assertThat(filter.getOrder()).isEqualTo(Ordered.HIGHEST_PRECEDENCE);
+    }
+  }
+}
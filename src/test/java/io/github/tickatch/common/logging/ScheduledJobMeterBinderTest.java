@@ -0,0 +1,41 @@
+package io.github.tickatch.common.logging;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ScheduledJobMeterBinder 단위 테스트.
+ */
+@DisplayName("ScheduledJobMeterBinder 테스트")
+class ScheduledJobMeterBinderTest {
+
+    @Test
+    @DisplayName("작업별 실행 시간, 실행 횟수, 마지막 성공 시각을 job 태그로 노출한다")
+    void bindTo_registersJobMeters() {
+        ScheduledJobRegistry jobRegistry = new ScheduledJobRegistry();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        new ScheduledJobMeterBinder(jobRegistry).bindTo(meterRegistry);
+
+        ScheduledJobStats stats = jobRegistry.register("SettlementJob.settle", null);
+        stats.onStart(1_000L);
+        stats.onFinish(5_000L, Duration.ofMillis(10).toNanos(), true);
+
+        assertThat(meterRegistry.get(ScheduledJobMeterBinder.DURATION_METRIC)
+                .tags("job", "SettlementJob.settle", "quantile", "0.99")
+                .gauge()
+                .value()).isCloseTo(10.0, withinPercentage(7));
+        assertThat(meterRegistry.get("tickatch.scheduled.runs")
+                .tags("job", "SettlementJob.settle", "outcome", "success")
+                .functionCounter()
+                .count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("tickatch.scheduled.last.success")
+                .tag("job", "SettlementJob.settle")
+                .gauge()
+                .value()).isEqualTo(5.0);
+    }
+}
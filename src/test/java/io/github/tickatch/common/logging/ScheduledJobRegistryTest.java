@@ -0,0 +1,57 @@
+package io.github.tickatch.common.logging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ScheduledJobRegistry 단위 테스트.
+ */
+@DisplayName("ScheduledJobRegistry 테스트")
+class ScheduledJobRegistryTest {
+
+    @Test
+    @DisplayName("같은 이름은 같은 통계를 반환한다")
+    void register_returnsSameStats() {
+        ScheduledJobRegistry registry = new ScheduledJobRegistry();
+
+        ScheduledJobStats first = registry.register("SeatHoldScheduler.expireHolds", null);
+        ScheduledJobStats second = registry.register("SeatHoldScheduler.expireHolds", null);
+
+        assertThat(second).isSameAs(first);
+        assertThat(registry.get("SeatHoldScheduler.expireHolds")).isSameAs(first);
+        assertThat(registry.get("unknown")).isNull();
+    }
+
+    @Test
+    @DisplayName("작업 이름별 스냅샷을 반환한다")
+    void snapshot_byName() {
+        ScheduledJobRegistry registry = new ScheduledJobRegistry();
+        ScheduledJobStats stats = registry.register("SettlementJob.settle", null);
+        stats.onStart(1_000L);
+        stats.onFinish(2_000L, 1_000_000L, true);
+        registry.register("SeatHoldScheduler.expireHolds", null);
+
+        assertThat(registry.snapshot())
+                .containsOnlyKeys("SettlementJob.settle", "SeatHoldScheduler.expireHolds");
+        assertThat(registry.snapshot().get("SettlementJob.settle").successCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("리스너는 기존 및 신규 작업마다 한 번씩 호출된다")
+    void addListener_notifiesExistingAndNew() {
+        ScheduledJobRegistry registry = new ScheduledJobRegistry();
+        List<String> names = new ArrayList<>();
+        registry.register("A.existing", null);
+
+        registry.addListener((name, stats) -> names.add(name));
+        registry.register("B.created", null);
+        registry.register("B.created", null);
+
+        assertThat(names).containsExactly("A.existing", "B.created");
+    }
+}
@@ -0,0 +1,149 @@
+package io.github.tickatch.common.logging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.support.CronExpression;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ScheduledJobStats 단위 테스트.
+ */
+@DisplayName("ScheduledJobStats 테스트")
+class ScheduledJobStatsTest {
+
+    private static final long T0 = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+
+    @Nested
+    @DisplayName("실행 기록 테스트")
+    class RecordTest {
+
+        @Test
+        @DisplayName("성공/실패 횟수, 실행 시간, 마지막 성공 시각을 기록한다")
+        void onFinish_recordsOutcome() {
+            // given
+            ScheduledJobStats stats = new ScheduledJobStats(null);
+
+            // when
+            stats.onStart(T0);
+            stats.onFinish(T0 + 10, Duration.ofMillis(10).toNanos(), true);
+            stats.onStart(T0 + 1_000);
+            stats.onFinish(T0 + 1_020, Duration.ofMillis(20).toNanos(), false);
+
+            // then
+            ScheduledJobSnapshot snapshot = stats.snapshot();
+            assertThat(snapshot.successCount()).isEqualTo(1);
+            assertThat(snapshot.failureCount()).isEqualTo(1);
+            assertThat(snapshot.running()).isZero();
+            assertThat(snapshot.lastSuccess()).isEqualTo(Instant.ofEpochMilli(T0 + 10));
+            assertThat(snapshot.lastFailure()).isEqualTo(Instant.ofEpochMilli(T0 + 1_020));
+            assertThat(snapshot.duration().count()).isEqualTo(2);
+            assertThat(snapshot.duration().maxMillis()).isEqualTo(20.0);
+        }
+
+        @Test
+        @DisplayName("성공한 적이 없으면 마지막 성공 시각은 null이다")
+        void snapshot_noSuccess() {
+            assertThat(new ScheduledJobStats(null).snapshot().lastSuccess()).isNull();
+        }
+
+        @Test
+        @DisplayName("이전 실행이 진행 중일 때 시작하면 중복 실행으로 기록한다")
+        void onStart_detectsOverlap() {
+            // given
+            ScheduledJobStats stats = new ScheduledJobStats(null);
+            stats.onStart(T0);
+
+            // when
+            long result = stats.onStart(T0 + 100);
+
+            // then
+            assertThat(result).isEqualTo(-1L);
+            assertThat(stats.getOverlapCount()).isEqualTo(1);
+            assertThat(stats.getRunning()).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("건너뛴 실행 판별 테스트")
+    class SkipTest {
+
+        @Test
+        @DisplayName("fixedRate 주기보다 늦게 시작하면 밀린 예정 실행을 건너뛴 것이 아니라 늦은 실행으로 기록한다")
+        void fixedRate_countsDelayed() {
+            // given
+            ScheduledJobStats stats = new ScheduledJobStats(
+                    ScheduledJobStats.FireSchedule.fixedRate(Duration.ofMillis(100)));
+            stats.onStart(T0);
+            stats.onFinish(T0 + 350, 0L, true);
+
+            // when
+            long skipped = stats.onStart(T0 + 350);
+
+            // then
+            assertThat(skipped).isZero();
+            assertThat(stats.getSkippedCount()).isZero();
+            assertThat(stats.getDelayedCount()).isEqualTo(2);
+            assertThat(stats.snapshot().delayedCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("cron 예정 시각이 지나간 뒤에 시작하면 지나간 예정 실행을 건너뛴 것으로 기록한다")
+        void cron_countsSkipped() {
+            // given
+            ScheduledJobStats stats = new ScheduledJobStats(ScheduledJobStats.FireSchedule.cron(
+                    CronExpression.parse("0 * * * * *"), ZoneOffset.UTC));
+            stats.onStart(T0);
+            stats.onFinish(T0 + 170_000, 0L, true);
+
+            // when
+            long skipped = stats.onStart(T0 + 180_000);
+
+            // then
+            assertThat(skipped).isEqualTo(2);
+            assertThat(stats.getSkippedCount()).isEqualTo(2);
+            assertThat(stats.getDelayedCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("주기대로 실행되면 건너뛴 실행이 없다")
+        void fixedRate_onTime() {
+            // given
+            ScheduledJobStats stats = new ScheduledJobStats(
+                    ScheduledJobStats.FireSchedule.fixedRate(Duration.ofMillis(100)));
+            stats.onStart(T0);
+            stats.onFinish(T0 + 10, 0L, true);
+
+            // when
+            long skipped = stats.onStart(T0 + 105);
+
+            // then
+            assertThat(skipped).isZero();
+            assertThat(stats.getSkippedCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("cron 예정 시각 사이의 실행 수를 계산한다")
+        void cron_countBetween() {
+            // given
+            ScheduledJobStats.FireSchedule schedule = ScheduledJobStats.FireSchedule.cron(
+                    CronExpression.parse("0 * * * * *"), ZoneOffset.UTC);
+
+            // when & then
+            assertThat(schedule.countBetween(T0, T0 + 60_000)).isEqualTo(1);
+            assertThat(schedule.countBetween(T0, T0 + 240_000)).isEqualTo(4);
+            assertThat(schedule.countBetween(T0, T0 + 59_999)).isZero();
+        }
+
+        @Test
+        @DisplayName("주기가 0 이하이면 건너뛴 실행을 판별하지 않는다")
+        void fixedRate_zeroPeriod() {
+            assertThat(ScheduledJobStats.FireSchedule.fixedRate(Duration.ZERO)).isNull();
+        }
+    }
+}
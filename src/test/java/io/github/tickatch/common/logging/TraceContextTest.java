@@ -0,0 +1,185 @@
+package io.github.tickatch.common.logging;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.MDC;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * TraceContext 단위 테스트.
+ */
+@DisplayName("TraceContext 테스트")
+class TraceContextTest {
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+    }
+
+    @Nested
+    @DisplayName("parse() 테스트")
+    class ParseTest {
+
+        @Test
+        @DisplayName("trace-id, parent-id, 샘플링 플래그를 해석한다")
+        void parse_validHeader() {
+            // when
+            TraceContext context = TraceContext.parse("00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01");
+
+            // then
+            assertThat(context).isNotNull();
+            assertThat(context.getTraceId()).isEqualTo("0af7651916cd43dd8448eb211c80319c");
+            assertThat(context.getParentSpanId()).isEqualTo("b7ad6b7169203331");
+            assertThat(context.isSampled()).isTrue();
+        }
+
+        @Test
+        @DisplayName("이후 버전의 추가 필드는 무시한다")
+        void parse_futureVersionWithExtraFields() {
+            // when
+            TraceContext context = TraceContext.parse("01-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-00-extra");
+
+            // then
+            assertThat(context).isNotNull();
+            assertThat(context.isSampled()).isFalse();
+        }
+
+        @Test
+        @DisplayName("앞뒤 공백은 무시한다")
+        void parse_trimsWhitespace() {
+            assertThat(TraceContext.parse(" 00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01\t"))
+                    .isNotNull();
+        }
+
+        @ParameterizedTest
+        @DisplayName("유효하지 않은 헤더는 null을 반환한다")
+        @ValueSource(strings = {
+                "",
+                "00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331",
+                "00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01-extra",
+                "ff-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01",
+                "00-00000000000000000000000000000000-b7ad6b7169203331-01",
+                "00-0af7651916cd43dd8448eb211c80319c-0000000000000000-01",
+                "00-0AF7651916CD43DD8448EB211C80319C-b7ad6b7169203331-01",
+                "00_0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01",
+                "00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-zz"
+        })
+        void parse_invalidHeader(String header) {
+            assertThat(TraceContext.parse(header)).isNull();
+        }
+
+        @Test
+        @DisplayName("belongsTo()는 하이픈과 대소문자를 정규화하여 trace-id와 비교한다")
+        void belongsTo_normalizesTraceId() {
+            TraceContext context = TraceContext.parse("00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01");
+
+            assertThat(context.belongsTo("0af7651916cd43dd8448eb211c80319c")).isTrue();
+            assertThat(context.belongsTo("0AF76519-16CD-43DD-8448-EB211C80319C")).isTrue();
+            assertThat(context.belongsTo("4bf92f3577b34da6a3ce929d0e0e4736")).isFalse();
+            assertThat(context.belongsTo("0af7651916cd43dd8448eb211c80319c00")).isFalse();
+            assertThat(context.belongsTo("trace-123")).isFalse();
+            assertThat(context.belongsTo(null)).isFalse();
+        }
+
+        @Test
+        @DisplayName("null이면 null을 반환한다")
+        void parse_null() {
+            assertThat(TraceContext.parse(null)).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("format() 테스트")
+    class FormatTest {
+
+        @Test
+        @DisplayName("32자리 hex traceId로 traceparent를 생성한다")
+        void format_hexTraceId() {
+            assertThat(TraceContext.format("0af7651916cd43dd8448eb211c80319c", "b7ad6b7169203331", true))
+                    .isEqualTo("00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01");
+        }
+
+        @Test
+        @DisplayName("UUID 형식 traceId는 하이픈을 제거하고 소문자로 변환한다")
+        void format_uuidTraceId() {
+            assertThat(TraceContext.format("0AF76519-16CD-43DD-8448-EB211C80319C", "b7ad6b7169203331", false))
+                    .isEqualTo("00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-00");
+        }
+
+        @ParameterizedTest
+        @DisplayName("W3C trace-id로 표현할 수 없으면 null을 반환한다")
+        @ValueSource(strings = {"abc-123", "0af7651916cd43dd8448eb211c80319c00", "00000000-0000-0000-0000-000000000000"})
+        void format_invalidTraceId(String traceId) {
+            assertThat(TraceContext.format(traceId, "b7ad6b7169203331", true)).isNull();
+        }
+
+        @Test
+        @DisplayName("생성한 헤더를 다시 해석할 수 있다")
+        void format_roundTrip() {
+            String spanId = TraceContext.newSpanId();
+            String header = TraceContext.format(TraceIdGenerator.w3c().generate(), spanId, true);
+
+            TraceContext context = TraceContext.parse(header);
+
+            assertThat(context).isNotNull();
+            assertThat(context.getParentSpanId()).isEqualTo(spanId);
+        }
+
+        @Test
+        @DisplayName("isTraceId()는 traceparent의 trace-id와 정확히 같은 값만 true를 반환한다")
+        void isTraceId() {
+            assertThat(TraceContext.isTraceId("0af7651916cd43dd8448eb211c80319c")).isTrue();
+            assertThat(TraceContext.isTraceId("0af76519-16cd-43dd-8448-eb211c80319c")).isFalse();
+            assertThat(TraceContext.isTraceId("0AF7651916CD43DD8448EB211C80319C")).isFalse();
+            assertThat(TraceContext.isTraceId("00000000000000000000000000000000")).isFalse();
+            assertThat(TraceContext.isTraceId(null)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("MDC 연동 테스트")
+    class MdcTest {
+
+        @Test
+        @DisplayName("startSpan()은 새 span ID와 상위 span ID, 플래그를 저장한다")
+        void startSpan_storesInMdc() {
+            // when
+            String spanId = TraceContext.startSpan("b7ad6b7169203331", false);
+
+            // then
+            assertThat(spanId).matches("[0-9a-f]{16}");
+            assertThat(MDC.get(TraceContext.SPAN_ID)).isEqualTo(spanId);
+            assertThat(MDC.get(TraceContext.PARENT_SPAN_ID)).isEqualTo("b7ad6b7169203331");
+            assertThat(MDC.get(TraceContext.TRACE_FLAGS)).isEqualTo("00");
+        }
+
+        @Test
+        @DisplayName("currentTraceparent()는 MDC의 traceId와 span ID를 사용한다")
+        void currentTraceparent_usesMdc() {
+            // given
+            MdcUtils.setRequestId("0af7651916cd43dd8448eb211c80319c");
+            String spanId = TraceContext.startSpan(null, true);
+
+            // when
+            String header = TraceContext.currentTraceparent();
+
+            // then
+            assertThat(header).isEqualTo("00-0af7651916cd43dd8448eb211c80319c-" + spanId + "-01");
+        }
+
+        @Test
+        @DisplayName("최대 길이를 넘는 baggage는 저장하지 않는다")
+        void putBaggage_tooLong_ignored() {
+            // when
+            TraceContext.putBaggage("k=" + "v".repeat(TraceContext.MAX_BAGGAGE_LENGTH));
+
+            // then
+            assertThat(MDC.get(TraceContext.BAGGAGE)).isNull();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package io.github.tickatch.common.logging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * TraceIdGenerator 단위 테스트.
+ */
+@DisplayName("TraceIdGenerator 테스트")
+class TraceIdGeneratorTest {
+
+    @Nested
+    @DisplayName("random() 테스트")
+    class RandomTest {
+
+        @Test
+        @DisplayName("버전 4 UUID 형식으로 생성한다")
+        void random_generatesVersion4Uuid() {
+            // when
+            String traceId = TraceIdGenerator.random().generate();
+
+            // then
+            UUID uuid = UUID.fromString(traceId);
+            assertThat(uuid.version()).isEqualTo(4);
+            assertThat(uuid.variant()).isEqualTo(2);
+            assertThat(uuid.toString()).isEqualTo(traceId);
+        }
+
+        @Test
+        @DisplayName("여러 스레드에서 생성해도 중복되지 않는다")
+        void random_isUniqueAcrossThreads() {
+            // given
+            Set<String> ids = ConcurrentHashMap.newKeySet();
+
+            // when
+            IntStream.range(0, 10_000).parallel()
+                    .forEach(i -> ids.add(TraceIdGenerator.random().generate()));
+
+            // then
+            assertThat(ids).hasSize(10_000);
+        }
+    }
+
+    @Nested
+    @DisplayName("w3c() 테스트")
+    class W3cTest {
+
+        @Test
+        @DisplayName("32자리 소문자 hex로 생성한다")
+        void w3c_generatesLowerHex() {
+            // when
+            String traceId = TraceIdGenerator.w3c().generate();
+
+            // then
+            assertThat(traceId).matches("[0-9a-f]{32}");
+            assertThat(traceId).isNotEqualTo("0".repeat(32));
+        }
+    }
+
+    @Nested
+    @DisplayName("hex 인코딩 테스트")
+    class EncodingTest {
+
+        @Test
+        @DisplayName("UUID.toString()과 같은 결과를 만든다")
+        void toUuidString_matchesUuidToString() {
+            IntStream.range(0, 1_000).forEach(i -> {
+                UUID uuid = UUID.randomUUID();
+
+                String result = RandomTraceIdGenerator.toUuidString(
+                        uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+
+                assertThat(result).isEqualTo(uuid.toString());
+            });
+        }
+
+        @Test
+        @DisplayName("하이픈 없는 UUID 문자열과 같은 결과를 만든다")
+        void toHexString_matchesCompactUuid() {
+            UUID uuid = UUID.randomUUID();
+
+            String result = RandomTraceIdGenerator.toHexString(
+                    uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+
+            assertThat(result).isEqualTo(uuid.toString().replace("-", ""));
+        }
+    }
+
+    @Nested
+    @DisplayName("Format 테스트")
+    class FormatTest {
+
+        @Test
+        @DisplayName("형식별 생성기를 반환한다")
+        void generator_returnsMatchingGenerator() {
+            assertThat(TraceIdGenerator.Format.UUID.generator()).isSameAs(TraceIdGenerator.random());
+            assertThat(TraceIdGenerator.Format.W3C.generator()).isSameAs(TraceIdGenerator.w3c());
+            assertThat(UUID.fromString(TraceIdGenerator.Format.SECURE_UUID.generator().generate()))
+                    .isNotNull();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package io.github.tickatch.common.logging;
+
+import io.micrometer.context.ContextRegistry;
+import io.micrometer.context.ContextSnapshotFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import reactor.core.publisher.Hooks;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.context.Context;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * TraceSnapshotAccessor 단위 테스트.
+ */
+@DisplayName("TraceSnapshotAccessor 테스트")
+class TraceSnapshotAccessorTest {
+
+    private final TraceSnapshotAccessor accessor = new TraceSnapshotAccessor();
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+    }
+
+    @Nested
+    @DisplayName("ThreadLocalAccessor 테스트")
+    class AccessorTest {
+
+        @Test
+        @DisplayName("MDC에 추적 정보가 없으면 null을 반환한다")
+        void getValue_emptyMdc() {
+            assertThat(accessor.getValue()).isNull();
+        }
+
+        @Test
+        @DisplayName("setValue()는 추적용 키를 설정하고, 인자 없는 setValue()는 추적용 키만 제거한다")
+        void setValue_setsAndResets() {
+            // given
+            MDC.put("custom", "value");
+            TraceSnapshot snapshot = TraceSnapshot.of(Map.of(MdcUtils.REQUEST_ID, "trace-1", MdcUtils.USER_ID, "user-1"));
+
+            // when
+            accessor.setValue(snapshot);
+
+            // then
+            assertThat(MdcUtils.getRequestId()).isEqualTo("trace-1");
+            assertThat(accessor.getValue().getUserId()).isEqualTo("user-1");
+
+            accessor.setValue();
+            assertThat(MdcUtils.getRequestId()).isNull();
+            assertThat(MDC.get("custom")).isEqualTo("value");
+        }
+    }
+
+    @Nested
+    @DisplayName("Reactor 자동 컨텍스트 전파 테스트")
+    class ReactorPropagationTest {
+
+        @Test
+        @DisplayName("다른 스케줄러에서 실행되는 연산자에서도 MDC에 traceId가 설정된다")
+        void automaticPropagation_setsMdcOnOtherThread() {
+            // given
+            ContextRegistry.getInstance().registerThreadLocalAccessor(accessor);
+            Hooks.enableAutomaticContextPropagation();
+            TraceSnapshot snapshot = TraceSnapshot.of(Map.of(MdcUtils.REQUEST_ID, "trace-1"));
+
+            try {
+                // when
+                String traceId = Mono.just("seat")
+                        .publishOn(Schedulers.boundedElastic())
+                        .map(seat -> MdcUtils.getRequestId())
+                        .contextWrite(Context.of(TraceSnapshotAccessor.KEY, snapshot))
+                        .block();
+
+                // then
+                assertThat(traceId).isEqualTo("trace-1");
+                assertThat(MdcUtils.getRequestId()).isNull();
+            } finally {
+                Hooks.disableAutomaticContextPropagation();
+                ContextRegistry.getInstance().removeThreadLocalAccessor(TraceSnapshotAccessor.KEY);
+            }
+        }
+
+        @Test
+        @DisplayName("ContextSnapshot으로 캡처한 값을 다른 스레드에서 복원한다")
+        void contextSnapshot_restoresOnOtherThread() throws Exception {
+            // given
+            ContextRegistry registry = new ContextRegistry().registerThreadLocalAccessor(accessor);
+            MdcUtils.setRequestId("trace-1");
+            AtomicReference<String> captured = new AtomicReference<>();
+            Runnable task = ContextSnapshotFactory.builder().contextRegistry(registry).build()
+                    .captureAll()
+                    .wrap(() -> captured.set(MdcUtils.getRequestId()));
+
+            // when
+            Thread thread = new Thread(task);
+            thread.start();
+            thread.join();
+
+            // then
+            assertThat(captured.get()).isEqualTo("trace-1");
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package io.github.tickatch.common.logging;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * TraceSnapshot 단위 테스트.
+ */
+@DisplayName("TraceSnapshot 테스트")
+class TraceSnapshotTest {
+
+    private static ExecutorService executor;
+
+    @BeforeAll
+    static void startExecutor() {
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterAll
+    static void stopExecutor() throws InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(1, TimeUnit.SECONDS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+    }
+
+    @Nested
+    @DisplayName("capture() 테스트")
+    class CaptureTest {
+
+        @Test
+        @DisplayName("추적용 키만 캡처한다")
+        void capture_onlyTraceKeys() {
+            // given
+            MdcUtils.setRequestId("trace-1");
+            MdcUtils.setUserId("user-1");
+            MDC.put("custom", "value");
+
+            // when
+            TraceSnapshot snapshot = TraceSnapshot.capture();
+            MDC.clear();
+            try (MdcScope ignored = snapshot.restore()) {
+                // then
+                assertThat(MdcUtils.getRequestId()).isEqualTo("trace-1");
+                assertThat(MdcUtils.getUserId()).isEqualTo("user-1");
+                assertThat(MDC.get("custom")).isNull();
+            }
+        }
+
+        @Test
+        @DisplayName("추적 정보가 없으면 빈 스냅샷을 반환한다")
+        void capture_empty() {
+            assertThat(TraceSnapshot.capture().isEmpty()).isTrue();
+        }
+
+        @Test
+        @DisplayName("캡처 이후 MDC 변경은 스냅샷에 영향을 주지 않는다")
+        void capture_isImmutable() {
+            // given
+            MdcUtils.setRequestId("trace-1");
+            TraceSnapshot snapshot = TraceSnapshot.capture();
+
+            // when
+            MdcUtils.setRequestId("trace-2");
+
+            // then
+            assertThat(snapshot.getRequestId()).isEqualTo("trace-1");
+        }
+    }
+
+    @Nested
+    @DisplayName("restore() 테스트")
+    class RestoreTest {
+
+        @Test
+        @DisplayName("범위를 닫으면 이전 값으로 되돌린다")
+        void restore_closeRestoresPrevious() {
+            // given
+            MdcUtils.setRequestId("outer");
+            MDC.put("custom", "value");
+            TraceSnapshot snapshot = snapshotOf("inner");
+
+            // when
+            try (MdcScope ignored = snapshot.restore()) {
+                assertThat(MdcUtils.getRequestId()).isEqualTo("inner");
+            }
+
+            // then
+            assertThat(MdcUtils.getRequestId()).isEqualTo("outer");
+            assertThat(MDC.get("custom")).isEqualTo("value");
+        }
+    }
+
+    @Nested
+    @DisplayName("스레드 전파 테스트")
+    class PropagationTest {
+
+        @Test
+        @DisplayName("wrap()한 작업은 다른 스레드에서 traceId를 유지하고, 실행 후 값을 남기지 않는다")
+        void wrap_propagatesAndCleansUp() throws Exception {
+            // given
+            MdcUtils.setRequestId("trace-1");
+            Runnable task = TraceSnapshot.capture().wrap(() -> { });
+
+            // when
+            Future<String> inside = executor.submit(
+                    TraceSnapshot.capture().wrap(() -> MdcUtils.getRequestId()));
+            executor.submit(task).get(1, TimeUnit.SECONDS);
+            Future<String> after = executor.submit(() -> MdcUtils.getRequestId());
+
+            // then
+            assertThat(inside.get(1, TimeUnit.SECONDS)).isEqualTo("trace-1");
+            assertThat(after.get(1, TimeUnit.SECONDS)).isNull();
+        }
+
+        @Test
+        @DisplayName("decorate()한 Executor는 제출 시점의 traceId를 전달한다")
+        void decorate_propagatesOnSubmit() throws Exception {
+            // given
+            MdcUtils.setRequestId("trace-1");
+
+            // when
+            String result = CompletableFuture
+                    .supplyAsync(MdcUtils::getRequestId, TraceSnapshot.decorate(executor))
+                    .get(1, TimeUnit.SECONDS);
+
+            // then
+            assertThat(result).isEqualTo("trace-1");
+        }
+
+        @Test
+        @DisplayName("MdcTaskDecorator는 제출 시점의 traceId를 전달한다")
+        void mdcTaskDecorator_propagates() throws Exception {
+            // given
+            MdcUtils.setRequestId("trace-1");
+            Runnable decorated = new MdcTaskDecorator().decorate(() ->
+                    assertThat(MdcUtils.getRequestId()).isEqualTo("trace-1"));
+
+            // when & then
+            executor.submit(decorated).get(1, TimeUnit.SECONDS);
+        }
+
+        @Test
+        @DisplayName("가상 스레드에도 traceId를 전달한다")
+        void wrap_virtualThread() throws Exception {
+            // given
+            MdcUtils.setRequestId("trace-1");
+
+            // when
+            try (ExecutorService virtual = Executors.newVirtualThreadPerTaskExecutor()) {
+                String result = virtual.submit(
+                        TraceSnapshot.capture().wrap(() -> MdcUtils.getRequestId()))
+                        .get(1, TimeUnit.SECONDS);
+
+                // then
+                assertThat(result).isEqualTo("trace-1");
+            }
+        }
+
+        @Test
+        @DisplayName("wrapConsumer()한 동작은 병렬 스트림의 모든 요소에서 traceId를 유지한다")
+        void wrapConsumer_parallelStream() {
+            // given
+            MdcUtils.setRequestId("trace-1");
+            Set<String> traceIds = ConcurrentHashMap.newKeySet();
+
+            // when
+            IntStream.range(0, 64).boxed().parallel()
+                    .forEach(TraceSnapshot.capture().wrapConsumer(i -> traceIds.add(String.valueOf(MdcUtils.getRequestId()))));
+
+            // then
+            assertThat(traceIds).containsExactly("trace-1");
+        }
+    }
+
+    private static TraceSnapshot snapshotOf(String requestId) {
+        String previous = MdcUtils.getRequestId();
+        MdcUtils.setRequestId(requestId);
+        TraceSnapshot snapshot = TraceSnapshot.capture();
+        MdcUtils.setRequestId(previous);
+        return snapshot;
+    }
+}
@@ -0,0 +1,102 @@
+package io.github.tickatch.common.logging;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * TracingForkJoinPool 단위 테스트.
+ */
+@DisplayName("TracingForkJoinPool 테스트")
+class TracingForkJoinPoolTest {
+
+    private TracingForkJoinPool pool;
+
+    @BeforeEach
+    void setUp() {
+        pool = new TracingForkJoinPool(2);
+        MDC.clear();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        pool.shutdownNow();
+        pool.awaitTermination(1, TimeUnit.SECONDS);
+        MDC.clear();
+    }
+
+    @Nested
+    @DisplayName("작업 제출 테스트")
+    class SubmitTest {
+
+        @Test
+        @DisplayName("submit(Callable)한 작업에서 traceId가 유지된다")
+        void submit_callable_propagatesTraceId() throws Exception {
+            // given
+            MdcUtils.setRequestId("trace-1");
+
+            // when
+            String traceId = pool.submit(MdcUtils::getRequestId).get(1, TimeUnit.SECONDS);
+
+            // then
+            assertThat(traceId).isEqualTo("trace-1");
+        }
+
+        @Test
+        @DisplayName("execute(Runnable)한 작업에서 traceId가 유지된다")
+        void execute_runnable_propagatesTraceId() throws Exception {
+            // given
+            MdcUtils.setRequestId("trace-1");
+            AtomicReference<String> captured = new AtomicReference<>();
+
+            // when
+            pool.execute(() -> captured.set(MdcUtils.getRequestId()));
+            pool.awaitQuiescence(1, TimeUnit.SECONDS);
+
+            // then
+            assertThat(captured.get()).isEqualTo("trace-1");
+        }
+
+        @Test
+        @DisplayName("invokeAll()한 모든 작업에서 traceId가 유지된다")
+        void invokeAll_propagatesTraceId() throws Exception {
+            // given
+            MdcUtils.setRequestId("trace-1");
+            Callable<String> task = MdcUtils::getRequestId;
+
+            // when
+            List<Future<String>> results = pool.invokeAll(List.of(task, task, task));
+
+            // then
+            for (Future<String> result : results) {
+                assertThat(result.get()).isEqualTo("trace-1");
+            }
+        }
+
+        @Test
+        @DisplayName("작업 실행 후 작업 스레드에 traceId가 남지 않는다")
+        void submit_cleansUpWorker() throws Exception {
+            // given
+            MdcUtils.setRequestId("trace-1");
+            pool.submit(MdcUtils::getRequestId).get(1, TimeUnit.SECONDS);
+            MDC.clear();
+
+            // when
+            String leftover = pool.submit(MdcUtils::getRequestId).get(1, TimeUnit.SECONDS);
+
+            // then
+            assertThat(leftover).isNull();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package io.github.tickatch.common.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ReactiveLoginFilter 단위 테스트.
+ */
+@DisplayName("ReactiveLoginFilter 테스트")
+class ReactiveLoginFilterTest {
+
+  private final ReactiveLoginFilter loginFilter = new ReactiveLoginFilter();
+
+  /**
+   * 하위 체인에서 보이는 인증 정보를 캡처하여 필터를 실행한다.
+   */
+  private Authentication filter(MockServerHttpRequest.BaseBuilder<?> request) {
+    AtomicReference<Authentication> captured = new AtomicReference<>();
+    WebFilterChain chain = exchange -> ReactiveSecurityContextHolder.getContext()
+        .map(SecurityContext::getAuthentication)
+        .doOnNext(captured::set)
+        .then();
+
+    loginFilter.filter(MockServerWebExchange.from(request), chain).block();
+    return captured.get();
+  }
+
+  // ========================================
+  // 정상 인증 테스트
+  // ========================================
+
+  @Nested
+  @DisplayName("정상 인증 테스트")
+  class SuccessfulAuthenticationTest {
+
+    @Test
+    @DisplayName("X-User-Id 헤더가 있으면 보안 컨텍스트에 인증을 설정한다")
+    void filter_withValidUserId_setsAuthentication() {
+      // given
+      String userId = UUID.randomUUID().toString();
+
+      // when
+      Authentication authentication = filter(MockServerHttpRequest.get("/api/seats")
+          .header("X-User-Id", userId)
+          .header("X-User-Type", "SELLER"));
+
+      // then
+      assertThat(authentication).isNotNull();
+      assertThat(authentication.isAuthenticated()).isTrue();
+      assertThat(authentication.getPrincipal()).isInstanceOfSatisfying(AuthenticatedUser.class, user -> {
+        assertThat(user.getUserId()).isEqualTo(userId);
+        assertThat(user.getUserType()).isEqualTo(UserType.SELLER);
+      });
+      assertThat(authentication.getAuthorities())
+          .extracting(GrantedAuthority::getAuthority)
+          .containsExactly("ROLE_SELLER");
+    }
+
+    @Test
+    @DisplayName("X-User-Type이 유효하지 않으면 권한 없이 인증한다")
+    void filter_withInvalidUserType_authenticatesWithoutRole() {
+      // when
+      Authentication authentication = filter(MockServerHttpRequest.get("/api/seats")
+          .header("X-User-Id", "user-1")
+          .header("X-User-Type", "UNKNOWN"));
+
+      // then
+      assertThat(authentication).isNotNull();
+      assertThat(authentication.getAuthorities()).isEmpty();
+    }
+  }
+
+  // ========================================
+  // 인증 미설정 테스트
+  // ========================================
+
+  @Nested
+  @DisplayName("인증 미설정 테스트")
+  class NoAuthenticationTest {
+
+    @Test
+    @DisplayName("X-User-Id 헤더가 없으면 인증을 설정하지 않고 체인을 실행한다")
+    void filter_withoutUserId_skipsAuthentication() {
+      // given
+      AtomicReference<Boolean> chainCalled = new AtomicReference<>(false);
+      WebFilterChain chain = exchange -> {
+        chainCalled.set(true);
+        return Mono.empty();
+      };
+
+      // when
+      loginFilter.filter(MockServerWebExchange.from(MockServerHttpRequest.get("/api/seats")), chain).block();
+
+      // then
+      assertThat(chainCalled.get()).isTrue();
+      assertThat(filter(MockServerHttpRequest.get("/api/seats"))).isNull();
+    }
+  }
+}
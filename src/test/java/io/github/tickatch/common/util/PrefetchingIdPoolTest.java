@@ -0,0 +1,149 @@
+package io.github.tickatch.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * PrefetchingIdPool 단위 테스트.
+ */
+@DisplayName("PrefetchingIdPool 테스트")
+class PrefetchingIdPoolTest {
+
+    private static final Clock FIXED_CLOCK =
+            Clock.fixed(SnowflakeIdGenerator.EPOCH.plusSeconds(60), ZoneOffset.UTC);
+
+    @Nested
+    @DisplayName("도메인 ID 테스트")
+    class NextDomainIdTest {
+
+        @Test
+        @DisplayName("블록을 여러 번 다시 채워도 generateDomainId()와 같은 형식의 서로 다른 ID를 반환한다")
+        void nextDomainId_acrossBlocks_returnsDistinctIds() {
+            // given
+            PrefetchingIdPool pool = new PrefetchingIdPool(16);
+            Set<String> ids = ConcurrentHashMap.newKeySet();
+
+            // when
+            for (int i = 0; i < 1_000; i++) {
+                ids.add(pool.nextDomainId("seat"));
+            }
+
+            // then
+            assertThat(ids).hasSize(1_000)
+                    .allMatch(id -> id.matches("^SEAT-[0-9a-f]{8}$"));
+        }
+
+        @Test
+        @DisplayName("prefix가 없으면 예외가 발생한다")
+        void nextDomainId_blankPrefix_throwsException() {
+            assertThatThrownBy(() -> new PrefetchingIdPool().nextDomainId(" "))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Snowflake ID 테스트")
+    class NextSnowflakeIdTest {
+
+        @Test
+        @DisplayName("같은 스레드에서 꺼낸 ID는 증가하고 지정한 생성기의 워커 ID를 사용한다")
+        void nextSnowflakeId_isMonotonicPerThread() {
+            // given
+            PrefetchingIdPool pool = new PrefetchingIdPool(8, new SnowflakeIdGenerator(12));
+            long previous = pool.nextSnowflakeId();
+
+            // when & then
+            for (int i = 0; i < 100; i++) {
+                long id = pool.nextSnowflakeId();
+                assertThat(id).isGreaterThan(previous);
+                assertThat(SnowflakeIdGenerator.extractWorkerId(id)).isEqualTo(12);
+                previous = id;
+            }
+        }
+
+        @Test
+        @DisplayName("여러 스레드에서 꺼내도 중복이 없다")
+        void nextSnowflakeId_concurrent_isUnique() throws Exception {
+            // given
+            PrefetchingIdPool pool = new PrefetchingIdPool(64, new SnowflakeIdGenerator(1));
+            Set<Long> ids = ConcurrentHashMap.newKeySet();
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            List<Future<?>> futures = new ArrayList<>();
+
+            // when
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        ids.add(pool.nextSnowflakeId());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            executor.shutdown();
+
+            // then
+            assertThat(ids).hasSize(8 * 10_000);
+        }
+
+        @Test
+        @DisplayName("첫 블록은 작게 예약하고 다시 채울 때마다 블록 크기까지 늘린다")
+        void nextSnowflakeId_growsBlockLazily() {
+            // given
+            SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, FIXED_CLOCK, Duration.ofMinutes(1));
+            PrefetchingIdPool pool = new PrefetchingIdPool(256, generator);
+
+            // when
+            pool.nextSnowflakeId();
+
+            // then
+            assertThat(SnowflakeIdGenerator.extractSequence(generator.nextId()))
+                    .isEqualTo(PrefetchingIdPool.INITIAL_SNOWFLAKE_BLOCK_SIZE);
+        }
+
+        @Test
+        @DisplayName("가상 스레드에서는 블록을 예약하지 않고 하나씩 생성한다")
+        void nextSnowflakeId_virtualThreads_doNotReserveBlocks() throws Exception {
+            // given
+            SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, FIXED_CLOCK, Duration.ofMinutes(1));
+            PrefetchingIdPool pool = new PrefetchingIdPool(256, generator);
+            Set<Long> ids = ConcurrentHashMap.newKeySet();
+
+            // when
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < 100; i++) {
+                    executor.submit(() -> ids.add(pool.nextSnowflakeId()));
+                }
+            }
+
+            // then
+            assertThat(ids).hasSize(100);
+            assertThat(SnowflakeIdGenerator.extractSequence(generator.nextId())).isEqualTo(100);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1, PrefetchingIdPool.MAX_BLOCK_SIZE + 1})
+    @DisplayName("블록 크기가 범위를 벗어나면 예외가 발생한다")
+    void constructor_invalidBlockSize_throwsException(int blockSize) {
+        assertThatThrownBy(() -> new PrefetchingIdPool(blockSize))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,339 @@
+package io.github.tickatch.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * SnowflakeIdGenerator 단위 테스트.
+ */
+@DisplayName("SnowflakeIdGenerator 테스트")
+class SnowflakeIdGeneratorTest {
+
+    private static final Instant NOW = Instant.parse("2025-06-01T00:00:00Z");
+
+    @Nested
+    @DisplayName("ID 생성 테스트")
+    class NextIdTest {
+
+        @Test
+        @DisplayName("생성한 ID는 양수이며 항상 증가한다")
+        void nextId_isPositiveAndMonotonic() {
+            // given
+            SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1);
+            long previous = 0;
+
+            // when & then
+            for (int i = 0; i < 100_000; i++) {
+                long id = generator.nextId();
+                assertThat(id).isGreaterThan(previous);
+                previous = id;
+            }
+        }
+
+        @Test
+        @DisplayName("여러 스레드에서 동시에 생성해도 중복이 없다")
+        void nextId_concurrent_isUnique() throws Exception {
+            // given
+            SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1);
+            Set<Long> ids = ConcurrentHashMap.newKeySet();
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            List<Future<?>> futures = new ArrayList<>();
+
+            // when
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 20_000; i++) {
+                        ids.add(generator.nextId());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            executor.shutdown();
+
+            // then
+            assertThat(ids).hasSize(8 * 20_000);
+        }
+
+        @Test
+        @DisplayName("워커 ID, 생성 시각, 시퀀스를 추출할 수 있다")
+        void extract_returnsComponents() {
+            // given
+            SnowflakeIdGenerator generator = new SnowflakeIdGenerator(
+                    42, Clock.fixed(NOW, ZoneOffset.UTC), Duration.ofSeconds(5));
+
+            // when
+            long first = generator.nextId();
+            long second = generator.nextId();
+
+            // then
+            assertThat(SnowflakeIdGenerator.extractWorkerId(first)).isEqualTo(42);
+            assertThat(SnowflakeIdGenerator.extractTimestamp(first)).isEqualTo(NOW);
+            assertThat(SnowflakeIdGenerator.extractSequence(second))
+                    .isEqualTo(SnowflakeIdGenerator.extractSequence(first) + 1);
+        }
+
+        @Test
+        @DisplayName("밀리초 내 시퀀스가 넘치면 시계가 다음 밀리초로 넘어갈 때까지 대기한다")
+        void nextId_sequenceOverflow_waitsForNextMillis() throws Exception {
+            // given
+            MutableClock clock = new MutableClock(NOW);
+            SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, clock, Duration.ofSeconds(5));
+            for (int i = 0; i < 4096; i++) {
+                generator.nextId();
+            }
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+
+            // when
+            Future<Long> next = executor.submit(generator::nextId);
+            Thread.sleep(50);
+            boolean doneBeforeTick = next.isDone();
+            clock.instant = NOW.plusMillis(1);
+            long id = next.get(5, TimeUnit.SECONDS);
+            executor.shutdown();
+
+            // then
+            assertThat(doneBeforeTick).isFalse();
+            assertThat(SnowflakeIdGenerator.extractTimestamp(id)).isEqualTo(NOW.plusMillis(1));
+            assertThat(SnowflakeIdGenerator.extractSequence(id)).isZero();
+        }
+
+        @Test
+        @DisplayName("워커 ID가 범위를 벗어나면 예외가 발생한다")
+        void constructor_invalidWorkerId_throwsException() {
+            assertThatThrownBy(() -> new SnowflakeIdGenerator(1024))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new SnowflakeIdGenerator(-1))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("블록 예약 테스트")
+    class NextIdsTest {
+
+        @Test
+        @DisplayName("한 번에 예약한 ID는 연속으로 증가하고 이후 nextId()보다 작다")
+        void nextIds_isContiguousAndMonotonic() {
+            // given
+            SnowflakeIdGenerator generator = new SnowflakeIdGenerator(
+                    1, Clock.fixed(NOW, ZoneOffset.UTC), Duration.ofSeconds(5));
+            long before = generator.nextId();
+
+            // when
+            long[] ids = generator.nextIds(1_000);
+            long after = generator.nextId();
+
+            // then
+            assertThat(ids).hasSize(1_000);
+            assertThat(ids[0]).isEqualTo(before + 1);
+            for (int i = 1; i < ids.length; i++) {
+                assertThat(ids[i]).isEqualTo(ids[i - 1] + 1);
+            }
+            assertThat(after).isEqualTo(ids[ids.length - 1] + 1);
+        }
+
+        @Test
+        @DisplayName("여러 스레드에서 블록을 예약해도 중복이 없다")
+        void nextIds_concurrent_isUnique() throws Exception {
+            // given
+            SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1);
+            Set<Long> ids = ConcurrentHashMap.newKeySet();
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            List<Future<?>> futures = new ArrayList<>();
+
+            // when
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 100; i++) {
+                        for (long id : generator.nextIds(200)) {
+                            ids.add(id);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            executor.shutdown();
+
+            // then
+            assertThat(ids).hasSize(8 * 100 * 200);
+        }
+
+        @Test
+        @DisplayName("허용 오차 안에서 만들 수 있는 개수보다 많이 예약해도 시계가 정상이면 예외 없이 생성한다")
+        void nextIds_beyondClockDrift_waitsInsteadOfThrowing() {
+            // given
+            SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, Clock.systemUTC(), Duration.ofMillis(1));
+
+            // when
+            long[] ids = generator.nextIds(100_000);
+
+            // then
+            for (int i = 1; i < ids.length; i++) {
+                assertThat(ids[i]).isGreaterThan(ids[i - 1]);
+            }
+            assertThat(SnowflakeIdGenerator.extractTimestamp(ids[ids.length - 1]))
+                    .isBeforeOrEqualTo(Instant.now());
+        }
+
+        @Test
+        @DisplayName("개수가 0이면 빈 배열, 음수이면 예외를 반환한다")
+        void nextIds_emptyOrNegative() {
+            // given
+            SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1);
+
+            // when & then
+            assertThat(generator.nextIds(0)).isEmpty();
+            assertThatThrownBy(() -> generator.nextIds(-1))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("시계 역행 테스트")
+    class ClockRegressionTest {
+
+        @Test
+        @DisplayName("시계가 허용 오차 안에서 역행하면 마지막 타임스탬프로 계속 증가한다")
+        void nextId_smallRegression_staysMonotonic() {
+            // given
+            MutableClock clock = new MutableClock(NOW);
+            SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, clock, Duration.ofSeconds(5));
+            long before = generator.nextId();
+
+            // when
+            clock.instant = NOW.minusSeconds(2);
+            long after = generator.nextId();
+
+            // then
+            assertThat(after).isGreaterThan(before);
+            assertThat(SnowflakeIdGenerator.extractTimestamp(after)).isEqualTo(NOW);
+        }
+
+        @Test
+        @DisplayName("시계가 허용 오차 이상 역행하면 예외가 발생한다")
+        void nextId_largeRegression_throwsException() {
+            // given
+            MutableClock clock = new MutableClock(NOW);
+            SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, clock, Duration.ofSeconds(5));
+            generator.nextId();
+
+            // when
+            clock.instant = NOW.minusSeconds(10);
+
+            // then
+            assertThatThrownBy(generator::nextId)
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Base32 변환 테스트")
+    class Base32Test {
+
+        @Test
+        @DisplayName("13자리 문자열로 변환하고 되돌릴 수 있다")
+        void toBase32_roundTrip() {
+            // given
+            long id = new SnowflakeIdGenerator(7).nextId();
+
+            // when
+            String text = SnowflakeIdGenerator.toBase32(id);
+
+            // then
+            assertThat(text).hasSize(13).matches("^[0-9A-HJKMNP-TV-Z]{13}$");
+            assertThat(SnowflakeIdGenerator.fromBase32(text)).isEqualTo(id);
+            assertThat(SnowflakeIdGenerator.fromBase32(text.toLowerCase())).isEqualTo(id);
+        }
+
+        @Test
+        @DisplayName("문자열 정렬 순서가 숫자 순서와 같다")
+        void toBase32_preservesOrder() {
+            // given
+            SnowflakeIdGenerator generator = new SnowflakeIdGenerator(7);
+            long first = generator.nextId();
+            long second = generator.nextId();
+
+            // when & then
+            assertThat(SnowflakeIdGenerator.toBase32(second)).isGreaterThan(SnowflakeIdGenerator.toBase32(first));
+        }
+
+        @Test
+        @DisplayName("길이나 문자가 유효하지 않으면 예외가 발생한다")
+        void fromBase32_invalid_throwsException() {
+            assertThatThrownBy(() -> SnowflakeIdGenerator.fromBase32("ABC"))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> SnowflakeIdGenerator.fromBase32("0000000000U00"))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("워커 ID 결정 테스트")
+    class ResolveWorkerIdTest {
+
+        @ParameterizedTest
+        @CsvSource({"ticket-service-0, 0", "ticket-service-3, 3", "booking-1023, 1023"})
+        @DisplayName("호스트 이름이 -숫자로 끝나면 그 순번을 사용한다")
+        void resolveWorkerId_statefulSetOrdinal(String hostname, long expected) {
+            assertThat(SnowflakeIdGenerator.resolveWorkerId(hostname)).isEqualTo(expected);
+        }
+
+        @Test
+        @DisplayName("순번이 없으면 호스트 이름 해시로 범위 안의 값을 사용한다")
+        void resolveWorkerId_hash() {
+            // when
+            long workerId = SnowflakeIdGenerator.resolveWorkerId("ticket-service-7f9c6d-abcde");
+
+            // then
+            assertThat(workerId).isBetween(0L, SnowflakeIdGenerator.MAX_WORKER_ID);
+            assertThat(SnowflakeIdGenerator.resolveWorkerId("ticket-service-7f9c6d-abcde")).isEqualTo(workerId);
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package io.github.tickatch.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * TimeOrderedIdGenerator 단위 테스트.
+ */
+@DisplayName("TimeOrderedIdGenerator 테스트")
+class TimeOrderedIdGeneratorTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+
+    @Nested
+    @DisplayName("UUIDv7 상태 테스트")
+    class UuidV7StateTest {
+
+        @Test
+        @DisplayName("같은 밀리초에 카운터가 넘치면 다음 밀리초를 사용하여 증가를 유지한다")
+        void next_counterOverflow_borrowsNextMillis() {
+            // given
+            TimeOrderedIdGenerator.UuidV7State state = new TimeOrderedIdGenerator.UuidV7State();
+            UUID previous = state.next(NOW);
+
+            // when & then
+            for (int i = 0; i < 10_000; i++) {
+                UUID next = state.next(NOW);
+                assertThat(next.getMostSignificantBits()).isGreaterThan(previous.getMostSignificantBits());
+                previous = next;
+            }
+            assertThat(previous.getMostSignificantBits() >>> 16).isGreaterThan(NOW);
+        }
+
+        @Test
+        @DisplayName("시계가 뒤로 가도 마지막 밀리초를 사용하여 증가를 유지한다")
+        void next_clockBackwards_staysMonotonic() {
+            // given
+            TimeOrderedIdGenerator.UuidV7State state = new TimeOrderedIdGenerator.UuidV7State();
+            UUID first = state.next(NOW);
+
+            // when
+            UUID second = state.next(NOW - 5_000);
+
+            // then
+            assertThat(second.getMostSignificantBits()).isGreaterThan(first.getMostSignificantBits());
+            assertThat(second.getMostSignificantBits() >>> 16).isEqualTo(NOW);
+        }
+
+        @Test
+        @DisplayName("새 밀리초에는 해당 시각으로 생성한다")
+        void next_newMillis_usesTimestamp() {
+            // given
+            TimeOrderedIdGenerator.UuidV7State state = new TimeOrderedIdGenerator.UuidV7State();
+
+            // when
+            UUID uuid = state.next(NOW);
+
+            // then
+            assertThat(uuid.getMostSignificantBits() >>> 16).isEqualTo(NOW);
+            assertThat(uuid.version()).isEqualTo(7);
+        }
+    }
+
+    @Nested
+    @DisplayName("ULID 상태 테스트")
+    class UlidStateTest {
+
+        @Test
+        @DisplayName("같은 밀리초에는 난수 부분을 1씩 증가시킨다")
+        void next_sameMillis_incrementsRandom() {
+            // given
+            TimeOrderedIdGenerator.UlidState state = new TimeOrderedIdGenerator.UlidState();
+            UUID first = state.next(NOW);
+
+            // when
+            UUID second = state.next(NOW);
+
+            // then
+            String firstText = UuidUtils.uuidToUlid(first);
+            String secondText = UuidUtils.uuidToUlid(second);
+            assertThat(secondText).isGreaterThan(firstText);
+            assertThat(firstText.substring(0, 10)).isEqualTo(secondText.substring(0, 10));
+        }
+
+        @Test
+        @DisplayName("시계가 뒤로 가도 사전순 증가를 유지한다")
+        void next_clockBackwards_staysMonotonic() {
+            // given
+            TimeOrderedIdGenerator.UlidState state = new TimeOrderedIdGenerator.UlidState();
+            String first = UuidUtils.uuidToUlid(state.next(NOW));
+
+            // when
+            String second = UuidUtils.uuidToUlid(state.next(NOW - 5_000));
+
+            // then
+            assertThat(second).isGreaterThan(first);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package io.github.tickatch.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * TimestampIdGenerator 단위 테스트.
+ */
+@DisplayName("TimestampIdGenerator 테스트")
+class TimestampIdGeneratorTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-15T01:30:00Z");
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
+    @Nested
+    @DisplayName("타임스탬프 테스트")
+    class TimestampTest {
+
+        @Test
+        @DisplayName("시계의 시간대로 타임스탬프를 만든다")
+        void next_usesClockZone() {
+            // given
+            TimestampIdGenerator seoul = new TimestampIdGenerator(Clock.fixed(NOW, SEOUL));
+            TimestampIdGenerator utc = new TimestampIdGenerator(Clock.fixed(NOW, ZoneOffset.UTC));
+
+            // when & then
+            assertThat(seoul.next("ORD")).matches("^ORD-20250115103000-[0-9a-f]{6}$");
+            assertThat(utc.next("ORD")).matches("^ORD-20250115013000-[0-9a-f]{6}$");
+        }
+
+        @Test
+        @DisplayName("초가 바뀌면 새 타임스탬프를 사용한다")
+        void next_secondChanges_refreshesTimestamp() {
+            // given
+            MutableClock clock = new MutableClock(NOW);
+            TimestampIdGenerator generator = new TimestampIdGenerator(clock);
+            generator.next("PAY");
+
+            // when
+            clock.instant = NOW.plusMillis(1_500);
+            String id = generator.next("PAY");
+
+            // then
+            assertThat(id).startsWith("PAY-20250115013001-");
+        }
+    }
+
+    @Nested
+    @DisplayName("suffix 테스트")
+    class SuffixTest {
+
+        @Test
+        @DisplayName("같은 초 안에서 suffix가 1씩 증가한다")
+        void next_sameSecond_incrementsSuffix() {
+            // given
+            TimestampIdGenerator generator = new TimestampIdGenerator(Clock.fixed(NOW, ZoneOffset.UTC));
+            long first = suffix(generator.next("RSV"));
+
+            // when & then
+            for (int i = 1; i <= 1_000; i++) {
+                assertThat(suffix(generator.next("RSV"))).isEqualTo(first + i);
+            }
+        }
+
+        @Test
+        @DisplayName("초마다 suffix 공간의 앞쪽 절반에서 시작한다")
+        void next_newSecond_startsInLowerHalf() {
+            // given
+            MutableClock clock = new MutableClock(NOW);
+            TimestampIdGenerator generator = new TimestampIdGenerator(clock);
+
+            // when & then
+            for (int i = 0; i < 100; i++) {
+                clock.instant = NOW.plusSeconds(i);
+                assertThat(suffix(generator.next("ORD"))).isLessThan(1L << 23);
+            }
+        }
+
+        @Test
+        @DisplayName("시계가 뒤로 가도 마지막 초를 사용하여 증가를 유지한다")
+        void next_clockBackwards_staysMonotonic() {
+            // given
+            MutableClock clock = new MutableClock(NOW);
+            TimestampIdGenerator generator = new TimestampIdGenerator(clock);
+            String before = generator.next("ORD");
+
+            // when
+            clock.instant = NOW.minusSeconds(30);
+            String after = generator.next("ORD");
+
+            // then
+            assertThat(after).startsWith("ORD-20250115013000-");
+            assertThat(after).isGreaterThan(before);
+        }
+
+        @Test
+        @DisplayName("여러 스레드에서 같은 초에 생성해도 중복이 없다")
+        void next_concurrent_isUnique() throws Exception {
+            // given
+            TimestampIdGenerator generator = new TimestampIdGenerator(Clock.fixed(NOW, ZoneOffset.UTC));
+            Set<String> ids = ConcurrentHashMap.newKeySet();
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            List<Future<?>> futures = new ArrayList<>();
+
+            // when
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 20_000; i++) {
+                        ids.add(generator.next("ORD"));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            executor.shutdown();
+
+            // then
+            assertThat(ids).hasSize(8 * 20_000);
+        }
+    }
+
+    private static long suffix(String id) {
+        return Long.parseLong(id.substring(id.lastIndexOf('-') + 1), 16);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
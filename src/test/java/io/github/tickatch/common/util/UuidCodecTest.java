@@ -0,0 +1,105 @@
+package io.github.tickatch.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * UuidCodec 단위 테스트.
+ */
+@DisplayName("UuidCodec 테스트")
+class UuidCodecTest {
+
+    @Nested
+    @DisplayName("검증 테스트")
+    class ValidationTest {
+
+        @ParameterizedTest
+        @ValueSource(strings = {
+                "550e8400-e29b-41d4-a716-446655440000",
+                "550E8400-E29B-41D4-A716-446655440000"
+        })
+        @DisplayName("대소문자와 무관하게 표준 형식을 인식한다")
+        void isStandard_validFormat_returnsTrue(String text) {
+            assertThat(UuidCodec.isStandard(text)).isTrue();
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {
+                "550e8400e29b-41d4-a716-446655440000-",
+                "550e8400-e29b-41d4-a716-44665544000g",
+                "550e8400-e29b-41d4-a716-４46655440000",
+                "550e8400-e29b-41d4-a716-44665544000"
+        })
+        @DisplayName("하이픈 위치, 문자, 길이가 다르면 false를 반환한다")
+        void isStandard_invalidFormat_returnsFalse(String text) {
+            assertThat(UuidCodec.isStandard(text)).isFalse();
+        }
+
+        @Test
+        @DisplayName("빈 구간은 hex로 인정하지 않는다")
+        void isHex_emptyRange_returnsFalse() {
+            assertThat(UuidCodec.isHex("abc", 1, 1)).isFalse();
+            assertThat(UuidCodec.isHex("abc", 0, 3)).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("변환 테스트")
+    class ConversionTest {
+
+        @Test
+        @DisplayName("toHex()는 UUID.toString()의 compact 형식 앞부분과 같다")
+        void toHex_matchesUuidToString() {
+            // given
+            Random random = new Random(7);
+
+            for (int i = 0; i < 10_000; i++) {
+                UUID uuid = new UUID(random.nextLong(), random.nextLong());
+                int length = 1 + random.nextInt(32);
+
+                // when
+                String hex = UuidCodec.toHex(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), length);
+
+                // then
+                assertThat(hex).isEqualTo(uuid.toString().replace("-", "").substring(0, length));
+            }
+        }
+
+        @Test
+        @DisplayName("parseStandard()는 UUID.fromString()과 같은 값을 반환한다")
+        void parseStandard_matchesFromString() {
+            // given
+            Random random = new Random(11);
+
+            for (int i = 0; i < 10_000; i++) {
+                UUID uuid = new UUID(random.nextLong(), random.nextLong());
+
+                // when & then
+                assertThat(UuidCodec.parseStandard(uuid.toString())).isEqualTo(uuid);
+                assertThat(UuidCodec.parseStandard(uuid.toString().toUpperCase())).isEqualTo(uuid);
+            }
+        }
+
+        @Test
+        @DisplayName("toStandard()와 toCompact()는 서로 되돌릴 수 있다")
+        void toStandard_toCompact_roundTrip() {
+            // given
+            String standard = "550E8400-e29b-41d4-A716-446655440000";
+
+            // when
+            String compact = UuidCodec.toCompact(standard);
+
+            // then
+            assertThat(compact).isEqualTo("550E8400e29b41d4A716446655440000");
+            assertThat(UuidCodec.toStandard(compact)).isEqualTo(standard);
+        }
+    }
+}
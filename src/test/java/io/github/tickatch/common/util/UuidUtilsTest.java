@@ -1,5 +1,6 @@
 package io.github.tickatch.common.util;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -7,9 +8,18 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 
 import static org.assertj.core.api.Assertions.*;
@@ -92,6 +102,164 @@ class UuidUtilsTest {
         }
     }
 
+    // ========================================
+    // 시간 순서 UUID 생성 테스트
+    // ========================================
+
+    @Nested
+    @DisplayName("generateV7() 테스트")
+    class GenerateV7Test {
+
+        @Test
+        @DisplayName("버전 7, IETF variant의 표준 UUID 형식으로 생성된다")
+        void generateV7_returnsVersion7() {
+            // when
+            UUID uuid = UUID.fromString(UuidUtils.generateV7());
+
+            // then
+            assertThat(uuid.version()).isEqualTo(7);
+            assertThat(uuid.variant()).isEqualTo(2);
+            assertThat(UuidUtils.isValid(uuid.toString())).isTrue();
+        }
+
+        @Test
+        @DisplayName("같은 스레드에서 생성한 값은 항상 증가한다")
+        void generateV7_isMonotonic() {
+            // given
+            List<String> generated = new ArrayList<>();
+
+            // when
+            for (int i = 0; i < 10_000; i++) {
+                generated.add(UuidUtils.generateV7());
+            }
+
+            // then
+            assertThat(generated).isSorted().doesNotHaveDuplicates();
+        }
+
+        @Test
+        @DisplayName("생성 시각을 추출할 수 있다")
+        void extractTimestamp_returnsCreationTime() {
+            // given
+            Instant before = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+
+            // when
+            UUID uuid = UuidUtils.generateV7Uuid();
+
+            // then
+            assertThat(UuidUtils.extractTimestamp(uuid))
+                    .isBetween(before, Instant.now().plusMillis(1));
+        }
+
+        @Test
+        @DisplayName("버전 7이 아니면 생성 시각 추출 시 예외가 발생한다")
+        void extractTimestamp_withV4_throwsException() {
+            assertThatThrownBy(() -> UuidUtils.extractTimestamp(UUID.randomUUID()))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("generateUlid() 테스트")
+    class GenerateUlidTest {
+
+        @Test
+        @DisplayName("26자리 Crockford Base32 문자열로 생성된다")
+        void generateUlid_returnsValidFormat() {
+            // when
+            String ulid = UuidUtils.generateUlid();
+
+            // then
+            assertThat(ulid).hasSize(26).matches("^[0-7][0-9A-HJKMNP-TV-Z]{25}$");
+            assertThat(UuidUtils.isValidUlid(ulid)).isTrue();
+        }
+
+        @Test
+        @DisplayName("같은 스레드에서 생성한 값은 사전순으로 항상 증가한다")
+        void generateUlid_isMonotonic() {
+            // given
+            List<String> generated = new ArrayList<>();
+
+            // when
+            for (int i = 0; i < 10_000; i++) {
+                generated.add(UuidUtils.generateUlid());
+            }
+
+            // then
+            assertThat(generated).isSorted().doesNotHaveDuplicates();
+        }
+
+        @Test
+        @DisplayName("UUID 컨테이너와 문자열 사이에서 값이 유지된다")
+        void ulidToUuid_roundTrip() {
+            // given
+            String ulid = UuidUtils.generateUlid();
+
+            // when
+            UUID uuid = UuidUtils.ulidToUuid(ulid);
+
+            // then
+            assertThat(UuidUtils.uuidToUlid(uuid)).isEqualTo(ulid);
+            assertThat(UuidUtils.ulidToUuid(ulid.toLowerCase())).isEqualTo(uuid);
+        }
+
+        @Test
+        @DisplayName("생성 시각을 추출할 수 있다")
+        void extractUlidTimestamp_returnsCreationTime() {
+            // given
+            Instant before = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+
+            // when
+            String ulid = UuidUtils.generateUlid();
+
+            // then
+            assertThat(UuidUtils.extractUlidTimestamp(ulid))
+                    .isBetween(before, Instant.now().plusMillis(1));
+        }
+
+        @ParameterizedTest
+        @NullAndEmptySource
+        @ValueSource(strings = {"01ARZ3NDEKTSV4RRFFQ69G5FA", "81ARZ3NDEKTSV4RRFFQ69G5FAV", "01ARZ3NDEKTSV4RRFFQ69G5FAU"})
+        @DisplayName("길이, 범위, 문자가 유효하지 않으면 false를 반환한다")
+        void isValidUlid_withInvalid_returnsFalse(String ulid) {
+            assertThat(UuidUtils.isValidUlid(ulid)).isFalse();
+        }
+
+        @Test
+        @DisplayName("유효하지 않은 ULID를 변환하면 예외가 발생한다")
+        void ulidToUuid_withInvalid_throwsException() {
+            assertThatThrownBy(() -> UuidUtils.ulidToUuid("not-a-ulid"))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("toBytes() / fromBytes() 테스트")
+    class BytesTest {
+
+        @Test
+        @DisplayName("16바이트 big-endian 배열로 변환하고 되돌릴 수 있다")
+        void toBytes_roundTrip() {
+            // given
+            UUID uuid = UuidUtils.generateV7Uuid();
+
+            // when
+            byte[] bytes = UuidUtils.toBytes(uuid);
+
+            // then
+            assertThat(bytes).hasSize(16);
+            assertThat(bytes[6] >> 4).isEqualTo(7);
+            assertThat(UuidUtils.fromBytes(bytes)).isEqualTo(uuid);
+        }
+
+        @Test
+        @DisplayName("16바이트가 아니면 예외가 발생한다")
+        void fromBytes_withInvalidLength_throwsException() {
+            assertThatThrownBy(() -> UuidUtils.fromBytes(new byte[8]))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
     // ========================================
     // UUID 검증 테스트
     // ========================================
@@ -346,6 +514,11 @@ class UuidUtilsTest {
     @DisplayName("generateTimestampId() 테스트")
     class GenerateTimestampIdTest {
 
+        @AfterEach
+        void tearDown() {
+            UuidUtils.setTimestampIdClock(null);
+        }
+
         @Test
         @DisplayName("타임스탬프 기반 ID를 생성한다")
         void generateTimestampId_returnsCorrectFormat() {
@@ -358,6 +531,25 @@ class UuidUtilsTest {
                     .matches("^ORD-\\d{14}-[0-9a-f]{6}$");
         }
 
+        @Test
+        @DisplayName("설정한 시계의 시간대로 타임스탬프를 만들고 같은 초에 중복 없이 증가한다")
+        void generateTimestampId_withClock_isMonotonicWithinSecond() {
+            // given
+            UuidUtils.setTimestampIdClock(
+                    Clock.fixed(Instant.parse("2025-01-15T01:30:00Z"), ZoneId.of("Asia/Seoul")));
+            List<String> ids = new ArrayList<>();
+
+            // when
+            for (int i = 0; i < 10_000; i++) {
+                ids.add(UuidUtils.generatePaymentId());
+            }
+
+            // then
+            assertThat(ids).allMatch(id -> id.startsWith("PAY-20250115103000-"))
+                    .isSorted()
+                    .doesNotHaveDuplicates();
+        }
+
         @ParameterizedTest
         @NullAndEmptySource
         @DisplayName("prefix가 null이거나 빈 값이면 예외를 발생시킨다")
@@ -452,6 +644,146 @@ class UuidUtilsTest {
         }
     }
 
+    // ========================================
+    // 대량 ID 생성 테스트
+    // ========================================
+
+    @Nested
+    @DisplayName("대량 ID 생성 테스트")
+    class BulkGenerateTest {
+
+        @Test
+        @DisplayName("generateSeatIds()는 지정한 개수의 서로 다른 좌석 ID를 생성한다")
+        void generateSeatIds_returnsDistinctIds() {
+            // when
+            String[] ids = UuidUtils.generateSeatIds(10_000);
+
+            // then
+            assertThat(ids).hasSize(10_000)
+                    .allMatch(id -> id.matches("^SEAT-[0-9a-f]{8}$"))
+                    .allMatch(id -> UuidUtils.isValidDomainId(id, UuidUtils.PREFIX_SEAT))
+                    .doesNotHaveDuplicates();
+        }
+
+        @Test
+        @DisplayName("대형 공연장 규모(20만 개)로 생성해도 배치 안에서 중복이 없다")
+        void generateDomainIds_largeBatch_hasNoDuplicates() {
+            // when
+            String[] ids = UuidUtils.generateTicketIds(200_000);
+
+            // then
+            assertThat(new HashSet<>(Arrays.asList(ids))).hasSize(200_000);
+        }
+
+        @Test
+        @DisplayName("최대 배치 크기를 넘으면 예외가 발생한다")
+        void generateDomainIds_exceedsMaxBatchSize_throwsException() {
+            assertThatThrownBy(() -> UuidUtils.generateSeatIds(UuidUtils.MAX_DOMAIN_ID_BATCH_SIZE + 1))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("fillDomainIds()는 미리 할당한 배열을 블록 크기와 관계없이 모두 채운다")
+        void fillDomainIds_fillsWholeArray() {
+            // given
+            String[] ids = new String[UuidUtils.RANDOM_BLOCK_SIZE * 2 + 1];
+
+            // when
+            UuidUtils.fillDomainIds("item", ids);
+
+            // then
+            assertThat(ids).doesNotContainNull()
+                    .allMatch(id -> id.matches("^ITEM-[0-9a-f]{8}$"))
+                    .doesNotHaveDuplicates();
+        }
+
+        @Test
+        @DisplayName("개수가 0이면 빈 배열을 반환한다")
+        void generateDomainIds_zeroCount_returnsEmpty() {
+            assertThat(UuidUtils.generateTicketIds(0)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("개수가 음수이거나 prefix가 없으면 예외가 발생한다")
+        void generateDomainIds_invalidArguments_throwsException() {
+            assertThatThrownBy(() -> UuidUtils.generateDomainIds(UuidUtils.PREFIX_SEAT, -1))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> UuidUtils.generateDomainIds(" ", 10))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("generateSnowflakeIds()는 증가 순서의 ID 스트림을 반환한다")
+        void generateSnowflakeIds_isMonotonic() {
+            // when
+            long[] ids = UuidUtils.generateSnowflakeIds(1_000).toArray();
+
+            // then
+            assertThat(ids).hasSize(1_000).isSorted().doesNotHaveDuplicates();
+        }
+    }
+
+    // ========================================
+    // Snowflake ID 테스트
+    // ========================================
+
+    @Nested
+    @DisplayName("Snowflake ID 테스트")
+    class SnowflakeIdTest {
+
+        @AfterEach
+        void tearDown() {
+            UuidUtils.setSnowflakeIdGenerator(null);
+        }
+
+        @Test
+        @DisplayName("generateSnowflakeId()는 증가하는 양수 ID를 생성한다")
+        void generateSnowflakeId_isMonotonic() {
+            // when
+            long first = UuidUtils.generateSnowflakeId();
+            long second = UuidUtils.generateSnowflakeId();
+
+            // then
+            assertThat(first).isPositive();
+            assertThat(second).isGreaterThan(first);
+        }
+
+        @Test
+        @DisplayName("generateSnowflakeDomainId()는 PREFIX-13자리 형식으로 생성한다")
+        void generateSnowflakeDomainId_returnsCorrectFormat() {
+            // when
+            String domainId = UuidUtils.generateSnowflakeDomainId(UuidUtils.PREFIX_TICKET);
+
+            // then
+            assertThat(domainId).matches("^TKT-[0-9A-HJKMNP-TV-Z]{13}$");
+            assertThat(UuidUtils.isValidDomainId(domainId, UuidUtils.PREFIX_TICKET)).isTrue();
+        }
+
+        @Test
+        @DisplayName("extractSnowflakeId()로 숫자 ID를 되돌릴 수 있다")
+        void extractSnowflakeId_roundTrip() {
+            // given
+            UuidUtils.setSnowflakeIdGenerator(new SnowflakeIdGenerator(9));
+            String domainId = UuidUtils.generateSnowflakeDomainId(UuidUtils.PREFIX_ORDER);
+
+            // when
+            long id = UuidUtils.extractSnowflakeId(domainId);
+
+            // then
+            assertThat(SnowflakeIdGenerator.extractWorkerId(id)).isEqualTo(9);
+            assertThat(SnowflakeIdGenerator.toBase32(id)).isEqualTo(domainId.substring(4));
+        }
+
+        @ParameterizedTest
+        @NullAndEmptySource
+        @ValueSource(strings = {"   "})
+        @DisplayName("prefix가 없으면 예외가 발생한다")
+        void generateSnowflakeDomainId_withInvalidPrefix_throwsException(String prefix) {
+            assertThatThrownBy(() -> UuidUtils.generateSnowflakeDomainId(prefix))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
     // ========================================
     // 도메인별 ID 생성 메서드 테스트
     // ========================================
@@ -546,4 +878,174 @@ class UuidUtilsTest {
             assertThat(UuidUtils.PREFIX_NOTIFICATION).isEqualTo("NTF");
         }
     }
+
+    // ========================================
+    // 기존 정규식 구현과의 동등성 테스트
+    // ========================================
+
+    @Nested
+    @DisplayName("기존 정규식 구현과의 동등성 테스트")
+    class LegacyEquivalenceTest {
+
+        private static final Pattern LEGACY_UUID_PATTERN = Pattern.compile(
+                "^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$");
+        private static final Pattern LEGACY_SNOWFLAKE_PATTERN = Pattern.compile("^[0-9A-HJKMNP-TV-Z]{13}$");
+        private static final String MUTATION_CHARS = "0123456789abcdefABCDEFgGzZ- \n\té٣４IiLlOoUu_";
+        private static final String[] EXPECTED_PREFIXES = {null, "", "TKT", "tkt", "ORD", "SEAT"};
+        private static final int ITERATIONS = 200_000;
+
+        @Test
+        @DisplayName("무작위 변형 입력에 대해 검증/변환 결과가 기존 구현과 같다")
+        void fuzz_matchesLegacyBehavior() {
+            // given
+            Random random = new Random(20250101L);
+
+            for (int i = 0; i < ITERATIONS; i++) {
+                String input = mutate(random, seed(random));
+
+                // when & then
+                assertThat(UuidUtils.isValid(input)).as("isValid(%s)", input)
+                        .isEqualTo(legacyIsValid(input));
+                assertThat(UuidUtils.isValidAnyFormat(input)).as("isValidAnyFormat(%s)", input)
+                        .isEqualTo(legacyIsValidAnyFormat(input));
+                assertThat(outcome(() -> UuidUtils.parse(input))).as("parse(%s)", input)
+                        .isEqualTo(outcome(() -> legacyParse(input)));
+                assertThat(outcome(() -> UuidUtils.toStandardFormat(input))).as("toStandardFormat(%s)", input)
+                        .isEqualTo(outcome(() -> legacyToStandardFormat(input)));
+                assertThat(outcome(() -> UuidUtils.toCompactFormat(input))).as("toCompactFormat(%s)", input)
+                        .isEqualTo(outcome(() -> legacyToCompactFormat(input)));
+                for (String prefix : EXPECTED_PREFIXES) {
+                    assertThat(UuidUtils.isValidDomainId(input, prefix)).as("isValidDomainId(%s, %s)", input, prefix)
+                            .isEqualTo(legacyIsValidDomainId(input, prefix));
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("null 입력에 대한 결과가 기존 구현과 같다")
+        void nullInput_matchesLegacyBehavior() {
+            assertThat(UuidUtils.isValid(null)).isEqualTo(legacyIsValid(null));
+            assertThat(UuidUtils.isValidAnyFormat(null)).isEqualTo(legacyIsValidAnyFormat(null));
+            assertThat(UuidUtils.isValidDomainId(null, null)).isEqualTo(legacyIsValidDomainId(null, null));
+            assertThat(outcome(() -> UuidUtils.toStandardFormat(null)))
+                    .isEqualTo(outcome(() -> legacyToStandardFormat(null)));
+        }
+
+        @Test
+        @DisplayName("생성한 compact UUID와 도메인 ID 형식이 기존 구현과 같다")
+        void generated_matchesLegacyFormat() {
+            for (int i = 0; i < 10_000; i++) {
+                assertThat(UuidUtils.generateCompact()).matches("^[0-9a-f]{12}4[0-9a-f]{3}[89ab][0-9a-f]{15}$");
+                assertThat(UuidUtils.generateTicketId()).matches("^TKT-[0-9a-f]{8}$");
+                assertThat(UuidUtils.generateDomainId("item", 16)).matches("^ITEM-[0-9a-f]{12}4[0-9a-f]{3}$");
+            }
+        }
+
+        private String seed(Random random) {
+            return switch (random.nextInt(7)) {
+                case 0 -> random.nextBoolean() ? UuidUtils.generate() : UuidUtils.generate().toUpperCase();
+                case 1 -> UuidUtils.generateCompact();
+                case 2 -> UuidUtils.generateTicketId();
+                case 3 -> UuidUtils.generateOrderId();
+                case 4 -> UuidUtils.generateSnowflakeDomainId(UuidUtils.PREFIX_TICKET);
+                case 5 -> UuidUtils.generateDomainId(UuidUtils.PREFIX_SEAT, 4 + random.nextInt(29));
+                default -> randomChars(random, random.nextInt(40));
+            };
+        }
+
+        private String mutate(Random random, String seed) {
+            StringBuilder builder = new StringBuilder(seed);
+            int mutations = random.nextInt(4);
+            for (int i = 0; i < mutations; i++) {
+                char c = MUTATION_CHARS.charAt(random.nextInt(MUTATION_CHARS.length()));
+                int operation = random.nextInt(3);
+                if (operation == 0 && !builder.isEmpty()) {
+                    builder.setCharAt(random.nextInt(builder.length()), c);
+                } else if (operation == 1) {
+                    builder.insert(random.nextInt(builder.length() + 1), c);
+                } else if (!builder.isEmpty()) {
+                    builder.deleteCharAt(random.nextInt(builder.length()));
+                }
+            }
+            return builder.toString();
+        }
+
+        private String randomChars(Random random, int length) {
+            StringBuilder builder = new StringBuilder(length);
+            for (int i = 0; i < length; i++) {
+                builder.append(MUTATION_CHARS.charAt(random.nextInt(MUTATION_CHARS.length())));
+            }
+            return builder.toString();
+        }
+
+        private Object outcome(Supplier<?> call) {
+            try {
+                return call.get();
+            } catch (IllegalArgumentException e) {
+                return IllegalArgumentException.class;
+            }
+        }
+
+        private boolean legacyIsValid(String uuid) {
+            if (uuid == null || uuid.isBlank()) {
+                return false;
+            }
+            return LEGACY_UUID_PATTERN.matcher(uuid).matches();
+        }
+
+        private boolean legacyIsValidAnyFormat(String uuid) {
+            if (uuid == null || uuid.isBlank()) {
+                return false;
+            }
+            if (LEGACY_UUID_PATTERN.matcher(uuid).matches()) {
+                return true;
+            }
+            return uuid.length() == 32 && uuid.matches("^[0-9a-fA-F]{32}$");
+        }
+
+        private UUID legacyParse(String uuid) {
+            if (!legacyIsValid(uuid)) {
+                throw new IllegalArgumentException(uuid);
+            }
+            return UUID.fromString(uuid);
+        }
+
+        private String legacyToStandardFormat(String compactUuid) {
+            if (compactUuid == null || compactUuid.length() != 32) {
+                throw new IllegalArgumentException(compactUuid);
+            }
+            return String.format("%s-%s-%s-%s-%s",
+                    compactUuid.substring(0, 8),
+                    compactUuid.substring(8, 12),
+                    compactUuid.substring(12, 16),
+                    compactUuid.substring(16, 20),
+                    compactUuid.substring(20, 32));
+        }
+
+        private String legacyToCompactFormat(String uuid) {
+            if (!legacyIsValid(uuid)) {
+                throw new IllegalArgumentException(uuid);
+            }
+            return uuid.replace("-", "");
+        }
+
+        private boolean legacyIsValidDomainId(String domainId, String expectedPrefix) {
+            if (domainId == null || domainId.isBlank() || !domainId.contains("-")) {
+                return false;
+            }
+            String[] parts = domainId.split("-", 2);
+            if (parts.length != 2) {
+                return false;
+            }
+            if (expectedPrefix != null && !parts[0].equalsIgnoreCase(expectedPrefix)) {
+                return false;
+            }
+            if (!parts[0].matches("^[A-Z]+$")) {
+                return false;
+            }
+            return parts[1].matches("^[0-9a-fA-F]+$")
+                    || parts[1].matches("^\\d{14}-[0-9a-fA-F]+$")
+                    || LEGACY_SNOWFLAKE_PATTERN.matcher(parts[1]).matches();
+        }
+    }
 }
\ No newline at end of file